@@ -17,6 +17,8 @@
 
 package com.ning.http.client;
 
+import java.io.UncheckedIOException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,11 +32,31 @@ import org.slf4j.LoggerFactory;
 public abstract class AsyncCompletionHandler<T> implements AsyncHandler<T>, ProgressAsyncHandler<T> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AsyncCompletionHandler.class);
-    private final Response.ResponseBuilder builder = new Response.ResponseBuilder();
+    private final Response.ResponseBuilder builder;
+
+    public AsyncCompletionHandler() {
+        this(null);
+    }
+
+    /**
+     * The resources held by a partially accumulated body are released once the provider aborts the response, whether
+     * or not subclasses overriding {@link #onThrowable(Throwable)} call it.
+     *
+     * @param spillPolicy the policy bounding the memory used to accumulate the response body, or null to accumulate
+     *            it in memory whatever its size
+     * @since 5.0.1
+     */
+    public AsyncCompletionHandler(ResponseSpillPolicy spillPolicy) {
+        builder = new Response.ResponseBuilder(spillPolicy);
+    }
 
     @Override
     public STATE onBodyPartReceived(final HttpResponseBodyPart content) throws Exception {
-        builder.accumulate(content);
+        try {
+            builder.accumulate(content);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
         return STATE.CONTINUE;
     }
 
@@ -47,17 +69,28 @@ public abstract class AsyncCompletionHandler<T> implements AsyncHandler<T>, Prog
 
     @Override
     public STATE onHeadersReceived(final HttpResponseHeaders headers) throws Exception {
-        builder.accumulate(headers);
+        try {
+            builder.accumulate(headers);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
         return STATE.CONTINUE;
     }
 
     @Override
     public final T onCompleted() throws Exception {
-        return onCompleted(builder.build());
+        final Response response;
+        try {
+            response = builder.build();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return onCompleted(response);
     }
 
     @Override
     public void onThrowable(Throwable t) {
+        builder.reset();
         LOGGER.debug(t.getMessage(), t);
     }
 
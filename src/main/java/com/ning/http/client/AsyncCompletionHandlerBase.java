@@ -17,22 +17,25 @@
 
 package com.ning.http.client;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Simple {@link AsyncHandler} of type {@link Response}
  */
 public class AsyncCompletionHandlerBase extends AsyncCompletionHandler<Response> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncCompletionHandlerBase.class);
 
-    @Override
-    public Response onCompleted(Response response) throws Exception {
-        return response;
+    public AsyncCompletionHandlerBase() {
+    }
+
+    /**
+     * @param spillPolicy the policy bounding the memory used to accumulate the response body, or null to accumulate
+     *            it in memory whatever its size
+     * @since 5.0.1
+     */
+    public AsyncCompletionHandlerBase(ResponseSpillPolicy spillPolicy) {
+        super(spillPolicy);
     }
 
     @Override
-    public void onThrowable(Throwable t) {
-        LOGGER.debug(t.getMessage(), t);
+    public Response onCompleted(Response response) throws Exception {
+        return response;
     }
 }
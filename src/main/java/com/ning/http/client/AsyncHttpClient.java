@@ -18,11 +18,15 @@
 package com.ning.http.client;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -31,12 +35,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ning.http.client.cache.RedirectCache;
+import com.ning.http.client.cache.ResponseCache;
 import com.ning.http.client.cookie.Cookie;
+import com.ning.http.client.endpoint.EndpointGroup;
+import com.ning.http.client.extra.RequestCoalescer;
 import com.ning.http.client.filter.FilterContext;
 import com.ning.http.client.filter.FilterException;
 import com.ning.http.client.filter.RequestFilter;
 import com.ning.http.client.multipart.Part;
 import com.ning.http.client.resumable.ResumableAsyncHandler;
+import com.ning.http.client.sse.EventSource;
+import com.ning.http.client.sse.EventSourceListener;
+import com.ning.http.util.SharedTimer;
 
 /**
  * This class support asynchronous and synchronous HTTP request.
@@ -125,6 +136,14 @@ import com.ning.http.client.resumable.ResumableAsyncHandler;
  *      Response r = f.get();
  * }</pre>
  *
+ * Callers that prefer a thread-per-request style, typically running on virtual threads, can use the blocking
+ * variants instead</p>
+ * <pre>{@code
+ *      try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+ *          threads.submit(() -> c.prepareGet(TARGET_URL).executeBlocking());
+ *      }
+ * }</pre>
+ *
  * Finally, you can configure the AsyncHttpClient using an {@link AsyncHttpClientConfig} instance</p>
  * <pre>{@code
  *      AsyncHttpClient c = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setRequestTimeout(...).build());
@@ -217,7 +236,15 @@ public class AsyncHttpClient implements Closeable {
         }
 
         public ListenableFuture<Response> execute() {
-            return AsyncHttpClient.this.executeRequest(build(), new AsyncCompletionHandlerBase());
+            return AsyncHttpClient.this.executeRequest(build(), new AsyncCompletionHandlerBase(config.getResponseSpillPolicy()));
+        }
+
+        public <T> T executeBlocking(AsyncHandler<T> handler) throws IOException {
+            return AsyncHttpClient.this.executeRequestBlocking(build(), handler);
+        }
+
+        public Response executeBlocking() throws IOException {
+            return AsyncHttpClient.this.executeRequestBlocking(build());
         }
 
         // Note: For now we keep the delegates in place even though they are not needed
@@ -496,20 +523,93 @@ public class AsyncHttpClient implements Closeable {
      */
     public <T> ListenableFuture<T> executeRequest(Request request, AsyncHandler<T> handler) {
 
+        final RedirectCache redirectCache = config.getRedirectCache();
+        if (redirectCache != null && (request.getFollowRedirect() != null ? request.getFollowRedirect() : config.isFollowRedirect())) {
+            request = redirectCache.rewrite(request);
+        }
+
+        final ResponseCache responseCache = config.getResponseCache();
+        if (responseCache != null) {
+            return responseCache.execute(request, handler, this::executeCoalescedRequest);
+        }
+        return executeCoalescedRequest(request, handler);
+    }
+
+    /**
+     * Coalesce the request with identical ones in flight, if configured to.
+     */
+    private <T> ListenableFuture<T> executeCoalescedRequest(Request request, AsyncHandler<T> handler) {
+
+        final RequestCoalescer requestCoalescer = config.getRequestCoalescer();
+        if (requestCoalescer != null) {
+            return requestCoalescer.execute(request, handler, this::executeBalancedRequest);
+        }
+        return executeBalancedRequest(request, handler);
+    }
+
+    /**
+     * Send the request to a backend of its service name's {@link EndpointGroup}, if any.
+     */
+    private <T> ListenableFuture<T> executeBalancedRequest(Request request, AsyncHandler<T> handler) {
+
+        final EndpointGroup endpointGroup = config.getEndpointGroup(request.getUri().getHost());
+        if (endpointGroup != null) {
+            return endpointGroup.execute(request, handler, this::executeFilteredRequest);
+        }
+        return executeFilteredRequest(request, handler);
+    }
+
+    /**
+     * Run the request filters, then send the request.
+     */
+    private <T> ListenableFuture<T> executeFilteredRequest(Request request, AsyncHandler<T> handler) {
+
         if (config.getRequestFilters().isEmpty()) {
             return httpProvider.execute(request, handler);
 
         } else {
             FilterContext<T> fc = new FilterContext.FilterContextBuilder<T>().asyncHandler(handler).request(request).build();
             try {
+                for (RequestFilter asyncFilter : config.getRequestFilters()) {
+                    final FilterContext<T> filtered = asyncFilter.filter(fc);
+                    if (filtered == null) {
+                        throw new NullPointerException("FilterContext is null");
+                    }
+                    fc = filtered;
+                }
                 fc = preProcessRequest(fc);
             } catch (Exception e) {
-                handler.onThrowable(e);
+                // through the handlers of the filters that already ran, so that they release what they hold
+                fc.getAsyncHandler().onThrowable(e);
                 return new ListenableFuture.CompletedFailure<T>("preProcessRequest failed", e);
             }
 
+            if (fc.getAdmission() == null) {
+                return httpProvider.execute(fc.getRequest(), fc.getAsyncHandler());
+            }
+            return executeOnAdmission(fc);
+        }
+    }
+
+    /**
+     * Execute a request once its {@link FilterContext#getAdmission() admission} completes, without blocking the
+     * caller. Admissions that already completed normally are executed right away.
+     */
+    private <T> ListenableFuture<T> executeOnAdmission(final FilterContext<T> fc) {
+        final CompletableFuture<?> admission = fc.getAdmission().toCompletableFuture();
+        if (admission.isDone() && !admission.isCompletedExceptionally()) {
             return httpProvider.execute(fc.getRequest(), fc.getAsyncHandler());
         }
+
+        final DeferredListenableFuture<T> future = new DeferredListenableFuture<>(admission, fc.getAsyncHandler());
+        admission.whenComplete((v, t) -> {
+            if (t != null) {
+                future.rejected(t);
+            } else if (!future.isDone()) {
+                future.admitted(httpProvider.execute(fc.getRequest(), fc.getAsyncHandler()));
+            }
+        });
+        return future;
     }
 
     /**
@@ -519,23 +619,103 @@ public class AsyncHttpClient implements Closeable {
      * @return a {@link Future} of type Response
      */
     public ListenableFuture<Response> executeRequest(Request request) {
-        return executeRequest(request, new AsyncCompletionHandlerBase());
+        return executeRequest(request, new AsyncCompletionHandlerBase(config.getResponseSpillPolicy()));
     }
 
     /**
-     * Configure and execute the associated {@link RequestFilter}. This class may decorate the {@link Request} and {@link AsyncHandler}
+     * Execute an HTTP request and wait for its completion on the calling thread.
+     * <p>
+     * None of the client's internal locks are held while waiting, so this method
+     * may be called concurrently from a large number of virtual threads without
+     * pinning their carriers. If the calling thread is interrupted, the request is
+     * aborted and an {@link InterruptedIOException} is thrown.
      *
-     * @param fc {@link FilterContext}
-     * @return {@link FilterContext}
+     * @param request {@link Request}
+     * @param handler an instance of {@link AsyncHandler}
+     * @param <T>     Type of the value produced by the handler
+     * @return the value produced by the handler
+     * @throws IOException if the request fails; the original failure is available as the cause
+     * @since 5.0.1
      */
-    private <T> FilterContext<T> preProcessRequest(FilterContext<T> fc) throws FilterException {
-        for (RequestFilter asyncFilter : config.getRequestFilters()) {
-            fc = asyncFilter.filter(fc);
-            if (fc == null) {
-                throw new NullPointerException("FilterContext is null");
+    public <T> T executeRequestBlocking(Request request, AsyncHandler<T> handler) throws IOException {
+        ListenableFuture<T> future = executeRequest(request, handler);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException iioe = new InterruptedIOException("Interrupted while waiting for " + request.getUrl());
+            iioe.initCause(e);
+            throw iioe;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
+            throw new IOException(cause != null ? cause : e);
+        }
+    }
+
+    /**
+     * Execute an HTTP request and wait for the {@link Response} on the calling thread.
+     *
+     * @param request {@link Request}
+     * @return the {@link Response}
+     * @throws IOException if the request fails
+     * @see #executeRequestBlocking(Request, AsyncHandler)
+     * @since 5.0.1
+     */
+    public Response executeRequestBlocking(Request request) throws IOException {
+        return executeRequestBlocking(request, new AsyncCompletionHandlerBase(config.getResponseSpillPolicy()));
+    }
+
+    /**
+     * Open a Server-Sent Events stream, which reconnects until the returned {@link EventSource} is closed.
+     * <p>
+     * The stream is neither cached nor coalesced with identical requests, but every connection goes through the
+     * request filters and the endpoint groups.
+     *
+     * @param request  the {@link Request} of the stream
+     * @param listener the {@link EventSourceListener} receiving the events
+     * @return the {@link EventSource}, connecting
+     * @since 5.0.1
+     */
+    public EventSource openEventSource(Request request, EventSourceListener listener) {
+        EventSource eventSource = new EventSource(request, listener, this::executeEventSourceRequest, SharedTimer.get());
+        eventSource.connect();
+        return eventSource;
+    }
+
+    /**
+     * Open a Server-Sent Events stream with a GET request.
+     *
+     * @param url      the URL of the stream
+     * @param listener the {@link EventSourceListener} receiving the events
+     * @return the {@link EventSource}, connecting
+     * @see #openEventSource(Request, EventSourceListener)
+     * @since 5.0.1
+     */
+    public EventSource openEventSource(String url, EventSourceListener listener) {
+        return openEventSource(prepareGet(url).build(), listener);
+    }
+
+    /**
+     * Send a request of an {@link EventSource}, which stops reconnecting once the client is closed.
+     */
+    private <T> ListenableFuture<T> executeEventSourceRequest(Request request, AsyncHandler<T> handler) {
+        if (isClosed()) {
+            throw new IllegalStateException("AsyncHttpClient has been closed");
         }
+        return executeBalancedRequest(request, handler);
+    }
 
+    /**
+     * Adjust the range of a {@link Request} the {@link RequestFilter}s let through.
+     *
+     * @param fc {@link FilterContext}
+     * @return {@link FilterContext}
+     */
+    private <T> FilterContext<T> preProcessRequest(FilterContext<T> fc) {
         Request request = fc.getRequest();
         if (fc.getAsyncHandler() instanceof ResumableAsyncHandler) {
             request = ResumableAsyncHandler.class.cast(fc.getAsyncHandler()).adjustRequestRange(request);
@@ -19,6 +19,11 @@ package com.ning.http.client;
 
 import static com.ning.http.client.AsyncHttpClientConfigDefaults.*;
 
+import com.ning.http.client.cache.RedirectCache;
+import com.ning.http.client.cache.ResponseCache;
+import com.ning.http.client.endpoint.EndpointGroup;
+import com.ning.http.client.extra.CircuitBreaker;
+import com.ning.http.client.extra.RequestCoalescer;
 import com.ning.http.client.filter.IOExceptionFilter;
 import com.ning.http.client.filter.RequestFilter;
 import com.ning.http.client.filter.ResponseFilter;
@@ -29,9 +34,13 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSession;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -83,6 +92,12 @@ public class AsyncHttpClientConfig {
     protected String[] enabledCipherSuites;
     protected Integer sslSessionCacheSize;
     protected Integer sslSessionTimeout;
+    protected ResponseCache responseCache;
+    protected RequestCoalescer requestCoalescer;
+    protected Map<String, EndpointGroup> endpointGroups = new HashMap<>();
+    protected CircuitBreaker circuitBreaker;
+    protected RedirectCache redirectCache;
+    protected ResponseSpillPolicy responseSpillPolicy;
     protected AsyncHttpProviderConfig<?, ?> providerConfig;
 
     protected AsyncHttpClientConfig() {
@@ -120,6 +135,12 @@ public class AsyncHttpClientConfig {
             String[] enabledCipherSuites,//
             Integer sslSessionCacheSize,//
             Integer sslSessionTimeout,//
+            ResponseCache responseCache,//
+            RequestCoalescer requestCoalescer,//
+            Map<String, EndpointGroup> endpointGroups,//
+            CircuitBreaker circuitBreaker,//
+            RedirectCache redirectCache,//
+            ResponseSpillPolicy responseSpillPolicy,//
             AsyncHttpProviderConfig<?, ?> providerConfig) {
 
         this.connectTimeout = connectTimeout;
@@ -154,6 +175,12 @@ public class AsyncHttpClientConfig {
         this.enabledCipherSuites = enabledCipherSuites;
         this.sslSessionCacheSize = sslSessionCacheSize;
         this.sslSessionTimeout = sslSessionTimeout;
+        this.responseCache = responseCache;
+        this.requestCoalescer = requestCoalescer;
+        this.endpointGroups = endpointGroups;
+        this.circuitBreaker = circuitBreaker;
+        this.redirectCache = redirectCache;
+        this.responseSpillPolicy = responseSpillPolicy;
         this.providerConfig = providerConfig;
     }
 
@@ -480,6 +507,77 @@ public class AsyncHttpClientConfig {
         return sslSessionTimeout;
     }
 
+    /**
+     * Return the {@link ResponseCache} requests are served from, if any.
+     *
+     * @return the {@link ResponseCache}, or null
+     * @since 5.0.1
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Return the {@link RequestCoalescer} concurrent identical requests are coalesced with, if any.
+     *
+     * @return the {@link RequestCoalescer}, or null
+     * @since 5.0.1
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Return the {@link EndpointGroup}s requests are balanced with.
+     *
+     * @return Unmodifiable collection of {@link EndpointGroup}
+     * @since 5.0.1
+     */
+    public Collection<EndpointGroup> getEndpointGroups() {
+        return Collections.unmodifiableCollection(endpointGroups.values());
+    }
+
+    /**
+     * Return the {@link EndpointGroup} of a service name, if any.
+     *
+     * @param host the host name of a request
+     * @return the {@link EndpointGroup} of the host name, or null
+     * @since 5.0.1
+     */
+    public EndpointGroup getEndpointGroup(String host) {
+        return endpointGroups.isEmpty() || host == null ? null : endpointGroups.get(host.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Return the {@link CircuitBreaker} guarding each connection pool partition, if any.
+     *
+     * @return the {@link CircuitBreaker}, or null
+     * @since 5.0.1
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Return the {@link RedirectCache} storing the permanent redirects, if any.
+     *
+     * @return the {@link RedirectCache}, or null
+     * @since 5.0.1
+     */
+    public RedirectCache getRedirectCache() {
+        return redirectCache;
+    }
+
+    /**
+     * Return the {@link ResponseSpillPolicy} bounding the memory used to accumulate response bodies, if any.
+     *
+     * @return the {@link ResponseSpillPolicy}, or null
+     * @since 5.0.1
+     */
+    public ResponseSpillPolicy getResponseSpillPolicy() {
+        return responseSpillPolicy;
+    }
+
     /**
      * Builder for an {@link AsyncHttpClient}
      */
@@ -518,6 +616,12 @@ public class AsyncHttpClientConfig {
         private String[] enabledCipherSuites;
         private Integer sslSessionCacheSize = defaultSslSessionCacheSize();
         private Integer sslSessionTimeout = defaultSslSessionTimeout();
+        private ResponseCache responseCache;
+        private RequestCoalescer requestCoalescer;
+        private final Map<String, EndpointGroup> endpointGroups = new HashMap<>();
+        private CircuitBreaker circuitBreaker;
+        private RedirectCache redirectCache;
+        private ResponseSpillPolicy responseSpillPolicy;
         private AsyncHttpProviderConfig<?, ?> providerConfig;
 
         public Builder() {
@@ -663,6 +767,11 @@ public class AsyncHttpClientConfig {
         /**
          * Set the {@link java.util.concurrent.ExecutorService} an {@link AsyncHttpClient} use for handling
          * asynchronous response.
+         * <p>
+         * Any executor may be used, including one created by
+         * {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}; in that case each
+         * I/O event is processed on its own virtual thread, so {@link AsyncHandler} callbacks may block
+         * (for instance while feeding a request body) without tying up a platform thread.
          *
          * @param applicationThreadPool the {@link java.util.concurrent.ExecutorService} an {@link AsyncHttpClient} use for handling
          *                              asynchronous response.
@@ -940,6 +1049,83 @@ public class AsyncHttpClientConfig {
             return this;
         }
 
+        /**
+         * Set the {@link ResponseCache} requests are served from. No response is cached by default.
+         *
+         * @param responseCache the {@link ResponseCache}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder setResponseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Set the {@link RequestCoalescer} concurrent identical requests are coalesced with. No request is
+         * coalesced by default.
+         *
+         * @param requestCoalescer the {@link RequestCoalescer}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder setRequestCoalescer(RequestCoalescer requestCoalescer) {
+            this.requestCoalescer = requestCoalescer;
+            return this;
+        }
+
+        /**
+         * Add an {@link EndpointGroup}, balancing the requests to its service name across its backends. A group
+         * replaces any previous one with the same service name.
+         *
+         * @param endpointGroup the {@link EndpointGroup}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder addEndpointGroup(EndpointGroup endpointGroup) {
+            endpointGroups.put(endpointGroup.getServiceName().toLowerCase(Locale.ENGLISH), endpointGroup);
+            return this;
+        }
+
+        /**
+         * Set the {@link CircuitBreaker} guarding each connection pool partition. No request is rejected by default.
+         *
+         * @param circuitBreaker the {@link CircuitBreaker}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder setCircuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Set the {@link RedirectCache} storing the permanent redirects, so that requests to their URLs skip the
+         * redirect round trip. No redirect is stored by default.
+         *
+         * @param redirectCache the {@link RedirectCache}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder setRedirectCache(RedirectCache redirectCache) {
+            this.redirectCache = redirectCache;
+            return this;
+        }
+
+        /**
+         * Set the {@link ResponseSpillPolicy} bounding the memory used by the {@link AsyncCompletionHandlerBase}
+         * the client creates when no {@link AsyncHandler} is given. Response bodies are accumulated in memory whatever
+         * their size by default.
+         *
+         * @param responseSpillPolicy the {@link ResponseSpillPolicy}
+         * @return a {@link Builder}
+         * @since 5.0.1
+         */
+        public Builder setResponseSpillPolicy(ResponseSpillPolicy responseSpillPolicy) {
+            this.responseSpillPolicy = responseSpillPolicy;
+            return this;
+        }
+
         /**
          * Create a config builder with values taken from the given prototype configuration.
          *
@@ -983,6 +1169,12 @@ public class AsyncHttpClientConfig {
             sslSessionCacheSize = prototype.sslSessionCacheSize;
             sslSessionTimeout = prototype.sslSessionTimeout;
             acceptAnyCertificate = prototype.acceptAnyCertificate;
+            responseCache = prototype.responseCache;
+            requestCoalescer = prototype.requestCoalescer;
+            endpointGroups.putAll(prototype.endpointGroups);
+            circuitBreaker = prototype.circuitBreaker;
+            redirectCache = prototype.redirectCache;
+            responseSpillPolicy = prototype.responseSpillPolicy;
         }
 
         /**
@@ -1045,6 +1237,12 @@ public class AsyncHttpClientConfig {
                     enabledCipherSuites, //
                     sslSessionCacheSize, //
                     sslSessionTimeout, //
+                    responseCache, //
+                    requestCoalescer, //
+                    new HashMap<>(endpointGroups), //
+                    circuitBreaker, //
+                    redirectCache, //
+                    responseSpillPolicy, //
                     providerConfig);
         }
     }
@@ -16,6 +16,11 @@ package com.ning.http.client;
 
 import static com.ning.http.client.AsyncHttpClientConfigDefaults.*;
 
+import com.ning.http.client.cache.RedirectCache;
+import com.ning.http.client.cache.ResponseCache;
+import com.ning.http.client.endpoint.EndpointGroup;
+import com.ning.http.client.extra.CircuitBreaker;
+import com.ning.http.client.extra.RequestCoalescer;
 import com.ning.http.client.filter.IOExceptionFilter;
 import com.ning.http.client.filter.RequestFilter;
 import com.ning.http.client.filter.ResponseFilter;
@@ -24,7 +29,9 @@ import com.ning.http.util.ProxyUtils;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -44,6 +51,7 @@ public class AsyncHttpClientConfigBean extends AsyncHttpClientConfig {
         requestFilters = new LinkedList<>();
         responseFilters = new LinkedList<>();
         ioExceptionFilters = new LinkedList<>();
+        endpointGroups = new HashMap<>();
     }
 
     void configureDefaults() {
@@ -239,4 +247,34 @@ public class AsyncHttpClientConfigBean extends AsyncHttpClientConfig {
         this.sslSessionTimeout = sslSessionTimeout;
         return this;
     }
+
+    public AsyncHttpClientConfigBean setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    public AsyncHttpClientConfigBean setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+        return this;
+    }
+
+    public AsyncHttpClientConfigBean addEndpointGroup(EndpointGroup endpointGroup) {
+        endpointGroups.put(endpointGroup.getServiceName().toLowerCase(Locale.ENGLISH), endpointGroup);
+        return this;
+    }
+
+    public AsyncHttpClientConfigBean setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    public AsyncHttpClientConfigBean setRedirectCache(RedirectCache redirectCache) {
+        this.redirectCache = redirectCache;
+        return this;
+    }
+
+    public AsyncHttpClientConfigBean setResponseSpillPolicy(ResponseSpillPolicy responseSpillPolicy) {
+        this.responseSpillPolicy = responseSpillPolicy;
+        return this;
+    }
 }
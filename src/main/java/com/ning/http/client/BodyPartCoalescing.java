@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+/**
+ * Coalesces the small body parts of a response into larger ones before they're handed to the {@link AsyncHandler},
+ * once set with {@link RequestBuilderBase#setBodyPartCoalescing(BodyPartCoalescing)}. Servers flushing many small
+ * chunks otherwise cost a body part and a {@link AsyncHandler#onBodyPartReceived(HttpResponseBodyPart)} call each.
+ * <p>
+ * The content received is held until it reaches the {@link Builder#setMaxBytes(int) maximum size}, and then handed
+ * over as a single part, without copying it. Content below that size is handed over at the end of the network read it
+ * came with, or, with a {@link Builder#setMaxDelay(long) maximum delay}, once it has been held that long, so that
+ * content spread over several reads is coalesced as well. The last part carries the content held so far, unless
+ * {@link Builder#setMergeLastPart(boolean) disabled}, in which case the content held is handed over as a part of its
+ * own.
+ *
+ * <pre>{@code
+ *      BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder().setMaxBytes(64 * 1024).setMaxDelay(20).build();
+ *      client.prepareGet(url).setBodyPartCoalescing(coalescing).execute(handler);
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public final class BodyPartCoalescing {
+
+    private final int maxBytes;
+    private final long maxDelay;
+    private final boolean mergeLastPart;
+
+    private BodyPartCoalescing(Builder b) {
+        this.maxBytes = b.maxBytes;
+        this.maxDelay = b.maxDelay;
+        this.mergeLastPart = b.mergeLastPart;
+    }
+
+    /**
+     * @return the size from which the content held is handed over, in bytes
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the time content may be held for, in milliseconds, or 0 to hand it over at the end of every read
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * @return true if the content held is handed over with the last part
+     */
+    public boolean isMergeLastPart() {
+        return mergeLastPart;
+    }
+
+    /**
+     * Builder for a {@link BodyPartCoalescing}.
+     */
+    public static class Builder {
+
+        private int maxBytes = 16 * 1024;
+        private long maxDelay;
+        private boolean mergeLastPart = true;
+
+        /**
+         * Set the size from which the content held is handed over, 16KB by default.
+         *
+         * @param maxBytes the size, in bytes
+         * @return this builder
+         */
+        public Builder setMaxBytes(int maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Set the time content may be held for across network reads, bounding the latency added. By default, content
+         * is handed over at the end of every network read.
+         *
+         * @param maxDelay the delay, in milliseconds, or 0 to hand the content over at the end of every read
+         * @return this builder
+         */
+        public Builder setMaxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set whether the content held is handed over with the last part, as one part {@link
+         * HttpResponseBodyPart#isLast() flagged} as the last, true by default. Otherwise, the content held is handed
+         * over as a part of its own, and the end of the body is then signalled as it would be without coalescing.
+         *
+         * @param mergeLastPart true to hand the content held over with the last part
+         * @return this builder
+         */
+        public Builder setMergeLastPart(boolean mergeLastPart) {
+            this.mergeLastPart = mergeLastPart;
+            return this;
+        }
+
+        public BodyPartCoalescing build() {
+            if (maxBytes <= 0) {
+                throw new IllegalArgumentException("maxBytes must be > 0");
+            }
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("maxDelay must be >= 0");
+            }
+            return new BodyPartCoalescing(this);
+        }
+    } // END Builder
+}
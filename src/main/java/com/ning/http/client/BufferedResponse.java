@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client;
+
+import static com.ning.http.util.MiscUtils.isNonEmpty;
+
+import com.ning.http.client.cookie.Cookie;
+import com.ning.http.client.cookie.CookieDecoder;
+import com.ning.http.client.uri.Uri;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Response} whose body is held in {@link ByteBuffer}s rather than in provider specific buffers, along with
+ * the status, headers and body part types it is built from.
+ * <p>
+ * These let a response be recorded once and replayed to any number of {@link AsyncHandler}s, as done by
+ * {@link com.ning.http.client.cache.ResponseCache} and {@link com.ning.http.client.extra.RequestCoalescer}. Bodies are
+ * exposed as read-only views and never copied when replayed.
+ *
+ * @since 5.0.1
+ */
+public final class BufferedResponse extends ResponseBase {
+
+    private final ByteBuffer body;
+
+    private BufferedResponse(HttpResponseStatus status, HttpResponseHeaders headers, List<HttpResponseBodyPart> bodyParts) {
+        super(status, headers, bodyParts);
+        body = concat(bodyParts);
+    }
+
+    /**
+     * Replay a response to a handler, the way a provider delivers a response read from the network: the body, if
+     * any, is delivered as a single last part, unless the handler aborts the processing first.
+     *
+     * @param handler the handler
+     * @param status  the response status
+     * @param headers the response headers
+     * @param body    the response body
+     * @return the value produced by the handler
+     * @throws Exception if the handler fails
+     */
+    public static <T> T replay(AsyncHandler<T> handler, Status status, FluentCaseInsensitiveStringsMap headers,
+            ByteBuffer body) throws Exception {
+        if (handler.onStatusReceived(status) == AsyncHandler.STATE.CONTINUE
+                && handler.onHeadersReceived(new Headers(headers)) == AsyncHandler.STATE.CONTINUE
+                && body.hasRemaining()) {
+            handler.onBodyPartReceived(new BodyPart(body, true));
+        }
+        return handler.onCompleted();
+    }
+
+    // --------------------------------------------------- Methods from Response
+
+    @Override
+    public byte[] getResponseBodyAsBytes() throws IOException {
+        final byte[] bytes = new byte[body.remaining()];
+        body.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return a read-only view of the body
+     */
+    @Override
+    public ByteBuffer getResponseBodyAsByteBuffer() throws IOException {
+        return body.duplicate();
+    }
+
+    @Override
+    public InputStream getResponseBodyAsStream() throws IOException {
+        return new ByteArrayInputStream(getResponseBodyAsBytes());
+    }
+
+    @Override
+    public String getResponseBodyExcerpt(int maxLength, String charset) throws IOException {
+        final ByteBuffer excerpt = body.duplicate();
+        excerpt.limit(Math.min(excerpt.limit(), excerpt.position() + maxLength));
+        return calculateCharset(charset).decode(excerpt).toString();
+    }
+
+    @Override
+    public String getResponseBody(String charset) throws IOException {
+        return calculateCharset(charset).decode(body.duplicate()).toString();
+    }
+
+    @Override
+    public String getResponseBodyExcerpt(int maxLength) throws IOException {
+        return getResponseBodyExcerpt(maxLength, null);
+    }
+
+    @Override
+    public String getResponseBody() throws IOException {
+        return getResponseBody(null);
+    }
+
+    @Override
+    protected List<Cookie> buildCookies() {
+        final List<String> values = headers.getHeaders().get("Set-Cookie");
+        if (!isNonEmpty(values)) {
+            return Collections.emptyList();
+        }
+        final List<Cookie> cookies = new ArrayList<>(values.size());
+        for (String value : values) {
+            final Cookie cookie = CookieDecoder.decode(value);
+            if (cookie != null) {
+                cookies.add(cookie);
+            }
+        }
+        return Collections.unmodifiableList(cookies);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static ByteBuffer concat(List<HttpResponseBodyPart> bodyParts) {
+        if (!isNonEmpty(bodyParts)) {
+            return ByteBuffer.allocate(0).asReadOnlyBuffer();
+        }
+        if (bodyParts.size() == 1) {
+            final ByteBuffer[] views = bodyParts.get(0).getBodyByteBuffers();
+            if (views.length == 1) {
+                return views[0];
+            }
+        }
+        int length = 0;
+        for (HttpResponseBodyPart part : bodyParts) {
+            length += part.length();
+        }
+        final ByteBuffer body = ByteBuffer.allocate(length);
+        for (HttpResponseBodyPart part : bodyParts) {
+            for (ByteBuffer view : part.getBodyByteBuffers()) {
+                body.put(view);
+            }
+        }
+        body.flip();
+        return body.asReadOnlyBuffer();
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * A status that builds {@link BufferedResponse}s.
+     */
+    public static final class Status extends HttpResponseStatus {
+
+        private final int statusCode;
+        private final String statusText;
+        private final String protocolName;
+        private final int protocolMajorVersion;
+        private final int protocolMinorVersion;
+        private final String protocolText;
+
+        /**
+         * Create an HTTP/1.1 status.
+         */
+        public Status(Uri uri, int statusCode, String statusText) {
+            super(uri, null);
+            this.statusCode = statusCode;
+            this.statusText = statusText;
+            this.protocolName = "HTTP";
+            this.protocolMajorVersion = 1;
+            this.protocolMinorVersion = 1;
+            this.protocolText = "HTTP/1.1";
+        }
+
+        /**
+         * Copy a status received from a provider.
+         */
+        public Status(HttpResponseStatus status) {
+            super(status.getUri(), status.getConfig());
+            this.statusCode = status.getStatusCode();
+            this.statusText = status.getStatusText();
+            this.protocolName = status.getProtocolName();
+            this.protocolMajorVersion = status.getProtocolMajorVersion();
+            this.protocolMinorVersion = status.getProtocolMinorVersion();
+            this.protocolText = status.getProtocolText();
+        }
+
+        @Override
+        public Response prepareResponse(HttpResponseHeaders headers, List<HttpResponseBodyPart> bodyParts) {
+            return new BufferedResponse(this, headers, bodyParts);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getStatusText() {
+            return statusText;
+        }
+
+        @Override
+        public String getProtocolName() {
+            return protocolName;
+        }
+
+        @Override
+        public int getProtocolMajorVersion() {
+            return protocolMajorVersion;
+        }
+
+        @Override
+        public int getProtocolMinorVersion() {
+            return protocolMinorVersion;
+        }
+
+        @Override
+        public String getProtocolText() {
+            return protocolText;
+        }
+    } // END Status
+
+    /**
+     * Headers backed by a map.
+     */
+    public static final class Headers extends HttpResponseHeaders {
+
+        private final FluentCaseInsensitiveStringsMap headers;
+
+        public Headers(FluentCaseInsensitiveStringsMap headers) {
+            this(headers, false);
+        }
+
+        public Headers(FluentCaseInsensitiveStringsMap headers, boolean trailling) {
+            super(trailling);
+            this.headers = headers;
+        }
+
+        @Override
+        public FluentCaseInsensitiveStringsMap getHeaders() {
+            return headers;
+        }
+    } // END Headers
+
+    /**
+     * A body part backed by a {@link ByteBuffer}, exposed as read-only views.
+     */
+    public static final class BodyPart extends HttpResponseBodyPart {
+
+        private final ByteBuffer content;
+
+        public BodyPart(ByteBuffer content, boolean last) {
+            super(last);
+            this.content = content.asReadOnlyBuffer();
+        }
+
+        @Override
+        public int length() {
+            return content.remaining();
+        }
+
+        @Override
+        public byte[] getBodyPartBytes() {
+            final byte[] bytes = new byte[content.remaining()];
+            content.duplicate().get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public int writeTo(OutputStream outputStream) throws IOException {
+            final byte[] bytes = getBodyPartBytes();
+            outputStream.write(bytes);
+            return bytes.length;
+        }
+
+        /**
+         * @return a buffer wrapping a copy of the part, its array being accessible
+         */
+        @Override
+        public ByteBuffer getBodyByteBuffer() {
+            return ByteBuffer.wrap(getBodyPartBytes());
+        }
+
+        /**
+         * @return a single read-only view of the part
+         */
+        @Override
+        public ByteBuffer[] getBodyByteBuffers() {
+            return new ByteBuffer[] { content.duplicate() };
+        }
+    } // END BodyPart
+}
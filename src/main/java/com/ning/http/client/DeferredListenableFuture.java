@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client;
+
+import com.ning.http.client.listenable.AbstractListenableFuture;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future handed out for a request whose {@link com.ning.http.client.filter.FilterContext#getAdmission() admission}
+ * is still pending. Once admitted, the request is executed and this future follows the provider's future.
+ */
+final class DeferredListenableFuture<V> extends AbstractListenableFuture<V> {
+
+    private final CompletableFuture<V> result = new Stage();
+    private final CompletableFuture<?> admission;
+    private final AsyncHandler<V> asyncHandler;
+    private volatile ListenableFuture<V> delegate;
+
+    DeferredListenableFuture(CompletionStage<?> admission, AsyncHandler<V> asyncHandler) {
+        this.admission = admission.toCompletableFuture();
+        this.asyncHandler = asyncHandler;
+        result.whenComplete((v, t) -> runListeners());
+    }
+
+    /**
+     * Binds this future to the provider's future of the now admitted request.
+     */
+    void admitted(ListenableFuture<V> delegate) {
+        this.delegate = delegate;
+        if (result.isDone()) {
+            // cancelled while the request was being dispatched
+            delegate.cancel(true);
+            return;
+        }
+        delegate.toCompletableFuture().whenComplete((v, t) -> {
+            if (t == null) {
+                result.complete(v);
+            } else if (t instanceof CancellationException) {
+                result.cancel(false);
+            } else {
+                result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            }
+        });
+    }
+
+    /**
+     * Fails the request without it ever reaching the provider.
+     */
+    void rejected(Throwable t) {
+        if (t instanceof CompletionException && t.getCause() != null) {
+            t = t.getCause();
+        }
+        if (result.completeExceptionally(t)) {
+            asyncHandler.onThrowable(t);
+        }
+    }
+
+    // ----------------------------------------------------- Methods from Future
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return result.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return result.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return result.get(timeout, unit);
+    }
+
+    // ------------------------------------------- Methods from ListenableFuture
+
+    @Override
+    public void done() {
+        final ListenableFuture<V> d = delegate;
+        if (d != null) {
+            d.done();
+        }
+    }
+
+    @Override
+    public void abort(Throwable t) {
+        final ListenableFuture<V> d = delegate;
+        if (d != null) {
+            d.abort(t);
+        } else {
+            admission.cancel(false);
+            rejected(t);
+        }
+    }
+
+    @Override
+    public void touch() {
+        final ListenableFuture<V> d = delegate;
+        if (d != null) {
+            d.touch();
+        }
+    }
+
+    @Override
+    public CompletableFuture<V> toCompletableFuture() {
+        return result;
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * Propagates cancellation of the stage, however it is reached, to the
+     * provider's future or, before admission, to the admission stage.
+     */
+    private final class Stage extends CompletableFuture<V> {
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            final ListenableFuture<V> d = delegate;
+            if (d != null) {
+                d.cancel(mayInterruptIfRunning);
+            } else {
+                admission.cancel(false);
+                asyncHandler.onThrowable(new CancellationException());
+            }
+            return true;
+        }
+    }
+}
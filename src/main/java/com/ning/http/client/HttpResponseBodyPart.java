@@ -20,14 +20,26 @@ package com.ning.http.client;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A callback class used when an HTTP response body is received.
+ * <p>
+ * A part is handed to the {@link AsyncHandler} with a reference count of one. A handler that is done with a part may
+ * {@link #release()} it, so that the provider recycles its buffer once every {@link #retain()} is matched by a
+ * release: the part and the views it returned must not be used afterwards. Parts that are never released are left to
+ * the garbage collector.
  */
 public abstract class HttpResponseBodyPart {
 
+    private static final AtomicIntegerFieldUpdater<HttpResponseBodyPart> REF_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(HttpResponseBodyPart.class, "refCount");
+
     private final boolean last;
     private boolean closeConnection;
+    private volatile int refCount = 1;
 
     public HttpResponseBodyPart(boolean last) {
         this.last = last;
@@ -88,4 +100,108 @@ public abstract class HttpResponseBodyPart {
      * @return {@link ByteBuffer}
      */
     public abstract ByteBuffer getBodyByteBuffer();
+
+    /**
+     * Return read-only views of the bytes of this part, sharing the memory the provider read them into when it allows
+     * so, rather than copying them. A part read into several buffers yields several views.
+     *
+     * @return the read-only views, in order
+     * @since 5.0.1
+     */
+    public ByteBuffer[] getBodyByteBuffers() {
+        return new ByteBuffer[] { getBodyByteBuffer().asReadOnlyBuffer() };
+    }
+
+    /**
+     * Write the bytes of this part to a blocking {@link WritableByteChannel}, from the views of
+     * {@link #getBodyByteBuffers()}.
+     *
+     * @param channel the channel
+     * @return the number of bytes written
+     * @throws IOException
+     * @since 5.0.1
+     */
+    public long transferTo(WritableByteChannel channel) throws IOException {
+        final ByteBuffer[] buffers = getBodyByteBuffers();
+        long written = 0;
+        if (buffers.length > 1 && channel instanceof GatheringByteChannel) {
+            final GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+            final int length = length();
+            while (written < length) {
+                written += gatheringChannel.write(buffers);
+            }
+        } else {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    written += channel.write(buffer);
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Increment the reference count of this part, so that it stays usable until a matching {@link #release()}.
+     *
+     * @return this part
+     * @throws IllegalStateException if the part has been released
+     * @since 5.0.1
+     */
+    public HttpResponseBodyPart retain() {
+        for (;;) {
+            final int count = refCount;
+            if (count <= 0) {
+                throw new IllegalStateException("Body part released");
+            }
+            if (REF_COUNT.compareAndSet(this, count, count + 1)) {
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Decrement the reference count of this part, recycling its buffer when it reaches zero.
+     *
+     * @return true if the part was deallocated
+     * @throws IllegalStateException if the part has been released
+     * @since 5.0.1
+     */
+    public boolean release() {
+        for (;;) {
+            final int count = refCount;
+            if (count <= 0) {
+                throw new IllegalStateException("Body part released");
+            }
+            if (REF_COUNT.compareAndSet(this, count, count - 1)) {
+                if (count == 1) {
+                    deallocate();
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return the reference count of this part
+     * @since 5.0.1
+     */
+    public int refCount() {
+        return refCount;
+    }
+
+    /**
+     * Recycle the buffer of this part, once its reference count reaches zero. Does nothing by default.
+     */
+    protected void deallocate() {
+    }
+
+    /**
+     * @throws IllegalStateException if the part has been released
+     */
+    protected final void ensureAccessible() {
+        if (refCount <= 0) {
+            throw new IllegalStateException("Body part released");
+        }
+    }
 }
@@ -16,51 +16,142 @@ package com.ning.http.client;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * An {@link InputStream} that reads all the elements in an array of {@link HttpResponseBodyPart}s.
+ * <p>
+ * The bytes are read from the views of {@link HttpResponseBodyPart#getBodyByteBuffers()}, without copying the parts,
+ * and {@link #transferTo(OutputStream)} writes the parts not read yet with {@link HttpResponseBodyPart#writeTo(OutputStream)}.
  */
 public class HttpResponseBodyPartsInputStream extends InputStream {
 
     private final List<HttpResponseBodyPart> parts;
 
-    private int currentPos = 0;
-    private int bytePos = -1;
-    private byte[] active;
-    private int available = 0;
+    // the part whose views are read, and the view read
+    private int partIndex = -1;
+    private ByteBuffer[] views = new ByteBuffer[0];
+    private int viewIndex;
+    private long remaining;
 
     public HttpResponseBodyPartsInputStream(List<HttpResponseBodyPart> parts) {
         this.parts = parts;
-        active = parts.get(0).getBodyPartBytes();
-        computeLength(parts);
-    }
-
-    private void computeLength(List<HttpResponseBodyPart> parts) {
-        if (available == 0) {
-            for (HttpResponseBodyPart p : parts) {
-                available += p.getBodyPartBytes().length;
-            }
+        for (HttpResponseBodyPart part : parts) {
+            remaining += part.length();
         }
     }
 
     @Override
     public int available() throws IOException {
-        return available;
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
     }
 
     @Override
     public int read() throws IOException {
-        if (++bytePos >= active.length) {
-            // No more bytes, so step to the next array.
-            if (++currentPos >= parts.size()) {
-                return -1;
-            }
+        final ByteBuffer view = currentView();
+        if (view == null) {
+            return -1;
+        }
+        remaining--;
+        return view.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        int read = 0;
+        ByteBuffer view;
+        while (read < len && (view = currentView()) != null) {
+            final int n = Math.min(len - read, view.remaining());
+            view.get(b, off + read, n);
+            read += n;
+        }
+        remaining -= read;
+        return read == 0 ? -1 : read;
+    }
 
-            bytePos = 0;
-            active = parts.get(currentPos).getBodyPartBytes();
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer view;
+        while (skipped < n && (view = currentView()) != null) {
+            final int count = (int) Math.min(n - skipped, view.remaining());
+            view.position(view.position() + count);
+            skipped += count;
         }
+        remaining -= skipped;
+        return skipped;
+    }
 
-        return active[bytePos] & 0xFF;
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        if (remaining > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return readNBytes(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public byte[] readNBytes(int len) throws IOException {
+        if (len < 0) {
+            throw new IllegalArgumentException("len < 0");
+        }
+        final byte[] bytes = new byte[(int) Math.min(len, remaining)];
+        if (bytes.length > 0) {
+            read(bytes, 0, bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long transferTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        long transferred = 0;
+        // the rest of the part being read
+        byte[] chunk = null;
+        for (; viewIndex < views.length; viewIndex++) {
+            final ByteBuffer view = views[viewIndex];
+            while (view.hasRemaining()) {
+                if (chunk == null) {
+                    chunk = new byte[Math.min(8192, view.remaining())];
+                }
+                final int n = Math.min(chunk.length, view.remaining());
+                view.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+                transferred += n;
+            }
+        }
+        // then the parts as a whole
+        while (++partIndex < parts.size()) {
+            transferred += parts.get(partIndex).writeTo(out);
+        }
+        remaining = 0;
+        return transferred;
+    }
+
+    /**
+     * @return the view holding the next byte to read, or <tt>null</tt> if the parts have all been read
+     */
+    private ByteBuffer currentView() {
+        for (;;) {
+            while (viewIndex < views.length) {
+                final ByteBuffer view = views[viewIndex];
+                if (view.hasRemaining()) {
+                    return view;
+                }
+                viewIndex++;
+            }
+            if (partIndex + 1 >= parts.size()) {
+                return null;
+            }
+            views = parts.get(++partIndex).getBodyByteBuffers();
+            viewIndex = 0;
+        }
     }
 }
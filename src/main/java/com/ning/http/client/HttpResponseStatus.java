@@ -20,6 +20,8 @@ package com.ning.http.client;
 import com.ning.http.client.uri.Uri;
 
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * A class that represent the HTTP response' status line (code + text)
@@ -28,6 +30,8 @@ public abstract class HttpResponseStatus {
 
     private final Uri uri;
     protected final AsyncHttpClientConfig config;
+    private final Queue<Runnable> abortListeners = new ConcurrentLinkedQueue<>();
+    private volatile boolean aborted;
 
     public HttpResponseStatus(Uri uri, AsyncHttpClientConfig config) {
         this.uri = uri;
@@ -97,4 +101,34 @@ public abstract class HttpResponseStatus {
      * @return protocol name + version
      */
     public abstract String getProtocolText();
+
+    /**
+     * Register a task to run if the response is aborted before it completes, whether or not the {@link AsyncHandler}
+     * passes its {@link AsyncHandler#onThrowable(Throwable)} along, so that the resources held for a partially
+     * accumulated body are released. A task registered once the response is aborted runs right away.
+     *
+     * @param listener the task
+     * @since 5.0.1
+     */
+    public void addAbortListener(Runnable listener) {
+        abortListeners.add(listener);
+        if (aborted)
+            runAbortListeners();
+    }
+
+    /**
+     * Run the abort listeners, once the provider has given up on the response.
+     *
+     * @since 5.0.1
+     */
+    protected void aborted() {
+        aborted = true;
+        runAbortListeners();
+    }
+
+    private void runAbortListeners() {
+        Runnable listener;
+        while ((listener = abortListeners.poll()) != null)
+            listener.run();
+    }
 }
@@ -32,6 +32,8 @@
  */
 package com.ning.http.client;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
@@ -85,6 +87,44 @@ public interface ListenableFuture<V> extends Future<V> {
      */
     ListenableFuture<V> addListener(Runnable listener, Executor exec);
 
+    /**
+     * Returns a {@link CompletableFuture} that completes with the outcome of this future.
+     * <p>
+     * Cancelling the returned stage cancels this future, and thereby the underlying request.
+     * Dependent stages that are not {@code *Async} run on the thread completing the response,
+     * which for most providers is an I/O thread, so they must not block.
+     * <p>
+     * The default implementation bridges through {@link #addListener(Runnable, Executor)};
+     * providers are expected to return their own state directly where possible.
+     *
+     * @return a {@link CompletableFuture} view of this future
+     * @since 5.0.1
+     */
+    default CompletableFuture<V> toCompletableFuture() {
+        final CompletableFuture<V> stage = new CompletableFuture<V>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                ListenableFuture.this.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        addListener(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    stage.complete(get());
+                } catch (ExecutionException e) {
+                    stage.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+                } catch (CancellationException e) {
+                    stage.cancel(false);
+                } catch (Throwable t) {
+                    stage.completeExceptionally(t);
+                }
+            }
+        }, Runnable::run);
+        return stage;
+    }
+
     public class CompletedFailure<T> implements ListenableFuture<T>{
 
         private final ExecutionException e;
@@ -139,5 +179,72 @@ public interface ListenableFuture<V> extends Future<V> {
             exec.execute(listener);
             return this;
         }
+
+        @Override
+        public CompletableFuture<T> toCompletableFuture() {
+            return CompletableFuture.failedFuture(e.getCause());
+        }
+    }
+
+    /**
+     * A {@link ListenableFuture} that has already completed with a value.
+     *
+     * @since 5.0.1
+     */
+    public class CompletedSuccess<T> implements ListenableFuture<T> {
+
+        private final T value;
+
+        public CompletedSuccess(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return true;
+        }
+
+        @Override
+        public T get() {
+            return value;
+        }
+
+        @Override
+        public T get(long timeout, TimeUnit unit) {
+            return value;
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void abort(Throwable t) {
+        }
+
+        @Override
+        public void touch() {
+        }
+
+        @Override
+        public ListenableFuture<T> addListener(Runnable listener, Executor exec) {
+            exec.execute(listener);
+            return this;
+        }
+
+        @Override
+        public CompletableFuture<T> toCompletableFuture() {
+            return CompletableFuture.completedFuture(value);
+        }
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+/**
+ * An extended {@link AsyncHandler} which controls the reading of the response body, so that it's only read as fast as
+ * it's consumed.
+ *
+ * @since 5.0.1
+ */
+public interface ReadControlledAsyncHandler<T> extends AsyncHandler<T> {
+
+    /**
+     * Invoked before {@link #onStatusReceived(HttpResponseStatus)}, with the controller of the response about to be
+     * delivered. A redirect or a retry delivers another response, with its own controller.
+     *
+     * @param controller the controller of the response
+     */
+    void onReadController(ReadController controller);
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+/**
+ * Suspends and resumes the reading of a response from its connection, handed to a {@link ReadControlledAsyncHandler}.
+ * Reading stops once the body part being delivered, if any, is processed.
+ *
+ * @since 5.0.1
+ */
+public interface ReadController {
+
+    /**
+     * Stop reading the response, until {@link #resume()} is invoked.
+     */
+    void suspend();
+
+    /**
+     * Resume reading the response.
+     */
+    void resume();
+}
@@ -193,4 +193,26 @@ public interface Request {
     ConnectionPoolPartitioning getConnectionPoolPartitioning();
 
     NameResolver getNameResolver();
+
+    /**
+     * Return true if the response body is discarded as it's read, rather than handed to the {@link AsyncHandler}: only
+     * the status and the headers of the response are delivered.
+     *
+     * @return true if the response body is discarded, false by default
+     * @since 5.0.1
+     */
+    default boolean isDiscardBody() {
+        return false;
+    }
+
+    /**
+     * Return how the small parts of the response body are coalesced before they're handed to the
+     * {@link AsyncHandler}, if they are.
+     *
+     * @return the {@link BodyPartCoalescing}, or null, the default, if the parts are handed over as received
+     * @since 5.0.1
+     */
+    default BodyPartCoalescing getBodyPartCoalescing() {
+        return null;
+    }
 }
@@ -73,6 +73,8 @@ public abstract class RequestBuilderBase<T extends RequestBuilderBase<T>> {
         private ConnectionPoolPartitioning connectionPoolPartitioning = ConnectionPoolPartitioning.PerHostConnectionPoolPartitioning.INSTANCE;
         private NameResolver nameResolver = NameResolver.JdkNameResolver.INSTANCE;
         private List<Param> queryParams;
+        private boolean discardBody;
+        private BodyPartCoalescing bodyPartCoalescing;
 
         public RequestImpl() {
         }
@@ -103,6 +105,8 @@ public abstract class RequestBuilderBase<T extends RequestBuilderBase<T>> {
                 this.charset = prototype.getBodyEncoding();
                 this.connectionPoolPartitioning = prototype.getConnectionPoolPartitioning();
                 this.nameResolver = prototype.getNameResolver();
+                this.discardBody = prototype.isDiscardBody();
+                this.bodyPartCoalescing = prototype.getBodyPartCoalescing();
             }
         }
 
@@ -230,6 +234,16 @@ public abstract class RequestBuilderBase<T extends RequestBuilderBase<T>> {
         public NameResolver getNameResolver() {
             return nameResolver;
         }
+
+        @Override
+        public boolean isDiscardBody() {
+            return discardBody;
+        }
+
+        @Override
+        public BodyPartCoalescing getBodyPartCoalescing() {
+            return bodyPartCoalescing;
+        }
         
         @Override
         public List<Param> getQueryParams() {
@@ -552,6 +566,31 @@ public abstract class RequestBuilderBase<T extends RequestBuilderBase<T>> {
         return derived.cast(this);
     }
 
+    /**
+     * Discard the response body as it's read, without handing it to the {@link AsyncHandler}, for requests that only
+     * need the status and the headers of the response. The connection is still kept alive.
+     *
+     * @param discardBody true to discard the response body
+     * @return this
+     * @since 5.0.1
+     */
+    public T setDiscardBody(boolean discardBody) {
+        request.discardBody = discardBody;
+        return derived.cast(this);
+    }
+
+    /**
+     * Coalesce the small parts of the response body before they're handed to the {@link AsyncHandler}.
+     *
+     * @param bodyPartCoalescing the {@link BodyPartCoalescing}, or null to hand the parts over as received
+     * @return this
+     * @since 5.0.1
+     */
+    public T setBodyPartCoalescing(BodyPartCoalescing bodyPartCoalescing) {
+        request.bodyPartCoalescing = bodyPartCoalescing;
+        return derived.cast(this);
+    }
+
     public T setRangeOffset(long rangeOffset) {
         request.rangeOffset = rangeOffset;
         return derived.cast(this);
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client;
+
+/**
+ * Sends a {@link Request} on the network, bypassing any client-side layer that decorates
+ * {@link AsyncHttpClient#executeRequest(Request, AsyncHandler)}.
+ * <p>
+ * This is the hook such layers, like {@link com.ning.http.client.cache.ResponseCache}, are handed in order to issue
+ * the requests they cannot satisfy themselves.
+ *
+ * @since 5.0.1
+ */
+@FunctionalInterface
+public interface RequestExecutor {
+
+    /**
+     * Execute an HTTP request.
+     *
+     * @param request {@link Request}
+     * @param handler an instance of {@link AsyncHandler}
+     * @param <T>     Type of the value that will be returned by the associated {@link java.util.concurrent.Future}
+     * @return a {@link ListenableFuture} of type T
+     */
+    <T> ListenableFuture<T> execute(Request request, AsyncHandler<T> handler);
+}
@@ -22,9 +22,11 @@ import com.ning.http.client.uri.Uri;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -61,6 +63,19 @@ public interface Response {
      */
     ByteBuffer getResponseBodyAsByteBuffer() throws IOException;
 
+    /**
+     * Return the entire response body as a read-only ByteBuffer. Unlike {@link #getResponseBodyAsByteBuffer()},
+     * the returned buffer shares the response's memory without copying it whenever the body is held in a single
+     * buffer.
+     * 
+     * @return the entire response body as a read-only ByteBuffer.
+     * @throws IOException
+     * @since 5.0.1
+     */
+    default ByteBuffer getResponseBodyAsReadOnlyByteBuffer() throws IOException {
+        return getResponseBodyAsByteBuffer().asReadOnlyBuffer();
+    }
+
     /**
      * Returns an input stream for the response body. Note that you should not try to get this more than once, and that you should not close the stream.
      * 
@@ -184,28 +199,88 @@ public interface Response {
     boolean hasResponseBody();
 
     public static class ResponseBuilder {
+
+        // larger declared lengths are accumulated part by part rather than into a presized array
+        private static final long MAX_PRESIZED_LENGTH = 16 * 1024 * 1024;
+
+        private final ResponseSpillPolicy spillPolicy;
         private final List<HttpResponseBodyPart> bodyParts = new ArrayList<>();
         private HttpResponseStatus status;
         private HttpResponseHeaders headers;
+        private long contentLength = -1;
+        private boolean presize;
+        private byte[] body;
+        private int bodyLength;
+        private long received;
+        private long reserved;
+        private SpilledBody spilled;
+        // set once the provider aborted the response, until the next status
+        private boolean aborted;
+
+        public ResponseBuilder() {
+            this(null);
+        }
 
-        public ResponseBuilder accumulate(HttpResponseStatus status) {
+        /**
+         * @param spillPolicy the policy bounding the memory used to accumulate the body, or null to accumulate it in
+         *            memory whatever its size
+         * @since 5.0.1
+         */
+        public ResponseBuilder(ResponseSpillPolicy spillPolicy) {
+            this.spillPolicy = spillPolicy;
+        }
+
+        public synchronized ResponseBuilder accumulate(HttpResponseStatus status) {
             this.status = status;
+            aborted = false;
+            if (spillPolicy != null && status != null)
+                status.addAbortListener(() -> abort(status));
             return this;
         }
 
-        public ResponseBuilder accumulate(HttpResponseHeaders headers) {
+        /**
+         * @param headers the response headers
+         * @return this
+         * @throws UncheckedIOException wrapping a {@link ResponseBodyTooLargeException} if the announced
+         *             <tt>Content-Length</tt> exceeds the {@link ResponseSpillPolicy#getMaxBodySize()}
+         */
+        public synchronized ResponseBuilder accumulate(HttpResponseHeaders headers) {
+            if (aborted)
+                return this;
             this.headers = headers;
+            contentLength = contentLength(headers);
+            // a decoded body doesn't match the announced length
+            presize = contentLength <= MAX_PRESIZED_LENGTH && headers != null
+                    && headers.getHeaders().getFirstValue("Content-Encoding") == null;
+            if (spillPolicy != null && spillPolicy.getMaxBodySize() >= 0 && contentLength > spillPolicy.getMaxBodySize())
+                throw new UncheckedIOException(tooLarge());
             return this;
         }
 
         /**
+         * Body parts of a response announcing its <tt>Content-Length</tt> are copied, as they arrive, into a
+         * single array of that length, so the built {@link Response} holds one contiguous body instead of
+         * the received parts. Parts exceeding the announced length fall back to being kept as received.
+         * <p>
+         * With a {@link ResponseSpillPolicy}, the body is appended to a temporary file once it exceeds the policy's
+         * memory thresholds.
+         * 
          * @param bodyPart
          *            a body part (possibly empty, but will be filtered out)
          * @return this
+         * @throws UncheckedIOException wrapping a {@link ResponseBodyTooLargeException} if the body exceeds the
+         *             {@link ResponseSpillPolicy#getMaxBodySize()}, or the {@link IOException} that prevented
+         *             spilling it
          */
         public ResponseBuilder accumulate(HttpResponseBodyPart bodyPart) {
-            if (bodyPart.length() > 0)
-                bodyParts.add(bodyPart);
+            try {
+                final SpilledBody s = append(bodyPart);
+                // waited for outside the lock, so that the response may be aborted meanwhile
+                if (s != null)
+                    s.awaitBacklog();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
             return this;
         }
 
@@ -213,18 +288,146 @@ public interface Response {
          * Build a {@link Response} instance
          * 
          * @return a {@link Response} instance
+         * @throws UncheckedIOException if a spilled body couldn't be read back
          */
-        public Response build() {
-            return status == null ? null : status.prepareResponse(headers, bodyParts);
+        public synchronized Response build() {
+            if (status == null)
+                return null;
+            releaseReserved();
+            if (spilled != null) {
+                final SpilledBody s = spilled;
+                spilled = null;
+                try {
+                    bodyParts.addAll(s.map());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else if (body != null && bodyLength > 0) {
+                return status.prepareResponse(headers, Collections.singletonList(presizedPart()));
+            }
+            return status.prepareResponse(headers, bodyParts);
         }
 
         /**
          * Reset the internal state of this builder.
          */
-        public void reset() {
-            bodyParts.clear();
+        public synchronized void reset() {
+            discard();
             status = null;
             headers = null;
+            contentLength = -1;
+            presize = false;
+            received = 0;
+        }
+
+        /**
+         * @return the spilled body the part was queued to, or null if it was kept in memory
+         */
+        private synchronized SpilledBody append(HttpResponseBodyPart bodyPart) throws IOException {
+            final int length = bodyPart.length();
+            if (length <= 0 || aborted)
+                return null;
+
+            received += length;
+            if (spillPolicy != null) {
+                if (spillPolicy.getMaxBodySize() >= 0 && received > spillPolicy.getMaxBodySize()) {
+                    discard();
+                    throw tooLarge();
+                }
+                if (spilled == null && !reserve(length))
+                    spill();
+                if (spilled != null) {
+                    spilled.write(bodyPart);
+                    return spilled;
+                }
+            }
+
+            if (body == null && bodyParts.isEmpty() && presize && contentLength > 0)
+                body = new byte[(int) contentLength];
+
+            if (body != null && bodyLength + length <= body.length) {
+                for (ByteBuffer view : bodyPart.getBodyByteBuffers()) {
+                    final int n = view.remaining();
+                    view.get(body, bodyLength, n);
+                    bodyLength += n;
+                }
+            } else {
+                if (body != null) {
+                    bodyParts.add(presizedPart());
+                    body = null;
+                }
+                bodyParts.add(bodyPart);
+            }
+            return null;
+        }
+
+        private synchronized void abort(HttpResponseStatus status) {
+            if (this.status == status) {
+                discard();
+                aborted = true;
+            }
+        }
+
+        private HttpResponseBodyPart presizedPart() {
+            return new BufferedResponse.BodyPart(ByteBuffer.wrap(body, 0, bodyLength), true);
+        }
+
+        private boolean reserve(int length) {
+            final long threshold = spillPolicy.getMemoryThreshold();
+            if (contentLength > threshold || reserved + length > threshold || !spillPolicy.reserve(length))
+                return false;
+            reserved += length;
+            return true;
+        }
+
+        private void releaseReserved() {
+            if (reserved > 0) {
+                spillPolicy.release(reserved);
+                reserved = 0;
+            }
+        }
+
+        private void spill() throws IOException {
+            spilled = new SpilledBody(spillPolicy.getDirectory(), spillPolicy.getExecutor());
+            spillPolicy.spilled();
+            if (body != null)
+                spilled.write(ByteBuffer.wrap(body, 0, bodyLength));
+            for (HttpResponseBodyPart part : bodyParts)
+                spilled.write(part);
+            body = null;
+            bodyLength = 0;
+            bodyParts.clear();
+            releaseReserved();
+        }
+
+        private void discard() {
+            releaseReserved();
+            if (spilled != null) {
+                try {
+                    spilled.close();
+                } catch (IOException ignored) {
+                }
+                spilled = null;
+            }
+            body = null;
+            bodyLength = 0;
+            bodyParts.clear();
+        }
+
+        private ResponseBodyTooLargeException tooLarge() {
+            return new ResponseBodyTooLargeException("Response body exceeds the maximum size of "
+                    + spillPolicy.getMaxBodySize() + " bytes");
+        }
+
+        private static long contentLength(HttpResponseHeaders headers) {
+            final String contentLength = headers == null ? null : headers.getHeaders().getFirstValue("Content-Length");
+            if (contentLength == null)
+                return -1;
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
         }
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+import com.ning.http.client.Response.ResponseBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An {@link AsyncHandler} publishing the response body to a single {@link Flow.Subscriber}, whose demand drives the
+ * reading of the response: the connection isn't read while the subscriber hasn't requested more buffers, so a slow
+ * subscriber doesn't make the body pile up in memory.
+ * <p>
+ * The subscriber may subscribe before or after the request is executed, and the response completes with its status
+ * and headers only:
+ * <pre>
+ *     ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+ *     Future&lt;Response&gt; response = client.prepareGet(&quot;http://foo.com/aResource&quot;).execute(publisher);
+ *     publisher.subscribe(subscriber);
+ * </pre>
+ * The buffers published share the memory the response was read into, and belong to the subscriber. A buffer may be
+ * received past the demand, and is held until requested. Cancelling the subscription aborts the request.
+ *
+ * @since 5.0.1
+ */
+public class ResponseBodyPublisher implements ReadControlledAsyncHandler<Response>, Flow.Publisher<ByteBuffer> {
+
+    private final ResponseBuilder responseBuilder = new ResponseBuilder();
+
+    private final AtomicReference<Flow.Subscriber<? super ByteBuffer>> subscriber = new AtomicReference<>();
+    // the subscriber, once its onSubscribe returned
+    private volatile Flow.Subscriber<? super ByteBuffer> subscribed;
+
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger drains = new AtomicInteger();
+
+    private volatile ReadController readController;
+    private volatile boolean completed;
+    private volatile Throwable failure;
+    private volatile Throwable subscriptionFailure;
+    private volatile boolean cancelled;
+
+    // only accessed by the drain loop
+    private boolean terminated;
+    private ReadController suspendedController;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> s) {
+        Objects.requireNonNull(s, "subscriber");
+        if (!subscriber.compareAndSet(null, s)) {
+            s.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            s.onError(new IllegalStateException("The response body has already been subscribed to"));
+            return;
+        }
+        s.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    subscriptionFailure = new IllegalArgumentException("Non-positive request: " + n);
+                } else {
+                    demand.getAndUpdate(d -> Long.MAX_VALUE - d < n ? Long.MAX_VALUE : d + n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+        subscribed = s;
+        drain();
+    }
+
+    @Override
+    public void onReadController(ReadController controller) {
+        readController = controller;
+        drain();
+    }
+
+    @Override
+    public void onThrowable(Throwable t) {
+        failure = t;
+        completed = true;
+        drain();
+    }
+
+    @Override
+    public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+        if (cancelled) {
+            return STATE.ABORT;
+        }
+        responseBuilder.reset();
+        responseBuilder.accumulate(responseStatus);
+        return STATE.CONTINUE;
+    }
+
+    @Override
+    public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+        if (cancelled) {
+            return STATE.ABORT;
+        }
+        responseBuilder.accumulate(headers);
+        return STATE.CONTINUE;
+    }
+
+    @Override
+    public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+        if (cancelled) {
+            return STATE.ABORT;
+        }
+        if (bodyPart.length() > 0) {
+            for (ByteBuffer view : bodyPart.getBodyByteBuffers()) {
+                buffers.offer(view);
+            }
+            drain();
+        }
+        return cancelled ? STATE.ABORT : STATE.CONTINUE;
+    }
+
+    @Override
+    public Response onCompleted() throws Exception {
+        completed = true;
+        drain();
+        return responseBuilder.build();
+    }
+
+    /**
+     * Signal the subscriber whatever it can be signalled, and suspend or resume reading the response according to its
+     * demand. The loop is run by one thread at a time, the other threads only make it run once more.
+     */
+    private void drain() {
+        if (drains.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super ByteBuffer> s = subscribed;
+            if (s != null && !terminated) {
+                if (cancelled) {
+                    terminated = true;
+                } else if (subscriptionFailure != null) {
+                    terminated = true;
+                    cancelled = true;
+                    s.onError(subscriptionFailure);
+                } else {
+                    final long requested = demand.get();
+                    long emitted = 0;
+                    ByteBuffer buffer;
+                    while (emitted != requested && !cancelled && (buffer = buffers.poll()) != null) {
+                        s.onNext(buffer);
+                        emitted++;
+                    }
+                    if (emitted != 0 && requested != Long.MAX_VALUE) {
+                        demand.addAndGet(-emitted);
+                    }
+                    if (!cancelled && completed && (failure != null || buffers.isEmpty())) {
+                        terminated = true;
+                        if (failure != null) {
+                            s.onError(failure);
+                        } else {
+                            s.onComplete();
+                        }
+                    }
+                }
+                if (terminated) {
+                    buffers.clear();
+                }
+            }
+            updateReads();
+            missed = drains.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void updateReads() {
+        final ReadController controller = readController;
+        if (controller == null || completed) {
+            return;
+        }
+        // reading goes on once cancelled, for the next body part to abort the request
+        final boolean suspend = !cancelled && demand.get() == 0;
+        if (suspend && suspendedController != controller) {
+            suspendedController = controller;
+            controller.suspend();
+        } else if (!suspend && suspendedController == controller) {
+            suspendedController = null;
+            controller.resume();
+        }
+    }
+}
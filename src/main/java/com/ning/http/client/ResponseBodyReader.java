@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+import com.ning.http.client.Response.ResponseBuilder;
+import com.ning.http.util.AsyncHttpProviderUtils;
+import com.ning.http.util.IncrementalCharsetDecoder;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link AsyncHandler} exposing the response body as a {@link Reader}, decoding the body parts as they're read
+ * rather than once the whole body is received. The charset is the one of the <tt>Content-Type</tt> header, or else
+ * the given default one.
+ * <p>
+ * At most about a window of undecoded bytes is held: the connection isn't read while the parts received but not read
+ * yet exceed the window. The response completes with its status and headers only:
+ * <pre>
+ *     ResponseBodyReader reader = new ResponseBodyReader();
+ *     Future&lt;Response&gt; response = client.prepareGet(&quot;http://foo.com/aResource&quot;).execute(reader);
+ *     try (BufferedReader lines = new BufferedReader(reader)) {
+ *         ...
+ *     }
+ * </pre>
+ * Reading blocks until the body parts arrive, so it must not be done by the thread delivering them. Closing the reader
+ * before the end of the body aborts the request.
+ *
+ * @since 5.0.1
+ */
+public class ResponseBodyReader extends Reader implements ReadControlledAsyncHandler<Response> {
+
+    public static final int DEFAULT_WINDOW = 64 * 1024;
+
+    private final ResponseBuilder responseBuilder = new ResponseBuilder();
+    private final Charset defaultCharset;
+    private final int window;
+
+    // ReentrantLock rather than monitors, so that a virtual thread waiting
+    // for the body doesn't pin its carrier.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition readable = lock.newCondition();
+
+    // guarded by lock
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private long bufferedBytes;
+    private IncrementalCharsetDecoder decoder;
+    private boolean flushed;
+    private boolean completed;
+    private Throwable failure;
+    private boolean closed;
+    private ReadController readController;
+    private boolean readSuspended;
+
+    // the chars decoded for reads too small to decode into
+    private final CharBuffer chars = CharBuffer.allocate(256);
+
+    public ResponseBodyReader() {
+        this(AsyncHttpProviderUtils.DEFAULT_CHARSET, DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param defaultCharset the charset of a body whose <tt>Content-Type</tt> doesn't name any
+     * @param window the number of bytes received but not read yet above which the connection isn't read
+     */
+    public ResponseBodyReader(Charset defaultCharset, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.defaultCharset = defaultCharset;
+        this.window = window;
+        chars.flip();
+    }
+
+    // ------------------------------------------------------ Methods from Reader
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!chars.hasRemaining()) {
+            if (len >= chars.capacity()) {
+                return fill(CharBuffer.wrap(cbuf, off, len));
+            }
+            chars.clear();
+            final int decoded = fill(chars);
+            chars.flip();
+            if (decoded < 0) {
+                return -1;
+            }
+        }
+        final int n = Math.min(len, chars.remaining());
+        chars.get(cbuf, off, n);
+        return n;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            return chars.hasRemaining() || !buffers.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            buffers.clear();
+            bufferedBytes = 0;
+            updateReads();
+            readable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ----------------------------------------------- Methods from AsyncHandler
+
+    @Override
+    public void onReadController(ReadController controller) {
+        lock.lock();
+        try {
+            readController = controller;
+            readSuspended = false;
+            updateReads();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onThrowable(Throwable t) {
+        lock.lock();
+        try {
+            failure = t;
+            completed = true;
+            readable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+        responseBuilder.reset();
+        responseBuilder.accumulate(responseStatus);
+        return isClosed() ? STATE.ABORT : STATE.CONTINUE;
+    }
+
+    @Override
+    public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+        responseBuilder.accumulate(headers);
+        final String contentType = headers.getHeaders().getFirstValue("Content-Type");
+        final String charset = contentType != null ? AsyncHttpProviderUtils.parseCharset(contentType) : null;
+        final IncrementalCharsetDecoder decoder = new IncrementalCharsetDecoder(charset(charset));
+        lock.lock();
+        try {
+            this.decoder = decoder;
+            return closed ? STATE.ABORT : STATE.CONTINUE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+        lock.lock();
+        try {
+            if (closed) {
+                return STATE.ABORT;
+            }
+            if (bodyPart.length() > 0) {
+                if (decoder == null) {
+                    decoder = new IncrementalCharsetDecoder(defaultCharset);
+                }
+                buffers.addAll(Arrays.asList(bodyPart.getBodyByteBuffers()));
+                bufferedBytes += bodyPart.length();
+                updateReads();
+                readable.signalAll();
+            }
+            return STATE.CONTINUE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Response onCompleted() throws Exception {
+        lock.lock();
+        try {
+            completed = true;
+            readable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return responseBuilder.build();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    /**
+     * Decode the parts received into the output, waiting for them if needed.
+     *
+     * @return the number of chars decoded, or <tt>-1</tt> at the end of the body
+     */
+    private int fill(CharBuffer out) throws IOException {
+        final int start = out.position();
+        lock.lock();
+        try {
+            for (;;) {
+                ensureOpen();
+                final ByteBuffer buffer = buffers.peek();
+                if (buffer != null) {
+                    final int remaining = buffer.remaining();
+                    decoder.decode(buffer, out);
+                    bufferedBytes -= remaining - buffer.remaining();
+                    if (!buffer.hasRemaining()) {
+                        buffers.poll();
+                    }
+                    updateReads();
+                    if (out.position() > start) {
+                        return out.position() - start;
+                    }
+                } else if (failure != null) {
+                    throw new IOException(failure);
+                } else if (completed) {
+                    if (decoder != null && !flushed) {
+                        flushed = decoder.flush(out);
+                    }
+                    return out.position() > start ? out.position() - start : -1;
+                } else {
+                    readable.await();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateReads() {
+        if (readController == null) {
+            return;
+        }
+        if (!readSuspended && !closed && !completed && bufferedBytes >= window) {
+            readSuspended = true;
+            readController.suspend();
+        } else if (readSuspended && (closed || bufferedBytes <= window / 2)) {
+            readSuspended = false;
+            readController.resume();
+        }
+    }
+
+    private Charset charset(String name) {
+        if (name != null) {
+            try {
+                return Charset.forName(name);
+            } catch (IllegalArgumentException e) {
+                // an unknown charset
+            }
+        }
+        return defaultCharset;
+    }
+
+    private boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+import java.io.File;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the memory used to accumulate response bodies, once installed with
+ * {@link AsyncHttpClientConfig.Builder#setResponseSpillPolicy(ResponseSpillPolicy)} or passed to an
+ * {@link AsyncCompletionHandler}.
+ * <p>
+ * A response body is accumulated in memory until it exceeds the {@link Builder#setMemoryThreshold(long) per response
+ * threshold}, or until the bodies being accumulated by all the responses sharing this policy exceed the
+ * {@link Builder#setGlobalMemoryThreshold(long) global threshold}. From then on, the body is appended to a temporary
+ * file, which the built {@link Response} reads back through a memory-mapped view; the file is deleted once it's
+ * mapped. Responses announcing a <tt>Content-Length</tt> above the per response threshold are spilled right away. The
+ * file is written on the {@link Builder#setExecutor(Executor) spill executor}, so that the I/O threads only wait for
+ * the disk when it falls behind.
+ * <p>
+ * Bodies larger than the {@link Builder#setMaxBodySize(long) maximum body size} fail the request with a
+ * {@link ResponseBodyTooLargeException} as soon as it's known, either from the <tt>Content-Length</tt> or while
+ * receiving the body, and the connection is closed rather than reading the rest.
+ *
+ * <pre>{@code
+ *      ResponseSpillPolicy spill = new ResponseSpillPolicy.Builder().setMemoryThreshold(1024 * 1024).setMaxBodySize(1L << 30).build();
+ *      AsyncHttpClient client = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setResponseSpillPolicy(spill).build());
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public final class ResponseSpillPolicy {
+
+    private final long memoryThreshold;
+    private final long globalMemoryThreshold;
+    private final long maxBodySize;
+    private final File directory;
+    private final Executor executor;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+
+    private ResponseSpillPolicy(Builder b) {
+        this.memoryThreshold = b.memoryThreshold;
+        this.globalMemoryThreshold = b.globalMemoryThreshold;
+        this.maxBodySize = b.maxBodySize;
+        this.directory = b.directory;
+        this.executor = b.executor != null ? b.executor : newExecutor();
+    }
+
+    public long getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    public long getGlobalMemoryThreshold() {
+        return globalMemoryThreshold;
+    }
+
+    /**
+     * @return the maximum body size, or -1 if unbounded
+     */
+    public long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * @return the directory of the temporary files, or null for the default temporary-file directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the number of bytes currently accumulated in memory by the responses sharing this policy
+     */
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    /**
+     * @return the number of response bodies spilled to disk so far
+     */
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    boolean reserve(long bytes) {
+        for (;;) {
+            final long current = bufferedBytes.get();
+            if (current + bytes > globalMemoryThreshold)
+                return false;
+            if (bufferedBytes.compareAndSet(current, current + bytes))
+                return true;
+        }
+    }
+
+    void release(long bytes) {
+        bufferedBytes.addAndGet(-bytes);
+    }
+
+    void spilled() {
+        spilledCount.incrementAndGet();
+    }
+
+    private static Executor newExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "AsyncHttpClient-spill-writer");
+                    t.setDaemon(true);
+                    return t;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public static class Builder {
+
+        private long memoryThreshold = 1024 * 1024;
+        private long globalMemoryThreshold = 64 * 1024 * 1024;
+        private long maxBodySize = -1;
+        private File directory;
+        private Executor executor;
+
+        /**
+         * Set how many bytes of a response body are accumulated in memory before it's spilled to disk. Default is 1 MB.
+         *
+         * @param memoryThreshold the number of bytes
+         * @return this
+         */
+        public Builder setMemoryThreshold(long memoryThreshold) {
+            if (memoryThreshold < 0)
+                throw new IllegalArgumentException("memoryThreshold must be >= 0");
+            this.memoryThreshold = memoryThreshold;
+            return this;
+        }
+
+        /**
+         * Set how many bytes all the response bodies being accumulated may hold in memory, further bodies being spilled
+         * to disk. Default is 64 MB.
+         *
+         * @param globalMemoryThreshold the number of bytes
+         * @return this
+         */
+        public Builder setGlobalMemoryThreshold(long globalMemoryThreshold) {
+            if (globalMemoryThreshold < 0)
+                throw new IllegalArgumentException("globalMemoryThreshold must be >= 0");
+            this.globalMemoryThreshold = globalMemoryThreshold;
+            return this;
+        }
+
+        /**
+         * Set the size of the largest accepted response body. Default is -1, for unbounded bodies.
+         *
+         * @param maxBodySize the number of bytes, or -1
+         * @return this
+         */
+        public Builder setMaxBodySize(long maxBodySize) {
+            if (maxBodySize < -1)
+                throw new IllegalArgumentException("maxBodySize must be >= -1");
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Set the directory of the temporary files. Default is the <tt>java.io.tmpdir</tt> directory.
+         *
+         * @param directory the directory
+         * @return this
+         */
+        public Builder setDirectory(File directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Set the {@link Executor} writing the temporary files. Default is a pool of daemon threads, as many as there
+         * are processors, going away when idle.
+         *
+         * @param executor the executor
+         * @return this
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ResponseSpillPolicy build() {
+            return new ResponseSpillPolicy(this);
+        }
+    }
+}
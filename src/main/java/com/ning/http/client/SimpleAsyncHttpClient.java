@@ -847,7 +847,7 @@ public class SimpleAsyncHttpClient implements AutoCloseable {
         }
 
         private void fireReceived(HttpResponseBodyPart content) {
-            int remaining = content.getBodyByteBuffer().remaining();
+            int remaining = content.length();
 
             amount += remaining;
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A response body spilled to a temporary file by a {@link Response.ResponseBuilder}. The file is deleted once closed,
+ * its mapped views staying readable.
+ * <p>
+ * The body is written on an {@link Executor}, so that an I/O thread accumulating a response doesn't wait for the disk;
+ * it only waits, in {@link #awaitBacklog()}, once more than {@link #MAX_BACKLOG} bytes are queued for writing.
+ */
+final class SpilledBody implements Closeable {
+
+    // the bytes queued for writing before the accumulating thread waits for the disk
+    static final long MAX_BACKLOG = 1024 * 1024;
+
+    private final File directory;
+    private final Executor executor;
+    private final Lock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Queue<ByteBuffer> queue = new ArrayDeque<>();
+    private long backlog;
+    private boolean writing;
+    private boolean closed;
+    private IOException failure;
+    // only used by the writer while writing, and otherwise under the lock
+    private FileChannel channel;
+
+    SpilledBody(File directory, Executor executor) {
+        this.directory = directory;
+        this.executor = executor;
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        lock.lock();
+        try {
+            if (failure != null)
+                throw failure;
+            if (closed)
+                return;
+            queue.add(buffer);
+            backlog += buffer.remaining();
+            if (writing)
+                return;
+            writing = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            failed(new IOException("The response body couldn't be spilled", e));
+            throw failure;
+        }
+    }
+
+    void write(HttpResponseBodyPart bodyPart) throws IOException {
+        for (ByteBuffer view : bodyPart.getBodyByteBuffers())
+            write(view);
+    }
+
+    /**
+     * Wait for the queued bytes to fall back under {@link #MAX_BACKLOG}.
+     */
+    void awaitBacklog() throws IOException {
+        lock.lock();
+        try {
+            while (backlog > MAX_BACKLOG && failure == null && !closed)
+                written.await();
+            if (failure != null)
+                throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Map the spilled body, as parts of at most 2 GB, once it's written, and close the file.
+     */
+    List<HttpResponseBodyPart> map() throws IOException {
+        try {
+            lock.lock();
+            try {
+                while (writing)
+                    written.await();
+                if (failure != null)
+                    throw failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } finally {
+                lock.unlock();
+            }
+            final List<HttpResponseBodyPart> parts = new ArrayList<>();
+            if (channel == null)
+                return parts;
+            final long size = channel.size();
+            for (long position = 0; position < size;) {
+                final long length = Math.min(size - position, Integer.MAX_VALUE);
+                final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += length;
+                parts.add(new BufferedResponse.BodyPart(mapped, position == size));
+            }
+            return parts;
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Drop the bytes not written yet and delete the file, now or once the writer is done with it.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+            backlog = 0;
+            written.signalAll();
+            if (writing)
+                return;
+        } finally {
+            lock.unlock();
+        }
+        closeChannel();
+    }
+
+    private void drain() {
+        for (;;) {
+            final ByteBuffer buffer;
+            lock.lock();
+            try {
+                buffer = closed ? null : queue.poll();
+                if (buffer == null) {
+                    writing = false;
+                    written.signalAll();
+                    if (!closed)
+                        return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (buffer == null) {
+                closeChannel();
+                return;
+            }
+            final int length = buffer.remaining();
+            try {
+                if (channel == null)
+                    channel = open();
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+            } catch (IOException e) {
+                failed(e);
+                closeChannel();
+                return;
+            }
+            lock.lock();
+            try {
+                if (!closed)
+                    backlog -= length;
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void failed(IOException e) {
+        lock.lock();
+        try {
+            if (failure == null)
+                failure = e;
+            queue.clear();
+            backlog = 0;
+            writing = false;
+            written.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        final Path file = directory == null ? Files.createTempFile("ahc-", ".body")
+                : Files.createTempFile(directory.toPath(), "ahc-", ".body");
+        try {
+            return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The directives of a {@code Cache-Control} header, as far as a private cache is concerned (RFC 9111, section 5.2).
+ * Delta-seconds directives that are absent are reported as -1.
+ */
+final class CacheControl {
+
+    static final CacheControl EMPTY = new CacheControl();
+
+    boolean noStore;
+    boolean noCache;
+    boolean mustRevalidate;
+    boolean onlyIfCached;
+    boolean isPublic;
+    long maxAge = -1;
+    long maxStale = -1;
+    long minFresh = -1;
+
+    private CacheControl() {
+    }
+
+    static CacheControl parse(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        final CacheControl cc = new CacheControl();
+        for (String value : values) {
+            int start = 0;
+            boolean quoted = false;
+            for (int i = 0, len = value.length(); i <= len; i++) {
+                final char c = i < len ? value.charAt(i) : ',';
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    cc.directive(value.substring(start, i));
+                    start = i + 1;
+                }
+            }
+        }
+        return cc;
+    }
+
+    private void directive(String directive) {
+        final int eq = directive.indexOf('=');
+        final String name = (eq < 0 ? directive : directive.substring(0, eq)).trim().toLowerCase(Locale.ENGLISH);
+        final String argument = eq < 0 ? null : unquote(directive.substring(eq + 1).trim());
+        switch (name) {
+        case "no-store":
+            noStore = true;
+            break;
+        case "no-cache":
+            // a private cache may treat the qualified form as unqualified
+            noCache = true;
+            break;
+        case "must-revalidate":
+        case "proxy-revalidate":
+            mustRevalidate = true;
+            break;
+        case "only-if-cached":
+            onlyIfCached = true;
+            break;
+        case "public":
+            isPublic = true;
+            break;
+        case "max-age":
+            maxAge = deltaSeconds(argument, 0);
+            break;
+        case "max-stale":
+            maxStale = deltaSeconds(argument, Long.MAX_VALUE);
+            break;
+        case "min-fresh":
+            minFresh = deltaSeconds(argument, 0);
+            break;
+        default:
+            // s-maxage, private and extensions don't apply to a private cache
+        }
+    }
+
+    private static String unquote(String s) {
+        return s.length() >= 2 && s.charAt(0) == '"' && s.charAt(s.length() - 1) == '"' ? s.substring(1, s.length() - 1) : s;
+    }
+
+    /**
+     * Parse delta-seconds, in milliseconds. Values that cannot be parsed yield the given default, and overflowing ones
+     * are capped.
+     */
+    private static long deltaSeconds(String argument, long defaultValue) {
+        if (argument == null || argument.isEmpty()) {
+            return defaultValue;
+        }
+        long seconds = 0;
+        for (int i = 0; i < argument.length(); i++) {
+            final char c = argument.charAt(i);
+            if (c < '0' || c > '9') {
+                return defaultValue;
+            }
+            seconds = Math.min(seconds * 10 + (c - '0'), Integer.MAX_VALUE);
+        }
+        return seconds * 1000L;
+    }
+}
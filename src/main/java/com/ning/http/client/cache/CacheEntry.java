@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response stored by a {@link CacheStore}: status, headers, body and the timing information needed to compute its
+ * age, together with the request header values it was selected with when the response carried a {@code Vary} header.
+ * <p>
+ * Entries are immutable. The header maps handed out must not be modified, and the body is exposed as a read-only
+ * buffer which, for entries loaded from a {@link DiskCacheStore}, is a view of a memory-mapped file.
+ *
+ * @since 5.0.1
+ */
+public final class CacheEntry {
+
+    private final String key;
+    private final int statusCode;
+    private final String statusText;
+    private final FluentCaseInsensitiveStringsMap headers;
+    private final FluentCaseInsensitiveStringsMap varyHeaders;
+    private final long requestTime;
+    private final long responseTime;
+    private final ByteBuffer body;
+    private final long weight;
+
+    /**
+     * @param key          the cache key, usually the request URL
+     * @param statusCode   the response status code
+     * @param statusText   the response status text
+     * @param headers      the response headers
+     * @param varyHeaders  the values of the request headers nominated by the response {@code Vary} header
+     * @param requestTime  the time the request was sent, in milliseconds since the epoch
+     * @param responseTime the time the response was received, in milliseconds since the epoch
+     * @param body         the response body
+     */
+    public CacheEntry(String key, int statusCode, String statusText, FluentCaseInsensitiveStringsMap headers,
+            FluentCaseInsensitiveStringsMap varyHeaders, long requestTime, long responseTime, ByteBuffer body) {
+        this.key = key;
+        this.statusCode = statusCode;
+        this.statusText = statusText != null ? statusText : "";
+        this.headers = new FluentCaseInsensitiveStringsMap(headers);
+        this.varyHeaders = new FluentCaseInsensitiveStringsMap(varyHeaders);
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.body = body.slice().asReadOnlyBuffer();
+
+        long w = this.body.remaining() + key.length() * 2L + 64L;
+        for (Map.Entry<String, List<String>> header : this.headers) {
+            w += header.getKey().length() * 2L + 32L;
+            for (String value : header.getValue()) {
+                w += value.length() * 2L + 16L;
+            }
+        }
+        this.weight = w;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getStatusText() {
+        return statusText;
+    }
+
+    /**
+     * @return the stored response headers, which must not be modified
+     */
+    public FluentCaseInsensitiveStringsMap getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the request header values this entry was selected with, which must not be modified
+     */
+    public FluentCaseInsensitiveStringsMap getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public long getRequestTime() {
+        return requestTime;
+    }
+
+    public long getResponseTime() {
+        return responseTime;
+    }
+
+    /**
+     * @return a new read-only buffer over the response body, positioned at its start
+     */
+    public ByteBuffer getBody() {
+        return body.duplicate();
+    }
+
+    /**
+     * @return the number of bytes of the response body
+     */
+    public int getBodyLength() {
+        return body.remaining();
+    }
+
+    /**
+     * @return an estimate of the memory held by this entry, in bytes
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Create a copy of this entry carrying other headers and timing information, as done after a successful
+     * revalidation.
+     */
+    CacheEntry withHeaders(FluentCaseInsensitiveStringsMap headers, long requestTime, long responseTime) {
+        return new CacheEntry(key, statusCode, statusText, headers, varyHeaders, requestTime, responseTime, body);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.Request;
+import com.ning.http.client.cookie.RFC2616DateParser;
+
+import java.text.ParsePosition;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Storage and freshness rules of RFC 9111 applying to a private cache.
+ */
+final class CachePolicy {
+
+    private CachePolicy() {
+    }
+
+    /**
+     * RFC 9110, section 15.1: status codes that are heuristically cacheable. 206 is left out since partial content is
+     * never stored.
+     */
+    static boolean isHeuristicallyCacheable(int statusCode) {
+        switch (statusCode) {
+        case 200:
+        case 203:
+        case 204:
+        case 300:
+        case 301:
+        case 308:
+        case 404:
+        case 405:
+        case 410:
+        case 414:
+        case 501:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * RFC 9111, section 3: whether a final response to a GET request may be stored.
+     */
+    static boolean isStorable(int statusCode, FluentCaseInsensitiveStringsMap headers, CacheControl requestCacheControl,
+            CacheControl responseCacheControl) {
+        if (statusCode < 200 || statusCode == 206 || statusCode == 304) {
+            return false;
+        }
+        if (requestCacheControl.noStore || responseCacheControl.noStore || varyAll(headers)) {
+            return false;
+        }
+        return isHeuristicallyCacheable(statusCode) //
+                || responseCacheControl.maxAge >= 0 //
+                || responseCacheControl.isPublic //
+                || headers.getFirstValue("Expires") != null;
+    }
+
+    /**
+     * RFC 9111, section 4.2.1: the freshness lifetime of an entry, in milliseconds.
+     */
+    static long freshnessLifetime(CacheEntry entry, CacheControl responseCacheControl) {
+        if (responseCacheControl.maxAge >= 0) {
+            return responseCacheControl.maxAge;
+        }
+
+        final FluentCaseInsensitiveStringsMap headers = entry.getHeaders();
+        final long date = dateValue(entry);
+        final String expires = headers.getFirstValue("Expires");
+        if (expires != null) {
+            // invalid dates, such as "0", represent a time in the past
+            final long expiresValue = parseDate(expires);
+            return expiresValue < 0 ? 0 : Math.max(0, expiresValue - date);
+        }
+
+        // section 4.2.2: heuristic freshness, 10% of the time since the last modification
+        final long lastModified = parseDate(headers.getFirstValue("Last-Modified"));
+        if (lastModified >= 0 && isHeuristicallyCacheable(entry.getStatusCode())) {
+            return Math.max(0, (date - lastModified) / 10);
+        }
+        return 0;
+    }
+
+    /**
+     * RFC 9111, section 4.2.3: the current age of an entry, in milliseconds.
+     */
+    static long currentAge(CacheEntry entry, long now) {
+        final long apparentAge = Math.max(0, entry.getResponseTime() - dateValue(entry));
+        final long responseDelay = entry.getResponseTime() - entry.getRequestTime();
+        final long correctedAgeValue = ageValue(entry) + responseDelay;
+        final long correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+        final long residentTime = Math.max(0, now - entry.getResponseTime());
+        return correctedInitialAge + residentTime;
+    }
+
+    /**
+     * RFC 9111, section 4.2 and 5.2.1: whether an entry may be served without validation.
+     */
+    static boolean isFresh(long age, long lifetime, CacheControl requestCacheControl, CacheControl responseCacheControl) {
+        if (requestCacheControl.maxAge >= 0 && age > requestCacheControl.maxAge) {
+            return false;
+        }
+        if (requestCacheControl.minFresh >= 0 && lifetime - age < requestCacheControl.minFresh) {
+            return false;
+        }
+        if (lifetime > age) {
+            return true;
+        }
+        return requestCacheControl.maxStale >= 0 && !responseCacheControl.mustRevalidate
+                && age - lifetime <= requestCacheControl.maxStale;
+    }
+
+    /**
+     * RFC 9111, section 4.1: the values of the request headers nominated by the response {@code Vary} header.
+     */
+    static FluentCaseInsensitiveStringsMap varyHeaders(Request request, FluentCaseInsensitiveStringsMap responseHeaders) {
+        final FluentCaseInsensitiveStringsMap varyHeaders = new FluentCaseInsensitiveStringsMap();
+        for (String vary : responseHeaders.get("Vary")) {
+            for (String name : vary.split(",")) {
+                name = name.trim();
+                if (!name.isEmpty() && request.getHeaders().containsKey(name)) {
+                    varyHeaders.add(name, request.getHeaders().get(name));
+                }
+            }
+        }
+        return varyHeaders;
+    }
+
+    /**
+     * RFC 9111, section 4.1: whether a request selects an entry.
+     */
+    static boolean varyMatches(CacheEntry entry, Request request) {
+        for (String vary : entry.getHeaders().get("Vary")) {
+            for (String name : vary.split(",")) {
+                name = name.trim();
+                if (!name.isEmpty() && !Objects.equals(normalize(entry.getVaryHeaders().getJoinedValue(name, ",")),
+                        normalize(request.getHeaders().getJoinedValue(name, ",")))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static boolean varyAll(FluentCaseInsensitiveStringsMap headers) {
+        for (String vary : headers.get("Vary")) {
+            for (String name : vary.split(",")) {
+                if ("*".equals(name.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the date in milliseconds since the epoch, or -1 if the value is absent or invalid
+     */
+    static long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        final Date date = RFC2616DateParser.get().parse(value.trim(), new ParsePosition(0));
+        return date != null ? date.getTime() : -1;
+    }
+
+    private static long dateValue(CacheEntry entry) {
+        final long date = parseDate(entry.getHeaders().getFirstValue("Date"));
+        return date >= 0 ? date : entry.getResponseTime();
+    }
+
+    private static long ageValue(CacheEntry entry) {
+        final String age = entry.getHeaders().getFirstValue("Age");
+        if (age != null) {
+            try {
+                return Math.max(0, Long.parseLong(age.trim())) * 1000L;
+            } catch (NumberFormatException e) {
+                // ignored, as per section 5.1
+            }
+        }
+        return 0;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.replaceAll("\\s*,\\s*", ",").trim();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+/**
+ * Storage for {@link CacheEntry cache entries}, keyed by {@link CacheEntry#getKey()}. Implementations decide on their
+ * own eviction policy and must be safe for concurrent use.
+ *
+ * @since 5.0.1
+ */
+public interface CacheStore {
+
+    /**
+     * @param key the entry key
+     * @return the entry stored under the key, or null
+     */
+    CacheEntry get(String key);
+
+    /**
+     * Store an entry, replacing any entry stored under the same key. A store may decline entries it cannot hold.
+     *
+     * @param entry the entry to store
+     */
+    void put(CacheEntry entry);
+
+    /**
+     * @param key the key of the entry to remove
+     */
+    void remove(String key);
+
+    /**
+     * Remove all entries.
+     */
+    void clear();
+
+    /**
+     * @return the number of entries currently stored
+     */
+    int size();
+}
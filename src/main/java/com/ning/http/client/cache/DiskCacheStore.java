@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link CacheStore} keeping one file per entry in a directory, bounded by the total size of those files. Least
+ * recently used entries are evicted first.
+ * <p>
+ * Files are written to a temporary name then atomically renamed, so a reader never observes a partial entry. Entries
+ * are read back by memory-mapping their file: the body of a returned {@link CacheEntry} is a view of the mapping and
+ * is paged in by the operating system as it is consumed. The index of the store lives in memory and is rebuilt from
+ * the directory content, ordered by last access, when the store is created, so entries survive restarts.
+ *
+ * @since 5.0.1
+ */
+public class DiskCacheStore implements CacheStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DiskCacheStore.class);
+
+    private static final int MAGIC = 0x41484331; // "AHC1"
+    private static final String SUFFIX = ".entry";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * @param directory the directory holding the entries, created if needed
+     * @param maxSize   the maximum number of bytes stored in the directory
+     * @throws IOException if the directory cannot be created or read
+     */
+    public DiskCacheStore(Path directory, long maxSize) throws IOException {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxSize = maxSize;
+        load();
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        final String name = fileName(key);
+        lock.lock();
+        try {
+            if (index.get(name) == null) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        final Path file = directory.resolve(name);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final CacheEntry entry = decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            if (!key.equals(entry.getKey())) {
+                return null;
+            }
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Dropping unreadable cache entry {}", file, e);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(CacheEntry entry) {
+        final String name = fileName(entry.getKey());
+        final Path file = directory.resolve(name);
+        final Path tmp = directory.resolve(name + '.' + Thread.currentThread().threadId() + TMP_SUFFIX);
+        final long length;
+        try {
+            final byte[] head = encodeHead(entry);
+            length = 4L + head.length + entry.getBodyLength();
+            if (length > maxSize) {
+                remove(entry.getKey());
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer prefix = ByteBuffer.allocate(4 + head.length);
+                prefix.putInt(head.length).put(head).flip();
+                final ByteBuffer body = entry.getBody();
+                while (prefix.hasRemaining() || body.hasRemaining()) {
+                    channel.write(new ByteBuffer[] { prefix, body });
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to store cache entry {}", file, e);
+            deleteQuietly(tmp);
+            return;
+        }
+
+        lock.lock();
+        try {
+            final Long previous = index.put(name, length);
+            size += length - (previous != null ? previous : 0L);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        final String name = fileName(key);
+        lock.lock();
+        try {
+            final Long previous = index.remove(name);
+            if (previous != null) {
+                size -= previous;
+            }
+            deleteQuietly(directory.resolve(name));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            for (String name : index.keySet()) {
+                deleteQuietly(directory.resolve(name));
+            }
+            index.clear();
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of bytes stored in the directory
+     */
+    public long getStoredBytes() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private void load() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(TMP_SUFFIX)) {
+                    deleteQuietly(file);
+                } else if (name.endsWith(SUFFIX)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(DiskCacheStore::lastModified));
+
+        lock.lock();
+        try {
+            for (Path file : files) {
+                final long length = Files.size(file);
+                index.put(file.getFileName().toString(), length);
+                size += length;
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict() {
+        for (Iterator<Map.Entry<String, Long>> it = index.entrySet().iterator(); size > maxSize && it.hasNext();) {
+            final Map.Entry<String, Long> eldest = it.next();
+            size -= eldest.getValue();
+            it.remove();
+            deleteQuietly(directory.resolve(eldest.getKey()));
+        }
+    }
+
+    private static byte[] encodeHead(CacheEntry entry) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getStatusCode());
+        out.writeUTF(entry.getStatusText());
+        out.writeLong(entry.getRequestTime());
+        out.writeLong(entry.getResponseTime());
+        writeHeaders(out, entry.getHeaders());
+        writeHeaders(out, entry.getVaryHeaders());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeHeaders(DataOutputStream out, FluentCaseInsensitiveStringsMap headers) throws IOException {
+        out.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> header : headers) {
+            out.writeUTF(header.getKey());
+            out.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                out.writeUTF(value);
+            }
+        }
+    }
+
+    private static CacheEntry decode(MappedByteBuffer mapped) throws IOException {
+        final int headLength = mapped.getInt(0);
+        final byte[] head = new byte[headLength];
+        mapped.get(4, head);
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(head));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a cache entry");
+        }
+        final String key = in.readUTF();
+        final int statusCode = in.readInt();
+        final String statusText = in.readUTF();
+        final long requestTime = in.readLong();
+        final long responseTime = in.readLong();
+        final FluentCaseInsensitiveStringsMap headers = readHeaders(in);
+        final FluentCaseInsensitiveStringsMap varyHeaders = readHeaders(in);
+        final ByteBuffer body = mapped.slice(4 + headLength, mapped.capacity() - 4 - headLength);
+        return new CacheEntry(key, statusCode, statusText, headers, varyHeaders, requestTime, responseTime, body);
+    }
+
+    private static FluentCaseInsensitiveStringsMap readHeaders(DataInputStream in) throws IOException {
+        final FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap();
+        for (int i = 0, count = in.readInt(); i < count; i++) {
+            final String name = in.readUTF();
+            for (int j = 0, values = in.readInt(); j < values; j++) {
+                headers.add(name, in.readUTF());
+            }
+        }
+        return headers;
+    }
+
+    private static String fileName(String key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder(digest.length * 2 + SUFFIX.length());
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.append(SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to delete {}", file, e);
+        }
+    }
+}
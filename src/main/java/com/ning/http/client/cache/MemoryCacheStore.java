@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link CacheStore} keeping entries on the heap, bounded by the sum of their {@link CacheEntry#weight() weights}.
+ * Least recently used entries are evicted first.
+ *
+ * @since 5.0.1
+ */
+public class MemoryCacheStore implements CacheStore {
+
+    private final long maxWeight;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    /**
+     * @param maxWeight the maximum number of bytes held by the store
+     */
+    public MemoryCacheStore(long maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be > 0");
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(CacheEntry entry) {
+        final long entryWeight = entry.weight();
+        lock.lock();
+        try {
+            unlink(entries.remove(entry.getKey()));
+            if (entryWeight > maxWeight) {
+                return;
+            }
+            entries.put(entry.getKey(), entry);
+            weight += entryWeight;
+            for (Iterator<Map.Entry<String, CacheEntry>> it = entries.entrySet().iterator(); weight > maxWeight && it.hasNext();) {
+                weight -= it.next().getValue().weight();
+                it.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            unlink(entries.remove(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the sum of the weights of the stored entries, in bytes
+     */
+    public long getWeight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(CacheEntry removed) {
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.uri.Uri;
+import com.ning.http.util.UriEncoder;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A cache of permanent redirects, once installed with
+ * {@link com.ning.http.client.AsyncHttpClientConfig.Builder#setRedirectCache(RedirectCache)}.
+ * <p>
+ * When the provider follows a {@code 301 Moved Permanently} or {@code 308 Permanent Redirect}, the mapping from the
+ * redirected URL to its {@code Location} is stored for as long as the redirect's {@code Cache-Control: max-age} or
+ * {@code Expires} allow, or for {@link Builder#setDefaultTtl(long) the default TTL} when it has neither. Redirects
+ * carrying {@code no-store} or {@code no-cache} aren't stored. Later requests to a stored URL that follow redirects are
+ * sent to the target right away, before any connection is acquired, saving the redirect round trip. Chains of stored
+ * redirects are followed. At most {@link Builder#setMaxEntries(int) max entries} redirects are kept, the least
+ * recently used being evicted first.
+ *
+ * <pre>{@code
+ *      RedirectCache redirects = new RedirectCache.Builder().setMaxEntries(500).build();
+ *      AsyncHttpClient client = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setRedirectCache(redirects).build());
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class RedirectCache {
+
+    // bounds chains of stored redirects, which may loop
+    private static final int MAX_HOPS = 10;
+
+    private final int maxEntries;
+    private final long defaultTtl;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Redirect> redirects = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private RedirectCache(Builder b) {
+        this.maxEntries = b.maxEntries;
+        this.defaultTtl = b.defaultTtl;
+    }
+
+    /**
+     * Rewrite a request to the target of the redirects stored for its URL.
+     *
+     * @param request {@link Request}
+     * @return the rewritten request, or the given one if no redirect is stored for its URL
+     */
+    public Request rewrite(Request request) {
+        final Uri uri = request.getUri();
+        Uri target = uri;
+        for (int hops = 0; hops < MAX_HOPS; hops++) {
+            final Uri next = get(target.toUrl());
+            if (next == null) {
+                break;
+            }
+            target = next;
+        }
+        if (target == uri) {
+            missCount.incrementAndGet();
+            return request;
+        }
+        hitCount.incrementAndGet();
+
+        final Request rewritten = new RequestBuilder(request, UriEncoder.RAW).setUri(target).build();
+        // as when the redirect is followed, the Host header is derived from the target
+        rewritten.getHeaders().remove("Host");
+        return rewritten;
+    }
+
+    /**
+     * Store a redirect, if it's permanent and its headers allow it.
+     *
+     * @param uri        the redirected URL
+     * @param statusCode the status code of the redirect
+     * @param location   the target of the redirect
+     * @param headers    the headers of the redirect
+     */
+    public void put(Uri uri, int statusCode, Uri location, FluentCaseInsensitiveStringsMap headers) {
+        if (statusCode != 301 && statusCode != 308) {
+            return;
+        }
+        final String key = uri.toUrl();
+        final long ttl = ttl(headers);
+        lock.lock();
+        try {
+            if (ttl <= 0) {
+                redirects.remove(key);
+                return;
+            }
+            redirects.put(key, new Redirect(location, System.currentTimeMillis() + ttl));
+            for (Iterator<Redirect> it = redirects.values().iterator(); redirects.size() > maxEntries && it.hasNext();) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the redirect stored for a URL, if any.
+     *
+     * @param url the redirected URL
+     */
+    public void invalidate(String url) {
+        lock.lock();
+        try {
+            redirects.remove(Uri.create(url).toUrl());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the stored redirects.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            redirects.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of stored redirects
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return redirects.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests rewritten from stored redirects
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of requests that had no stored redirect
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private Uri get(String key) {
+        lock.lock();
+        try {
+            final Redirect redirect = redirects.get(key);
+            if (redirect == null) {
+                return null;
+            }
+            if (redirect.expires <= System.currentTimeMillis()) {
+                redirects.remove(key);
+                return null;
+            }
+            return redirect.location;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how long a redirect may be stored, in milliseconds
+     */
+    private long ttl(FluentCaseInsensitiveStringsMap headers) {
+        final CacheControl cc = CacheControl.parse(headers.get("Cache-Control"));
+        if (cc.noStore || cc.noCache) {
+            return 0;
+        }
+        if (cc.maxAge >= 0) {
+            return cc.maxAge;
+        }
+        final String expires = headers.getFirstValue("Expires");
+        if (expires != null) {
+            final long expiresValue = CachePolicy.parseDate(expires);
+            final long date = CachePolicy.parseDate(headers.getFirstValue("Date"));
+            return expiresValue < 0 ? 0 : expiresValue - (date >= 0 ? date : System.currentTimeMillis());
+        }
+        return defaultTtl;
+    }
+
+    private static final class Redirect {
+
+        private final Uri location;
+        private final long expires;
+
+        private Redirect(Uri location, long expires) {
+            this.location = location;
+            this.expires = expires;
+        }
+    }
+
+    public static class Builder {
+
+        private int maxEntries = 1000;
+        private long defaultTtl = 3600000;
+
+        /**
+         * Set the maximum number of stored redirects. Default is 1000.
+         *
+         * @param maxEntries the maximum number of redirects
+         * @return this
+         */
+        public Builder setMaxEntries(int maxEntries) {
+            if (maxEntries <= 0)
+                throw new IllegalArgumentException("maxEntries must be > 0");
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set how long redirects without {@code Cache-Control: max-age} nor {@code Expires} are stored. Default is one
+         * hour.
+         *
+         * @param defaultTtl the duration, in milliseconds, or 0 to only store redirects with explicit freshness
+         * @return this
+         */
+        public Builder setDefaultTtl(long defaultTtl) {
+            if (defaultTtl < 0)
+                throw new IllegalArgumentException("defaultTtl must be >= 0");
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+        public RedirectCache build() {
+            return new RedirectCache(this);
+        }
+    }
+}
@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.BufferedResponse;
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.RequestExecutor;
+import com.ning.http.client.UpgradeHandler;
+import com.ning.http.client.listener.TransferCompletionHandler;
+import com.ning.http.client.resumable.ResumableAsyncHandler;
+import com.ning.http.client.uri.Uri;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A private HTTP cache following RFC 9111, sitting in front of {@link com.ning.http.client.AsyncHttpClient} once
+ * installed with {@link com.ning.http.client.AsyncHttpClientConfig.Builder#setResponseCache(ResponseCache)}.
+ * <p>
+ * Responses to GET requests are stored according to their {@code Cache-Control}, {@code Expires} and
+ * {@code Last-Modified} headers, as selected by their {@code Vary} header. A fresh stored response is replayed to the
+ * request's {@link AsyncHandler} on the calling thread, without any connection being acquired. A stale one carrying a
+ * validator ({@code ETag} or {@code Last-Modified}) is revalidated with a conditional request, and replayed if the
+ * server answers {@code 304 Not Modified}. Request directives ({@code no-cache}, {@code no-store}, {@code max-age},
+ * {@code max-stale}, {@code min-fresh}, {@code only-if-cached} and {@code Pragma: no-cache}) are honored, and
+ * successful unsafe requests invalidate the responses stored for their target.
+ * <p>
+ * Entries are kept by a size-bounded in-memory {@link CacheStore}, optionally backed by a second one, typically a
+ * {@link DiskCacheStore}, consulted on a memory miss. Entries found there are brought back in memory, and entries are
+ * written to it on the {@link Builder#setDiskExecutor(Executor) disk executor}, so that responses completing on an
+ * I/O thread don't wait for the disk. Responses larger than {@link Builder#setMaxEntrySize(long)} are
+ * never stored. The cache applies before the client's {@link com.ning.http.client.filter.RequestFilter}s, which only
+ * see the requests sent to the network.
+ *
+ * <pre>{@code
+ *      ResponseCache cache = new ResponseCache.Builder()
+ *          .setMaxMemorySize(32 * 1024 * 1024)
+ *          .setDiskStore(new DiskCacheStore(Paths.get("/var/cache/myapp"), 1024L * 1024 * 1024))
+ *          .build();
+ *      AsyncHttpClient client = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setResponseCache(cache).build());
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class ResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final CacheStore memoryStore;
+    private final CacheStore diskStore;
+    private final Executor diskExecutor;
+    private final long maxEntrySize;
+    // the entries handed to the disk executor and not written yet
+    private final ConcurrentMap<String, CacheEntry> pendingWrites = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong revalidationCount = new AtomicLong();
+
+    private ResponseCache(Builder b) {
+        this.memoryStore = b.maxMemorySize > 0 ? new MemoryCacheStore(b.maxMemorySize) : null;
+        this.diskStore = b.diskStore;
+        this.diskExecutor = b.diskExecutor != null || b.diskStore == null ? b.diskExecutor : newDiskExecutor();
+        this.maxEntrySize = b.maxEntrySize;
+    }
+
+    /**
+     * Execute a request, from the cache if possible.
+     *
+     * @param request  {@link Request}
+     * @param handler  an instance of {@link AsyncHandler}
+     * @param executor the {@link RequestExecutor} sending requests that can't be answered from the cache
+     * @param <T>      Type of the value that will be returned by the associated {@link java.util.concurrent.Future}
+     * @return a {@link ListenableFuture} of type T, already completed if the response was served from the cache
+     */
+    public <T> ListenableFuture<T> execute(Request request, AsyncHandler<T> handler, RequestExecutor executor) {
+
+        if (handler instanceof UpgradeHandler || handler instanceof TransferCompletionHandler
+                || handler instanceof ResumableAsyncHandler) {
+            return executor.execute(request, handler);
+        }
+
+        final String method = request.getMethod();
+        if (!"GET".equals(method)) {
+            return isSafe(method) ? executor.execute(request, handler)
+                    : executor.execute(request, new InvalidatingHandler<>(handler, request));
+        }
+
+        final FluentCaseInsensitiveStringsMap requestHeaders = request.getHeaders();
+        final CacheControl requestCacheControl = CacheControl.parse(requestHeaders.get("Cache-Control"));
+        if (requestCacheControl.noStore || request.getRangeOffset() != 0 || requestHeaders.containsKey("Range")
+                || requestHeaders.containsKey("If-None-Match") || requestHeaders.containsKey("If-Modified-Since")
+                || requestHeaders.containsKey("If-Match") || requestHeaders.containsKey("If-Unmodified-Since")) {
+            return executor.execute(request, handler);
+        }
+
+        final String key = request.getUri().toUrl();
+        final long now = System.currentTimeMillis();
+        CacheEntry entry = lookup(key);
+        if (entry != null && !CachePolicy.varyMatches(entry, request)) {
+            entry = null;
+        }
+
+        if (entry != null) {
+            final CacheControl responseCacheControl = CacheControl.parse(entry.getHeaders().get("Cache-Control"));
+            final boolean noCache = requestCacheControl.noCache || responseCacheControl.noCache
+                    || requestHeaders.get("Pragma").contains("no-cache");
+            final long age = CachePolicy.currentAge(entry, now);
+            if (!noCache && CachePolicy.isFresh(age, CachePolicy.freshnessLifetime(entry, responseCacheControl),
+                    requestCacheControl, responseCacheControl)) {
+                hitCount.incrementAndGet();
+                return replay(handler, request.getUri(), entry, age);
+            }
+
+            final String etag = entry.getHeaders().getFirstValue("ETag");
+            final String lastModified = entry.getHeaders().getFirstValue("Last-Modified");
+            if (!requestCacheControl.onlyIfCached && (etag != null || lastModified != null)) {
+                revalidationCount.incrementAndGet();
+                final RequestBuilder conditional = new RequestBuilder(request);
+                if (etag != null) {
+                    conditional.setHeader("If-None-Match", etag);
+                }
+                if (lastModified != null) {
+                    conditional.setHeader("If-Modified-Since", lastModified);
+                }
+                return executor.execute(conditional.build(),
+                        new RevalidatingHandler<>(handler, request, key, now, requestCacheControl, entry));
+            }
+        }
+
+        missCount.incrementAndGet();
+        if (requestCacheControl.onlyIfCached) {
+            // RFC 9111, section 5.2.1.7
+            final CacheEntry gatewayTimeout = new CacheEntry(key, 504, "Gateway Timeout",
+                    new FluentCaseInsensitiveStringsMap(), new FluentCaseInsensitiveStringsMap(), now, now,
+                    ByteBuffer.allocate(0));
+            return replay(handler, request.getUri(), gatewayTimeout, 0);
+        }
+        return executor.execute(request, new StoringHandler<>(handler, request, key, now, requestCacheControl));
+    }
+
+    /**
+     * Remove the response stored for a URL.
+     *
+     * @param url the URL
+     */
+    public void invalidate(String url) {
+        final String key = Uri.create(url).toUrl();
+        if (memoryStore != null) {
+            memoryStore.remove(key);
+        }
+        if (diskStore != null) {
+            // waits for a write of the key in progress, and drops a pending one
+            pendingWrites.compute(key, (k, pending) -> {
+                diskStore.remove(k);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Remove all stored responses.
+     */
+    public void clear() {
+        if (memoryStore != null) {
+            memoryStore.clear();
+        }
+        if (diskStore != null) {
+            pendingWrites.clear();
+            diskStore.clear();
+        }
+    }
+
+    /**
+     * @return the number of requests answered from the cache without contacting the server
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of cacheable requests for which no usable response was stored
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of conditional requests sent to revalidate a stale response
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.get();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static boolean isSafe(String method) {
+        return "HEAD".equals(method) || "OPTIONS".equals(method) || "TRACE".equals(method);
+    }
+
+    private static Executor newDiskExecutor() {
+        // a single thread keeps the writes in order, and goes away when idle
+        return new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "AsyncHttpClient-cache-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private CacheEntry lookup(String key) {
+        CacheEntry entry = memoryStore != null ? memoryStore.get(key) : null;
+        if (entry == null && diskStore != null) {
+            entry = pendingWrites.get(key);
+            if (entry == null) {
+                entry = diskStore.get(key);
+            }
+            if (entry != null && memoryStore != null) {
+                memoryStore.put(entry);
+            }
+        }
+        return entry;
+    }
+
+    private void store(CacheEntry entry) {
+        if (memoryStore != null) {
+            memoryStore.put(entry);
+        }
+        if (diskStore != null) {
+            pendingWrites.put(entry.getKey(), entry);
+            try {
+                diskExecutor.execute(() -> write(entry));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Not writing {} to the disk store", entry.getKey(), e);
+                pendingWrites.remove(entry.getKey(), entry);
+            }
+        }
+    }
+
+    private void write(CacheEntry entry) {
+        // skipped if the entry was replaced or invalidated in the meantime
+        pendingWrites.computeIfPresent(entry.getKey(), (key, pending) -> {
+            if (pending != entry) {
+                return pending;
+            }
+            try {
+                diskStore.put(entry);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to write {} to the disk store", key, e);
+            }
+            return null;
+        });
+    }
+
+    private static <T> ListenableFuture<T> replay(AsyncHandler<T> handler, Uri uri, CacheEntry entry, long age) {
+        final FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap(entry.getHeaders());
+        headers.replaceWith("Age", String.valueOf(age / 1000));
+        try {
+            return new ListenableFuture.CompletedSuccess<>(replay(handler, uri, entry, headers));
+        } catch (Throwable t) {
+            try {
+                handler.onThrowable(t);
+            } catch (Throwable t2) {
+                LOGGER.debug("onThrowable", t2);
+            }
+            return new ListenableFuture.CompletedFailure<>(t);
+        }
+    }
+
+    private static <T> T replay(AsyncHandler<T> handler, Uri uri, CacheEntry entry,
+            FluentCaseInsensitiveStringsMap headers) throws Exception {
+        return BufferedResponse.replay(handler,
+                new BufferedResponse.Status(uri, entry.getStatusCode(), entry.getStatusText()), headers, entry.getBody());
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * Forwards a response to the user's handler while recording it, and stores it once completed if it may be.
+     */
+    private class StoringHandler<T> implements AsyncHandler<T> {
+
+        final AsyncHandler<T> delegate;
+        final Request request;
+        final String key;
+        final long requestTime;
+        final CacheControl requestCacheControl;
+
+        private HttpResponseStatus status;
+        private FluentCaseInsensitiveStringsMap headers;
+        private ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private boolean storable = true;
+
+        StoringHandler(AsyncHandler<T> delegate, Request request, String key, long requestTime,
+                CacheControl requestCacheControl) {
+            this.delegate = delegate;
+            this.request = request;
+            this.key = key;
+            this.requestTime = requestTime;
+            this.requestCacheControl = requestCacheControl;
+        }
+
+        @Override
+        public void onThrowable(Throwable t) {
+            delegate.onThrowable(t);
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+            status = responseStatus;
+            // a response reached through redirects doesn't belong to the requested URL
+            storable = responseStatus.getUri() == null || key.equals(responseStatus.getUri().toUrl());
+            return track(delegate.onStatusReceived(responseStatus));
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders responseHeaders) throws Exception {
+            if (!responseHeaders.isTraillingHeadersReceived()) {
+                headers = responseHeaders.getHeaders();
+                storable &= status != null && CachePolicy.isStorable(status.getStatusCode(), headers,
+                        requestCacheControl, CacheControl.parse(headers.get("Cache-Control")));
+                final String contentLength = headers.getFirstValue("Content-Length");
+                if (storable && contentLength != null) {
+                    try {
+                        storable = Long.parseLong(contentLength.trim()) <= maxEntrySize;
+                    } catch (NumberFormatException e) {
+                        storable = false;
+                    }
+                }
+            }
+            return track(delegate.onHeadersReceived(responseHeaders));
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            if (storable) {
+                if (body.size() + (long) bodyPart.length() > maxEntrySize) {
+                    storable = false;
+                    body = null;
+                } else {
+                    body.write(bodyPart.getBodyPartBytes());
+                }
+            }
+            return track(delegate.onBodyPartReceived(bodyPart));
+        }
+
+        @Override
+        public T onCompleted() throws Exception {
+            if (storable && headers != null) {
+                store(new CacheEntry(key, status.getStatusCode(), status.getStatusText(), headers,
+                        CachePolicy.varyHeaders(request, headers), requestTime, System.currentTimeMillis(),
+                        ByteBuffer.wrap(body.toByteArray())));
+            }
+            return delegate.onCompleted();
+        }
+
+        private STATE track(STATE state) {
+            if (state != STATE.CONTINUE) {
+                // the response is incomplete
+                storable = false;
+            }
+            return state;
+        }
+    } // END StoringHandler
+
+    /**
+     * Handles the response to a conditional request: a {@code 304} refreshes the stored entry, which is replayed to
+     * the user's handler, while any other response is forwarded and stored as a fresh one.
+     */
+    private final class RevalidatingHandler<T> extends StoringHandler<T> {
+
+        private final CacheEntry entry;
+        private boolean notModified;
+        private FluentCaseInsensitiveStringsMap validatedHeaders;
+
+        RevalidatingHandler(AsyncHandler<T> delegate, Request request, String key, long requestTime,
+                CacheControl requestCacheControl, CacheEntry entry) {
+            super(delegate, request, key, requestTime, requestCacheControl);
+            this.entry = entry;
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+            if (responseStatus.getStatusCode() == 304) {
+                notModified = true;
+                return STATE.CONTINUE;
+            }
+            return super.onStatusReceived(responseStatus);
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders responseHeaders) throws Exception {
+            if (notModified) {
+                validatedHeaders = responseHeaders.getHeaders();
+                return STATE.CONTINUE;
+            }
+            return super.onHeadersReceived(responseHeaders);
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            return notModified ? STATE.CONTINUE : super.onBodyPartReceived(bodyPart);
+        }
+
+        @Override
+        public T onCompleted() throws Exception {
+            if (!notModified) {
+                return super.onCompleted();
+            }
+
+            // RFC 9111, section 4.3.4: freshen the stored headers with the ones of the 304
+            final FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap(entry.getHeaders());
+            if (validatedHeaders != null) {
+                for (Map.Entry<String, List<String>> header : validatedHeaders) {
+                    final String name = header.getKey();
+                    if (!"Content-Length".equalsIgnoreCase(name) && !"Transfer-Encoding".equalsIgnoreCase(name)
+                            && !"Connection".equalsIgnoreCase(name)) {
+                        headers.replaceWith(name, header.getValue());
+                    }
+                }
+            }
+            final long now = System.currentTimeMillis();
+            final CacheEntry refreshed = entry.withHeaders(headers, requestTime, now);
+            store(refreshed);
+
+            final FluentCaseInsensitiveStringsMap served = new FluentCaseInsensitiveStringsMap(headers);
+            served.replaceWith("Age", String.valueOf(CachePolicy.currentAge(refreshed, now) / 1000));
+            return replay(delegate, request.getUri(), refreshed, served);
+        }
+    } // END RevalidatingHandler
+
+    /**
+     * Forwards the response to an unsafe request, invalidating the responses stored for its target if it succeeded
+     * (RFC 9111, section 4.4).
+     */
+    private final class InvalidatingHandler<T> implements AsyncHandler<T> {
+
+        private final AsyncHandler<T> delegate;
+        private final Request request;
+        private int statusCode;
+        private FluentCaseInsensitiveStringsMap headers;
+
+        InvalidatingHandler(AsyncHandler<T> delegate, Request request) {
+            this.delegate = delegate;
+            this.request = request;
+        }
+
+        @Override
+        public void onThrowable(Throwable t) {
+            delegate.onThrowable(t);
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+            statusCode = responseStatus.getStatusCode();
+            return delegate.onStatusReceived(responseStatus);
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders responseHeaders) throws Exception {
+            if (headers == null) {
+                headers = responseHeaders.getHeaders();
+            }
+            return delegate.onHeadersReceived(responseHeaders);
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            return delegate.onBodyPartReceived(bodyPart);
+        }
+
+        @Override
+        public T onCompleted() throws Exception {
+            if (statusCode >= 200 && statusCode < 400) {
+                final Uri uri = request.getUri();
+                invalidate(uri.toUrl());
+                if (headers != null) {
+                    invalidateSameOrigin(uri, headers.getFirstValue("Location"));
+                    invalidateSameOrigin(uri, headers.getFirstValue("Content-Location"));
+                }
+            }
+            return delegate.onCompleted();
+        }
+
+        private void invalidateSameOrigin(Uri uri, String location) {
+            if (location != null) {
+                try {
+                    final Uri target = Uri.create(uri, location);
+                    if (target.getHost().equalsIgnoreCase(uri.getHost()) && target.getScheme().equals(uri.getScheme())
+                            && target.getPort() == uri.getPort()) {
+                        invalidate(target.toUrl());
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Ignoring invalid location {}", location, e);
+                }
+            }
+        }
+    } // END InvalidatingHandler
+
+    /**
+     * Builder for a {@link ResponseCache}.
+     */
+    public static class Builder {
+
+        private long maxMemorySize = 10L * 1024 * 1024;
+        private CacheStore diskStore;
+        private Executor diskExecutor;
+        private long maxEntrySize = 1024L * 1024;
+
+        /**
+         * Set the maximum number of bytes held in memory, 10MB by default. 0 disables the memory tier.
+         *
+         * @param maxMemorySize the maximum number of bytes
+         * @return this builder
+         */
+        public Builder setMaxMemorySize(long maxMemorySize) {
+            this.maxMemorySize = maxMemorySize;
+            return this;
+        }
+
+        /**
+         * Set a second tier store, consulted when an entry isn't held in memory and written along with it.
+         *
+         * @param diskStore the store, typically a {@link DiskCacheStore}
+         * @return this builder
+         */
+        public Builder setDiskStore(CacheStore diskStore) {
+            this.diskStore = diskStore;
+            return this;
+        }
+
+        /**
+         * Set the executor writing entries to the disk store, a single daemon thread by default. An entry replaced
+         * or invalidated before its turn comes isn't written.
+         *
+         * @param diskExecutor the executor
+         * @return this builder
+         */
+        public Builder setDiskExecutor(Executor diskExecutor) {
+            this.diskExecutor = diskExecutor;
+            return this;
+        }
+
+        /**
+         * Set the size of the largest response body that may be stored, 1MB by default.
+         *
+         * @param maxEntrySize the maximum number of bytes
+         * @return this builder
+         */
+        public Builder setMaxEntrySize(long maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+            return this;
+        }
+
+        public ResponseCache build() {
+            if (maxMemorySize <= 0 && diskStore == null) {
+                throw new IllegalStateException("a memory size or a disk store is required");
+            }
+            return new ResponseCache(this);
+        }
+    } // END Builder
+}
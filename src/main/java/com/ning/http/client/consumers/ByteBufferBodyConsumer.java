@@ -32,7 +32,7 @@ public class ByteBufferBodyConsumer implements BodyConsumer {
 
     @Override
     public void consume(ByteBuffer byteBuffer) throws IOException {
-        byteBuffer.put(byteBuffer);
+        this.byteBuffer.put(byteBuffer);
     }
 
     @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.endpoint;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A backend of an {@link EndpointGroup}, along with the number of requests it currently serves.
+ *
+ * @since 5.0.1
+ */
+public final class Backend {
+
+    private final String host;
+    private final int port;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    Backend(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * @return the number of requests sent to this backend that haven't completed yet
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * @return the number of requests sent to this backend so far
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    void acquire() {
+        requestCount.incrementAndGet();
+        inFlightRequests.incrementAndGet();
+    }
+
+    void release() {
+        inFlightRequests.decrementAndGet();
+    }
+
+    String authority() {
+        return host + ':' + port;
+    }
+
+    @Override
+    public String toString() {
+        return authority();
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.endpoint;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.RequestExecutor;
+import com.ning.http.client.uri.Uri;
+import com.ning.http.util.AsyncHttpProviderUtils;
+import com.ning.http.util.UriEncoder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A logical service name standing for a set of backends, once added with
+ * {@link com.ning.http.client.AsyncHttpClientConfig.Builder#addEndpointGroup(EndpointGroup)}.
+ * <p>
+ * Requests whose host is the service name are sent to one of the backends, as picked by the group's
+ * {@link SelectionPolicy}: their URI is rewritten to the backend's host and port, and their virtual host, unless
+ * already set, to the original authority, so servers still see the service name in the <code>Host</code> header.
+ * Connections are pooled per target host, so each backend keeps its own pool partition.
+ * <p>
+ * The backends are either static, or obtained from a supplier, such as a service registry client, at most once per
+ * {@link Builder#setRefreshInterval(long) refresh interval}. Refreshing happens on the thread sending a request and
+ * should be cheap; a supplier failing or returning null leaves the previous backends in place. Backends kept across
+ * a refresh keep their in-flight request counts. Redirects followed by the provider aren't balanced.
+ * <p>
+ * Only plain <code>http</code> and <code>ws</code> requests are balanced: the TLS handshake would check the backend
+ * host instead of the service name, so secure requests to a service name fail with an
+ * {@link IllegalArgumentException}.
+ *
+ * <pre>{@code
+ *      EndpointGroup orders = new EndpointGroup.Builder("orders")
+ *          .addEndpoint("10.0.0.1", 8080)
+ *          .addEndpoint("10.0.0.2", 8080)
+ *          .setSelectionPolicy(SelectionPolicy.PowerOfTwoChoices.INSTANCE)
+ *          .build();
+ *      AsyncHttpClient client = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().addEndpointGroup(orders).build());
+ *      client.prepareGet("http://orders/api/orders/42").execute();
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class EndpointGroup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EndpointGroup.class);
+
+    private final String serviceName;
+    private final SelectionPolicy selectionPolicy;
+    private final Supplier<? extends Collection<InetSocketAddress>> supplier;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile List<Backend> backends = Collections.emptyList();
+    private volatile long nextRefresh;
+
+    private EndpointGroup(Builder b) {
+        this.serviceName = b.serviceName;
+        this.selectionPolicy = b.selectionPolicy != null ? b.selectionPolicy : new SelectionPolicy.RoundRobin();
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(b.refreshInterval);
+        if (b.supplier != null) {
+            this.supplier = b.supplier;
+            refresh();
+        } else {
+            this.supplier = null;
+            update(b.endpoints);
+        }
+    }
+
+    /**
+     * @return the host name requests are balanced for
+     */
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * @return the current backends
+     */
+    public List<Backend> getBackends() {
+        return backends;
+    }
+
+    /**
+     * Fetch the backends from the supplier now, if the group has one.
+     */
+    public void refresh() {
+        if (supplier == null) {
+            return;
+        }
+        nextRefresh = System.nanoTime() + refreshIntervalNanos;
+        try {
+            final Collection<InetSocketAddress> endpoints = supplier.get();
+            if (endpoints != null) {
+                update(endpoints);
+            } else {
+                LOGGER.warn("Endpoint supplier of {} returned null, keeping {}", serviceName, backends);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Endpoint supplier of {} failed, keeping {}", serviceName, backends, e);
+        }
+    }
+
+    /**
+     * Send a request to one of the backends.
+     *
+     * @param request  {@link Request} targeting the service name
+     * @param handler  an instance of {@link AsyncHandler}
+     * @param executor the {@link RequestExecutor} sending the requests
+     * @param <T>      Type of the value that will be returned by the associated {@link java.util.concurrent.Future}
+     * @return a {@link ListenableFuture} of type T
+     */
+    public <T> ListenableFuture<T> execute(Request request, AsyncHandler<T> handler, RequestExecutor executor) {
+
+        if (AsyncHttpProviderUtils.isSecure(request.getUri())) {
+            final IllegalArgumentException e = new IllegalArgumentException("Secure requests to " + serviceName
+                    + " can't be balanced, as the backend host would be verified instead of the service name");
+            handler.onThrowable(e);
+            return new ListenableFuture.CompletedFailure<>(e);
+        }
+
+        refreshIfNeeded();
+
+        final List<Backend> current = backends;
+        if (current.isEmpty()) {
+            final ConnectException e = new ConnectException("No endpoint available for " + serviceName);
+            handler.onThrowable(e);
+            return new ListenableFuture.CompletedFailure<>(e);
+        }
+
+        final Backend backend = selectionPolicy.select(current);
+        final Request target = target(request, backend);
+        backend.acquire();
+        final ListenableFuture<T> future;
+        try {
+            future = executor.execute(target, handler);
+        } catch (RuntimeException e) {
+            backend.release();
+            throw e;
+        }
+        future.addListener(backend::release, Runnable::run);
+        return future;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private void refreshIfNeeded() {
+        if (supplier != null && System.nanoTime() - nextRefresh >= 0 && refreshing.compareAndSet(false, true)) {
+            try {
+                refresh();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    private void update(Collection<InetSocketAddress> endpoints) {
+        final Map<String, Backend> previous = new HashMap<>();
+        for (Backend backend : backends) {
+            previous.put(backend.authority(), backend);
+        }
+        final List<Backend> updated = new ArrayList<>(endpoints.size());
+        for (InetSocketAddress endpoint : endpoints) {
+            final Backend backend = new Backend(endpoint.getHostString(), endpoint.getPort());
+            final Backend kept = previous.remove(backend.authority());
+            updated.add(kept != null ? kept : backend);
+        }
+        backends = Collections.unmodifiableList(updated);
+    }
+
+    private static Request target(Request request, Backend backend) {
+        final Uri uri = request.getUri();
+        final RequestBuilder builder = new RequestBuilder(request, UriEncoder.RAW).setUri(new Uri(uri.getScheme(),//
+                uri.getUserInfo(),//
+                backend.getHost(),//
+                backend.getPort(),//
+                uri.getPath(),//
+                uri.getQuery()));
+        if (request.getVirtualHost() == null) {
+            builder.setVirtualHost(uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ':' + uri.getPort());
+        }
+        return builder.build();
+    }
+
+    public static class Builder {
+
+        private final String serviceName;
+        private final List<InetSocketAddress> endpoints = new ArrayList<>();
+        private Supplier<? extends Collection<InetSocketAddress>> supplier;
+        private long refreshInterval = 30000;
+        private SelectionPolicy selectionPolicy;
+
+        /**
+         * @param serviceName the host name to balance requests for
+         */
+        public Builder(String serviceName) {
+            if (serviceName == null || serviceName.isEmpty())
+                throw new IllegalArgumentException("serviceName must be set");
+            this.serviceName = serviceName;
+        }
+
+        /**
+         * Add a static backend.
+         *
+         * @param host the backend host name or address
+         * @param port the backend port
+         * @return this
+         */
+        public Builder addEndpoint(String host, int port) {
+            endpoints.add(InetSocketAddress.createUnresolved(host, port));
+            return this;
+        }
+
+        /**
+         * Obtain the backends from a supplier instead of static ones.
+         *
+         * @param supplier the supplier of the backend addresses, called on build and then on refresh
+         * @return this
+         */
+        public Builder setEndpointSupplier(Supplier<? extends Collection<InetSocketAddress>> supplier) {
+            this.supplier = supplier;
+            return this;
+        }
+
+        /**
+         * Set the minimum time between two calls to the endpoint supplier. Default is 30 seconds.
+         *
+         * @param refreshInterval the refresh interval, in milliseconds
+         * @return this
+         */
+        public Builder setRefreshInterval(long refreshInterval) {
+            if (refreshInterval < 0)
+                throw new IllegalArgumentException("refreshInterval must be positive");
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * Set the {@link SelectionPolicy}. Default is {@link SelectionPolicy.RoundRobin}.
+         *
+         * @param selectionPolicy the {@link SelectionPolicy}
+         * @return this
+         */
+        public Builder setSelectionPolicy(SelectionPolicy selectionPolicy) {
+            this.selectionPolicy = selectionPolicy;
+            return this;
+        }
+
+        public EndpointGroup build() {
+            if (supplier == null && endpoints.isEmpty())
+                throw new IllegalStateException("Either endpoints or an endpoint supplier must be set");
+            return new EndpointGroup(this);
+        }
+    }
+}
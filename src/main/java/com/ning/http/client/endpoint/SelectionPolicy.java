@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.endpoint;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the {@link Backend} of an {@link EndpointGroup} a request is sent to.
+ *
+ * @since 5.0.1
+ */
+public interface SelectionPolicy {
+
+    /**
+     * @param backends the backends of the group, never empty
+     * @return the backend to send the next request to
+     */
+    Backend select(List<Backend> backends);
+
+    /**
+     * Cycles through the backends in order. Instances hold a position, so groups shouldn't share them.
+     */
+    public class RoundRobin implements SelectionPolicy {
+
+        private final AtomicInteger next = new AtomicInteger();
+
+        public Backend select(List<Backend> backends) {
+            return backends.get(Math.floorMod(next.getAndIncrement(), backends.size()));
+        }
+    }
+
+    /**
+     * Picks the backend with the fewest requests in flight, breaking ties from a random position.
+     */
+    public enum LeastOutstanding implements SelectionPolicy {
+
+        INSTANCE;
+
+        public Backend select(List<Backend> backends) {
+            final int size = backends.size();
+            final int offset = ThreadLocalRandom.current().nextInt(size);
+            Backend best = null;
+            for (int i = 0; i < size; i++) {
+                final Backend backend = backends.get((offset + i) % size);
+                if (best == null || backend.getInFlightRequests() < best.getInFlightRequests()) {
+                    best = backend;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Picks two distinct backends at random and keeps the one with fewer requests in flight, which avoids the herding
+     * of {@link LeastOutstanding} on stale counts at a constant cost.
+     */
+    public enum PowerOfTwoChoices implements SelectionPolicy {
+
+        INSTANCE;
+
+        public Backend select(List<Backend> backends) {
+            final int size = backends.size();
+            if (size == 1) {
+                return backends.get(0);
+            }
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final int i = random.nextInt(size);
+            final int j = (i + 1 + random.nextInt(size - 1)) % size;
+            final Backend a = backends.get(i);
+            final Backend b = backends.get(j);
+            return b.getInFlightRequests() < a.getInFlightRequests() ? b : a;
+        }
+    }
+}
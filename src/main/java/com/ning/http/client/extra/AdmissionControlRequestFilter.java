@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.extra;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.Request;
+import com.ning.http.client.filter.FilterContext;
+import com.ning.http.client.filter.FilterException;
+import com.ning.http.client.filter.RequestFilter;
+import com.ning.http.util.AsyncHttpProviderUtils;
+import com.ning.http.util.SharedTimer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link RequestFilter} limiting the number of requests in flight, globally and per host, without ever blocking
+ * the calling thread.
+ * <p>
+ * Requests over the limits are parked in a FIFO queue through the {@link FilterContext#getAdmission() admission} of
+ * their {@link FilterContext} and are sent as soon as a running request completes. The queue length may be capped,
+ * in which case the filter fails with a {@link FilterException} once it's full, and requests may be given a maximum
+ * time to wait in the queue, after which they fail with a {@link FilterException} as well.
+ * <p>
+ * Unlike {@link ThrottleRequestFilter}, this filter can safely be used by requests issued from I/O threads, for
+ * instance from another request's completion handler.
+ *
+ * <pre>{@code
+ *      AdmissionControlRequestFilter admission = new AdmissionControlRequestFilter.Builder()
+ *          .setMaxConcurrentRequests(200)
+ *          .setMaxConcurrentRequestsPerHost(20)
+ *          .setMaxQueuedRequests(10000)
+ *          .setQueueTimeout(5000)
+ *          .build();
+ *      AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder().addRequestFilter(admission).build();
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class AdmissionControlRequestFilter implements RequestFilter {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(AdmissionControlRequestFilter.class);
+
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+
+    private final int maxConcurrentRequests;
+    private final int maxConcurrentRequestsPerHost;
+    private final int maxQueuedRequests;
+    private final long queueTimeout;
+    private final ScheduledExecutorService timer;
+
+    // all state below is guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<AdmissionHandler<?>> queue = new ArrayDeque<>();
+    private final Map<Object, Host> hosts = new HashMap<>();
+    private int running;
+
+    // serializes dispatching of queued requests, see drain()
+    private final AtomicInteger drainers = new AtomicInteger();
+
+    private AdmissionControlRequestFilter(Builder b) {
+        this.maxConcurrentRequests = b.maxConcurrentRequests;
+        this.maxConcurrentRequestsPerHost = b.maxConcurrentRequestsPerHost;
+        this.maxQueuedRequests = b.maxQueuedRequests;
+        this.queueTimeout = b.queueTimeout;
+        this.timer = b.timer;
+    }
+
+    @Override
+    public <T> FilterContext<T> filter(FilterContext<T> ctx) throws FilterException {
+
+        final AdmissionHandler<T> handler = new AdmissionHandler<>(ctx.getAsyncHandler(), hostKey(ctx.getRequest()));
+        final CompletionStage<?> prior = ctx.getAdmission();
+
+        final CompletionStage<?> admission;
+        if (prior == null) {
+            admission = admit(handler);
+            if (admission == null) {
+                throw new FilterException(
+                        String.format("No slot available for processing Request %s with AsyncHandler %s",
+                                ctx.getRequest(), ctx.getAsyncHandler()));
+            }
+        } else {
+            // only start competing for a slot once the previous filters let the request through
+            admission = prior.thenCompose(v -> {
+                CompletionStage<?> stage = admit(handler);
+                return stage != null ? stage : CompletableFuture.failedFuture(new FilterException(
+                        String.format("No slot available for processing Request %s", ctx.getRequest())));
+            });
+        }
+
+        return new FilterContext.FilterContextBuilder<>(ctx).asyncHandler(handler).admission(admission).build();
+    }
+
+    /**
+     * @return the number of requests currently admitted and not yet completed
+     */
+    public int getRunningRequests() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests waiting for admission
+     */
+    public int getQueuedRequests() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private Object hostKey(Request request) {
+        return maxConcurrentRequestsPerHost >= 0 ? AsyncHttpProviderUtils.getBaseUrl(request.getUri()) : null;
+    }
+
+    /**
+     * @return the admission stage, or <code>null</code> if the queue is full
+     */
+    private CompletionStage<?> admit(AdmissionHandler<?> handler) {
+        final Gate gate;
+        lock.lock();
+        try {
+            if (handler.state.get() == FINISHED) {
+                // a later filter failed the request before it competed for a slot
+                return CompletableFuture.failedFuture(new FilterException("Request failed before its admission"));
+            }
+            final Host host = host(handler.host);
+            if (hasRoom(host) && (host == null || host.queued == 0)) {
+                if (!handler.state.compareAndSet(WAITING, RUNNING)) {
+                    removeIfIdle(handler.host, host);
+                    return CompletableFuture.failedFuture(new FilterException("Request failed before its admission"));
+                }
+                acquire(host);
+                return ADMITTED;
+            }
+            if (maxQueuedRequests >= 0 && queue.size() >= maxQueuedRequests) {
+                removeIfIdle(handler.host, host);
+                return null;
+            }
+            gate = new Gate(handler);
+            handler.gate = gate;
+            queue.add(handler);
+            if (host != null) {
+                host.queued++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (handler.state.get() == FINISHED) {
+            // failed while being queued, complete() may not have seen the gate
+            gate.cancel(false);
+            return gate;
+        }
+        if (queueTimeout > 0) {
+            gate.timeout = timer.schedule(() -> {
+                if (dequeue(handler)) {
+                    gate.completeExceptionally(new FilterException(
+                            String.format("Request waited more than %d ms for admission", queueTimeout)));
+                }
+            }, queueTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Request queued for admission, {} running", running);
+        }
+        return gate;
+    }
+
+    private void release(AdmissionHandler<?> handler) {
+        lock.lock();
+        try {
+            running--;
+            final Host host = hosts.get(handler.host);
+            if (host != null) {
+                host.running--;
+                removeIfIdle(handler.host, host);
+            }
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Admits as many queued requests as the limits allow. Admitting a request may dispatch it on this thread and,
+     * should it fail right away, release its slot again; such nested calls only record that another pass is needed
+     * so the stack doesn't grow with the queue.
+     */
+    private void drain() {
+        if (drainers.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            AdmissionHandler<?> next;
+            while ((next = pollAdmissible()) != null) {
+                final Gate gate = next.gate;
+                if (gate.timeout != null) {
+                    gate.timeout.cancel(false);
+                }
+                if (!next.state.compareAndSet(WAITING, RUNNING)) {
+                    // the request went away while queued, hand the slot to the next one
+                    release(next);
+                } else if (!gate.complete(null)) {
+                    // cancelled meanwhile: only the transition from RUNNING to FINISHED releases the slot, whether
+                    // it's made here or by the cancelled request's onThrowable()
+                    next.complete();
+                }
+            }
+            missed = drainers.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private AdmissionHandler<?> pollAdmissible() {
+        lock.lock();
+        try {
+            if (maxConcurrentRequests >= 0 && running >= maxConcurrentRequests) {
+                return null;
+            }
+            for (Iterator<AdmissionHandler<?>> i = queue.iterator(); i.hasNext();) {
+                final AdmissionHandler<?> candidate = i.next();
+                final Host host = hosts.get(candidate.host);
+                if (hasRoom(host)) {
+                    i.remove();
+                    if (host != null) {
+                        host.queued--;
+                    }
+                    acquire(host);
+                    return candidate;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean dequeue(AdmissionHandler<?> handler) {
+        lock.lock();
+        try {
+            if (!queue.remove(handler)) {
+                return false;
+            }
+            final Host host = hosts.get(handler.host);
+            if (host != null) {
+                host.queued--;
+                removeIfIdle(handler.host, host);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Host host(Object key) {
+        if (key == null) {
+            return null;
+        }
+        Host host = hosts.get(key);
+        if (host == null) {
+            host = new Host();
+            hosts.put(key, host);
+        }
+        return host;
+    }
+
+    private boolean hasRoom(Host host) {
+        return (maxConcurrentRequests < 0 || running < maxConcurrentRequests)
+                && (host == null || host.running < maxConcurrentRequestsPerHost);
+    }
+
+    private void acquire(Host host) {
+        running++;
+        if (host != null) {
+            host.running++;
+        }
+    }
+
+    private void removeIfIdle(Object key, Host host) {
+        if (host != null && host.running == 0 && host.queued == 0) {
+            hosts.remove(key);
+        }
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    private static final class Host {
+        int running;
+        int queued;
+    }
+
+    /**
+     * Admission stage of a queued request; cancelling it removes the request from the queue.
+     */
+    private final class Gate extends CompletableFuture<Void> {
+
+        private final AdmissionHandler<?> handler;
+        private volatile ScheduledFuture<?> timeout;
+
+        private Gate(AdmissionHandler<?> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            final ScheduledFuture<?> t = timeout;
+            if (t != null) {
+                t.cancel(false);
+            }
+            dequeue(handler);
+            return true;
+        }
+    }
+
+    private final class AdmissionHandler<T> implements AsyncHandler<T> {
+
+        private final AsyncHandler<T> asyncHandler;
+        private final Object host;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Gate gate;
+
+        private AdmissionHandler(AsyncHandler<T> asyncHandler, Object host) {
+            this.asyncHandler = asyncHandler;
+            this.host = host;
+        }
+
+        private void complete() {
+            final int previous = state.getAndSet(FINISHED);
+            if (previous == RUNNING) {
+                release(this);
+            } else if (previous == WAITING) {
+                // e.g. a later filter failed the request: leave the queue
+                final Gate g = gate;
+                if (g != null) {
+                    g.cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public void onThrowable(Throwable t) {
+            try {
+                asyncHandler.onThrowable(t);
+            } finally {
+                complete();
+            }
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            return asyncHandler.onBodyPartReceived(bodyPart);
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+            return asyncHandler.onStatusReceived(responseStatus);
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+            return asyncHandler.onHeadersReceived(headers);
+        }
+
+        @Override
+        public T onCompleted() throws Exception {
+            try {
+                return asyncHandler.onCompleted();
+            } finally {
+                complete();
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private int maxConcurrentRequests = -1;
+        private int maxConcurrentRequestsPerHost = -1;
+        private int maxQueuedRequests = -1;
+        private long queueTimeout = -1;
+        private ScheduledExecutorService timer = SharedTimer.get();
+
+        /**
+         * Set the maximum number of requests in flight; -1 for no limit.
+         */
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests in flight to a single host (scheme, host and port); -1 for no limit.
+         */
+        public Builder setMaxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+            this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests waiting for admission; further requests fail immediately. -1 for no limit.
+         */
+        public Builder setMaxQueuedRequests(int maxQueuedRequests) {
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        /**
+         * Set the maximum time in milliseconds a request may wait for admission; -1 to wait indefinitely.
+         */
+        public Builder setQueueTimeout(long queueTimeout) {
+            this.queueTimeout = queueTimeout;
+            return this;
+        }
+
+        /**
+         * Set the scheduler used for queue timeouts, defaults to {@link SharedTimer}.
+         */
+        public Builder setTimer(ScheduledExecutorService timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        public AdmissionControlRequestFilter build() {
+            return new AdmissionControlRequestFilter(this);
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.extra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A circuit breaker per connection pool partition, once installed with
+ * {@link com.ning.http.client.AsyncHttpClientConfig.Builder#setCircuitBreaker(CircuitBreaker)}.
+ * <p>
+ * While <code>CLOSED</code>, the outcome of the last {@link Builder#setSlidingWindowSize(int) window size} requests of
+ * a partition is recorded: a request fails when it completes with an exception or a <code>5xx</code> response, and is
+ * slow when it takes longer than the {@link Builder#setSlowCallDuration(long) slow call duration}. Once the window holds at least
+ * {@link Builder#setMinimumCalls(int) minimum calls} and either the failure rate or the slow call rate reaches its
+ * threshold, the circuit opens: requests to the partition are rejected with a {@link CircuitBreakerOpenException}
+ * before taking a connection or a pool slot. After the {@link Builder#setOpenDuration(long) open duration}, the
+ * circuit is <code>HALF_OPEN</code> and lets a limited number of probe requests through. It closes once they all
+ * succeed, and opens again as soon as one fails or is slow. Cancelled requests aren't recorded.
+ * <p>
+ * Recording and admission only use atomic operations, so the breaker takes no lock on the request path. State
+ * changes are reported to the {@link Listener}s on the thread causing them. Closed circuits without requests for the
+ * {@link Builder#setIdleTimeout(long) idle timeout} are dropped, along with the outcomes they recorded.
+ *
+ * <pre>{@code
+ *      CircuitBreaker breaker = new CircuitBreaker.Builder()
+ *          .setFailureRateThreshold(50)
+ *          .setSlowCallDuration(2000)
+ *          .setOpenDuration(10000)
+ *          .addListener((partition, from, to) -> log.warn("{}: {} -> {}", partition, from, to))
+ *          .build();
+ *      AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder().setCircuitBreaker(breaker).build();
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class CircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+    private static final int SLOW = 4;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Notified when the circuit of a partition changes state.
+     */
+    @FunctionalInterface
+    public interface Listener {
+
+        void onStateChange(Object partition, State from, State to);
+    }
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final long idleNanos;
+    private final List<Listener> listeners;
+
+    private final ConcurrentMap<Object, Circuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep;
+
+    private CircuitBreaker(Builder b) {
+        this.slidingWindowSize = b.slidingWindowSize;
+        this.minimumCalls = Math.min(b.minimumCalls, b.slidingWindowSize);
+        this.failureRateThreshold = b.failureRateThreshold;
+        this.slowCallRateThreshold = b.slowCallRateThreshold;
+        this.slowCallNanos = b.slowCallDuration > 0 ? TimeUnit.MILLISECONDS.toNanos(b.slowCallDuration) : Long.MAX_VALUE;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(b.openDuration);
+        this.halfOpenCalls = b.halfOpenCalls;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(b.idleTimeout);
+        this.nextSweep = new AtomicLong(System.nanoTime() + idleNanos);
+        this.listeners = new ArrayList<>(b.listeners);
+    }
+
+    /**
+     * Admit a request to a partition.
+     *
+     * @param partition the connection pool partition of the request
+     * @return the {@link Call} to report the request outcome to
+     * @throws CircuitBreakerOpenException if the circuit of the partition is open, or half-open with all its probe
+     *                                     requests in flight
+     */
+    public Call acquire(Object partition) throws CircuitBreakerOpenException {
+        final long now = System.nanoTime();
+        sweepIfNeeded(now);
+        Circuit circuit = circuits.get(partition);
+        if (circuit == null) {
+            circuit = circuits.computeIfAbsent(partition, Circuit::new);
+        }
+        circuit.lastUsed = now;
+        return circuit.acquire();
+    }
+
+    /**
+     * @param partition a connection pool partition
+     * @return the state of the circuit of the partition
+     */
+    public State getState(Object partition) {
+        final Circuit circuit = circuits.get(partition);
+        return circuit != null ? circuit.phase.get().state : State.CLOSED;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    /**
+     * Drop the closed circuits left idle, at most once per idle timeout. A request admitted by a circuit dropped
+     * meanwhile reports to it in vain, which errs on the side of keeping the partition's circuit closed.
+     */
+    private void sweepIfNeeded(long now) {
+        final long next = nextSweep.get();
+        if (now - next < 0 || !nextSweep.compareAndSet(next, now + idleNanos)) {
+            return;
+        }
+        for (Circuit circuit : circuits.values()) {
+            if (circuit.phase.get().state == State.CLOSED && now - circuit.lastUsed >= idleNanos) {
+                circuits.remove(circuit.partition, circuit);
+            }
+        }
+    }
+
+    /**
+     * An admitted request, whose outcome must be reported exactly once.
+     */
+    public final class Call {
+
+        private final Circuit circuit;
+        private final Phase phase;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Call(Circuit circuit, Phase phase) {
+            this.circuit = circuit;
+            this.phase = phase;
+        }
+
+        /**
+         * Report the request completed successfully.
+         */
+        public void onSuccess() {
+            report(SUCCESS);
+        }
+
+        /**
+         * Report the request failed.
+         */
+        public void onFailure() {
+            report(FAILURE);
+        }
+
+        /**
+         * Report the request was cancelled, so its outcome doesn't count.
+         */
+        public void onCancel() {
+            if (reported.compareAndSet(false, true) && phase.state == State.HALF_OPEN) {
+                phase.permits.decrementAndGet();
+            }
+        }
+
+        /**
+         * Report the outcome of a request from how its future completed.
+         *
+         * @param t the exception the future completed with, or null
+         */
+        public void onComplete(Throwable t) {
+            onComplete(t, 0);
+        }
+
+        /**
+         * Report the outcome of a request from how its future completed, and the status of its response: a
+         * <code>5xx</code> status fails the request.
+         *
+         * @param t          the exception the future completed with, or null
+         * @param statusCode the status code of the final response, or 0 if none was received
+         */
+        public void onComplete(Throwable t, int statusCode) {
+            if (t instanceof CompletionException && t.getCause() != null) {
+                t = t.getCause();
+            }
+            if (t == null) {
+                if (statusCode >= 500) {
+                    onFailure();
+                } else {
+                    onSuccess();
+                }
+            } else if (t instanceof CancellationException) {
+                onCancel();
+            } else {
+                onFailure();
+            }
+        }
+
+        private void report(int outcome) {
+            if (reported.compareAndSet(false, true)) {
+                circuit.lastUsed = System.nanoTime();
+                circuit.record(phase, System.nanoTime() - start > slowCallNanos ? outcome | SLOW : outcome);
+            }
+        }
+    }
+
+    // --------------------------------------------------------- Nested Classes
+
+    /**
+     * A state of a circuit. Transitions replace the phase, so outcomes of calls admitted in a previous phase are
+     * simply ignored.
+     */
+    private final class Phase {
+
+        private final State state;
+        private final long since = System.nanoTime();
+        // CLOSED: the outcome ring and its counters
+        private final AtomicIntegerArray window;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        // HALF_OPEN: probe permits handed out and probes succeeded
+        private final AtomicInteger permits = new AtomicInteger();
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(State state) {
+            this.state = state;
+            this.window = state == State.CLOSED ? new AtomicIntegerArray(slidingWindowSize) : null;
+        }
+
+        /**
+         * @return true if the thresholds are reached
+         */
+        private boolean add(int outcome) {
+            final int old = window.getAndSet((int) (cursor.getAndIncrement() % slidingWindowSize), outcome);
+            if (old == 0) {
+                calls.incrementAndGet();
+            }
+            final int f = count(failures, old, outcome, FAILURE);
+            final int s = count(slowCalls, old, outcome, SLOW);
+            final int n = calls.get();
+            return n >= minimumCalls && (f * 100f >= failureRateThreshold * n || s * 100f >= slowCallRateThreshold * n);
+        }
+
+        private int count(AtomicInteger counter, int old, int outcome, int flag) {
+            final int delta = ((outcome & flag) != 0 ? 1 : 0) - ((old & flag) != 0 ? 1 : 0);
+            return delta == 0 ? counter.get() : counter.addAndGet(delta);
+        }
+    }
+
+    private final class Circuit {
+
+        private final Object partition;
+        private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(State.CLOSED));
+        // when a request was last admitted or reported
+        private volatile long lastUsed = System.nanoTime();
+
+        private Circuit(Object partition) {
+            this.partition = partition;
+        }
+
+        private Call acquire() throws CircuitBreakerOpenException {
+            for (;;) {
+                final Phase current = phase.get();
+                switch (current.state) {
+                case CLOSED:
+                    return new Call(this, current);
+                case OPEN:
+                    if (System.nanoTime() - current.since < openNanos) {
+                        throw new CircuitBreakerOpenException(partition);
+                    }
+                    transition(current, State.HALF_OPEN);
+                    break;
+                default:
+                    if (current.permits.incrementAndGet() > halfOpenCalls) {
+                        current.permits.decrementAndGet();
+                        throw new CircuitBreakerOpenException(partition);
+                    }
+                    return new Call(this, current);
+                }
+            }
+        }
+
+        private void record(Phase admitted, int outcome) {
+            if (phase.get() != admitted) {
+                return;
+            }
+            if (admitted.state == State.CLOSED) {
+                if (admitted.add(outcome)) {
+                    transition(admitted, State.OPEN);
+                }
+            } else if (outcome != SUCCESS) {
+                transition(admitted, State.OPEN);
+            } else if (admitted.successes.incrementAndGet() >= halfOpenCalls) {
+                transition(admitted, State.CLOSED);
+            }
+        }
+
+        private void transition(Phase from, State to) {
+            if (phase.compareAndSet(from, new Phase(to))) {
+                LOGGER.debug("Circuit breaker of {} moved from {} to {}", partition, from.state, to);
+                for (Listener listener : listeners) {
+                    try {
+                        listener.onStateChange(partition, from.state, to);
+                    } catch (Exception e) {
+                        LOGGER.warn("Circuit breaker listener failed", e);
+                    }
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private int slidingWindowSize = 100;
+        private int minimumCalls = 20;
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private long slowCallDuration = 0;
+        private long openDuration = 30000;
+        private int halfOpenCalls = 5;
+        private long idleTimeout = 60000;
+        private final List<Listener> listeners = new ArrayList<>();
+
+        /**
+         * Set the number of most recent requests the rates are computed over. Default is 100.
+         *
+         * @param slidingWindowSize the number of requests
+         * @return this
+         */
+        public Builder setSlidingWindowSize(int slidingWindowSize) {
+            if (slidingWindowSize <= 0)
+                throw new IllegalArgumentException("slidingWindowSize must be positive");
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Set the number of requests to record before the rates are considered. Default is 20.
+         *
+         * @param minimumCalls the number of requests
+         * @return this
+         */
+        public Builder setMinimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0)
+                throw new IllegalArgumentException("minimumCalls must be positive");
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Set the failure rate opening the circuit. Default is 50.
+         *
+         * @param failureRateThreshold a percentage, in ]0, 100]
+         * @return this
+         */
+        public Builder setFailureRateThreshold(float failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100)
+                throw new IllegalArgumentException("failureRateThreshold must be in ]0, 100]");
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Set the slow call rate opening the circuit. Default is 100.
+         *
+         * @param slowCallRateThreshold a percentage, in ]0, 100]
+         * @return this
+         */
+        public Builder setSlowCallRateThreshold(float slowCallRateThreshold) {
+            if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 100)
+                throw new IllegalArgumentException("slowCallRateThreshold must be in ]0, 100]");
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Set the duration above which a request is slow. Default is 0, meaning requests are never slow.
+         *
+         * @param slowCallDuration the duration, in milliseconds
+         * @return this
+         */
+        public Builder setSlowCallDuration(long slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Set how long an open circuit rejects requests before letting probes through. Default is 30 seconds.
+         *
+         * @param openDuration the duration, in milliseconds
+         * @return this
+         */
+        public Builder setOpenDuration(long openDuration) {
+            if (openDuration < 0)
+                throw new IllegalArgumentException("openDuration must be positive");
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Set the number of probe requests a half-open circuit lets through, and which must all succeed for it to
+         * close. Default is 5.
+         *
+         * @param halfOpenCalls the number of probe requests
+         * @return this
+         */
+        public Builder setHalfOpenCalls(int halfOpenCalls) {
+            if (halfOpenCalls <= 0)
+                throw new IllegalArgumentException("halfOpenCalls must be positive");
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Set how long a closed circuit may go without requests before it's dropped. Default is 60 seconds.
+         *
+         * @param idleTimeout the timeout, in milliseconds
+         * @return this
+         */
+        public Builder setIdleTimeout(long idleTimeout) {
+            if (idleTimeout <= 0)
+                throw new IllegalArgumentException("idleTimeout must be positive");
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Add a {@link Listener} notified of state changes.
+         *
+         * @param listener the {@link Listener}
+         * @return this
+         */
+        public Builder addListener(Listener listener) {
+            listeners.add(listener);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
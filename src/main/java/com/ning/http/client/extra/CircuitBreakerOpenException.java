@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.extra;
+
+import java.net.ConnectException;
+
+/**
+ * Thrown when a request is rejected because the {@link CircuitBreaker} of its connection pool partition is open.
+ *
+ * @since 5.0.1
+ */
+public class CircuitBreakerOpenException extends ConnectException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object partition;
+
+    public CircuitBreakerOpenException(Object partition) {
+        super("Circuit breaker open for " + partition);
+        this.partition = partition;
+    }
+
+    /**
+     * @return the connection pool partition whose circuit breaker is open
+     */
+    public Object getPartition() {
+        return partition;
+    }
+}
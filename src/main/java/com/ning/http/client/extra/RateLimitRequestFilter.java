@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.extra;
+
+import com.ning.http.client.ConnectionPoolPartitioning;
+import com.ning.http.client.Request;
+import com.ning.http.client.filter.FilterContext;
+import com.ning.http.client.filter.FilterException;
+import com.ning.http.client.filter.RequestFilter;
+import com.ning.http.util.SharedTimer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link RequestFilter} enforcing a request rate per connection pool partition, as computed by the request's
+ * {@link ConnectionPoolPartitioning} (by default, one partition per target host and proxy).
+ * <p>
+ * Each partition owns a token bucket holding up to <code>burst</code> tokens and refilled at <code>permitsPerSecond</code>.
+ * A request takes a token to be sent. When none is available, the request is held back through the
+ * {@link FilterContext#getAdmission() admission} of its {@link FilterContext} and sent, in arrival order, once the
+ * bucket has refilled. Refilling is computed lazily from elapsed time and queued requests are released by at most one
+ * task per partition on a shared timer, so a queued request costs nothing but its own memory. The timer hands the
+ * released requests over to an {@link Builder#setExecutor(Executor) executor}, which sends them. The bucket of a
+ * partition is dropped once it's idle and full again.
+ * <p>
+ * Alternatively, over-limit requests can be rejected with a {@link FilterException}, either always
+ * ({@link Builder#setFailFast(boolean)}), once too many are waiting ({@link Builder#setMaxQueuedRequests(int)}), or when
+ * they would be delayed for too long ({@link Builder#setMaxDelay(long)}).
+ *
+ * <pre>{@code
+ *      RateLimitRequestFilter rateLimit = new RateLimitRequestFilter.Builder()
+ *          .setPermitsPerSecond(50)
+ *          .setBurst(10)
+ *          .setMaxDelay(2000)
+ *          .build();
+ *      AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder().addRequestFilter(rateLimit).build();
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class RateLimitRequestFilter implements RequestFilter {
+
+    private static final CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+    // returned by a bucket dropped meanwhile
+    private static final CompletableFuture<Void> EVICTED = new CompletableFuture<>();
+
+    private final double permitsPerNano;
+    private final int burst;
+    private final boolean failFast;
+    private final int maxQueuedRequests;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService timer;
+    private final Executor executor;
+
+    private final ConcurrentMap<Object, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private RateLimitRequestFilter(Builder b) {
+        this.permitsPerNano = b.permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = b.burst;
+        this.failFast = b.failFast;
+        this.maxQueuedRequests = b.maxQueuedRequests;
+        this.maxDelayNanos = b.maxDelay < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(b.maxDelay);
+        this.timer = b.timer;
+        this.executor = b.executor != null ? b.executor : Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "AsyncHttpClient-rate-limit");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public <T> FilterContext<T> filter(FilterContext<T> ctx) throws FilterException {
+
+        final Request request = ctx.getRequest();
+        final Object key = request.getConnectionPoolPartitioning().getPartitionKey(request.getUri(),
+                request.getProxyServer());
+        final CompletionStage<?> prior = ctx.getAdmission();
+
+        final CompletionStage<?> admission;
+        if (prior == null) {
+            admission = acquire(key);
+            if (admission == null) {
+                throw rateLimited(request);
+            }
+        } else {
+            admission = prior.thenCompose(v -> {
+                CompletionStage<?> stage = acquire(key);
+                return stage != null ? stage : CompletableFuture.failedFuture(rateLimited(request));
+            });
+        }
+
+        return new FilterContext.FilterContextBuilder<>(ctx).admission(admission).build();
+    }
+
+    /**
+     * @return the number of requests waiting for a token, over all partitions
+     */
+    public int getQueuedRequests() {
+        int queued = 0;
+        for (Bucket bucket : buckets.values()) {
+            queued += bucket.queued();
+        }
+        return queued;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    /**
+     * @return the admission stage, or <code>null</code> if the request is rejected
+     */
+    private CompletionStage<?> acquire(Object key) {
+        for (;;) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(key, Bucket::new);
+            }
+            final CompletionStage<?> admission = bucket.acquire();
+            if (admission != EVICTED) {
+                return admission;
+            }
+        }
+    }
+
+    private static FilterException rateLimited(Request request) {
+        return new FilterException(String.format("Rate limit exceeded for Request %s", request));
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    private final class Bucket implements Runnable {
+
+        private final Object key;
+        // all fields below guarded by lock
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Gate> waiters = new ArrayDeque<>();
+        private double tokens = burst;
+        private long refilledAt = System.nanoTime();
+        // waiters that haven't been cancelled
+        private int queued;
+        private boolean dispatchScheduled;
+        private boolean evictionScheduled;
+        private boolean evicted;
+
+        Bucket(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * @return the admission stage, <code>null</code> if the request is rejected, or <code>EVICTED</code>
+         */
+        CompletionStage<?> acquire() {
+            lock.lock();
+            try {
+                if (evicted) {
+                    return EVICTED;
+                }
+                refill(System.nanoTime());
+                if (queued == 0 && tokens >= 1) {
+                    tokens -= 1;
+                    scheduleEviction();
+                    return ADMITTED;
+                }
+                if (failFast || (maxQueuedRequests >= 0 && queued >= maxQueuedRequests)) {
+                    return null;
+                }
+                // the request will be sent once the tokens for those ahead of it and its own have accrued
+                if (maxDelayNanos >= 0 && (queued + 1 - tokens) / permitsPerNano > maxDelayNanos) {
+                    return null;
+                }
+                final Gate gate = new Gate(this);
+                waiters.add(gate);
+                queued++;
+                scheduleDispatch();
+                return gate;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Timer task releasing queued requests as tokens accrue.
+         */
+        @Override
+        public void run() {
+            final List<Gate> admitted = new ArrayList<>();
+            lock.lock();
+            try {
+                dispatchScheduled = false;
+                refill(System.nanoTime());
+                Gate gate;
+                while (tokens >= 1 && (gate = waiters.poll()) != null) {
+                    if (!gate.waiting) {
+                        // cancelled while waiting, already accounted for
+                        continue;
+                    }
+                    gate.waiting = false;
+                    tokens -= 1;
+                    queued--;
+                    admitted.add(gate);
+                }
+                // drop cancelled waiters from the head so they don't delay scheduling
+                while ((gate = waiters.peek()) != null && !gate.waiting) {
+                    waiters.poll();
+                }
+                if (!waiters.isEmpty()) {
+                    scheduleDispatch();
+                } else {
+                    scheduleEviction();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // requests cancelled in the meantime keep their token, which errs on the safe side; they're sent off
+            // the timer thread
+            for (Gate gate : admitted) {
+                gate.completeAsync(() -> null, executor);
+            }
+        }
+
+        int queued() {
+            lock.lock();
+            try {
+                return queued;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void cancelled(Gate gate) {
+            lock.lock();
+            try {
+                if (gate.waiting) {
+                    gate.waiting = false;
+                    queued--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill(long now) {
+            final long elapsed = now - refilledAt;
+            if (elapsed > 0) {
+                tokens = Math.min(burst, tokens + elapsed * permitsPerNano);
+                refilledAt = now;
+            }
+        }
+
+        /**
+         * Drop the bucket once it's full, unless requests took tokens meanwhile.
+         */
+        private void evictIfIdle() {
+            lock.lock();
+            try {
+                evictionScheduled = false;
+                if (!waiters.isEmpty()) {
+                    // the dispatch schedules the eviction again
+                    return;
+                }
+                refill(System.nanoTime());
+                if (tokens >= burst) {
+                    evicted = true;
+                    buckets.remove(key, this);
+                } else {
+                    scheduleEviction();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void scheduleEviction() {
+            if (!evictionScheduled) {
+                evictionScheduled = true;
+                final long delay = (long) Math.ceil((burst - tokens) / permitsPerNano);
+                timer.schedule(this::evictIfIdle, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void scheduleDispatch() {
+            if (!dispatchScheduled) {
+                dispatchScheduled = true;
+                final long delay = (long) Math.ceil(Math.max(0, 1 - tokens) / permitsPerNano);
+                timer.schedule(this, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Admission stage of a delayed request; cancelling it gives its place in the queue up.
+     */
+    private static final class Gate extends CompletableFuture<Void> {
+
+        private final Bucket bucket;
+        // guarded by the bucket's lock
+        private boolean waiting = true;
+
+        private Gate(Bucket bucket) {
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (super.cancel(mayInterruptIfRunning)) {
+                bucket.cancelled(this);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public static class Builder {
+
+        private double permitsPerSecond = -1;
+        private int burst = 1;
+        private boolean failFast;
+        private int maxQueuedRequests = -1;
+        private long maxDelay = -1;
+        private ScheduledExecutorService timer = SharedTimer.get();
+        private Executor executor;
+
+        /**
+         * Set the rate at which each partition's bucket refills. Required.
+         */
+        public Builder setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set how many requests may be sent back to back after a partition has been idle; defaults to 1.
+         */
+        public Builder setBurst(int burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Reject requests finding no token instead of delaying them.
+         */
+        public Builder setFailFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of delayed requests per partition; further requests are rejected. -1 for no limit.
+         */
+        public Builder setMaxQueuedRequests(int maxQueuedRequests) {
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        /**
+         * Reject requests that would be delayed longer than this many milliseconds; -1 for no limit.
+         */
+        public Builder setMaxDelay(long maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set the scheduler releasing delayed requests, defaults to {@link SharedTimer}.
+         */
+        public Builder setTimer(ScheduledExecutorService timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Set the executor the delayed requests are sent from once released, defaults to a pool of daemon threads.
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public RateLimitRequestFilter build() {
+            if (permitsPerSecond <= 0) {
+                throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+            }
+            if (burst < 1) {
+                throw new IllegalArgumentException("burst must be at least 1: " + burst);
+            }
+            return new RateLimitRequestFilter(this);
+        }
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.extra;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.BufferedResponse;
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestExecutor;
+import com.ning.http.client.UpgradeHandler;
+import com.ning.http.client.cookie.Cookie;
+import com.ning.http.client.listenable.AbstractListenableFuture;
+import com.ning.http.client.listener.TransferCompletionHandler;
+import com.ning.http.client.resumable.ResumableAsyncHandler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces concurrent identical GET and HEAD requests into a single one, once installed with
+ * {@link com.ning.http.client.AsyncHttpClientConfig.Builder#setRequestCoalescer(RequestCoalescer)}.
+ * <p>
+ * Requests are identical when they share their method, URL, proxy, virtual host, cookies and headers, or only the
+ * headers selected with {@link Builder#setKeyHeaders(String...)}. The first request of a kind is sent; the ones
+ * issued while it is in flight don't reach the network but subscribe to it. Each subscriber's {@link AsyncHandler}
+ * receives the status, headers and body parts received so far, then the following ones as they arrive, and
+ * completes along with the shared request. Body parts are copied once, and every subscriber is handed read-only
+ * views of that copy.
+ * <p>
+ * A subscriber aborting or cancelling leaves the others unaffected, and the shared request is only cancelled when
+ * no subscriber is left. Once the body received exceeds {@link Builder#setMaxBufferSize(long)}, the request stops
+ * accepting subscribers and releases its copy. The shared request is subject to the timeouts of the first one.
+ * Requests carrying a {@link com.ning.http.client.Realm} are never coalesced.
+ *
+ * <pre>{@code
+ *      RequestCoalescer coalescer = new RequestCoalescer.Builder().setKeyHeaders("Accept", "Authorization").build();
+ *      AsyncHttpClient client = new AsyncHttpClient(new AsyncHttpClientConfig.Builder().setRequestCoalescer(coalescer).build());
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class RequestCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    /**
+     * The event completing a subscriber; a {@link Throwable} fails it.
+     */
+    private static final Object COMPLETED = new Object();
+
+    private final String[] keyHeaders;
+    private final long maxBufferSize;
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private RequestCoalescer(Builder b) {
+        this.keyHeaders = b.keyHeaders;
+        this.maxBufferSize = b.maxBufferSize;
+    }
+
+    /**
+     * Execute a request, or subscribe to an identical one in flight.
+     *
+     * @param request  {@link Request}
+     * @param handler  an instance of {@link AsyncHandler}
+     * @param executor the {@link RequestExecutor} sending the requests
+     * @param <T>      Type of the value that will be returned by the associated {@link java.util.concurrent.Future}
+     * @return a {@link ListenableFuture} of type T
+     */
+    public <T> ListenableFuture<T> execute(Request request, AsyncHandler<T> handler, RequestExecutor executor) {
+
+        if (!isCoalescible(request, handler)) {
+            return executor.execute(request, handler);
+        }
+
+        final String key = key(request);
+        final Subscriber<T> subscriber = new Subscriber<>(handler);
+        for (;;) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                final Flight created = new Flight(key);
+                flight = flights.putIfAbsent(key, created);
+                if (flight == null) {
+                    created.subscribe(subscriber);
+                    created.start(executor, request);
+                    return subscriber;
+                }
+            }
+            if (flight.subscribe(subscriber)) {
+                coalescedCount.incrementAndGet();
+                return subscriber;
+            }
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return the number of requests served by subscribing to an identical request in flight
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return the number of requests in flight that accept subscribers
+     */
+    public int getInFlightRequests() {
+        return flights.size();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static boolean isCoalescible(Request request, AsyncHandler<?> handler) {
+        final String method = request.getMethod();
+        return ("GET".equals(method) || "HEAD".equals(method)) //
+                && request.getRealm() == null //
+                && request.getRangeOffset() == 0 //
+                && !(handler instanceof UpgradeHandler) //
+                && !(handler instanceof TransferCompletionHandler) //
+                && !(handler instanceof ResumableAsyncHandler);
+    }
+
+    private String key(Request request) {
+        final StringBuilder sb = new StringBuilder(128).append(request.getMethod()).append(' ').append(request.getUrl());
+        if (request.getProxyServer() != null) {
+            sb.append("\nproxy: ").append(request.getProxyServer().getUrl());
+        }
+        if (request.getVirtualHost() != null) {
+            sb.append("\nvhost: ").append(request.getVirtualHost());
+        }
+
+        final FluentCaseInsensitiveStringsMap headers = request.getHeaders();
+        final Map<String, String> selected = new TreeMap<>();
+        if (keyHeaders == null) {
+            for (Map.Entry<String, List<String>> header : headers) {
+                selected.put(header.getKey().toLowerCase(Locale.ENGLISH), String.join(",", header.getValue()));
+            }
+        } else {
+            for (String name : keyHeaders) {
+                final String value = headers.getJoinedValue(name, ",");
+                if (value != null) {
+                    selected.put(name.toLowerCase(Locale.ENGLISH), value);
+                }
+            }
+        }
+        for (Map.Entry<String, String> header : selected.entrySet()) {
+            sb.append('\n').append(header.getKey()).append(": ").append(header.getValue());
+        }
+        for (Cookie cookie : request.getCookies()) {
+            sb.append("\ncookie: ").append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+        return sb.toString();
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * The request shared by subscribers. Events are recorded and queued to the subscribers under the flight lock so
+     * that a subscriber joining late receives the recorded ones, then the live ones, in order. The handlers are
+     * called outside the lock.
+     */
+    private final class Flight implements AsyncHandler<Void> {
+
+        private final String key;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Subscriber<?>> subscribers = new ArrayList<>(2);
+        private final List<Object> events = new ArrayList<>();
+        private long buffered;
+        private boolean open = true;
+        private boolean terminated;
+        private volatile ListenableFuture<Void> future;
+
+        Flight(String key) {
+            this.key = key;
+        }
+
+        void start(RequestExecutor executor, Request request) {
+            try {
+                future = executor.execute(request, this);
+            } catch (RuntimeException e) {
+                onThrowable(e);
+                return;
+            }
+            if (!hasSubscribers()) {
+                // all subscribers left while the request was being sent
+                future.cancel(true);
+            }
+        }
+
+        boolean subscribe(Subscriber<?> subscriber) {
+            lock.lock();
+            try {
+                if (!open) {
+                    return false;
+                }
+                subscriber.flight = this;
+                for (Object event : events) {
+                    subscriber.offer(event);
+                }
+                subscribers.add(subscriber);
+            } finally {
+                lock.unlock();
+            }
+            if (!subscriber.drain()) {
+                unsubscribe(subscriber);
+            }
+            return true;
+        }
+
+        void unsubscribe(Subscriber<?> subscriber) {
+            final boolean last;
+            lock.lock();
+            try {
+                last = subscribers.remove(subscriber) && subscribers.isEmpty() && !terminated;
+                if (last) {
+                    close();
+                }
+            } finally {
+                lock.unlock();
+            }
+            final ListenableFuture<Void> f = future;
+            if (last && f != null) {
+                f.cancel(true);
+            }
+        }
+
+        void touch() {
+            final ListenableFuture<Void> f = future;
+            if (f != null) {
+                f.touch();
+            }
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+            return dispatch(new BufferedResponse.Status(responseStatus), 0);
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+            return dispatch(new BufferedResponse.Headers(headers.getHeaders(), headers.isTraillingHeadersReceived()), 0);
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            final ByteBuffer content = ByteBuffer.wrap(bodyPart.getBodyPartBytes());
+            return dispatch(new BufferedResponse.BodyPart(content, bodyPart.isLast()), content.remaining());
+        }
+
+        @Override
+        public Void onCompleted() throws Exception {
+            terminate(COMPLETED);
+            return null;
+        }
+
+        @Override
+        public void onThrowable(Throwable t) {
+            terminate(t);
+        }
+
+        private STATE dispatch(Object event, long size) {
+            final Subscriber<?>[] receivers;
+            lock.lock();
+            try {
+                if (open) {
+                    buffered += size;
+                    if (buffered > maxBufferSize) {
+                        close();
+                    } else {
+                        events.add(event);
+                    }
+                }
+                receivers = subscribers.toArray(new Subscriber<?>[0]);
+                for (Subscriber<?> subscriber : receivers) {
+                    subscriber.offer(event);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            List<Subscriber<?>> done = null;
+            for (Subscriber<?> subscriber : receivers) {
+                if (!subscriber.drain()) {
+                    if (done == null) {
+                        done = new ArrayList<>(receivers.length);
+                    }
+                    done.add(subscriber);
+                }
+            }
+
+            lock.lock();
+            try {
+                if (done != null) {
+                    subscribers.removeAll(done);
+                }
+                if (subscribers.isEmpty()) {
+                    close();
+                    return STATE.ABORT;
+                }
+                return STATE.CONTINUE;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void terminate(Object event) {
+            final Subscriber<?>[] remaining;
+            lock.lock();
+            try {
+                terminated = true;
+                close();
+                remaining = subscribers.toArray(new Subscriber<?>[0]);
+                subscribers.clear();
+                for (Subscriber<?> subscriber : remaining) {
+                    subscriber.offer(event);
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (Subscriber<?> subscriber : remaining) {
+                subscriber.drain();
+            }
+        }
+
+        private boolean hasSubscribers() {
+            lock.lock();
+            try {
+                return !subscribers.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stop accepting subscribers, and release the recorded events. Must be called with the lock held.
+         */
+        private void close() {
+            if (open) {
+                open = false;
+                events.clear();
+                flights.remove(key, this);
+            }
+        }
+    } // END Flight
+
+    /**
+     * The future of a coalesced request, forwarding the events of its flight to the request's handler. Events are
+     * queued by the flight, and handed to the handler by one thread at a time.
+     */
+    private static final class Subscriber<T> extends AbstractListenableFuture<T> {
+
+        private final AsyncHandler<T> handler;
+        private final CompletableFuture<T> result = new Stage();
+        private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger draining = new AtomicInteger();
+        volatile Flight flight;
+
+        Subscriber(AsyncHandler<T> handler) {
+            this.handler = handler;
+            result.whenComplete((v, t) -> runListeners());
+        }
+
+        void offer(Object event) {
+            pending.offer(event);
+        }
+
+        /**
+         * Hand the pending events to the handler, unless another thread is already doing it, in which case that
+         * thread hands them over.
+         *
+         * @return false if the subscriber is done with the response
+         */
+        boolean drain() {
+            if (draining.getAndIncrement() == 0) {
+                int missed = 1;
+                do {
+                    Object event;
+                    while ((event = pending.poll()) != null) {
+                        deliver(event);
+                    }
+                    missed = draining.addAndGet(-missed);
+                } while (missed != 0);
+            }
+            return !result.isDone();
+        }
+
+        private void deliver(Object event) {
+            if (result.isDone()) {
+                return;
+            }
+            if (event == COMPLETED) {
+                complete();
+                return;
+            }
+            if (event instanceof Throwable) {
+                fail((Throwable) event);
+                return;
+            }
+            try {
+                final AsyncHandler.STATE state;
+                if (event instanceof HttpResponseStatus) {
+                    state = handler.onStatusReceived((HttpResponseStatus) event);
+                } else if (event instanceof HttpResponseHeaders) {
+                    state = handler.onHeadersReceived((HttpResponseHeaders) event);
+                } else {
+                    // a fresh part over the single view of the recorded one, so
+                    // that every subscriber reads it from its start
+                    final HttpResponseBodyPart part = (HttpResponseBodyPart) event;
+                    state = handler.onBodyPartReceived(new BufferedResponse.BodyPart(part.getBodyByteBuffers()[0], part.isLast()));
+                }
+                if (state != AsyncHandler.STATE.CONTINUE) {
+                    complete();
+                }
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        void complete() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(handler.onCompleted());
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        void fail(Throwable t) {
+            if (!result.isDone()) {
+                try {
+                    handler.onThrowable(t);
+                } catch (Throwable t2) {
+                    LOGGER.debug("onThrowable", t2);
+                }
+                result.completeExceptionally(t);
+            }
+        }
+
+        // ------------------------------------------------- Methods from Future
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return result.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        // --------------------------------------- Methods from ListenableFuture
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void abort(Throwable t) {
+            fail(t);
+            leave();
+        }
+
+        @Override
+        public void touch() {
+            final Flight f = flight;
+            if (f != null) {
+                f.touch();
+            }
+        }
+
+        @Override
+        public CompletableFuture<T> toCompletableFuture() {
+            return result;
+        }
+
+        private void leave() {
+            final Flight f = flight;
+            if (f != null) {
+                f.unsubscribe(this);
+            }
+        }
+
+        /**
+         * Leaves the flight when cancelled, however cancellation is reached.
+         */
+        private final class Stage extends CompletableFuture<T> {
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                if (!super.cancel(mayInterruptIfRunning)) {
+                    return false;
+                }
+                try {
+                    handler.onThrowable(new CancellationException());
+                } catch (Throwable t) {
+                    LOGGER.debug("onThrowable", t);
+                }
+                leave();
+                return true;
+            }
+        } // END Stage
+    } // END Subscriber
+
+    /**
+     * Builder for a {@link RequestCoalescer}.
+     */
+    public static class Builder {
+
+        private String[] keyHeaders;
+        private long maxBufferSize = 1024L * 1024;
+
+        /**
+         * Select the request headers that must match for requests to be coalesced. By default, all of them must.
+         *
+         * @param keyHeaders the header names
+         * @return this builder
+         */
+        public Builder setKeyHeaders(String... keyHeaders) {
+            this.keyHeaders = keyHeaders != null ? Arrays.copyOf(keyHeaders, keyHeaders.length) : null;
+            return this;
+        }
+
+        /**
+         * Set the number of body bytes a request in flight records for subscribers joining late, 1MB by default.
+         * Past that, the request stops accepting subscribers.
+         *
+         * @param maxBufferSize the maximum number of bytes
+         * @return this builder
+         */
+        public Builder setMaxBufferSize(long maxBufferSize) {
+            this.maxBufferSize = maxBufferSize;
+            return this;
+        }
+
+        public RequestCoalescer build() {
+            return new RequestCoalescer(this);
+        }
+    } // END Builder
+}
@@ -32,6 +32,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * A {@link com.ning.http.client.filter.RequestFilter} throttles requests and block when the number of permits is reached, waiting for
  * the response to arrives before executing the next request.
+ * <p>
+ * Since the calling thread blocks, this filter must not be used for requests issued from I/O threads; see
+ * {@link AdmissionControlRequestFilter} for a non-blocking alternative.
  */
 public class ThrottleRequestFilter implements RequestFilter {
     private final static Logger LOGGER = LoggerFactory.getLogger(ThrottleRequestFilter.class);
@@ -20,6 +20,7 @@ import com.ning.http.client.HttpResponseStatus;
 import com.ning.http.client.Request;
 
 import java.io.IOException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * A {@link FilterContext} can be used to decorate {@link Request} and {@link AsyncHandler} from a list of {@link RequestFilter}.
@@ -32,6 +33,10 @@ import java.io.IOException;
  * that can be used to decide if the response processing should continue or not. You can stop the current response processing
  * and replay the request but creating a {@link FilterContext}. The {@link com.ning.http.client.AsyncHttpProvider}
  * will interrupt the processing and "replay" the associated {@link Request} instance.
+ * <p>
+ * A {@link RequestFilter} that must hold a request back, for instance until a concurrency permit frees up, does so
+ * without blocking by setting an {@link #getAdmission() admission} stage; the request is only handed to the provider
+ * once that stage completes.
  */
 public class FilterContext<T> {
 
@@ -98,6 +103,21 @@ public class FilterContext<T> {
         return b.ioException;
     }
 
+    /**
+     * Return the stage that must complete before the request is sent, or <code>null</code> if it can be sent
+     * right away. If the stage completes exceptionally, the request is not sent and the {@link AsyncHandler} is
+     * notified of the cause. Cancelling the future returned to the caller before the stage completes cancels the
+     * stage.
+     * <p>
+     * A filter setting an admission should chain onto any admission already present rather than replace it.
+     *
+     * @return the admission stage, or <code>null</code>
+     * @since 5.0.1
+     */
+    public CompletionStage<?> getAdmission() {
+        return b.admission;
+    }
+
     public static class FilterContextBuilder<T> {
         private AsyncHandler<T> asyncHandler = null;
         private Request request = null;
@@ -105,6 +125,7 @@ public class FilterContext<T> {
         private boolean replayRequest = false;
         private IOException ioException = null;
         private HttpResponseHeaders headers;
+        private CompletionStage<?> admission;
 
         public FilterContextBuilder() {
         }
@@ -115,6 +136,7 @@ public class FilterContext<T> {
             responseStatus = clone.getResponseStatus();
             replayRequest = clone.replayRequest();
             ioException = clone.getIOException();
+            admission = clone.getAdmission();
         }
 
         public AsyncHandler<T> getAsyncHandler() {
@@ -155,6 +177,15 @@ public class FilterContext<T> {
             return this;
         }
 
+        public CompletionStage<?> getAdmission() {
+            return admission;
+        }
+
+        public FilterContextBuilder<T> admission(CompletionStage<?> admission) {
+            this.admission = admission;
+            return this;
+        }
+
         public FilterContext<T> build() {
             return new FilterContext<>(this);
         }
@@ -30,9 +30,8 @@
 
 package com.ning.http.client.listenable;
 
-import java.util.Queue;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,6 +41,9 @@ import java.util.logging.Logger;
  * executed in its associated {@code Executor} after {@link #run()} is called.
  * {@code Runnable}s added after {@code run} is called are still guaranteed to
  * execute.
+ * <p>
+ * Pairs are kept in a lock-free stack; neither {@link #add} nor {@link #run}
+ * ever block, and each pair is executed exactly once.
  *
  * @author Nishant Thakkar
  * @author Sven Mawson
@@ -53,12 +55,13 @@ public final class ExecutionList implements Runnable {
     private static final Logger log =
             Logger.getLogger(ExecutionList.class.getName());
 
-    // The runnable,executor pairs to execute.
-    private final Queue<RunnableExecutorPair> runnables = new LinkedBlockingQueue<>();
+    // Marks the stack as executed; pairs can no longer be pushed once the
+    // head has been swapped to this sentinel.
+    private static final RunnableExecutorPair EXECUTED =
+            new RunnableExecutorPair(null, null);
 
-    // Boolean we use mark when execution has started.  Only accessed from within
-    // synchronized blocks.
-    private boolean executed = false;
+    // Head of the stack of pairs to execute, most recently added first.
+    private final AtomicReference<RunnableExecutorPair> head = new AtomicReference<>();
 
     /**
      * Add the runnable/executor pair to the list of pairs to execute.  Executes
@@ -74,51 +77,59 @@ public final class ExecutionList implements Runnable {
             throw new NullPointerException("Executor is null");
         }
 
-        boolean executeImmediate = false;
-
-        // Lock while we check state.  We must maintain the lock while adding the
-        // new pair so that another thread can't run the list out from under us.
-        // We only add to the list if we have not yet started execution.
-        synchronized (runnables) {
-            if (!executed) {
-                runnables.add(new RunnableExecutorPair(runnable, executor));
-            } else {
-                executeImmediate = true;
-            }
+        // Once executed there is nothing to queue behind, so skip allocating a pair.
+        RunnableExecutorPair h = head.get();
+        if (h != EXECUTED) {
+            final RunnableExecutorPair pair = new RunnableExecutorPair(runnable, executor);
+            do {
+                pair.next = h;
+                if (head.compareAndSet(h, pair)) {
+                    return;
+                }
+                h = head.get();
+            } while (h != EXECUTED);
         }
 
         // Execute the runnable immediately.  Because of scheduling this may end up
         // getting called before some of the previously added runnables, but we're
         // ok with that.  If we want to change the contract to guarantee ordering
         // among runnables we'd have to modify the logic here to allow it.
-        if (executeImmediate) {
-            executor.execute(runnable);
-        }
+        executor.execute(runnable);
     }
 
     /**
      * Runs this execution list, executing all pairs in the order they were
      * added.  Pairs added after this method has started executing the list will
-     * be executed immediately.
+     * be executed immediately.  Only the first invocation has any effect.
      */
     public void run() {
 
-        // Lock while we update our state so the add method above will finish adding
-        // any listeners before we start to run them.
-        synchronized (runnables) {
-            executed = true;
+        // Detach the whole stack; from now on add() executes directly.
+        RunnableExecutorPair stack = head.getAndSet(EXECUTED);
+        if (stack == EXECUTED) {
+            return;
+        }
+
+        // The stack holds the pairs newest first, reverse it to honor
+        // insertion order.
+        RunnableExecutorPair reversed = null;
+        while (stack != null) {
+            final RunnableExecutorPair next = stack.next;
+            stack.next = reversed;
+            reversed = stack;
+            stack = next;
         }
 
-        // At this point the runnables will never be modified by another
-        // thread, so we are safe using it outside of the synchronized block.
-        while (!runnables.isEmpty()) {
-            runnables.poll().execute();
+        while (reversed != null) {
+            reversed.execute();
+            reversed = reversed.next;
         }
     }
 
     private static class RunnableExecutorPair {
         final Runnable runnable;
         final Executor executor;
+        RunnableExecutorPair next;
 
         RunnableExecutorPair(Runnable runnable, Executor executor) {
             this.runnable = runnable;
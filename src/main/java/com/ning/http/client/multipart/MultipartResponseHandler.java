@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.multipart;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.BodyConsumer;
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.Response;
+import com.ning.http.client.Response.ResponseBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link AsyncHandler} splitting a multipart response, like a <tt>multipart/byteranges</tt> or
+ * <tt>multipart/mixed</tt> one, into its parts as the body is received rather than once it's buffered.
+ * <p>
+ * The headers of every part are handed to a {@link PartHandler}, which returns the {@link BodyConsumer} the content of
+ * the part is then streamed to, a {@link com.ning.http.client.consumers.FileBodyConsumer} for instance. The content is
+ * handed over as slices of the body parts, which are only valid during the call, or as copies of them when the
+ * provider's buffers have no accessible array, the way consumers expect. The response completes with its
+ * status and headers only:
+ * <pre>
+ *     Future&lt;Response&gt; response = client.prepareGet(&quot;http://foo.com/aResource&quot;)
+ *             .setHeader(&quot;Range&quot;, &quot;bytes=0-99,1000-1099&quot;)
+ *             .execute(new MultipartResponseHandler(headers -&gt;
+ *                     new FileBodyConsumer(new RandomAccessFile(fileFor(headers), &quot;rw&quot;))));
+ * </pre>
+ * A successful response that isn't multipart, like a single range, is handled as a single part with the headers of
+ * the response. The body of an unsuccessful one that isn't multipart is kept in the {@link Response} instead. A body
+ * ending before its close delimiter fails the response with an {@link IOException}.
+ *
+ * @since 5.0.1
+ */
+public class MultipartResponseHandler implements AsyncHandler<Response> {
+
+    /**
+     * Receives the parts of a multipart response.
+     */
+    @FunctionalInterface
+    public interface PartHandler {
+
+        /**
+         * Invoked when the headers of a part are received.
+         *
+         * @param headers the headers of the part
+         * @return the {@link BodyConsumer} of the content of the part, closed once the part ends, or null to skip it
+         * @throws IOException
+         */
+        BodyConsumer onPart(FluentCaseInsensitiveStringsMap headers) throws IOException;
+    }
+
+    private final ResponseBuilder responseBuilder = new ResponseBuilder();
+    private final PartHandler partHandler;
+
+    private int statusCode;
+    private MultipartResponseParser parser;
+    // the body isn't multipart, and kept in the response
+    private boolean keepBody;
+    private BodyConsumer consumer;
+
+    public MultipartResponseHandler(PartHandler partHandler) {
+        this.partHandler = partHandler;
+    }
+
+    // ------------------------------------------------ Methods from AsyncHandler
+
+    @Override
+    public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+        responseBuilder.reset();
+        responseBuilder.accumulate(responseStatus);
+        statusCode = responseStatus.getStatusCode();
+        parser = null;
+        keepBody = false;
+        return STATE.CONTINUE;
+    }
+
+    @Override
+    public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+        responseBuilder.accumulate(headers);
+        final String boundary = boundary(headers.getHeaders().getFirstValue("Content-Type"));
+        if (boundary != null) {
+            parser = new MultipartResponseParser(boundary, new MultipartResponseParser.Callback() {
+                @Override
+                public void onPartStart(FluentCaseInsensitiveStringsMap headers) throws IOException {
+                    consumer = partHandler.onPart(headers);
+                }
+
+                @Override
+                public void onPartContent(ByteBuffer content) throws IOException {
+                    if (consumer != null) {
+                        consume(content);
+                    }
+                }
+
+                @Override
+                public void onPartEnd() throws IOException {
+                    closeConsumer();
+                }
+            });
+        } else if (statusCode / 100 == 2) {
+            consumer = partHandler.onPart(headers.getHeaders());
+        } else {
+            keepBody = true;
+        }
+        return STATE.CONTINUE;
+    }
+
+    @Override
+    public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+        if (keepBody) {
+            responseBuilder.accumulate(bodyPart);
+            return STATE.CONTINUE;
+        }
+        try {
+            for (ByteBuffer buffer : bodyPart.getBodyByteBuffers()) {
+                if (parser != null) {
+                    parser.feed(buffer);
+                } else if (consumer != null) {
+                    consume(buffer);
+                }
+            }
+        } finally {
+            // the parts are streamed, don't hold the response's bytes
+            bodyPart.release();
+        }
+        return STATE.CONTINUE;
+    }
+
+    @Override
+    public Response onCompleted() throws Exception {
+        try {
+            if (parser != null) {
+                parser.finish();
+            }
+            closeConsumer();
+        } finally {
+            closeConsumerQuietly();
+        }
+        return responseBuilder.build();
+    }
+
+    @Override
+    public void onThrowable(Throwable t) {
+        closeConsumerQuietly();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private void consume(ByteBuffer content) throws IOException {
+        if (content.hasArray()) {
+            consumer.consume(content);
+        } else {
+            final byte[] bytes = new byte[content.remaining()];
+            content.duplicate().get(bytes);
+            consumer.consume(ByteBuffer.wrap(bytes));
+        }
+    }
+
+    private void closeConsumer() throws IOException {
+        final BodyConsumer c = consumer;
+        if (c != null) {
+            consumer = null;
+            c.close();
+        }
+    }
+
+    private void closeConsumerQuietly() {
+        try {
+            closeConsumer();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * @return the boundary of a multipart content type, or null
+     */
+    private static String boundary(String contentType) {
+        if (contentType == null || !contentType.regionMatches(true, 0, "multipart/", 0, 10)) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            final String p = parameter.trim();
+            if (p.regionMatches(true, 0, "boundary=", 0, 9)) {
+                String boundary = p.substring(9).trim();
+                if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                    boundary = boundary.substring(1, boundary.length() - 1);
+                }
+                return boundary.isEmpty() ? null : boundary;
+            }
+        }
+        return null;
+    }
+}
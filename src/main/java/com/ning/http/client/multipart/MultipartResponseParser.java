@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.multipart;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a multipart body into its parts as its buffers are received, following RFC 2046.
+ * <p>
+ * Delimiters are searched in place in the buffers with the Boyer-Moore-Horspool algorithm, and the content of a part
+ * is handed over as slices of the buffers. Only the part headers are copied, along with the few bytes at the end of
+ * a buffer that may start a delimiter continued by the next one. A parser isn't thread-safe, buffers must be fed one
+ * at a time.
+ *
+ * @since 5.0.1
+ */
+final class MultipartResponseParser {
+
+    interface Callback {
+
+        void onPartStart(FluentCaseInsensitiveStringsMap headers) throws IOException;
+
+        /**
+         * @param content bytes of the current part, only valid during the call
+         */
+        void onPartContent(ByteBuffer content) throws IOException;
+
+        void onPartEnd() throws IOException;
+    }
+
+    private static final int MAX_LINE_LENGTH = 8 * 1024;
+
+    private enum State {
+        PREAMBLE, DELIMITER_LINE, HEADERS, CONTENT, EPILOGUE
+    }
+
+    private final Callback callback;
+    // CRLF "--" boundary
+    private final byte[] delimiter;
+    private final int[] shifts = new int[256];
+
+    private State state = State.PREAMBLE;
+
+    // the bytes at the end of the previous buffer that may start a delimiter
+    private final byte[] carry;
+    private int carryLength;
+
+    // the line being read, in the delimiter line or the headers
+    private byte[] line = new byte[128];
+    private int lineLength;
+    private FluentCaseInsensitiveStringsMap headers;
+    private String headerName;
+    private final StringBuilder headerValue = new StringBuilder();
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    MultipartResponseParser(final String boundary, final Callback callback) {
+        this.callback = callback;
+        final byte[] b = boundary.getBytes(StandardCharsets.ISO_8859_1);
+        delimiter = new byte[b.length + 4];
+        delimiter[0] = '\r';
+        delimiter[1] = '\n';
+        delimiter[2] = '-';
+        delimiter[3] = '-';
+        System.arraycopy(b, 0, delimiter, 4, b.length);
+
+        final int m = delimiter.length;
+        Arrays.fill(shifts, m);
+        for (int i = 0; i < m - 1; i++) {
+            shifts[delimiter[i] & 0xff] = m - 1 - i;
+        }
+
+        carry = new byte[m];
+        // the first delimiter may start the body, as if preceded by a CRLF
+        carry[0] = '\r';
+        carry[1] = '\n';
+        carryLength = 2;
+    }
+
+
+    // --------------------------------------------------------- Package Methods
+
+
+    /**
+     * Parse the remaining bytes of the buffer.
+     */
+    void feed(final ByteBuffer buffer) throws IOException {
+        final int limit = buffer.limit();
+        int position = buffer.position();
+        while (position < limit) {
+            switch (state) {
+                case PREAMBLE:
+                case CONTENT:
+                    position = scan(buffer, position, limit);
+                    break;
+                case DELIMITER_LINE:
+                case HEADERS:
+                    position = readLine(buffer, position, limit);
+                    break;
+                default:
+                    // the epilogue is ignored
+                    position = limit;
+            }
+        }
+        buffer.position(limit);
+    }
+
+    /**
+     * Check that the body ended with its close delimiter.
+     */
+    void finish() throws IOException {
+        if (state != State.EPILOGUE) {
+            throw new IOException("Multipart body ended before its close delimiter");
+        }
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    /**
+     * Search the next delimiter, handing the bytes before it over as content.
+     *
+     * @return the position after the bytes consumed
+     */
+    private int scan(final ByteBuffer buffer, final int position, final int limit) throws IOException {
+        final int m = delimiter.length;
+        if (carryLength > 0) {
+            // a delimiter starting in the carried bytes
+            for (int start = 0; start < carryLength; start++) {
+                final int carried = carryLength - start;
+                if (!carryMatches(start, carried)) {
+                    continue;
+                }
+                final int needed = m - carried;
+                final int available = Math.min(needed, limit - position);
+                if (!matches(buffer, position, carried, available)) {
+                    continue;
+                }
+                content(ByteBuffer.wrap(carry, 0, start));
+                if (available < needed) {
+                    // still a candidate, carry it along with the whole buffer
+                    System.arraycopy(carry, start, carry, 0, carried);
+                    buffer.get(position, carry, carried, available);
+                    carryLength = carried + available;
+                    return limit;
+                }
+                carryLength = 0;
+                onDelimiter();
+                return position + needed;
+            }
+            content(ByteBuffer.wrap(carry, 0, carryLength));
+            carryLength = 0;
+        }
+
+        final int found = search(buffer, position, limit);
+        if (found >= 0) {
+            content(buffer.slice(position, found - position));
+            onDelimiter();
+            return found + m;
+        }
+        // keep the longest tail that may start a delimiter
+        int tail = Math.max(position, limit - (m - 1));
+        while (tail < limit && !matches(buffer, tail, 0, limit - tail)) {
+            tail++;
+        }
+        content(buffer.slice(position, tail - position));
+        carryLength = limit - tail;
+        buffer.get(tail, carry, 0, carryLength);
+        return limit;
+    }
+
+    /**
+     * @return the position of the first delimiter within the range, or <tt>-1</tt>
+     */
+    private int search(final ByteBuffer buffer, final int from, final int limit) {
+        final int m = delimiter.length;
+        final int last = m - 1;
+        for (int i = from; i <= limit - m; i += shifts[buffer.get(i + last) & 0xff]) {
+            int j = last;
+            while (j >= 0 && buffer.get(i + j) == delimiter[j]) {
+                j--;
+            }
+            if (j < 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean carryMatches(final int start, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (carry[start + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the bytes at the position match the delimiter's from the offset
+     */
+    private boolean matches(final ByteBuffer buffer, final int position, final int offset, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(position + i) != delimiter[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void content(final ByteBuffer content) throws IOException {
+        if (state == State.CONTENT && content.hasRemaining()) {
+            callback.onPartContent(content);
+        }
+    }
+
+    private void onDelimiter() throws IOException {
+        if (state == State.CONTENT) {
+            callback.onPartEnd();
+        }
+        state = State.DELIMITER_LINE;
+        lineLength = 0;
+    }
+
+    /**
+     * Read the line following a delimiter, or a header line.
+     *
+     * @return the position after the bytes consumed
+     */
+    private int readLine(final ByteBuffer buffer, final int position, final int limit) throws IOException {
+        int end = position;
+        while (end < limit && buffer.get(end) != '\n') {
+            end++;
+        }
+        final int length = end - position;
+        if (lineLength + length > line.length) {
+            if (lineLength + length > MAX_LINE_LENGTH) {
+                throw new IOException("Multipart line longer than " + MAX_LINE_LENGTH + " bytes");
+            }
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        buffer.get(position, line, lineLength, length);
+        lineLength += length;
+
+        if (state == State.DELIMITER_LINE && lineLength >= 2 && line[0] == '-' && line[1] == '-') {
+            // the close delimiter, which may end the body without a CRLF
+            state = State.EPILOGUE;
+            return limit;
+        }
+        if (end == limit) {
+            return limit;
+        }
+
+        int lineEnd = lineLength;
+        if (lineEnd > 0 && line[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        lineLength = 0;
+        if (state == State.DELIMITER_LINE) {
+            // transport padding
+            headers = new FluentCaseInsensitiveStringsMap();
+            state = State.HEADERS;
+        } else if (lineEnd == 0) {
+            addHeader();
+            final FluentCaseInsensitiveStringsMap partHeaders = headers;
+            headers = null;
+            state = State.CONTENT;
+            callback.onPartStart(partHeaders);
+        } else {
+            parseHeader(lineEnd);
+        }
+        return end + 1;
+    }
+
+    private void parseHeader(final int length) {
+        final String header = new String(line, 0, length, StandardCharsets.ISO_8859_1);
+        if (header.charAt(0) == ' ' || header.charAt(0) == '\t') {
+            // a folded header value
+            if (headerName != null) {
+                headerValue.append(' ').append(header.trim());
+            }
+            return;
+        }
+        addHeader();
+        final int colon = header.indexOf(':');
+        if (colon > 0) {
+            headerName = header.substring(0, colon).trim();
+            headerValue.append(header, colon + 1, header.length());
+        }
+    }
+
+    private void addHeader() {
+        if (headerName != null) {
+            headers.add(headerName, headerValue.toString().trim());
+            headerName = null;
+        }
+        headerValue.setLength(0);
+    }
+
+} // END MultipartResponseParser
@@ -26,6 +26,7 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Since cloning (of MAC instances)  is not necessarily supported on all platforms
@@ -41,6 +42,9 @@ public class ThreadSafeHMAC {
 
     private final Mac mac;
 
+    // not a monitor, so that virtual threads contending for the MAC park rather than pin
+    private final ReentrantLock lock = new ReentrantLock();
+
     public ThreadSafeHMAC(ConsumerKey consumerAuth, RequestToken userAuth) {
         StringBuilder sb = StringUtils.stringBuilder();
         UTF8UrlEncoder.encodeAndAppendQueryElement(sb, consumerAuth.getSecret());
@@ -59,9 +63,14 @@ public class ThreadSafeHMAC {
 
     }
 
-    public synchronized byte[] digest(ByteBuffer message) {
-        mac.reset();
-        mac.update(message);
-        return mac.doFinal();
+    public byte[] digest(ByteBuffer message) {
+        lock.lock();
+        try {
+            mac.reset();
+            mac.update(message);
+            return mac.doFinal();
+        } finally {
+            lock.unlock();
+        }
     }
 }
@@ -20,10 +20,12 @@ import com.ning.http.client.AsyncHandler;
 import com.ning.http.client.FluentCaseInsensitiveStringsMap;
 import com.ning.http.client.MaxRedirectException;
 import com.ning.http.client.ProxyServer;
+import com.ning.http.client.ReadControlledAsyncHandler;
 import com.ning.http.client.Realm;
 import com.ning.http.client.Realm.AuthScheme;
 import com.ning.http.client.Request;
 import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.cache.RedirectCache;
 import com.ning.http.client.cookie.CookieDecoder;
 import com.ning.http.client.filter.FilterContext;
 import com.ning.http.client.filter.ResponseFilter;
@@ -35,9 +37,7 @@ import com.ning.http.client.uri.Uri;
 import com.ning.http.client.ws.WebSocketUpgradeHandler;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
@@ -69,27 +69,20 @@ final class AhcEventFilter extends HttpClientFilter {
     private final static Logger LOGGER =
             LoggerFactory.getLogger(AhcEventFilter.class);
 
-    private static final Map<Integer, StatusHandler> HANDLER_MAP =
-            new HashMap<Integer, StatusHandler>(8);
-    
     private static IOException notKeepAliveReason;
     
     private final GrizzlyAsyncHttpProvider provider;
+    private final StatusHandlers statusHandlers;
     
     // -------------------------------------------------------- Constructors
 
     AhcEventFilter(final GrizzlyAsyncHttpProvider provider,
-            final int maxHerdersSizeProperty) {
+            final int maxHerdersSizeProperty,
+            final StatusHandlers statusHandlers) {
         
         super(maxHerdersSizeProperty);
         this.provider = provider;
-        HANDLER_MAP.put(HttpStatus.UNAUTHORIZED_401.getStatusCode(), AuthorizationHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.PROXY_AUTHENTICATION_REQUIRED_407.getStatusCode(), ProxyAuthorizationHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.MOVED_PERMANENTLY_301.getStatusCode(), RedirectHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.FOUND_302.getStatusCode(), RedirectHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.SEE_OTHER_303.getStatusCode(), RedirectHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.TEMPORARY_REDIRECT_307.getStatusCode(), RedirectHandler.INSTANCE);
-        HANDLER_MAP.put(HttpStatus.PERMANENT_REDIRECT_308.getStatusCode(), RedirectHandler.INSTANCE);
+        this.statusHandlers = statusHandlers;
     }
 
     // --------------------------------------- Methods from HttpClientFilter
@@ -131,14 +124,15 @@ final class AhcEventFilter extends HttpClientFilter {
         
         final HttpTransactionContext context =
                 HttpTransactionContext.currentTransaction(content.getHttpHeader());
-        final AsyncHandler handler = context.getAsyncHandler();
-        if (handler != null && context.currentState != AsyncHandler.STATE.ABORT) {
-            try {
-                context.currentState = handler.onBodyPartReceived(
-                        new GrizzlyResponseBodyPart(content, ctx.getConnection()));
-            } catch (Exception e) {
-                handler.onThrowable(e);
-            }
+        if (context.isDraining()) {
+            // the request was cancelled or aborted: discard the remainder
+            content.getHttpHeader().setSkipRemainder(true);
+            return;
+        }
+        if (context.bodyPartCoalescer != null) {
+            context.bodyPartCoalescer.add(content, ctx);
+        } else {
+            deliverBodyPart(context, content, ctx.getConnection());
         }
     }
 
@@ -210,8 +204,9 @@ final class AhcEventFilter extends HttpClientFilter {
         final boolean isRedirectAllowed = isRedirectAllowed(context);
         
         if (context.invocationStatus == StatusHandler.InvocationStatus.CONTINUE) {
-            if (HANDLER_MAP.containsKey(status)) {
-                context.statusHandler = HANDLER_MAP.get(status);
+            final StatusHandler handler = statusHandlers.get(status);
+            if (handler != null) {
+                context.statusHandler = handler;
             }
             if (context.statusHandler instanceof RedirectHandler
                     && !isRedirectAllowed) {
@@ -240,6 +235,9 @@ final class AhcEventFilter extends HttpClientFilter {
         
         context.responsePacket = responsePacket;
         context.responseStatus = responseStatus;
+        if (context.future != null) {
+            context.future.statusCode = status;
+        }
         if (context.statusHandler != null) {
             return;
         }
@@ -247,6 +245,10 @@ final class AhcEventFilter extends HttpClientFilter {
             try {
                 final AsyncHandler handler = context.getAsyncHandler();
                 if (handler != null) {
+                    if (handler instanceof ReadControlledAsyncHandler) {
+                        ((ReadControlledAsyncHandler) handler).onReadController(
+                                context.readController);
+                    }
                     context.currentState = handler.onStatusReceived(responseStatus);
                     if (context.isWSRequest && context.currentState == AsyncHandler.STATE.ABORT) {
                         httpHeader.setSkipRemainder(true);
@@ -398,6 +400,13 @@ final class AhcEventFilter extends HttpClientFilter {
                     context.abort(e);
                 }
             }
+            if (context.getAhcRequest().isDiscardBody()
+                    && !httpHeader.isSkipRemainder()) {
+                // let the codec skip the content, completing the response
+                // once it's over
+                httpHeader.setSkipRemainder(true);
+                context.isDiscardingBody = true;
+            }
         }
         
         return false;
@@ -411,13 +420,18 @@ final class AhcEventFilter extends HttpClientFilter {
         
         final boolean result = super.onHttpPacketParsed(httpHeader, ctx);
         
-        if (httpHeader.isSkipRemainder()) {
+        final HttpTransactionContext context =
+                HttpTransactionContext.currentTransaction(httpHeader);
+        if (httpHeader.isSkipRemainder() || context.isDraining()) {
+            // the remainder was skipped in time
+            context.finishDrain();
             cleanup(httpHeader.getProcessingState().getHttpContext());
+            if (context.isDiscardingBody) {
+                complete(context);
+            }
             return result;
         }
         
-        final HttpTransactionContext context =
-                HttpTransactionContext.currentTransaction(httpHeader);
         if (context.establishingTunnel && HttpStatus.OK_200.statusMatches(
                 ((HttpResponsePacket) httpHeader).getStatus())) {
             context.establishingTunnel = false;
@@ -430,18 +444,45 @@ final class AhcEventFilter extends HttpClientFilter {
                 return result;
             }
         } else {
+            if (context.bodyPartCoalescer != null) {
+                // once the parts held or queued are handed over
+                context.bodyPartCoalescer.finish(httpHeader, () -> {
+                    cleanup(httpHeader.getProcessingState().getHttpContext());
+                    complete(context);
+                });
+                return result;
+            }
             cleanup(httpHeader.getProcessingState().getHttpContext());
-            final AsyncHandler handler = context.getAsyncHandler();
-            if (handler != null) {
-                try {
-                    context.done(handler.onCompleted());
-                } catch (Throwable e) {
-                    context.abort(e);
+            complete(context);
+            return result;
+        }
+    }
+
+    // -------------------------------------------------- Package Methods
+
+    /**
+     * Hand the content over to the transaction's handler as a body part.
+     */
+    @SuppressWarnings(value = {"unchecked"})
+    static void deliverBodyPart(final HttpTransactionContext context,
+            final HttpContent content, final Connection connection) {
+        final AsyncHandler handler = context.getAsyncHandler();
+        if (handler != null && context.currentState != AsyncHandler.STATE.ABORT) {
+            try {
+                final GrizzlyResponseBodyPart bodyPart =
+                        new GrizzlyResponseBodyPart(content, connection);
+                final ResponseMemoryBudget budget = context.provider.memoryBudget;
+                if (budget != null) {
+                    budget.acquire(context, bodyPart);
                 }
-            } else {
-                context.done();
+                context.currentState = handler.onBodyPartReceived(bodyPart);
+                if (budget != null) {
+                    budget.suspendIfOverShare(context);
+                }
+            } catch (Exception e) {
+                content.getHttpHeader().setSkipRemainder(true);
+                context.abort(e);
             }
-            return result;
         }
     }
 
@@ -454,6 +495,20 @@ final class AhcEventFilter extends HttpClientFilter {
                 context.protocolHandler);
     }
 
+    @SuppressWarnings(value = {"unchecked"})
+    private static void complete(final HttpTransactionContext context) {
+        final AsyncHandler handler = context.getAsyncHandler();
+        if (handler != null) {
+            try {
+                context.done(handler.onCompleted());
+            } catch (Throwable e) {
+                context.abort(e);
+            }
+        } else {
+            context.done();
+        }
+    }
+
     private static boolean isRedirectAllowed(final HttpTransactionContext ctx) {
         final Request r = ctx.getAhcRequest();
         
@@ -493,7 +548,7 @@ final class AhcEventFilter extends HttpClientFilter {
     }
 
     // ------------------------------------------------------- Inner Classes
-    private static final class AuthorizationHandler implements StatusHandler {
+    static final class AuthorizationHandler implements StatusHandler {
 
         static final AuthorizationHandler INSTANCE = new AuthorizationHandler();
         // -------------------------------------- Methods from StatusHandler
@@ -609,7 +664,7 @@ final class AhcEventFilter extends HttpClientFilter {
         }
     } // END AuthorizationHandler
 
-    private static final class ProxyAuthorizationHandler implements StatusHandler {
+    static final class ProxyAuthorizationHandler implements StatusHandler {
 
         static final ProxyAuthorizationHandler INSTANCE = new ProxyAuthorizationHandler();
         // -------------------------------------- Methods from StatusHandler
@@ -716,7 +771,7 @@ final class AhcEventFilter extends HttpClientFilter {
         }
     } // END ProxyAuthorizationHandler
     
-    private static final class RedirectHandler implements StatusHandler {
+    static final class RedirectHandler implements StatusHandler {
 
         static final RedirectHandler INSTANCE = new RedirectHandler();
 
@@ -745,6 +800,12 @@ final class AhcEventFilter extends HttpClientFilter {
             
             final Uri redirectUri = Uri.create(origUri, redirectURL);
             httpTransactionContext.lastRedirectUri = redirectUri;
+
+            final RedirectCache redirectCache = provider.getClientConfig().getRedirectCache();
+            if (redirectCache != null) {
+                redirectCache.put(origUri, responsePacket.getStatus(), redirectUri,
+                        new GrizzlyResponseHeaders(responsePacket).getHeaders());
+            }
             
             final Request nextRequest = newRequest(httpTransactionContext,
                     redirectUri, responsePacket,
@@ -756,15 +817,15 @@ final class AhcEventFilter extends HttpClientFilter {
                 
                 final Connection c;
 
-                // @TODO we may want to ditch the keep-alive connection if the response payload is too large
-                if (responsePacket.getProcessingState().isKeepAlive() &&
+                final boolean drain = httpTransactionContext.isDrainable(responsePacket);
+                if (drain && !responsePacket.isChunked() &&
                         isSameHostAndProtocol(origUri, redirectUri)) {
-                    // if it's HTTP keep-alive connection - reuse the
-                    // same Grizzly Connection
+                    // if it's HTTP keep-alive connection, with a small
+                    // remainder to skip - reuse the same Grizzly Connection
                     c = ctx.getConnection();
                     httpTransactionContext.reuseConnection();
                 } else {
-                    // if it's not keep-alive - take new Connection from the pool
+                    // otherwise - take new Connection from the pool
                     final ConnectionManager m = provider.getConnectionManager();
                     c = m.openSync(nextRequest);
                 }
@@ -774,6 +835,16 @@ final class AhcEventFilter extends HttpClientFilter {
                 final HttpTransactionContext newContext =
                         httpTransactionContext.cloneAndStartTransactionFor(
                                 c, nextRequest);
+
+                if (c != ctx.getConnection()) {
+                    // the previous connection goes back to the pool if the
+                    // remainder is skipped in time, and is closed otherwise
+                    if (drain) {
+                        httpTransactionContext.startDrain();
+                    } else {
+                        httpTransactionContext.closeConnection();
+                    }
+                }
                 
                 newContext.invocationStatus = InvocationStatus.CONTINUE;
                 try {
@@ -43,6 +43,7 @@ import org.glassfish.grizzly.filterchain.BaseFilter;
 import org.glassfish.grizzly.filterchain.FilterChainContext;
 import org.glassfish.grizzly.filterchain.FilterChainEvent;
 import org.glassfish.grizzly.filterchain.NextAction;
+import org.glassfish.grizzly.http.HttpContent;
 import org.glassfish.grizzly.http.HttpContext;
 import org.glassfish.grizzly.http.HttpRequestPacket;
 import org.glassfish.grizzly.http.Method;
@@ -98,6 +99,27 @@ final class AsyncHttpClientFilter extends BaseFilter {
         return ctx.getInvokeAction();
     }
 
+    @Override
+    public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+        final Object message = ctx.getMessage();
+        if (message instanceof HttpContent) {
+            final HttpContent content = (HttpContent) message;
+            final HttpTransactionContext context =
+                    HttpTransactionContext.currentTransaction(content.getHttpHeader());
+            // stop reading until the transaction's reads are resumed, once
+            // the content held for coalescing is handed over
+            if (context != null && !content.isLast() && context.isReadSuspended()) {
+                if (context.bodyPartCoalescer != null) {
+                    context.bodyPartCoalescer.flush();
+                }
+                if (context.suspendReadProcessing(ctx)) {
+                    return ctx.getSuspendAction();
+                }
+            }
+        }
+        return ctx.getInvokeAction();
+    }
+
     @Override
     public NextAction handleEvent(final FilterChainContext ctx, final FilterChainEvent event) throws IOException {
         final Object type = event.type();
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+
+package com.ning.http.client.providers.grizzly;
+
+import com.ning.http.client.BodyPartCoalescing;
+import com.ning.http.util.SharedTimer;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Context;
+import org.glassfish.grizzly.IOEventLifeCycleListener;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.http.HttpHeader;
+import org.glassfish.grizzly.memory.Buffers;
+
+/**
+ * Coalesces the content of a response into larger body parts, as set by the
+ * request's {@link BodyPartCoalescing}.  The content is appended to the one
+ * held without being copied, and handed to the {@link AhcEventFilter} once
+ * large enough, at the end of the network read, or once the delay elapsed,
+ * whichever applies first.
+ * <p>
+ * The parts are handed over in order, one at a time, outside the lock
+ * guarding the content held: the thread handing a part over also hands over
+ * the parts queued meanwhile, so that the thread reading the connection
+ * doesn't wait for a delayed flush calling a slow handler.  The connection
+ * isn't read while parts are queued that way.
+ *
+ * @since 5.0.1
+ */
+final class BodyPartCoalescer {
+
+    private final HttpTransactionContext context;
+    private final BodyPartCoalescing coalescing;
+    private final Connection connection;
+
+    // ReentrantLock rather than a monitor, so that virtual threads don't pin
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by lock
+    private HttpHeader header;
+    private Buffer held;
+    private ScheduledFuture<?> delayedFlush;
+    private boolean closed;
+    private final Queue<Runnable> handOvers = new ArrayDeque<Runnable>();
+    private boolean handingOver;
+    private boolean readsSuspended;
+
+    /**
+     * Hands the content held over once the network read is processed.
+     */
+    private final IOEventLifeCycleListener endOfRead = new IOEventLifeCycleListener.Adapter() {
+        @Override
+        public void onComplete(final Context context, final Object data) {
+            flush();
+        }
+
+        @Override
+        public void onLeave(final Context context) {
+            flush();
+        }
+
+        @Override
+        public void onTerminate(final Context context) {
+            flush();
+        }
+    };
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    BodyPartCoalescer(final HttpTransactionContext context,
+            final BodyPartCoalescing coalescing, final Connection connection) {
+        this.context = context;
+        this.coalescing = coalescing;
+        this.connection = connection;
+    }
+
+
+    // --------------------------------------------------------- Package Methods
+
+
+    /**
+     * Add the content parsed to the one held, handing it over if it's large
+     * enough or the last.
+     */
+    void add(final HttpContent content, final FilterChainContext ctx) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            header = content.getHttpHeader();
+            final Buffer buffer = content.getContent();
+            if (content.isLast()) {
+                cancelDelayedFlush();
+                closed = true;
+                if (!coalescing.isMergeLastPart()) {
+                    handOver(false);
+                }
+                append(buffer);
+                handOver(true);
+            } else if (buffer.hasRemaining()) {
+                append(buffer);
+                if (held.remaining() >= coalescing.getMaxBytes()) {
+                    cancelDelayedFlush();
+                    handOver(false);
+                } else if (coalescing.getMaxDelay() > 0) {
+                    if (delayedFlush == null) {
+                        delayedFlush = SharedTimer.schedule(this::delayedFlush,
+                                coalescing.getMaxDelay(), TimeUnit.MILLISECONDS);
+                    }
+                } else {
+                    final Context readContext = ctx.getInternalContext();
+                    if (!readContext.hasLifeCycleListener(endOfRead)) {
+                        readContext.addLifeCycleListener(endOfRead);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        runHandOvers();
+    }
+
+    /**
+     * Hand the content held over, if any.
+     */
+    void flush() {
+        lock.lock();
+        try {
+            if (!closed) {
+                cancelDelayedFlush();
+                handOver(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+        runHandOvers();
+    }
+
+    /**
+     * Hand the content held over once the response is parsed, as the last
+     * part if it's to be merged: the codec doesn't hand the empty last chunk
+     * of a chunked response to the {@link AhcEventFilter}.  The completion
+     * runs once every part is handed over.
+     */
+    void finish(final HttpHeader httpHeader, final Runnable completion) {
+        lock.lock();
+        try {
+            if (!closed) {
+                cancelDelayedFlush();
+                closed = true;
+                header = httpHeader;
+                handOver(coalescing.isMergeLastPart());
+            }
+            handOvers.add(completion);
+        } finally {
+            lock.unlock();
+        }
+        runHandOvers();
+    }
+
+    /**
+     * Drop the content held, and the parts not handed over yet.  Called once
+     * the transaction completes.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            held = null;
+            header = null;
+            handOvers.clear();
+            cancelDelayedFlush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    private void append(final Buffer buffer) {
+        if (buffer.hasRemaining()) {
+            held = held == null
+                    ? buffer
+                    : Buffers.appendBuffers(connection.getMemoryManager(), held, buffer);
+        }
+    }
+
+    /**
+     * Queue the content held to be handed over; called with the lock held.
+     */
+    private void handOver(final boolean last) {
+        if (held == null && !last) {
+            return;
+        }
+        final HttpContent content = HttpContent.builder(header)
+                .content(held != null ? held : Buffers.EMPTY_BUFFER)
+                .last(last)
+                .build();
+        held = null;
+        handOvers.add(() -> AhcEventFilter.deliverBodyPart(context, content, connection));
+    }
+
+    /**
+     * Run the queued hand overs, unless another thread does.
+     */
+    private void runHandOvers() {
+        lock.lock();
+        try {
+            if (handingOver) {
+                if (!handOvers.isEmpty() && !readsSuspended) {
+                    readsSuspended = true;
+                    context.suspendReads(HttpTransactionContext.SUSPENDED_BY_COALESCER);
+                }
+                return;
+            }
+            handingOver = true;
+        } finally {
+            lock.unlock();
+        }
+        for (;;) {
+            final Runnable handOver;
+            final boolean resumeReads;
+            lock.lock();
+            try {
+                handOver = handOvers.poll();
+                resumeReads = handOver == null && readsSuspended;
+                if (handOver == null) {
+                    handingOver = false;
+                    readsSuspended = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (handOver == null) {
+                if (resumeReads) {
+                    context.resumeReads(HttpTransactionContext.SUSPENDED_BY_COALESCER);
+                }
+                return;
+            }
+            handOver.run();
+        }
+    }
+
+    private void cancelDelayedFlush() {
+        if (delayedFlush != null) {
+            delayedFlush.cancel(false);
+            delayedFlush = null;
+        }
+    }
+
+    private void delayedFlush() {
+        // the handler doesn't run on the timer thread
+        final ExecutorService pool = connection.getTransport().getWorkerThreadPool();
+        if (pool != null) {
+            pool.execute(this::flush);
+        } else {
+            flush();
+        }
+    }
+
+} // END BodyPartCoalescer
@@ -17,6 +17,8 @@ package com.ning.http.client.providers.grizzly;
 import com.ning.http.client.AsyncHttpClientConfig;
 import com.ning.http.client.ProxyServer;
 import com.ning.http.client.Request;
+import com.ning.http.client.extra.CircuitBreaker;
+import com.ning.http.client.extra.CircuitBreakerOpenException;
 import com.ning.http.client.uri.Uri;
 import com.ning.http.util.ProxyUtils;
 import java.io.IOException;
@@ -111,7 +113,7 @@ class ConnectionManager {
     }
 
     // ----------------------------------------------------- Private Methods
-    void openAsync(final Request request,
+    void openAsync(final Request request, final GrizzlyResponseFuture<?> future,
             final CompletionHandler<Connection> completionHandler)
             throws IOException {
         
@@ -132,6 +134,19 @@ class ConnectionManager {
         }
         
         final String partitionId = getPartitionId(request.getInetAddress(), request, proxy);
+
+        final CircuitBreaker circuitBreaker = config.getCircuitBreaker();
+        if (circuitBreaker != null) {
+            // rejects right away when open, before taking a pool slot
+            if (future.retryCount == 0) {
+                final CircuitBreaker.Call call = circuitBreaker.acquire(partitionId);
+                future.toCompletableFuture().whenComplete((v, t) -> call.onComplete(t, future.statusCode));
+            } else if (circuitBreaker.getState(partitionId) == CircuitBreaker.State.OPEN) {
+                // the outcome of a request sent again is recorded once
+                throw new CircuitBreakerOpenException(partitionId);
+            }
+        }
+
         Endpoint endpoint = endpointMap.get(partitionId);
         if (endpoint == null) {
             final boolean isSecure = Utils.isSecure(scheme);
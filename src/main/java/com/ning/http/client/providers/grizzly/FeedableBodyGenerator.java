@@ -20,6 +20,7 @@ import com.ning.http.client.BodyGenerator;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.CompletionHandler;
@@ -75,10 +76,14 @@ public class FeedableBodyGenerator implements BodyGenerator {
 
     private final EmptyBody EMPTY_BODY = new EmptyBody();
 
+    // ReentrantLock rather than monitors: feeders may block while the lock
+    // is held, which would pin the carrier when running on a virtual thread.
+    private final ReentrantLock lock = new ReentrantLock();
+
     private Feeder feeder;
     private int origMaxPendingBytes;
     private int configuredMaxPendingBytes = DEFAULT;
-    private boolean asyncTransferInitiated;
+    private volatile boolean asyncTransferInitiated;
 
 
     // ---------------------------------------------- Methods from BodyGenerator
@@ -110,14 +115,19 @@ public class FeedableBodyGenerator implements BodyGenerator {
      *  not {@link #UNBOUND} or {@link #DEFAULT}.
      */
     @SuppressWarnings("UnusedDeclaration")
-    public synchronized void setMaxPendingBytes(final int maxPendingBytes) {
+    public void setMaxPendingBytes(final int maxPendingBytes) {
         if (maxPendingBytes < DEFAULT) {
             throw new IllegalArgumentException("Invalid maxPendingBytes value: " + maxPendingBytes);
         }
-        if (asyncTransferInitiated) {
-            throw new IllegalStateException("Unable to set max pending bytes after async data transfer has been initiated.");
+        lock.lock();
+        try {
+            if (asyncTransferInitiated) {
+                throw new IllegalStateException("Unable to set max pending bytes after async data transfer has been initiated.");
+            }
+            configuredMaxPendingBytes = maxPendingBytes;
+        } finally {
+            lock.unlock();
         }
-        configuredMaxPendingBytes = maxPendingBytes;
     }
 
 
@@ -133,22 +143,48 @@ public class FeedableBodyGenerator implements BodyGenerator {
      * @throws IllegalArgumentException if <code>feeder</code> is <code>null</code>
      */
     @SuppressWarnings("UnusedDeclaration")
-    public synchronized void setFeeder(final Feeder feeder) {
-        if (asyncTransferInitiated) {
-            throw new IllegalStateException("Unable to set Feeder after async data transfer has been initiated.");
-        }
+    public void setFeeder(final Feeder feeder) {
         if (feeder == null) {
             throw new IllegalArgumentException("Feeder argument cannot be null.");
         }
-        this.feeder = feeder;
+        lock.lock();
+        try {
+            if (asyncTransferInitiated) {
+                throw new IllegalStateException("Unable to set Feeder after async data transfer has been initiated.");
+            }
+            this.feeder = feeder;
+        } finally {
+            lock.unlock();
+        }
     }
 
 
     // ------------------------------------------------- Package Private Methods
 
     
-    synchronized void initializeAsynchronousTransfer(final FilterChainContext context,
-                                                     final HttpRequestPacket requestPacket)
+    void initializeAsynchronousTransfer(final FilterChainContext context,
+                                        final HttpRequestPacket requestPacket)
+    throws IOException {
+        lock.lock();
+        try {
+            initializeAsynchronousTransfer0(context, requestPacket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the connection the body is fed to, once the asynchronous
+     *  transfer has been initiated
+     */
+    Connection getConnection() {
+        return context.getConnection();
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private void initializeAsynchronousTransfer0(final FilterChainContext context,
+                                                 final HttpRequestPacket requestPacket)
     throws IOException {
 
         if (asyncTransferInitiated) {
@@ -178,8 +214,6 @@ public class FeedableBodyGenerator implements BodyGenerator {
         }
     }
 
-    // --------------------------------------------------------- Private Methods
-
     private void feederFlush(final Connection c) {
         if (isServiceThread()) {
             c.getTransport().getWorkerThreadPool().execute(new Runnable() {
@@ -312,6 +346,11 @@ public class FeedableBodyGenerator implements BodyGenerator {
         protected final FeedableBodyGenerator feedableBodyGenerator;
         
         private boolean wasLastSent;
+
+        // Guards feed(); a ReentrantLock so that a virtual thread blocked in
+        // blockUntilQueueFree() parks instead of pinning its carrier.
+        final ReentrantLock feedLock = new ReentrantLock();
+
         // -------------------------------------------------------- Constructors
 
 
@@ -325,13 +364,23 @@ public class FeedableBodyGenerator implements BodyGenerator {
 
         @SuppressWarnings("UnusedDeclaration")
         @Override
-        public final synchronized void feed(final Buffer buffer, final boolean last)
+        public final void feed(final Buffer buffer, final boolean last)
         throws IOException {
             if (buffer == null) {
                 throw new IllegalArgumentException(
                         "Buffer argument cannot be null.");
             }
-            
+
+            feedLock.lock();
+            try {
+                feed0(buffer, last);
+            } finally {
+                feedLock.unlock();
+            }
+        }
+
+        private void feed0(final Buffer buffer, final boolean last)
+        throws IOException {
             if (!feedableBodyGenerator.asyncTransferInitiated) {
                 throw new IllegalStateException("Asynchronous transfer has not been initiated.");
             }
@@ -533,21 +582,26 @@ public class FeedableBodyGenerator implements BodyGenerator {
 
 
         @Override
-        public synchronized void flush() throws IOException {
-            final Connection c = feedableBodyGenerator.context.getConnection();
-            if (isReady()) {
-                boolean notReady = writeUntilFullOrDone(c);
-                if (!isDone()) {
-                    if (notReady) {
-                        notifyReadyToFeed(new ReadyToFeedListenerImpl());
-                    } else {
-                        // write queue is full, leverage WriteListener to let us know
-                        // when it is safe to write again.
-                        c.notifyCanWrite(new WriteHandlerImpl());
+        public void flush() throws IOException {
+            feedLock.lock();
+            try {
+                final Connection c = feedableBodyGenerator.context.getConnection();
+                if (isReady()) {
+                    boolean notReady = writeUntilFullOrDone(c);
+                    if (!isDone()) {
+                        if (notReady) {
+                            notifyReadyToFeed(new ReadyToFeedListenerImpl());
+                        } else {
+                            // write queue is full, leverage WriteListener to let us know
+                            // when it is safe to write again.
+                            c.notifyCanWrite(new WriteHandlerImpl());
+                        }
                     }
+                } else {
+                    notifyReadyToFeed(new ReadyToFeedListenerImpl());
                 }
-            } else {
-                notifyReadyToFeed(new ReadyToFeedListenerImpl());
+            } finally {
+                feedLock.unlock();
             }
         }
 
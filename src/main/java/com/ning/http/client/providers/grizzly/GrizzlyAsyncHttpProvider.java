@@ -54,7 +54,9 @@ import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.glassfish.grizzly.websockets.WebSocketClientFilter;
@@ -76,6 +78,13 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
     private final GrizzlyAsyncHttpProviderConfig providerConfig;
     private final ConnectionManager connectionManager;
 
+    // limits of the response remainders read and discarded to keep connections alive
+    final long maxDrainSize;
+    final long maxDrainTime;
+
+    // bounds the response body bytes held by the transactions in flight, or null
+    final ResponseMemoryBudget memoryBudget;
+
     DelayedExecutor.Resolver<Connection> resolver;
     private DelayedExecutor timeoutExecutor;
 
@@ -91,6 +100,10 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
                 clientConfig.getAsyncHttpProviderConfig() instanceof GrizzlyAsyncHttpProviderConfig ?
                 (GrizzlyAsyncHttpProviderConfig) clientConfig.getAsyncHttpProviderConfig()
                 : new GrizzlyAsyncHttpProviderConfig();
+        maxDrainSize = (Long) providerConfig.getProperty(MAX_DRAIN_SIZE);
+        maxDrainTime = (Long) providerConfig.getProperty(MAX_DRAIN_TIME);
+        final long memoryBudgetSize = (Long) providerConfig.getProperty(RESPONSE_MEMORY_BUDGET);
+        memoryBudget = memoryBudgetSize > 0 ? new ResponseMemoryBudget(memoryBudgetSize) : null;
         final TCPNIOTransportBuilder builder = TCPNIOTransportBuilder.newInstance();
         clientTransport = builder.build();
         initializeTransport(clientConfig);
@@ -110,6 +123,15 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
     ConnectionManager getConnectionManager() {
         return connectionManager;
     }
+
+    /**
+     * @return the pool timer tasks hand requests off to, the common pool
+     *          when the IO strategy has no worker pool
+     */
+    Executor getWorkerPool() {
+        final ExecutorService workerPool = clientTransport.getWorkerThreadPool();
+        return workerPool != null ? workerPool : ForkJoinPool.commonPool();
+    }
         
     // ------------------------------------------ Methods from AsyncHttpProvider
 
@@ -118,6 +140,17 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
     public <T> ListenableFuture<T> execute(final Request request,
             final AsyncHandler<T> asyncHandler) {
 
+        final HedgingPolicy hedgingPolicy =
+                (HedgingPolicy) providerConfig.getProperty(HEDGING_POLICY);
+        if (hedgingPolicy != null && hedgingPolicy.isHedgeable(request, asyncHandler)) {
+            return hedgingPolicy.execute(request, asyncHandler, this::send, getWorkerPool());
+        }
+        return send(request, asyncHandler);
+    }
+
+    private <T> ListenableFuture<T> send(final Request request,
+            final AsyncHandler<T> asyncHandler) {
+
         if (clientTransport.isStopped()) {
             IOException e = new IOException("AsyncHttpClient has been closed.");
             asyncHandler.onThrowable(e);
@@ -126,7 +159,22 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
 
         final GrizzlyResponseFuture<T> future =
                 new GrizzlyResponseFuture<T>(asyncHandler);
-        
+        send(request, future);
+        return future;
+    }
+
+    /**
+     * Send a request on a connection taken from the pool, completing the
+     * given future.  Also used to send requests again on behalf of their
+     * original caller.
+     */
+    void send(final Request request, final GrizzlyResponseFuture<?> future) {
+
+        if (clientTransport.isStopped()) {
+            abort(future, new IOException("AsyncHttpClient has been closed."));
+            return;
+        }
+
         final CompletionHandler<Connection> connectHandler =
                 new CompletionHandler<Connection>() {
             @Override
@@ -172,7 +220,7 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
         };
 
         try {
-            connectionManager.openAsync(request, connectHandler);
+            connectionManager.openAsync(request, future, connectHandler);
         } catch (IOException ioe) {
             abort(future, ioe);
         } catch (RuntimeException re) {
@@ -183,8 +231,6 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
             }
             abort(future, e);
         }
-
-        return future;
     }
 
     private void abort(GrizzlyResponseFuture<?> future, Throwable t) {
@@ -299,7 +345,8 @@ public class GrizzlyAsyncHttpProvider implements AsyncHttpProvider {
         
         final AhcEventFilter eventFilter = new
                 AhcEventFilter(this,
-                        (Integer) providerConfig.getProperty(MAX_HTTP_PACKET_HEADER_SIZE));
+                        (Integer) providerConfig.getProperty(MAX_HTTP_PACKET_HEADER_SIZE),
+                        (StatusHandlers) providerConfig.getProperty(STATUS_HANDLERS));
         final AsyncHttpClientFilter clientFilter = new AsyncHttpClientFilter(this);
         ContentEncoding[] encodings = eventFilter.getContentEncodings();
         if (encodings.length > 0) {
@@ -77,8 +77,73 @@ public class GrizzlyAsyncHttpProviderConfig implements AsyncHttpProviderConfig<G
          * (if compressed by a server), or <tt>false</tt> if decompression
          * has to be delegated to a user.
          */
-        DECOMPRESS_RESPONSE(Boolean.class, true)
-        
+        DECOMPRESS_RESPONSE(Boolean.class, true),
+
+        /**
+         * If this property is specified with a {@link HedgingPolicy}, GET and HEAD
+         * requests that haven't received a response within the policy's delay are
+         * sent again, and the first response is used.  By default, no request is
+         * hedged.
+         *
+         * @see HedgingPolicy
+         * @since 5.0.1
+         */
+        HEDGING_POLICY(HedgingPolicy.class),
+
+
+        /**
+         * The {@link StatusHandlers} table responses are handed to, by status
+         * code.  By default, authentication challenges and redirects are
+         * handled.
+         *
+         * @see StatusHandlers
+         * @see RetryAfterHandler
+         * @since 5.0.1
+         */
+        STATUS_HANDLERS(StatusHandlers.class, StatusHandlers.defaults()),
+
+
+        /**
+         * The maximum <tt>Content-Length</tt> of a response remainder that is
+         * read and discarded, so that the keep-alive connection goes back to
+         * the pool, when a redirect is followed or a request is cancelled or
+         * aborted.  Connections with a larger remainder are closed.  Chunked
+         * remainders are drained within {@link #MAX_DRAIN_TIME}.  The default
+         * is 64 KB.
+         *
+         * @since 5.0.1
+         */
+        MAX_DRAIN_SIZE(Long.class, 65536L),
+
+
+        /**
+         * The time, in milliseconds, a response remainder being read and
+         * discarded has to complete, past which the connection is closed.
+         * <tt>0</tt> closes the connection of cancelled and aborted requests
+         * right away.  The default is 1 second.
+         *
+         * @see #MAX_DRAIN_SIZE
+         * @since 5.0.1
+         */
+        MAX_DRAIN_TIME(Long.class, 1000L),
+
+
+        /**
+         * The number of response body bytes all the transactions in flight
+         * may hold in the body parts they received.  Bytes are counted as body
+         * parts are handed to the {@link com.ning.http.client.AsyncHandler},
+         * until the parts are {@link com.ning.http.client.HttpResponseBodyPart#release() released}
+         * or the transaction completes.  While the budget is exceeded, the
+         * connections of the transactions holding more than their share stop
+         * being read, until enough bytes are released.  One connection is
+         * always read, so that the budget is exceeded rather than every
+         * transaction stalled.  The default, <tt>-1</tt>, doesn't bound the
+         * held bytes.
+         *
+         * @since 5.0.1
+         */
+        RESPONSE_MEMORY_BUDGET(Long.class, -1L)
+
         ;
         
         
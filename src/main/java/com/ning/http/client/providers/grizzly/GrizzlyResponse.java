@@ -28,6 +28,8 @@ import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.http.Cookies;
 import org.glassfish.grizzly.http.CookiesBuilder;
 import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.ByteBufferArray;
+import org.glassfish.grizzly.memory.CompositeBuffer;
 import org.glassfish.grizzly.memory.MemoryManager;
 import org.glassfish.grizzly.utils.BufferInputStream;
 import org.glassfish.grizzly.utils.Charsets;
@@ -64,19 +66,15 @@ public class GrizzlyResponse extends ResponseBase {
         this.httpResponsePacket = httpResponsePacket;
         
         if (isNonEmpty(bodyParts)) {
+            final MemoryManager mm = httpResponsePacket.getRequest().getConnection().getMemoryManager();
             if (bodyParts.size() == 1) {
-                responseBody = ((GrizzlyResponseBodyPart) bodyParts.get(0)).getBodyBuffer();
+                responseBody = toBuffer(mm, bodyParts.get(0));
             } else {
-                final Buffer firstBuffer = ((GrizzlyResponseBodyPart) bodyParts.get(0)).getBodyBuffer();
-                final MemoryManager mm = httpResponsePacket.getRequest().getConnection().getMemoryManager();
-                Buffer constructedBodyBuffer = firstBuffer;
-                for (int i = 1, len = bodyParts.size(); i < len; i++) {
-                    constructedBodyBuffer =
-                            Buffers.appendBuffers(mm,
-                                    constructedBodyBuffer,
-                                    ((GrizzlyResponseBodyPart) bodyParts.get(i)).getBodyBuffer());
+                final Buffer[] buffers = new Buffer[bodyParts.size()];
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = toBuffer(mm, bodyParts.get(i));
                 }
-                responseBody = constructedBodyBuffer;
+                responseBody = CompositeBuffer.newBuffer(mm, buffers);
             }
         } else {
             responseBody = Buffers.EMPTY_BUFFER;
@@ -109,6 +107,12 @@ public class GrizzlyResponse extends ResponseBase {
     @Override
     public String getResponseBody(String charset) throws IOException {
 
+        if (responseBody.hasArray() && !responseBody.isComposite()) {
+            return new String(responseBody.array(),
+                    responseBody.arrayOffset() + responseBody.position(),
+                    responseBody.remaining(),
+                    getCharset(charset));
+        }
         return responseBody.toStringContent(getCharset(charset));
 
     }
@@ -145,6 +149,37 @@ public class GrizzlyResponse extends ResponseBase {
         return responseBody.toByteBuffer();
     }
 
+
+    /**
+     * @return a read-only view of the body if it's held in a single buffer,
+     *          or else of a copy gathered from the composite buffer's
+     *          components
+     */
+    @Override
+    public ByteBuffer getResponseBodyAsReadOnlyByteBuffer() throws IOException {
+        if (!responseBody.isComposite()) {
+            // Buffer.toByteBuffer() may return a ByteBuffer shared with later calls
+            return responseBody.toByteBuffer().slice().asReadOnlyBuffer();
+        }
+        final ByteBufferArray array = responseBody.toByteBufferArray();
+        try {
+            final ByteBuffer[] buffers = array.getArray();
+            final int size = array.size();
+            if (size == 1) {
+                return buffers[0].slice().asReadOnlyBuffer();
+            }
+            final ByteBuffer body = ByteBuffer.allocate(responseBody.remaining());
+            for (int i = 0; i < size; i++) {
+                body.put(buffers[i].duplicate());
+            }
+            body.flip();
+            return body.asReadOnlyBuffer();
+        } finally {
+            array.restore();
+            array.recycle();
+        }
+    }
+
     @Override
     protected List<Cookie> buildCookies() {
         List<String> values = headers.getHeaders().get("set-cookie");
@@ -164,6 +199,19 @@ public class GrizzlyResponse extends ResponseBase {
     // --------------------------------------------------------- Private Methods
 
 
+    private static Buffer toBuffer(final MemoryManager mm, final HttpResponseBodyPart bodyPart) {
+
+        if (bodyPart instanceof GrizzlyResponseBodyPart) {
+            return ((GrizzlyResponseBodyPart) bodyPart).getBodyBuffer();
+        }
+        // e.g. a body aggregated by Response.ResponseBuilder; wrapping its
+        // view doesn't copy
+        final ByteBuffer[] views = bodyPart.getBodyByteBuffers();
+        return Buffers.wrap(mm, views.length == 1 ? views[0] : bodyPart.getBodyByteBuffer());
+
+    }
+
+
     private List<Cookie> convertCookies(Cookies cookies) {
 
         final org.glassfish.grizzly.http.Cookie[] grizzlyCookies = cookies.get();
@@ -17,6 +17,7 @@ package com.ning.http.client.providers.grizzly;
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
 import org.glassfish.grizzly.http.HttpContent;
+import org.glassfish.grizzly.memory.ByteBufferArray;
 
 import com.ning.http.client.HttpResponseBodyPart;
 
@@ -40,6 +41,11 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
     private final AtomicReference<byte[]> contentBytes =
             new AtomicReference<byte[]>();
 
+    // the memory budget this part is charged to, if any
+    private ResponseMemoryBudget budget;
+    private HttpTransactionContext transaction;
+    private int chargedBytes;
+
 
     // ------------------------------------------------------------ Constructors
 
@@ -59,6 +65,7 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
     @Override
     public byte[] getBodyPartBytes() {
 
+        ensureAccessible();
         byte[] bytes = contentBytes.get();
         if (bytes != null) {
             return bytes;
@@ -78,13 +85,24 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
     @Override
     public int writeTo(OutputStream outputStream) throws IOException {
 
+        ensureAccessible();
+        final Buffer b = content.getContent();
+        if (!b.isComposite() && b.hasArray()) {
+            final int length = b.remaining();
+            outputStream.write(b.array(), b.arrayOffset() + b.position(), length);
+            return length;
+        }
         final byte[] bytes = getBodyPartBytes();
-        outputStream.write(getBodyPartBytes());
+        outputStream.write(bytes);
         return bytes.length;
 
     }
 
 
+    /**
+     * @return a buffer wrapping a copy of the part's bytes, its array being
+     *          accessible; {@link #getBodyByteBuffers()} doesn't copy them
+     */
     @Override
     public ByteBuffer getBodyByteBuffer() {
 
@@ -92,6 +110,30 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
 
     }
 
+
+    @Override
+    public ByteBuffer[] getBodyByteBuffers() {
+
+        ensureAccessible();
+        final Buffer b = content.getContent();
+        if (!b.isComposite()) {
+            return new ByteBuffer[] { b.toByteBuffer().asReadOnlyBuffer() };
+        }
+        final ByteBufferArray array = b.toByteBufferArray();
+        try {
+            final ByteBuffer[] buffers = array.getArray();
+            final ByteBuffer[] views = new ByteBuffer[array.size()];
+            for (int i = 0; i < views.length; i++) {
+                views[i] = buffers[i].asReadOnlyBuffer();
+            }
+            return views;
+        } finally {
+            array.restore();
+            array.recycle();
+        }
+
+    }
+
     @Override
     public boolean isLast() {
         return content.isLast();
@@ -107,6 +149,14 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
         return content.getHttpHeader().getProcessingState().isStayAlive();
     }
 
+    @Override
+    protected void deallocate() {
+        content.getContent().tryDispose();
+        if (budget != null) {
+            budget.release(transaction, chargedBytes);
+        }
+    }
+
     // ----------------------------------------------- Package Protected Methods
 
 
@@ -116,6 +166,16 @@ public class GrizzlyResponseBodyPart extends HttpResponseBodyPart {
 
     }
 
+
+    void charge(final ResponseMemoryBudget budget,
+            final HttpTransactionContext transaction, final int length) {
+
+        this.budget = budget;
+        this.transaction = transaction;
+        this.chargedBytes = length;
+
+    }
+
     @Override
     public int length() {
         return content.getContent().remaining();
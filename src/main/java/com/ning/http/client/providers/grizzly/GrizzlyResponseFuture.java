@@ -18,17 +18,18 @@ import com.ning.http.client.AsyncHandler;
 import com.ning.http.client.listenable.AbstractListenableFuture;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.glassfish.grizzly.CompletionHandler;
-import org.glassfish.grizzly.impl.FutureImpl;
-import org.glassfish.grizzly.utils.Futures;
 
 /**
- * {@link AbstractListenableFuture} implementation adaptation of Grizzly's
- * {@link FutureImpl}.
+ * {@link AbstractListenableFuture} implementation whose state is held by a
+ * {@link CompletableFuture}, which is handed out as-is by
+ * {@link #toCompletableFuture()}.  Completing or cancelling that stage
+ * directly has the same effect as calling the methods of this class.
  *
  * @author The Grizzly Team
  * @since 1.7.0
@@ -36,7 +37,7 @@ import org.glassfish.grizzly.utils.Futures;
 final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
         implements CompletionHandler<V> {
 
-    private final FutureImpl<V> delegate;
+    private final ResponseStage delegate;
 //    private final GrizzlyAsyncHttpProvider provider;
 //    private Request request;
 //    private Connection connection;
@@ -45,6 +46,14 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
     // transaction context. Not null if connection is established
     private volatile HttpTransactionContext transactionCtx;
 
+    // when the request was first sent, and how many times it was sent again;
+    // only the status handler of the current transaction writes the count,
+    // before sending the request again, so its writes never overlap
+    final long startNanos = System.nanoTime();
+    volatile int retryCount;
+    // the status code of the last response received
+    volatile int statusCode;
+
 
     // ------------------------------------------------------------ Constructors
 
@@ -52,8 +61,7 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
     GrizzlyResponseFuture(final AsyncHandler asyncHandler) {
         this.asyncHandler = asyncHandler;
         
-        delegate = Futures.<V>createSafeFuture();
-        delegate.addCompletionHandler(this);
+        delegate = new ResponseStage();
     }
 
 
@@ -65,13 +73,18 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
     }
 
     public void done(V result) {
-        delegate.result(result);
+        delegate.complete(result);
     }
 
     public void abort(Throwable t) {
 
-        delegate.failure(t);
+        delegate.completeExceptionally(t);
+
+    }
 
+    @Override
+    public CompletableFuture<V> toCompletableFuture() {
+        return delegate;
     }
 
     public void touch() {
@@ -148,7 +161,21 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
             } catch (Throwable ignore) {
             }
         }
-        
+
+        // the response is incomplete: discard its remainder, if small, to
+        // reuse the connection
+        final HttpTransactionContext tx = transactionCtx;
+        if (tx != null) {
+            // release what the handler holds for the body, even if it
+            // didn't pass onThrowable along
+            final GrizzlyResponseStatus status = tx.responseStatus;
+            if (status != null) {
+                status.onResponseAborted();
+            }
+            tx.onResponseFinished();
+            tx.drainOrClose();
+        }
+
         runListeners();
     }
 
@@ -164,7 +191,12 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
             
         final HttpTransactionContext tx = transactionCtx;
         if (tx != null) {
-            tx.closeConnection();
+            final GrizzlyResponseStatus status = tx.responseStatus;
+            if (status != null) {
+                status.onResponseAborted();
+            }
+            tx.onResponseFinished();
+            tx.drainOrClose();
         }
 
         runListeners();
@@ -172,6 +204,10 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
 
     @Override
     public void completed(V result) {
+        final HttpTransactionContext tx = transactionCtx;
+        if (tx != null) {
+            tx.onResponseFinished();
+        }
         runListeners();
     }
 
@@ -207,4 +243,48 @@ final class GrizzlyResponseFuture<V> extends AbstractListenableFuture<V>
         this.transactionCtx = transactionCtx;
         return !delegate.isDone();
     }
+
+
+    // ---------------------------------------------------------- Nested Classes
+
+
+    /**
+     * The {@link CompletableFuture} backing this future.  Every transition,
+     * whether made by the provider or by a caller holding the stage, is routed
+     * to the {@link CompletionHandler} methods of the enclosing future.
+     */
+    private final class ResponseStage extends CompletableFuture<V> {
+
+        @Override
+        public boolean complete(final V value) {
+            if (super.complete(value)) {
+                completed(value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean completeExceptionally(final Throwable t) {
+            if (super.completeExceptionally(t)) {
+                if (t instanceof CancellationException) {
+                    cancelled();
+                } else {
+                    failed(t);
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            if (super.cancel(mayInterruptIfRunning)) {
+                cancelled();
+                return true;
+            }
+            return false;
+        }
+
+    } // END ResponseStage
 }
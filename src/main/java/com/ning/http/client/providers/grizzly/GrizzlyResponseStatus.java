@@ -102,4 +102,12 @@ public class GrizzlyResponseStatus extends HttpResponseStatus {
     public Response prepareResponse(HttpResponseHeaders headers, List<HttpResponseBodyPart> bodyParts) {
         return new GrizzlyResponse(response, this, headers, bodyParts);
     }
+
+
+    // ------------------------------------------------- Package Private Methods
+
+
+    void onResponseAborted() {
+        aborted();
+    }
 }
@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.providers.grizzly;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.ReadControlledAsyncHandler;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestExecutor;
+import com.ning.http.client.UpgradeHandler;
+import com.ning.http.client.listenable.AbstractListenableFuture;
+import com.ning.http.client.listener.TransferCompletionHandler;
+import com.ning.http.util.SharedTimer;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hedging of idempotent reads, installed with the
+ * {@link GrizzlyAsyncHttpProviderConfig.Property#HEDGING_POLICY} property.
+ * <p>
+ * When a GET or HEAD request hasn't received its response status within the hedging delay, an identical backup
+ * request is sent. Whichever receives its status first wins: the {@link AsyncHandler} of the request only ever sees
+ * the winner's response, and the other request is cancelled, closing its connection. The delay is either fixed or,
+ * with {@link Builder#setDelayPercentile(double)}, follows a percentile of the latencies recently observed for the
+ * target connection pool partition.
+ * <p>
+ * Backup requests are bounded by a budget per connection pool partition: each request earns
+ * <code>budget</code> of a backup request, and a backup request can only be sent with a whole one earned. With the
+ * default budget of 5%, hedging adds at most 5% of requests to a backend. The budget and latencies of a partition are
+ * dropped once it has been idle for {@link Builder#setIdleTimeout(long)}.
+ *
+ * <pre>{@code
+ *      GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+ *      providerConfig.addProperty(Property.HEDGING_POLICY, new HedgingPolicy.Builder()
+ *          .setDelay(50)
+ *          .setDelayPercentile(0.95)
+ *          .build());
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public class HedgingPolicy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HedgingPolicy.class);
+
+    // budget credits are counted in thousandths of a request
+    private static final long CREDIT = 1000L;
+
+    private final long delayNanos;
+    private final double delayPercentile;
+    private final double budget;
+    private final long maxCredit;
+    private final long idleTimeoutNanos;
+    private final ScheduledExecutorService timer;
+
+    private final ConcurrentMap<Object, Partition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    private HedgingPolicy(Builder b) {
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(b.delay);
+        this.delayPercentile = b.delayPercentile;
+        this.budget = b.budget;
+        this.maxCredit = Math.round(b.maxBurst * CREDIT);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(b.idleTimeout);
+        this.timer = b.timer;
+    }
+
+    /**
+     * @return the number of backup requests sent
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return the number of backup requests that answered before the original one
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    /**
+     * @return the number of backup requests not sent for lack of budget
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    // ------------------------------------------------------- Package Methods
+
+    boolean isHedgeable(Request request, AsyncHandler<?> handler) {
+        final String method = request.getMethod();
+        return ("GET".equals(method) || "HEAD".equals(method))
+                // a generated body may not be sent twice
+                && request.getBodyGenerator() == null
+                && !(handler instanceof UpgradeHandler)
+                && !(handler instanceof TransferCompletionHandler)
+                && !(handler instanceof ReadControlledAsyncHandler);
+    }
+
+    /**
+     * @param workerPool the pool backup requests are sent from, as the timer thread must not block
+     */
+    <T> ListenableFuture<T> execute(Request request, AsyncHandler<T> handler, RequestExecutor executor,
+            Executor workerPool) {
+        final Partition partition = partition(request);
+        partition.earn();
+        final HedgedFuture<T> future = new HedgedFuture<>(request, handler, executor, workerPool, partition);
+        future.start();
+        return future;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private Partition partition(Request request) {
+        final Object key = request.getConnectionPoolPartitioning().getPartitionKey(request.getUri(),
+                request.getProxyServer());
+        Partition partition = partitions.get(key);
+        if (partition == null) {
+            final Partition created = new Partition(key);
+            partition = partitions.putIfAbsent(key, created);
+            if (partition == null) {
+                partition = created;
+                partition.scheduleEviction(idleTimeoutNanos);
+            }
+        }
+        // a partition evicted meanwhile only loses what this request earns and records, erring on the safe side
+        partition.lastUsedNanos = System.nanoTime();
+        return partition;
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * Hedging budget and latency history of a connection pool partition.
+     */
+    private final class Partition {
+
+        private static final int WINDOW = 128;
+        private static final int MIN_SAMPLES = 16;
+
+        private final Object key;
+        private final AtomicLong credit = new AtomicLong();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] samples = new long[WINDOW];
+        private int sampleCount;
+        private volatile long percentileNanos = -1;
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        Partition(Object key) {
+            this.key = key;
+        }
+
+        void earn() {
+            final long earned = Math.round(budget * CREDIT);
+            for (;;) {
+                final long current = credit.get();
+                final long next = Math.min(maxCredit, current + earned);
+                if (next == current || credit.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        boolean spend() {
+            for (;;) {
+                final long current = credit.get();
+                if (current < CREDIT) {
+                    return false;
+                }
+                if (credit.compareAndSet(current, current - CREDIT)) {
+                    return true;
+                }
+            }
+        }
+
+        long delayNanos() {
+            final long percentile = percentileNanos;
+            return percentile >= 0 ? percentile : delayNanos;
+        }
+
+        void record(long latencyNanos) {
+            if (delayPercentile <= 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                samples[sampleCount++ % WINDOW] = latencyNanos;
+                if (sampleCount >= MIN_SAMPLES && sampleCount % MIN_SAMPLES == 0) {
+                    final long[] sorted = Arrays.copyOf(samples, Math.min(sampleCount, WINDOW));
+                    Arrays.sort(sorted);
+                    percentileNanos = sorted[Math.min(sorted.length - 1, (int) (delayPercentile * sorted.length))];
+                }
+                if (sampleCount >= 2 * WINDOW) {
+                    // keep the counter bounded while preserving its position in the window
+                    sampleCount -= WINDOW;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void scheduleEviction(long delayNanos) {
+            timer.schedule(this::evictIfIdle, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void evictIfIdle() {
+            final long idleNanos = System.nanoTime() - lastUsedNanos;
+            if (idleNanos >= idleTimeoutNanos) {
+                partitions.remove(key, this);
+            } else {
+                scheduleEviction(idleTimeoutNanos - idleNanos);
+            }
+        }
+    } // END Partition
+
+    /**
+     * The future of a hedged request, delivering the response of the first attempt to receive a status.
+     */
+    private final class HedgedFuture<T> extends AbstractListenableFuture<T> {
+
+        private final Request request;
+        private final AsyncHandler<T> handler;
+        private final RequestExecutor executor;
+        private final Executor workerPool;
+        private final Partition partition;
+        private final CompletableFuture<T> result = new Stage();
+        private final AtomicReference<Attempt> winner = new AtomicReference<>();
+        private final Attempt primary = new Attempt(false);
+        private final Attempt backup = new Attempt(true);
+        private volatile Future<?> hedgeTask;
+
+        HedgedFuture(Request request, AsyncHandler<T> handler, RequestExecutor executor, Executor workerPool,
+                Partition partition) {
+            this.request = request;
+            this.handler = handler;
+            this.executor = executor;
+            this.workerPool = workerPool;
+            this.partition = partition;
+            result.whenComplete((v, t) -> runListeners());
+        }
+
+        void start() {
+            primary.send();
+            if (!result.isDone() && winner.get() == null) {
+                // the timer only hands the backup request off
+                hedgeTask = timer.schedule(() -> workerPool.execute(this::hedge), partition.delayNanos(),
+                        TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void hedge() {
+            if (result.isDone() || winner.get() != null || primary.failed) {
+                return;
+            }
+            if (!partition.spend()) {
+                budgetExhaustedCount.incrementAndGet();
+                return;
+            }
+            hedgeCount.incrementAndGet();
+            backup.send();
+        }
+
+        /**
+         * @return true if the attempt is, or just became, the winner
+         */
+        private boolean claim(Attempt attempt) {
+            if (winner.get() == attempt) {
+                return true;
+            }
+            if (!winner.compareAndSet(null, attempt)) {
+                return false;
+            }
+            final Future<?> task = hedgeTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            final Attempt other = attempt == primary ? backup : primary;
+            other.cancel();
+            if (attempt.isBackup) {
+                hedgeWinCount.incrementAndGet();
+            }
+            partition.record(System.nanoTime() - attempt.startNanos);
+            return true;
+        }
+
+        private void fail(Throwable t) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                handler.onThrowable(t);
+            } catch (Throwable t2) {
+                LOGGER.debug("onThrowable", t2);
+            }
+            result.completeExceptionally(t);
+        }
+
+        // ------------------------------------------------- Methods from Future
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return result.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return result.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            return result.get();
+        }
+
+        @Override
+        public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return result.get(timeout, unit);
+        }
+
+        // --------------------------------------- Methods from ListenableFuture
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void abort(Throwable t) {
+            fail(t);
+            primary.cancel();
+            backup.cancel();
+        }
+
+        @Override
+        public void touch() {
+            primary.touch();
+            backup.touch();
+        }
+
+        @Override
+        public CompletableFuture<T> toCompletableFuture() {
+            return result;
+        }
+
+        /**
+         * Cancels both attempts, however cancellation is reached.
+         */
+        private final class Stage extends CompletableFuture<T> {
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                if (!super.cancel(mayInterruptIfRunning)) {
+                    return false;
+                }
+                final Future<?> task = hedgeTask;
+                if (task != null) {
+                    task.cancel(false);
+                }
+                try {
+                    handler.onThrowable(new CancellationException());
+                } catch (Throwable t) {
+                    LOGGER.debug("onThrowable", t);
+                }
+                primary.cancel();
+                backup.cancel();
+                return true;
+            }
+        } // END Stage
+
+        /**
+         * One of the requests sent, forwarding its response to the request's handler once it won.
+         */
+        private final class Attempt implements AsyncHandler<T> {
+
+            final boolean isBackup;
+            volatile long startNanos;
+            volatile boolean failed;
+            private volatile ListenableFuture<T> future;
+            private volatile boolean cancelled;
+
+            Attempt(boolean isBackup) {
+                this.isBackup = isBackup;
+            }
+
+            void send() {
+                startNanos = System.nanoTime();
+                try {
+                    future = executor.execute(request, this);
+                } catch (RuntimeException e) {
+                    onThrowable(e);
+                    return;
+                }
+                if (cancelled) {
+                    future.cancel(true);
+                }
+            }
+
+            void cancel() {
+                cancelled = true;
+                final ListenableFuture<T> f = future;
+                if (f != null) {
+                    f.cancel(true);
+                }
+            }
+
+            void touch() {
+                final ListenableFuture<T> f = future;
+                if (f != null) {
+                    f.touch();
+                }
+            }
+
+            @Override
+            public STATE onStatusReceived(HttpResponseStatus responseStatus) throws Exception {
+                if (result.isDone() || !claim(this)) {
+                    return STATE.ABORT;
+                }
+                return handler.onStatusReceived(responseStatus);
+            }
+
+            @Override
+            public STATE onHeadersReceived(HttpResponseHeaders headers) throws Exception {
+                return winner.get() == this && !result.isDone() ? handler.onHeadersReceived(headers) : STATE.ABORT;
+            }
+
+            @Override
+            public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+                return winner.get() == this && !result.isDone() ? handler.onBodyPartReceived(bodyPart) : STATE.ABORT;
+            }
+
+            @Override
+            public T onCompleted() throws Exception {
+                if (winner.get() != this || result.isDone()) {
+                    return null;
+                }
+                try {
+                    final T value = handler.onCompleted();
+                    result.complete(value);
+                    return value;
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                    throw e;
+                }
+            }
+
+            @Override
+            public void onThrowable(Throwable t) {
+                failed = true;
+                final Attempt other = this == primary ? backup : primary;
+                if (winner.get() == this) {
+                    fail(t);
+                } else if (winner.get() == null && !(other.future != null && !other.failed && !other.cancelled)
+                        && winner.compareAndSet(null, this)) {
+                    // no other attempt can answer anymore
+                    final Future<?> task = hedgeTask;
+                    if (task != null) {
+                        task.cancel(false);
+                    }
+                    fail(t);
+                }
+            }
+        } // END Attempt
+    } // END HedgedFuture
+
+    /**
+     * Builder for a {@link HedgingPolicy}.
+     */
+    public static class Builder {
+
+        private long delay = 100;
+        private double delayPercentile;
+        private double budget = 0.05;
+        private double maxBurst = 10;
+        private long idleTimeout = 60000;
+        private ScheduledExecutorService timer = SharedTimer.get();
+
+        /**
+         * Set the delay after which a backup request is sent, 100ms by default. When a delay percentile is set, this
+         * is the delay applied until enough latencies have been observed.
+         *
+         * @param delay the delay, in milliseconds
+         * @return this builder
+         */
+        public Builder setDelay(long delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Derive the delay from the latencies observed for each connection pool partition, for instance
+         * <code>0.95</code> to send a backup request once a request is slower than 95% of the recent ones. Disabled
+         * by default.
+         *
+         * @param delayPercentile the percentile, between 0 and 1
+         * @return this builder
+         */
+        public Builder setDelayPercentile(double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        /**
+         * Set the ratio of backup requests to requests allowed for each connection pool partition, 0.05 by default.
+         *
+         * @param budget the ratio
+         * @return this builder
+         */
+        public Builder setBudget(double budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Set the number of backup requests a connection pool partition may accumulate while idle, 10 by default.
+         *
+         * @param maxBurst the number of backup requests
+         * @return this builder
+         */
+        public Builder setMaxBurst(double maxBurst) {
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        /**
+         * Set how long a connection pool partition may go without requests before its budget and latency history
+         * are dropped, 60s by default.
+         *
+         * @param idleTimeout the timeout, in milliseconds
+         * @return this builder
+         */
+        public Builder setIdleTimeout(long idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Set the timer backup requests are scheduled on, a shared one by default.
+         *
+         * @param timer the timer
+         * @return this builder
+         */
+        public Builder setTimer(ScheduledExecutorService timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            if (delay < 0) {
+                throw new IllegalArgumentException("delay must be >= 0");
+            }
+            if (delayPercentile < 0 || delayPercentile >= 1) {
+                throw new IllegalArgumentException("delayPercentile must be in [0, 1)");
+            }
+            if (budget < 0 || maxBurst < 1) {
+                throw new IllegalArgumentException("budget must be >= 0 and maxBurst >= 1");
+            }
+            if (idleTimeout <= 0) {
+                throw new IllegalArgumentException("idleTimeout must be > 0");
+            }
+            return new HedgingPolicy(this);
+        }
+    } // END Builder
+}
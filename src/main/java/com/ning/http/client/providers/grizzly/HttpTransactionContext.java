@@ -16,13 +16,21 @@ package com.ning.http.client.providers.grizzly;
 
 import com.ning.http.client.providers.grizzly.events.GracefulCloseEvent;
 import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.BodyPartCoalescing;
 import com.ning.http.client.ProxyServer;
+import com.ning.http.client.ReadControlledAsyncHandler;
+import com.ning.http.client.ReadController;
 import com.ning.http.client.Request;
 import com.ning.http.client.uri.Uri;
 import com.ning.http.client.ws.WebSocket;
 import com.ning.http.util.AsyncHttpProviderUtils;
 import com.ning.http.util.ProxyUtils;
+import com.ning.http.util.SharedTimer;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.glassfish.grizzly.CloseListener;
 import org.glassfish.grizzly.CloseType;
 import org.glassfish.grizzly.Closeable;
@@ -32,9 +40,11 @@ import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.attributes.Attribute;
 import org.glassfish.grizzly.attributes.AttributeStorage;
 import org.glassfish.grizzly.filterchain.FilterChain;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
 import org.glassfish.grizzly.http.HttpContext;
 import org.glassfish.grizzly.http.HttpHeader;
 import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.ProcessingState;
 import org.glassfish.grizzly.websockets.HandShake;
 import org.glassfish.grizzly.websockets.ProtocolHandler;
 
@@ -79,6 +89,8 @@ public final class HttpTransactionContext {
     WebSocket webSocket;
     boolean establishingTunnel;
     boolean skipCleanup;
+    // the response content is skipped by the codec, as the request discards it
+    boolean isDiscardingBody;
     
     // don't recycle the context, don't return associated connection to
     // the pool
@@ -89,6 +101,53 @@ public final class HttpTransactionContext {
      */
     private boolean isRequestFullySent;
     private CleanupTask cleanupTask;
+
+    /**
+     * <tt>true</tt> while the remainder of the response is read and discarded.
+     */
+    private volatile boolean isDraining;
+
+    /**
+     * The response body bytes charged to the provider's memory budget.
+     */
+    final AtomicLong bufferedBytes = new AtomicLong();
+
+    /**
+     * Why the connection isn't read: a mask of {@link #SUSPENDED_BY_BUDGET},
+     * {@link #SUSPENDED_BY_HANDLER} and {@link #SUSPENDED_BY_COALESCER}.
+     */
+    static final int SUSPENDED_BY_BUDGET = 1;
+    static final int SUSPENDED_BY_HANDLER = 2;
+    static final int SUSPENDED_BY_COALESCER = 4;
+    private final AtomicInteger readSuspensions = new AtomicInteger();
+    // the read processing suspended until nothing suspends the reads anymore
+    private FilterChainContext suspendedReadContext;
+    private volatile boolean isResponseFinished;
+
+    /**
+     * Coalesces the body parts, if the request asks for it.
+     */
+    final BodyPartCoalescer bodyPartCoalescer;
+
+    /**
+     * Lets a {@link ReadControlledAsyncHandler} suspend the reading of the
+     * connection, until the response is finished.
+     */
+    final ReadController readController = new ReadController() {
+        @Override
+        public void suspend() {
+            if (!isResponseFinished) {
+                suspendReads(SUSPENDED_BY_HANDLER);
+            }
+        }
+
+        @Override
+        public void resume() {
+            if (!isResponseFinished) {
+                resumeReads(SUSPENDED_BY_HANDLER);
+            }
+        }
+    };
     
     private final CloseListener listener = new CloseListener<Closeable, CloseType>() {
         @Override
@@ -165,6 +224,10 @@ public final class HttpTransactionContext {
         redirectsAllowed = provider.getClientConfig().isFollowRedirect();
         maxRedirectCount = provider.getClientConfig().getMaxRedirects();
         this.requestUri = ahcRequest.getUri();
+        final BodyPartCoalescing coalescing = ahcRequest.getBodyPartCoalescing();
+        this.bodyPartCoalescer = coalescing != null
+                ? new BodyPartCoalescer(this, coalescing, connection)
+                : null;
     }
 
     Connection getConnection() {
@@ -175,7 +238,7 @@ public final class HttpTransactionContext {
         return future != null ? future.getAsyncHandler() : null;
     }
     
-    Request getAhcRequest() {
+    public Request getAhcRequest() {
         return ahcRequest;
     }
 
@@ -257,6 +320,145 @@ public final class HttpTransactionContext {
         connection.closeSilently();
     }
 
+    /**
+     * Read and discard the remainder of the response, so that the connection
+     * goes back to the pool once it's complete, if it's small enough.
+     * Otherwise, close the connection.  Called when the request is cancelled
+     * or aborted.
+     */
+    void drainOrClose() {
+        final HttpResponsePacket response = responsePacket;
+        final boolean requestFullySent;
+        synchronized (this) {
+            requestFullySent = isRequestFullySent;
+        }
+        if (!requestFullySent || response == null || response.isSkipRemainder()
+                || provider.maxDrainTime <= 0 || !isDrainable(response)) {
+            closeConnection();
+            return;
+        }
+        startDrain();
+    }
+
+    /**
+     * @return <tt>true</tt> if the remainder of the response may be read and
+     *          discarded to keep the connection alive, as the response is
+     *          keep-alive and its remainder within the provider's limits
+     */
+    boolean isDrainable(final HttpResponsePacket response) {
+        final ProcessingState state = response.getProcessingState();
+        if (isWSRequest || establishingTunnel || !state.isKeepAlive()
+                || state.isError() || !connection.isOpen()) {
+            return false;
+        }
+        if (!response.isExpectContent() || response.isChunked()) {
+            return true;
+        }
+        final long contentLength = response.getContentLength();
+        return contentLength >= 0 && contentLength <= provider.maxDrainSize;
+    }
+
+    /**
+     * Close the connection unless the remainder of the response, which is
+     * skipped, is complete within the provider's drain time.
+     */
+    void startDrain() {
+        isDraining = true;
+        SharedTimer.schedule(() -> {
+            if (finishDrain()) {
+                closeConnection();
+            }
+        }, provider.maxDrainTime, TimeUnit.MILLISECONDS);
+    }
+
+    boolean isDraining() {
+        return isDraining;
+    }
+
+    /**
+     * @return <tt>true</tt> if the remainder of the response was being
+     *          drained, and isn't anymore
+     */
+    synchronized boolean finishDrain() {
+        final boolean wasDraining = isDraining;
+        isDraining = false;
+        return wasDraining;
+    }
+
+    /**
+     * Stop reading the connection once the body part being processed is
+     * handed over, see {@link #suspendReadProcessing(FilterChainContext)}.
+     */
+    void suspendReads(final int reason) {
+        readSuspensions.getAndUpdate(r -> r | reason);
+    }
+
+    void resumeReads(final int reason) {
+        if (readSuspensions.updateAndGet(r -> r & ~reason) != 0) {
+            return;
+        }
+        final FilterChainContext ctx;
+        synchronized (this) {
+            // unless suspended again meanwhile
+            if (isReadSuspended()) {
+                return;
+            }
+            ctx = suspendedReadContext;
+            suspendedReadContext = null;
+        }
+        if (ctx != null) {
+            // the processing goes on in the resuming thread
+            final ExecutorService pool = connection.getTransport().getWorkerThreadPool();
+            final Runnable resume = () -> ctx.resume(ctx.getStopAction());
+            if (pool != null) {
+                pool.execute(resume);
+            } else {
+                resume.run();
+            }
+        }
+    }
+
+    boolean isReadSuspended() {
+        return readSuspensions.get() != 0;
+    }
+
+    /**
+     * Suspend the processing of the read event once the current body part is
+     * processed, if the reads are suspended.  The I/O strategy doesn't read
+     * the connection anymore until the processing is resumed, the bytes
+     * already read and not parsed yet being kept until then.
+     *
+     * @return <tt>true</tt> if the processing is suspended
+     */
+    boolean suspendReadProcessing(final FilterChainContext ctx) {
+        synchronized (this) {
+            if (!isReadSuspended()) {
+                return false;
+            }
+            ctx.suspend();
+            suspendedReadContext = ctx;
+            return true;
+        }
+    }
+
+    /**
+     * Credit the response body bytes held by this transaction back to the
+     * provider's memory budget, drop the content held for coalescing, and
+     * resume reading the connection if the handler suspended it.  Called once
+     * the transaction completes.
+     */
+    void onResponseFinished() {
+        isResponseFinished = true;
+        if (bodyPartCoalescer != null) {
+            bodyPartCoalescer.close();
+        }
+        final ResponseMemoryBudget budget = provider.memoryBudget;
+        if (budget != null) {
+            budget.releaseAll(this);
+        }
+        resumeReads(SUSPENDED_BY_HANDLER);
+    }
+
     void keepAliveDisabled() {
         connection.getAttributes().setAttribute("keep-alive-disabled", Boolean.TRUE);
     }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.providers.grizzly;
+
+import com.ning.http.client.Body;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.WriteHandler;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.utils.Exceptions;
+
+/**
+ * A {@link FeedableBodyGenerator} sending the buffers published by a
+ * {@link Flow.Publisher}, requested one at a time while the connection's
+ * write queue has room, and once it's drained otherwise.  No thread waits
+ * for the queue to drain, and no more than a buffer is queued past its limit.
+ *
+ * The body is sent chunked, unless its length is given up front.  The
+ * publisher is subscribed to once the request has been sent, and the
+ * buffers it publishes belong to the generator.
+ *
+ * The body can only be sent once: sending the request again, as to follow a
+ * redirect keeping the body, fails it with an {@link IOException} rather
+ * than waiting on a publisher that was already subscribed to.
+ *
+ * @since 5.0.1
+ */
+public class PublisherBodyGenerator extends FeedableBodyGenerator {
+
+    private final Flow.Publisher<ByteBuffer> publisher;
+    private final long contentLength;
+    private final AtomicBoolean sent = new AtomicBoolean();
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    /**
+     * Sends the body chunked.
+     *
+     * @param publisher the publisher of the body
+     */
+    public PublisherBodyGenerator(final Flow.Publisher<ByteBuffer> publisher) {
+        this(publisher, -1);
+    }
+
+    /**
+     * @param publisher the publisher of the body
+     * @param contentLength the length of the body, or <tt>-1</tt> to send it
+     *  chunked
+     */
+    public PublisherBodyGenerator(final Flow.Publisher<ByteBuffer> publisher,
+                                  final long contentLength) {
+        if (publisher == null) {
+            throw new IllegalArgumentException("Publisher argument cannot be null.");
+        }
+        this.publisher = publisher;
+        this.contentLength = contentLength;
+        setFeeder(new PublisherFeeder(this));
+    }
+
+
+    // ---------------------------------------------- Methods from BodyGenerator
+
+
+    @Override
+    public Body createBody() throws IOException {
+        return new Body() {
+            @Override
+            public long getContentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public long read(final ByteBuffer buffer) {
+                // the body is fed once the publisher is subscribed to
+                return 0;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+
+    // ------------------------------------------------- Package Private Methods
+
+
+    @Override
+    void initializeAsynchronousTransfer(final FilterChainContext context,
+                                        final HttpRequestPacket requestPacket)
+    throws IOException {
+        if (!sent.compareAndSet(false, true)) {
+            throw new IOException("The body of a PublisherBodyGenerator can't be sent again");
+        }
+        super.initializeAsynchronousTransfer(context, requestPacket);
+    }
+
+
+    // ---------------------------------------------------------- Nested Classes
+
+
+    private final class PublisherFeeder extends BaseFeeder
+            implements Flow.Subscriber<ByteBuffer> {
+
+        private volatile Flow.Subscription subscription;
+        private long fed;
+
+
+        // -------------------------------------------------------- Constructors
+
+
+        private PublisherFeeder(final FeedableBodyGenerator feedableBodyGenerator) {
+            super(feedableBodyGenerator);
+        }
+
+
+        // ------------------------------------------------- Methods from Feeder
+
+
+        @Override
+        public void flush() {
+            publisher.subscribe(this);
+        }
+
+
+        // --------------------------------------- Methods from Flow.Subscriber
+
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            requestWhenWritable();
+        }
+
+        @Override
+        public void onNext(final ByteBuffer buffer) {
+            fed += buffer.remaining();
+            if (contentLength >= 0 && fed > contentLength) {
+                fail(new IOException("The body exceeds its length of "
+                        + contentLength + " bytes"));
+                return;
+            }
+            final Connection c = getConnection();
+            try {
+                feed(Buffers.wrap(c.getMemoryManager(), buffer), false);
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+            requestWhenWritable();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            getConnection().closeWithReason(Exceptions.makeIOException(t));
+        }
+
+        @Override
+        public void onComplete() {
+            if (contentLength >= 0 && fed != contentLength) {
+                getConnection().closeWithReason(new IOException("The body is "
+                        + fed + " bytes long rather than " + contentLength));
+                return;
+            }
+            try {
+                feed(Buffers.EMPTY_BUFFER, true);
+            } catch (IOException e) {
+                getConnection().closeWithReason(e);
+            }
+        }
+
+
+        // ----------------------------------------------------- Private Methods
+
+
+        private void requestWhenWritable() {
+            final Connection c = getConnection();
+            if (c.canWrite()) {
+                subscription.request(1);
+            } else {
+                c.notifyCanWrite(new WriteHandler() {
+                    @Override
+                    public void onWritePossible() {
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(final Throwable t) {
+                        fail(t);
+                    }
+                });
+            }
+        }
+
+        private void fail(final Throwable t) {
+            subscription.cancel();
+            getConnection().closeWithReason(Exceptions.makeIOException(t));
+        }
+
+    } // END PublisherFeeder
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.providers.grizzly;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The budget of the response body bytes held by the transactions in flight,
+ * see {@link GrizzlyAsyncHttpProviderConfig.Property#RESPONSE_MEMORY_BUDGET}.
+ * Body parts are charged to their transaction as they are received, and
+ * credited back once released, or all at once when the transaction completes.
+ * A suspended connection stops being processed after the current body part,
+ * so the budget may be exceeded by the bytes already read.
+ *
+ * @since 5.0.1
+ */
+final class ResponseMemoryBudget {
+
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+    // transactions holding bytes, and those whose connection isn't read
+    private final Set<HttpTransactionContext> holders = ConcurrentHashMap.newKeySet();
+    private final Set<HttpTransactionContext> suspended = ConcurrentHashMap.newKeySet();
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    ResponseMemoryBudget(final long limit) {
+        this.limit = limit;
+    }
+
+
+    // --------------------------------------------------------- Package Methods
+
+
+    long getUsed() {
+        return used.get();
+    }
+
+    void acquire(final HttpTransactionContext tx,
+            final GrizzlyResponseBodyPart bodyPart) {
+        final int length = bodyPart.length();
+        if (length <= 0) {
+            return;
+        }
+        bodyPart.charge(this, tx, length);
+        if (tx.bufferedBytes.getAndAdd(length) == 0) {
+            holders.add(tx);
+        }
+        used.addAndGet(length);
+    }
+
+    /**
+     * Stop reading the transaction's connection if the budget is exceeded and
+     * the transaction holds more than its share of it, unless every other
+     * holder is already suspended.
+     */
+    synchronized void suspendIfOverShare(final HttpTransactionContext tx) {
+        if (used.get() <= limit || suspended.contains(tx)) {
+            return;
+        }
+        final int holderCount = holders.size();
+        if (suspended.size() + 1 >= holderCount
+                || tx.bufferedBytes.get() <= limit / holderCount) {
+            return;
+        }
+        suspended.add(tx);
+        tx.suspendReads(HttpTransactionContext.SUSPENDED_BY_BUDGET);
+        // bytes may have been released meanwhile
+        resumeIfUnder();
+    }
+
+    void release(final HttpTransactionContext tx, final long length) {
+        long released;
+        for (;;) {
+            final long buffered = tx.bufferedBytes.get();
+            released = Math.min(buffered, length);
+            if (tx.bufferedBytes.compareAndSet(buffered, buffered - released)) {
+                if (released > 0 && buffered == released) {
+                    holders.remove(tx);
+                }
+                break;
+            }
+        }
+        if (released > 0) {
+            used.addAndGet(-released);
+            resumeIfUnder();
+        }
+    }
+
+    void releaseAll(final HttpTransactionContext tx) {
+        final long released = tx.bufferedBytes.getAndSet(0);
+        holders.remove(tx);
+        if (suspended.remove(tx)) {
+            tx.resumeReads(HttpTransactionContext.SUSPENDED_BY_BUDGET);
+        }
+        used.addAndGet(-released);
+        // the remaining holders may all be suspended
+        resumeIfUnder();
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    /**
+     * Resume the suspended transactions once the budget isn't exceeded
+     * anymore, or one of them if none of the holders is read.
+     */
+    private void resumeIfUnder() {
+        if (suspended.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            final boolean under = used.get() <= limit;
+            if (!under && suspended.size() < holders.size()) {
+                return;
+            }
+            for (HttpTransactionContext tx : suspended) {
+                if (suspended.remove(tx)) {
+                    tx.resumeReads(HttpTransactionContext.SUSPENDED_BY_BUDGET);
+                    if (!under) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+} // END ResponseMemoryBudget
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.providers.grizzly;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.Request;
+import com.ning.http.client.cookie.RFC2616DateParser;
+import com.ning.http.util.SharedTimer;
+import java.text.ParsePosition;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.glassfish.grizzly.filterchain.FilterChainContext;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A status handler sending idempotent requests again when they're
+ * answered with <code>429 Too Many Requests</code> or
+ * <code>503 Service Unavailable</code>, once the delay the server asked for
+ * with <code>Retry-After</code> has elapsed.
+ * <p>
+ * The remainder of the response is skipped and the request is scheduled on a
+ * timer, so no thread waits in the meantime, and sent on a pooled
+ * connection, which is the same keep-alive one when it's still open.  The
+ * caller's {@link AsyncHandler} only sees the final response.  A response is
+ * delivered as is when:
+ * <ul>
+ *     <li>the request method isn't idempotent, or its body can't be replayed,</li>
+ *     <li>the request was already sent again {@link Builder#setMaxRetries(int) max retries} times,</li>
+ *     <li>there is no valid <code>Retry-After</code> and no {@link Builder#setDefaultDelay(long) default delay},</li>
+ *     <li>the delay exceeds the {@link Builder#setMaxDelay(long) max delay}, or would outlast the request timeout,</li>
+ *     <li>or the retry budget, {@link Builder#setRetriesPerSecond(double) retries per second} with bursts of
+ *     {@link Builder#setMaxBurst(int) max burst}, is exhausted.</li>
+ * </ul>
+ * <p>
+ * The handler must be registered for both status codes:
+ *
+ * <pre>{@code
+ *      RetryAfterHandler retryAfter = new RetryAfterHandler.Builder().setMaxDelay(5000).build();
+ *      StatusHandlers handlers = new StatusHandlers.Builder()
+ *          .register(429, retryAfter)
+ *          .register(503, retryAfter)
+ *          .build();
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public final class RetryAfterHandler implements StatusHandler {
+
+    private final static Logger LOGGER =
+            LoggerFactory.getLogger(RetryAfterHandler.class);
+
+    // not among the HttpStatus constants
+    private static final int TOO_MANY_REQUESTS_429 = 429;
+
+    private final int maxRetries;
+    private final long maxDelay;
+    private final long defaultDelay;
+    private final ScheduledExecutorService timer;
+
+    // the retry budget, a virtual scheduling token bucket
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong budget = new AtomicLong(System.nanoTime());
+
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    private RetryAfterHandler(final Builder b) {
+        this.maxRetries = b.maxRetries;
+        this.maxDelay = b.maxDelay;
+        this.defaultDelay = b.defaultDelay;
+        this.timer = b.timer;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / b.retriesPerSecond);
+        this.burstNanos = intervalNanos * b.maxBurst;
+    }
+
+    /**
+     * @return the number of requests sent again
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return the number of responses delivered because the retry budget was exhausted
+     */
+    public long getBudgetExhaustedCount() {
+        return budgetExhaustedCount.get();
+    }
+
+    // ------------------------------------------ Methods from StatusHandler
+
+    @Override
+    public boolean handlesStatus(final int statusCode) {
+        return statusCode == TOO_MANY_REQUESTS_429
+                || HttpStatus.SERVICE_UNAVAILABLE_503.statusMatches(statusCode);
+    }
+
+    @SuppressWarnings(value = {"unchecked"})
+    @Override
+    public boolean handleStatus(final HttpResponsePacket responsePacket,
+            final HttpTransactionContext httpTransactionContext,
+            final FilterChainContext ctx) {
+
+        final GrizzlyResponseFuture<?> future = httpTransactionContext.future;
+        final long delay = future != null
+                ? retryDelay(responsePacket, httpTransactionContext, future)
+                : -1;
+        if (delay < 0) {
+            httpTransactionContext.invocationStatus = InvocationStatus.STOP;
+            final AsyncHandler ah = httpTransactionContext.getAsyncHandler();
+            if (ah != null) {
+                try {
+                    httpTransactionContext.currentState =
+                            ah.onStatusReceived(httpTransactionContext.responseStatus);
+                } catch (Exception e) {
+                    httpTransactionContext.abort(e);
+                }
+            }
+            return true;
+        }
+
+        final Request request = httpTransactionContext.getAhcRequest();
+        final GrizzlyAsyncHttpProvider provider = httpTransactionContext.provider;
+
+        responsePacket.setSkipRemainder(true); // ignore the remainder of the response
+        // detach the future, so neither a cancellation nor a close of the
+        // connection, which goes back to the pool, affects the other
+        future.retryCount++;
+        future.setHttpTransactionCtx(null);
+        httpTransactionContext.future = null;
+        retryCount.incrementAndGet();
+
+        LOGGER.debug("Sending {} again in {}ms after status {}",
+                request.getUri(), delay, responsePacket.getStatus());
+        // the timer only hands the request off, as sending may block
+        timer.schedule(() -> {
+            try {
+                provider.getWorkerPool().execute(() -> {
+                    if (!future.isDone()) {
+                        provider.send(request, future);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                future.abort(e);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+
+        return false;
+    }
+
+    // ----------------------------------------------------- Private Methods
+
+    /**
+     * @return the delay before sending the request again, in milliseconds,
+     *          or -1 to deliver the response
+     */
+    private long retryDelay(final HttpResponsePacket responsePacket,
+            final HttpTransactionContext httpTransactionContext,
+            final GrizzlyResponseFuture<?> future) {
+
+        final Request request = httpTransactionContext.getAhcRequest();
+        if (!isIdempotent(request) || future.retryCount >= maxRetries) {
+            return -1;
+        }
+
+        final long delay = parseRetryAfter(responsePacket.getHeader(Header.RetryAfter));
+        if (delay < 0 || delay > maxDelay) {
+            return -1;
+        }
+
+        final long timeout = request.getRequestTimeout() > 0
+                ? request.getRequestTimeout()
+                : httpTransactionContext.provider.getClientConfig().getRequestTimeout();
+        if (timeout > 0 && TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - future.startNanos) + delay >= timeout) {
+            return -1;
+        }
+
+        if (!tryAcquireBudget()) {
+            budgetExhaustedCount.incrementAndGet();
+            return -1;
+        }
+        return delay;
+    }
+
+    private long parseRetryAfter(final String value) {
+        if (value == null) {
+            return defaultDelay;
+        }
+        final String retryAfter = value.trim();
+        if (!retryAfter.isEmpty() && retryAfter.chars().allMatch(Character::isDigit)) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        final Date date = RFC2616DateParser.get().parse(retryAfter, new ParsePosition(0));
+        return date != null
+                ? Math.max(0, date.getTime() - System.currentTimeMillis())
+                : defaultDelay;
+    }
+
+    private boolean tryAcquireBudget() {
+        for (;;) {
+            final long now = System.nanoTime();
+            final long current = budget.get();
+            final long next = Math.max(current - now, 0) + now + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (budget.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isIdempotent(final Request request) {
+        if (request.getStreamData() != null || request.getBodyGenerator() != null) {
+            return false;
+        }
+        switch (request.getMethod().toUpperCase(Locale.ENGLISH)) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "TRACE":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // ------------------------------------------------------- Nested Classes
+
+    public static final class Builder {
+
+        private int maxRetries = 3;
+        private long maxDelay = 60000;
+        private long defaultDelay = -1;
+        private double retriesPerSecond = 10;
+        private int maxBurst = 10;
+        private ScheduledExecutorService timer = SharedTimer.get();
+
+        /**
+         * Set how many times a request may be sent again. Default is 3.
+         *
+         * @param maxRetries the maximum number of retries per request
+         * @return this
+         */
+        public Builder setMaxRetries(final int maxRetries) {
+            if (maxRetries < 0)
+                throw new IllegalArgumentException("maxRetries must be positive");
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set the longest <code>Retry-After</code> delay to wait for. Default is 60 seconds.
+         *
+         * @param maxDelay the delay, in milliseconds
+         * @return this
+         */
+        public Builder setMaxDelay(final long maxDelay) {
+            if (maxDelay < 0)
+                throw new IllegalArgumentException("maxDelay must be positive");
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Set the delay used when a response has no valid <code>Retry-After</code>. Default is -1, meaning such
+         * responses are delivered.
+         *
+         * @param defaultDelay the delay, in milliseconds, or -1
+         * @return this
+         */
+        public Builder setDefaultDelay(final long defaultDelay) {
+            this.defaultDelay = defaultDelay < 0 ? -1 : defaultDelay;
+            return this;
+        }
+
+        /**
+         * Set the sustained rate of retries across all requests. Default is 10.
+         *
+         * @param retriesPerSecond the number of retries per second
+         * @return this
+         */
+        public Builder setRetriesPerSecond(final double retriesPerSecond) {
+            if (retriesPerSecond <= 0)
+                throw new IllegalArgumentException("retriesPerSecond must be positive");
+            this.retriesPerSecond = retriesPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the number of retries allowed in a burst above the sustained rate. Default is 10.
+         *
+         * @param maxBurst the number of retries
+         * @return this
+         */
+        public Builder setMaxBurst(final int maxBurst) {
+            if (maxBurst <= 0)
+                throw new IllegalArgumentException("maxBurst must be positive");
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        /**
+         * Set the timer retries are scheduled on, a shared one by default.
+         *
+         * @param timer the timer
+         * @return this
+         */
+        public Builder setTimer(final ScheduledExecutorService timer) {
+            this.timer = timer;
+            return this;
+        }
+
+        public RetryAfterHandler build() {
+            return new RetryAfterHandler(this);
+        }
+    }
+} // END RetryAfterHandler
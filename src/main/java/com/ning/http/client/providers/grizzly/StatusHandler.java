@@ -18,7 +18,11 @@ import org.glassfish.grizzly.filterchain.FilterChainContext;
 import org.glassfish.grizzly.http.HttpResponsePacket;
 
 /**
+ * Handles responses of given status codes in place of the request's
+ * {@link com.ning.http.client.AsyncHandler}, typically by sending a follow-up
+ * request on behalf of the caller.
  *
+ * @see StatusHandlers
  * @author Grizzly team
  */
 interface StatusHandler {
@@ -28,6 +32,13 @@ interface StatusHandler {
         CONTINUE, STOP
     }
 
+    /**
+     * Handle a response, once its headers are parsed.
+     *
+     * @return <tt>true</tt> to deliver the response to the request's
+     *          {@link com.ning.http.client.AsyncHandler}, or <tt>false</tt>
+     *          to skip its remainder
+     */
     boolean handleStatus(final HttpResponsePacket httpResponse,
             final HttpTransactionContext httpTransactionContext,
             final FilterChainContext ctx);
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.providers.grizzly;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.glassfish.grizzly.http.util.HttpStatus;
+
+/**
+ * An immutable table of the status handlers a provider hands responses to, by status code, set with the
+ * {@link GrizzlyAsyncHttpProviderConfig.Property#STATUS_HANDLERS} property.
+ * <p>
+ * The default table handles <code>401</code> and <code>407</code> authentication challenges and redirects. A
+ * {@link Builder} starts from it, so registering a handler only adds to or overrides the defaults. The handlers
+ * work on the provider's internals, so the ones that can be registered are those of the provider, such as the
+ * {@link RetryAfterHandler}:
+ *
+ * <pre>{@code
+ *      RetryAfterHandler retryAfter = new RetryAfterHandler.Builder().setMaxRetries(2).build();
+ *      StatusHandlers handlers = new StatusHandlers.Builder()
+ *          .register(429, retryAfter)
+ *          .register(503, retryAfter)
+ *          .build();
+ *      GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+ *      providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.STATUS_HANDLERS, handlers);
+ * }</pre>
+ *
+ * @since 5.0.1
+ */
+public final class StatusHandlers {
+
+    private static final StatusHandlers DEFAULTS = new Builder().build();
+
+    private final Map<Integer, StatusHandler> handlers;
+
+    private StatusHandlers(final Map<Integer, StatusHandler> handlers) {
+        this.handlers = Collections.unmodifiableMap(new HashMap<>(handlers));
+    }
+
+    /**
+     * @return the default table
+     */
+    public static StatusHandlers defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param statusCode a response status code
+     * @return the {@link StatusHandler} of the status code, or null
+     */
+    StatusHandler get(final int statusCode) {
+        return handlers.get(statusCode);
+    }
+
+    /**
+     * @return the status codes having a handler
+     */
+    public Set<Integer> getStatusCodes() {
+        return handlers.keySet();
+    }
+
+    public static final class Builder {
+
+        private final Map<Integer, StatusHandler> handlers = new HashMap<>();
+
+        /**
+         * Create a builder holding the default handlers.
+         */
+        public Builder() {
+            handlers.put(HttpStatus.UNAUTHORIZED_401.getStatusCode(), AhcEventFilter.AuthorizationHandler.INSTANCE);
+            handlers.put(HttpStatus.PROXY_AUTHENTICATION_REQUIRED_407.getStatusCode(), AhcEventFilter.ProxyAuthorizationHandler.INSTANCE);
+            handlers.put(HttpStatus.MOVED_PERMANENTLY_301.getStatusCode(), AhcEventFilter.RedirectHandler.INSTANCE);
+            handlers.put(HttpStatus.FOUND_302.getStatusCode(), AhcEventFilter.RedirectHandler.INSTANCE);
+            handlers.put(HttpStatus.SEE_OTHER_303.getStatusCode(), AhcEventFilter.RedirectHandler.INSTANCE);
+            handlers.put(HttpStatus.TEMPORARY_REDIRECT_307.getStatusCode(), AhcEventFilter.RedirectHandler.INSTANCE);
+            handlers.put(HttpStatus.PERMANENT_REDIRECT_308.getStatusCode(), AhcEventFilter.RedirectHandler.INSTANCE);
+        }
+
+        /**
+         * Create a builder holding the handlers of a table.
+         *
+         * @param prototype the table to start from
+         */
+        public Builder(final StatusHandlers prototype) {
+            handlers.putAll(prototype.handlers);
+        }
+
+        /**
+         * Register a {@link RetryAfterHandler} for a status code, replacing any previous handler.
+         *
+         * @param statusCode the status code, <code>429</code> or <code>503</code>
+         * @param handler the {@link RetryAfterHandler}
+         * @return this
+         */
+        public Builder register(final int statusCode, final RetryAfterHandler handler) {
+            return register(statusCode, (StatusHandler) handler);
+        }
+
+        /**
+         * Register a {@link StatusHandler} for a status code, replacing any previous one.
+         *
+         * @param statusCode the status code
+         * @param handler the {@link StatusHandler}, which must {@link StatusHandler#handlesStatus(int) handle} the
+         *                status code
+         * @return this
+         */
+        Builder register(final int statusCode, final StatusHandler handler) {
+            if (!handler.handlesStatus(statusCode)) {
+                throw new IllegalArgumentException(handler + " doesn't handle status " + statusCode);
+            }
+            handlers.put(statusCode, handler);
+            return this;
+        }
+
+        /**
+         * Remove the handler of a status code, if any.
+         *
+         * @param statusCode the status code
+         * @return this
+         */
+        public Builder unregister(final int statusCode) {
+            handlers.remove(statusCode);
+            return this;
+        }
+
+        public StatusHandlers build() {
+            return new StatusHandlers(handlers);
+        }
+    }
+} // END StatusHandlers
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.sse;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.RequestExecutor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-Sent Events</a> stream, opened
+ * with {@link com.ning.http.client.AsyncHttpClient#openEventSource(Request, EventSourceListener)}.
+ * <p>
+ * The events are parsed from the body parts as they're received, and handed to the {@link EventSourceListener}. When
+ * the stream ends or its connection fails, the request is sent again once the reconnection time has elapsed, with the
+ * <tt>Last-Event-ID</tt> header set to the ID of the last event received. The reconnection time is
+ * {@value #DEFAULT_RECONNECTION_TIME}ms, unless the server sets another one with a <tt>retry</tt> field; reconnections
+ * are scheduled on the {@link com.ning.http.util.SharedTimer}. A response that isn't a <tt>200</tt> with a
+ * <tt>text/event-stream</tt> content type closes the event source instead.
+ * <p>
+ * An idle stream is subject to the request timeout like any response, and is reconnected when it expires; servers
+ * usually send comments periodically to keep it from expiring. An exception thrown by the listener closes the event
+ * source.
+ *
+ * @since 5.0.1
+ */
+public final class EventSource implements Closeable {
+
+    public static final long DEFAULT_RECONNECTION_TIME = 3000;
+
+    public enum ReadyState {
+        CONNECTING, OPEN, CLOSED
+    }
+
+    private final Request request;
+    private final EventSourceListener listener;
+    private final RequestExecutor executor;
+    private final ScheduledExecutorService timer;
+    private final EventStreamParser parser;
+
+    private volatile ReadyState readyState = ReadyState.CONNECTING;
+    private volatile long reconnectionTime = DEFAULT_RECONNECTION_TIME;
+    // the handler of the current connection, whose changes are guarded by this
+    private volatile StreamHandler stream;
+    // guarded by this: the current response, or the scheduled reconnection
+    private Future<?> future;
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    /**
+     * @param request  the request of the stream
+     * @param listener the listener of the events
+     * @param executor the {@link RequestExecutor} sending the request on every connection
+     * @param timer    the timer scheduling reconnections
+     */
+    public EventSource(final Request request, final EventSourceListener listener,
+            final RequestExecutor executor, final ScheduledExecutorService timer) {
+        this.request = request;
+        this.listener = listener;
+        this.executor = executor;
+        this.timer = timer;
+        this.parser = new EventStreamParser(new EventStreamParser.Callback() {
+            @Override
+            public void onEvent(final String type, final String data, final String lastEventId) {
+                if (readyState == ReadyState.CLOSED) {
+                    return;
+                }
+                try {
+                    listener.onEvent(type, data, lastEventId);
+                } catch (RuntimeException e) {
+                    close(e);
+                }
+            }
+
+            @Override
+            public void onRetry(final long reconnectionTime) {
+                EventSource.this.reconnectionTime = reconnectionTime;
+            }
+        });
+    }
+
+
+    // ---------------------------------------------------------- Public Methods
+
+
+    /**
+     * Send the request of the stream, dropping the current connection or pending reconnection, if any. Does nothing
+     * once the event source is closed.
+     */
+    public void connect() {
+        final StreamHandler handler = new StreamHandler();
+        final Future<?> previous;
+        synchronized (this) {
+            if (readyState == ReadyState.CLOSED) {
+                return;
+            }
+            readyState = ReadyState.CONNECTING;
+            stream = handler;
+            previous = future;
+            future = null;
+        }
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        final RequestBuilder builder = new RequestBuilder(request)
+                .setHeader("Accept", "text/event-stream")
+                .setHeader("Cache-Control", "no-cache");
+        final String lastEventId = parser.getLastEventId();
+        if (!lastEventId.isEmpty()) {
+            builder.setHeader("Last-Event-ID", lastEventId);
+        }
+        final ListenableFuture<Void> response;
+        try {
+            response = executor.execute(builder.build(), handler);
+        } catch (RuntimeException e) {
+            close(e);
+            return;
+        }
+        synchronized (this) {
+            // the response may have completed already
+            if (!handler.finished) {
+                future = response;
+            }
+        }
+        if (readyState == ReadyState.CLOSED) {
+            response.cancel(false);
+        }
+    }
+
+    /**
+     * @return the state of the connection
+     */
+    public ReadyState getReadyState() {
+        return readyState;
+    }
+
+    /**
+     * @return the ID of the last event received, sent back on reconnection, or the empty string
+     */
+    public String getLastEventId() {
+        return parser.getLastEventId();
+    }
+
+    /**
+     * @return the time to wait before reconnecting, in milliseconds
+     */
+    public long getReconnectionTime() {
+        return reconnectionTime;
+    }
+
+    /**
+     * Close the stream, and stop reconnecting.
+     */
+    @Override
+    public void close() {
+        close(null);
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    private void close(final Throwable t) {
+        final Future<?> f;
+        synchronized (this) {
+            if (readyState == ReadyState.CLOSED) {
+                return;
+            }
+            readyState = ReadyState.CLOSED;
+            f = future;
+            future = null;
+        }
+        if (f != null) {
+            f.cancel(false);
+        }
+        if (t != null) {
+            listener.onError(t);
+        }
+        listener.onClose(this);
+    }
+
+    private void reconnect(final StreamHandler handler, final Throwable t) {
+        synchronized (this) {
+            if (handler.finished) {
+                return;
+            }
+            handler.finished = true;
+            if (readyState == ReadyState.CLOSED || stream != handler) {
+                return;
+            }
+            readyState = ReadyState.CONNECTING;
+        }
+        parser.reset();
+        if (t != null) {
+            listener.onError(t);
+        }
+        synchronized (this) {
+            if (readyState != ReadyState.CLOSED) {
+                future = timer.schedule(this::connect, reconnectionTime, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private static boolean isEventStream(final String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        final String mediaType = "text/event-stream";
+        final String value = contentType.trim();
+        return value.regionMatches(true, 0, mediaType, 0, mediaType.length())
+                && (value.length() == mediaType.length()
+                        || value.charAt(mediaType.length()) == ';'
+                        || value.charAt(mediaType.length()) == ' ');
+    }
+
+
+    // ---------------------------------------------------------- Nested Classes
+
+
+    /**
+     * Handles the response of a connection, feeding the parser until the stream ends.
+     */
+    private final class StreamHandler implements AsyncHandler<Void> {
+
+        // guarded by EventSource.this
+        private boolean finished;
+
+        @Override
+        public STATE onStatusReceived(final HttpResponseStatus responseStatus) {
+            if (!isCurrent()) {
+                return STATE.ABORT;
+            }
+            final int statusCode = responseStatus.getStatusCode();
+            if (statusCode != 200) {
+                close(new IOException("Unexpected status " + statusCode + " of event stream "
+                        + request.getUrl()));
+                return STATE.ABORT;
+            }
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onHeadersReceived(final HttpResponseHeaders headers) {
+            if (!isCurrent()) {
+                return STATE.ABORT;
+            }
+            final String contentType = headers.getHeaders().getFirstValue("Content-Type");
+            if (!isEventStream(contentType)) {
+                close(new IOException("Unexpected content type " + contentType + " of event stream "
+                        + request.getUrl()));
+                return STATE.ABORT;
+            }
+            synchronized (EventSource.this) {
+                if (readyState == ReadyState.CLOSED) {
+                    return STATE.ABORT;
+                }
+                readyState = ReadyState.OPEN;
+            }
+            listener.onOpen(EventSource.this);
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onBodyPartReceived(final HttpResponseBodyPart bodyPart) {
+            try {
+                if (!isCurrent()) {
+                    return STATE.ABORT;
+                }
+                for (ByteBuffer buffer : bodyPart.getBodyByteBuffers()) {
+                    parser.feed(buffer);
+                }
+                return isCurrent() ? STATE.CONTINUE : STATE.ABORT;
+            } finally {
+                // the parser keeps what it needs, don't hold the stream's bytes
+                bodyPart.release();
+            }
+        }
+
+        @Override
+        public Void onCompleted() {
+            reconnect(this, null);
+            return null;
+        }
+
+        @Override
+        public void onThrowable(final Throwable t) {
+            reconnect(this, t);
+        }
+
+        private boolean isCurrent() {
+            return stream == this && readyState != ReadyState.CLOSED;
+        }
+
+    } // END StreamHandler
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.sse;
+
+/**
+ * Receives the events of an {@link EventSource}. Methods are invoked by the thread reading the stream, and must not
+ * block; {@link #onError(Throwable)} and {@link #onClose(EventSource)} may also be invoked by a thread closing the
+ * event source.
+ *
+ * @since 5.0.1
+ */
+public interface EventSourceListener {
+
+    /**
+     * Invoked when the stream is open, on every (re)connection.
+     *
+     * @param eventSource the {@link EventSource}
+     */
+    void onOpen(EventSource eventSource);
+
+    /**
+     * Invoked when an event is received.
+     *
+     * @param type        the event type, <tt>message</tt> unless the event names another one
+     * @param data        the event data, its lines joined with <tt>LF</tt>
+     * @param lastEventId the ID of this event or, when it has none, of the last event that had one; empty if none had
+     */
+    void onEvent(String type, String data, String lastEventId);
+
+    /**
+     * Invoked when the stream fails. The {@link EventSource} reconnects if its
+     * {@link EventSource#getReadyState() ready state} is {@link EventSource.ReadyState#CONNECTING}, and is closed
+     * otherwise.
+     *
+     * @param t a {@link Throwable}
+     */
+    void onError(Throwable t);
+
+    /**
+     * Invoked once the {@link EventSource} is closed, and won't reconnect anymore.
+     *
+     * @param eventSource the {@link EventSource}
+     */
+    void onClose(EventSource eventSource);
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.sse;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses a <tt>text/event-stream</tt> body as its buffers are received, following the
+ * <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html#event-stream-interpretation">event stream
+ * interpretation</a> rules.
+ * <p>
+ * Lines are parsed in place in the buffers, and only the start of a line continued by the next buffer is copied. Field
+ * values are decoded straight into the event's data, and a repeated event type is reused rather than decoded again, so
+ * an event costs about the allocation of its data. A parser isn't thread-safe, buffers must be fed one at a time.
+ *
+ * @since 5.0.1
+ */
+final class EventStreamParser {
+
+    static final String DEFAULT_TYPE = "message";
+
+    interface Callback {
+
+        void onEvent(String type, String data, String lastEventId);
+
+        void onRetry(long reconnectionTime);
+    }
+
+    private static final byte[] DATA = { 'd', 'a', 't', 'a' };
+    private static final byte[] EVENT = { 'e', 'v', 'e', 'n', 't' };
+    private static final byte[] ID = { 'i', 'd' };
+    private static final byte[] RETRY = { 'r', 'e', 't', 'r', 'y' };
+
+    // buffers grown past this size by a large line or event aren't kept
+    private static final int RETAINED_SIZE = 8 * 1024;
+
+    private final Callback callback;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer chars = CharBuffer.allocate(256);
+
+    // the start of a line continued by the next buffer
+    private byte[] line = new byte[256];
+    private ByteBuffer lineBuffer = ByteBuffer.wrap(line);
+    private int lineLength;
+    private boolean afterCr;
+    private boolean firstLine = true;
+
+    private StringBuilder data = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+    private String type = "";
+    private String lastType = "";
+    private byte[] lastTypeBytes = new byte[0];
+    private String idBuffer = "";
+    private volatile String lastEventId = "";
+
+
+    // ------------------------------------------------------------ Constructors
+
+
+    EventStreamParser(final Callback callback) {
+        this.callback = callback;
+    }
+
+
+    // --------------------------------------------------------- Package Methods
+
+
+    /**
+     * Parse the remaining bytes of the buffer, dispatching the events they complete.
+     */
+    void feed(final ByteBuffer buffer) {
+        final int limit = buffer.limit();
+        int start = buffer.position();
+        if (afterCr && start < limit) {
+            // a CR LF split across buffers
+            afterCr = false;
+            if (buffer.get(start) == '\n') {
+                start++;
+            }
+        }
+        while (start < limit) {
+            int end = start;
+            byte b = 0;
+            while (end < limit && (b = buffer.get(end)) != '\n' && b != '\r') {
+                end++;
+            }
+            if (end == limit) {
+                appendLine(buffer, start, limit);
+                break;
+            }
+            if (lineLength > 0) {
+                appendLine(buffer, start, end);
+                final int length = lineLength;
+                lineLength = 0;
+                processLine(lineBuffer, 0, length);
+                if (line.length > RETAINED_SIZE) {
+                    line = new byte[256];
+                    lineBuffer = ByteBuffer.wrap(line);
+                }
+            } else {
+                processLine(buffer, start, end);
+            }
+            start = end + 1;
+            if (b == '\r') {
+                if (start == limit) {
+                    afterCr = true;
+                } else if (buffer.get(start) == '\n') {
+                    start++;
+                }
+            }
+        }
+        buffer.position(limit);
+    }
+
+    /**
+     * Discard the incomplete line and event, before the stream is parsed again from its start. The last event ID is
+     * kept.
+     */
+    void reset() {
+        lineLength = 0;
+        afterCr = false;
+        firstLine = true;
+        clearData();
+        type = "";
+        idBuffer = lastEventId;
+    }
+
+    /**
+     * @return the ID of the last event dispatched, or the empty string
+     */
+    String getLastEventId() {
+        return lastEventId;
+    }
+
+
+    // --------------------------------------------------------- Private Methods
+
+
+    private void processLine(final ByteBuffer buffer, int start, final int end) {
+        if (firstLine) {
+            firstLine = false;
+            if (end - start >= 3 && buffer.get(start) == (byte) 0xEF
+                    && buffer.get(start + 1) == (byte) 0xBB && buffer.get(start + 2) == (byte) 0xBF) {
+                start += 3;
+            }
+        }
+        if (start == end) {
+            dispatch();
+            return;
+        }
+        if (buffer.get(start) == ':') {
+            // a comment
+            return;
+        }
+
+        int colon = start;
+        while (colon < end && buffer.get(colon) != ':') {
+            colon++;
+        }
+        int valueStart = end;
+        if (colon < end) {
+            valueStart = colon + 1;
+            if (valueStart < end && buffer.get(valueStart) == ' ') {
+                valueStart++;
+            }
+        }
+        final int nameLength = colon - start;
+
+        if (matches(buffer, start, nameLength, DATA)) {
+            decode(buffer, valueStart, end, data);
+            data.append('\n');
+        } else if (matches(buffer, start, nameLength, EVENT)) {
+            type = typeOf(buffer, valueStart, end);
+        } else if (matches(buffer, start, nameLength, ID)) {
+            for (int i = valueStart; i < end; i++) {
+                if (buffer.get(i) == 0) {
+                    return;
+                }
+            }
+            idBuffer = decode(buffer, valueStart, end);
+        } else if (matches(buffer, start, nameLength, RETRY)) {
+            if (valueStart == end) {
+                return;
+            }
+            long millis = 0;
+            for (int i = valueStart; i < end; i++) {
+                final byte b = buffer.get(i);
+                if (b < '0' || b > '9' || millis > (Long.MAX_VALUE - 9) / 10) {
+                    return;
+                }
+                millis = millis * 10 + (b - '0');
+            }
+            callback.onRetry(millis);
+        }
+    }
+
+    private void dispatch() {
+        lastEventId = idBuffer;
+        if (data.length() == 0) {
+            type = "";
+            return;
+        }
+        final String eventData = data.substring(0, data.length() - 1);
+        final String eventType = type.isEmpty() ? DEFAULT_TYPE : type;
+        type = "";
+        clearData();
+        callback.onEvent(eventType, eventData, lastEventId);
+    }
+
+    private void clearData() {
+        if (data.capacity() > RETAINED_SIZE) {
+            data = new StringBuilder();
+        } else {
+            data.setLength(0);
+        }
+    }
+
+    /**
+     * @return the event type of the value, the previous one if the bytes are the same
+     */
+    private String typeOf(final ByteBuffer buffer, final int start, final int end) {
+        final int length = end - start;
+        if (length == lastTypeBytes.length && matches(buffer, start, length, lastTypeBytes)) {
+            return lastType;
+        }
+        lastType = decode(buffer, start, end);
+        lastTypeBytes = new byte[length];
+        buffer.get(start, lastTypeBytes);
+        return lastType;
+    }
+
+    private String decode(final ByteBuffer buffer, final int start, final int end) {
+        value.setLength(0);
+        decode(buffer, start, end, value);
+        return value.toString();
+    }
+
+    private void decode(final ByteBuffer buffer, final int start, final int end, final StringBuilder out) {
+        // ASCII, the common case, needs no decoder
+        int i = start;
+        for (byte b; i < end && (b = buffer.get(i)) >= 0; i++) {
+            out.append((char) b);
+        }
+        if (i == end) {
+            return;
+        }
+        final int position = buffer.position();
+        final int limit = buffer.limit();
+        buffer.limit(end).position(i);
+        decoder.reset();
+        while (decoder.decode(buffer, chars, true).isOverflow()) {
+            drain(out);
+        }
+        while (decoder.flush(chars).isOverflow()) {
+            drain(out);
+        }
+        drain(out);
+        buffer.limit(limit).position(position);
+    }
+
+    private void drain(final StringBuilder out) {
+        out.append(chars.array(), 0, chars.position());
+        chars.clear();
+    }
+
+    private void appendLine(final ByteBuffer buffer, final int start, final int end) {
+        final int length = end - start;
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+            lineBuffer = ByteBuffer.wrap(line);
+        }
+        buffer.get(start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private static boolean matches(final ByteBuffer buffer, final int start, final int length,
+            final byte[] name) {
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+} // END EventStreamParser
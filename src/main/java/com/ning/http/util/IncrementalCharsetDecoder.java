@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes text received in chunks, such as response body parts, one chunk at a time: a multi-byte sequence split
+ * across chunks is kept until the chunk completing it is decoded. Malformed input is replaced. ISO-8859-1 and
+ * US-ASCII are decoded without a {@link CharsetDecoder}. Chunks without an accessible array, such as read-only or
+ * direct views, are copied to a scratch array a slice at a time, so decoding always runs on arrays.
+ * <p>
+ * Not thread-safe, and reusable once {@link #reset()}.
+ *
+ * @since 5.0.1
+ */
+public final class IncrementalCharsetDecoder {
+
+    private static final char REPLACEMENT = '\uFFFD';
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final Charset charset;
+    private final CharsetDecoder decoder;
+    // the start of a sequence the previous chunk ended with
+    private final ByteBuffer pending;
+    // slices of chunks without an accessible array, allocated on first use
+    private byte[] scratch;
+
+    public IncrementalCharsetDecoder(Charset charset) {
+        this.charset = charset;
+        if (charset.equals(ISO_8859_1) || charset.equals(US_ASCII)) {
+            decoder = null;
+            pending = null;
+        } else {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            pending = ByteBuffer.allocate(16);
+        }
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Decode the bytes of a chunk, as long as the output has room. The bytes left in the chunk are those that didn't
+     * fit, and should be decoded again once the output is drained.
+     *
+     * @param in the chunk
+     * @param out the output
+     */
+    public void decode(ByteBuffer in, CharBuffer out) {
+        if (decoder == null) {
+            decodeSingleByte(in, out);
+            return;
+        }
+        // complete the sequence the previous chunk ended with, a byte at a time
+        while (pending.position() > 0 && in.hasRemaining()) {
+            pending.put(in.get());
+            pending.flip();
+            final CoderResult result = decoder.decode(pending, out, false);
+            pending.compact();
+            if (result.isOverflow()) {
+                return;
+            }
+        }
+        if (pending.position() > 0) {
+            return;
+        }
+        final CoderResult result = in.hasArray() ? decoder.decode(in, out, false) : decodeCopy(in, out);
+        if (result.isUnderflow() && in.hasRemaining()) {
+            pending.put(in);
+        }
+    }
+
+    /**
+     * Decode what's left at the end of the input, an incomplete sequence being malformed.
+     *
+     * @param out the output
+     * @return <tt>true</tt> if done, <tt>false</tt> if the output should be drained first
+     */
+    public boolean flush(CharBuffer out) {
+        if (decoder == null) {
+            return true;
+        }
+        pending.flip();
+        CoderResult result = decoder.decode(pending, out, true);
+        pending.compact();
+        if (result.isOverflow()) {
+            return false;
+        }
+        result = decoder.flush(out);
+        return !result.isOverflow();
+    }
+
+    /**
+     * Forget about the chunks decoded so far.
+     */
+    public void reset() {
+        if (decoder != null) {
+            decoder.reset();
+            pending.clear();
+        }
+    }
+
+    /**
+     * Decode a chunk without an accessible array through the scratch array, leaving an incomplete sequence it ends
+     * with in the chunk.
+     */
+    private CoderResult decodeCopy(ByteBuffer in, CharBuffer out) {
+        final byte[] scratch = scratch();
+        CoderResult result = CoderResult.UNDERFLOW;
+        while (in.hasRemaining()) {
+            final int start = in.position();
+            final int n = Math.min(in.remaining(), scratch.length);
+            in.get(start, scratch, 0, n);
+            final ByteBuffer slice = ByteBuffer.wrap(scratch, 0, n);
+            result = decoder.decode(slice, out, false);
+            in.position(start + slice.position());
+            // a sequence cut at the end of a slice is copied again with the next one
+            if (result.isOverflow() || start + n == in.limit()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void decodeSingleByte(ByteBuffer in, CharBuffer out) {
+        final int n = Math.min(in.remaining(), out.remaining());
+        final boolean ascii = charset.equals(US_ASCII);
+        if (out.hasArray()) {
+            final char[] dst = out.array();
+            final int dstOffset = out.arrayOffset() + out.position();
+            if (in.hasArray()) {
+                decodeSingleByte(in.array(), in.arrayOffset() + in.position(), dst, dstOffset, n, ascii);
+                in.position(in.position() + n);
+            } else {
+                final byte[] scratch = scratch();
+                for (int done = 0; done < n; ) {
+                    final int k = Math.min(n - done, scratch.length);
+                    in.get(scratch, 0, k);
+                    decodeSingleByte(scratch, 0, dst, dstOffset + done, k, ascii);
+                    done += k;
+                }
+            }
+            out.position(out.position() + n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                final byte b = in.get();
+                out.put(ascii && b < 0 ? REPLACEMENT : (char) (b & 0xFF));
+            }
+        }
+    }
+
+    private static void decodeSingleByte(byte[] src, int srcOffset, char[] dst, int dstOffset, int n, boolean ascii) {
+        for (int i = 0; i < n; i++) {
+            final byte b = src[srcOffset + i];
+            dst[dstOffset + i] = ascii && b < 0 ? REPLACEMENT : (char) (b & 0xFF);
+        }
+    }
+
+    private byte[] scratch() {
+        if (scratch == null) {
+            scratch = new byte[SCRATCH_SIZE];
+        }
+        return scratch;
+    }
+}
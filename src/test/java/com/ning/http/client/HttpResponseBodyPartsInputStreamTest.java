@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class HttpResponseBodyPartsInputStreamTest {
+
+    /**
+     * A part which can't be copied, to check the stream reads its views.
+     */
+    private static class ViewOnlyPart extends HttpResponseBodyPart {
+
+        private final ByteBuffer content;
+
+        ViewOnlyPart(byte[] bytes, int from, int to) {
+            super(false);
+            content = ByteBuffer.wrap(bytes, from, to - from).slice();
+        }
+
+        @Override
+        public int length() {
+            return content.remaining();
+        }
+
+        @Override
+        public byte[] getBodyPartBytes() {
+            throw new AssertionError("copied");
+        }
+
+        @Override
+        public int writeTo(OutputStream outputStream) throws IOException {
+            outputStream.write(content.array(), content.arrayOffset() + content.position(), content.remaining());
+            return content.remaining();
+        }
+
+        @Override
+        public ByteBuffer getBodyByteBuffer() {
+            throw new AssertionError("copied");
+        }
+
+        @Override
+        public ByteBuffer[] getBodyByteBuffers() {
+            // split in two views
+            int half = content.remaining() / 2;
+            ByteBuffer first = content.duplicate();
+            first.limit(first.position() + half);
+            ByteBuffer second = content.duplicate();
+            second.position(second.position() + half);
+            return new ByteBuffer[] { first.asReadOnlyBuffer(), second.asReadOnlyBuffer() };
+        }
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static List<HttpResponseBodyPart> parts(byte[] bytes, int... sizes) {
+        List<HttpResponseBodyPart> parts = new ArrayList<>();
+        int from = 0;
+        for (int size : sizes) {
+            parts.add(new ViewOnlyPart(bytes, from, from + size));
+            from += size;
+        }
+        return parts;
+    }
+
+    @Test(groups = "fast")
+    public void bulkReadsSpanParts() throws Exception {
+        byte[] bytes = bytes(10000);
+        InputStream in = new HttpResponseBodyPartsInputStream(parts(bytes, 3000, 0, 1, 6999));
+        assertEquals(in.available(), 10000);
+
+        byte[] read = new byte[10000];
+        int total = 0;
+        int n;
+        while ((n = in.read(read, total, Math.min(777, read.length - total))) > 0) {
+            total += n;
+        }
+        assertEquals(total, 10000);
+        assertEquals(read, bytes);
+        assertEquals(in.read(), -1);
+        assertEquals(in.read(read, 0, 1), -1);
+        assertEquals(in.available(), 0);
+    }
+
+    @Test(groups = "fast")
+    public void singleBytesAndSkips() throws Exception {
+        byte[] bytes = bytes(1000);
+        InputStream in = new HttpResponseBodyPartsInputStream(parts(bytes, 100, 400, 500));
+        assertEquals(in.read(), 0);
+        assertEquals(in.skip(450), 450);
+        assertEquals(in.read(), bytes[451] & 0xFF);
+        assertEquals(in.available(), 548);
+        assertEquals(in.skip(1000), 548);
+        assertEquals(in.skip(1), 0);
+        assertEquals(in.read(), -1);
+    }
+
+    @Test(groups = "fast")
+    public void readNBytesAndReadAllBytes() throws Exception {
+        byte[] bytes = bytes(1000);
+        InputStream in = new HttpResponseBodyPartsInputStream(parts(bytes, 300, 700));
+        assertEquals(in.readNBytes(10), Arrays.copyOfRange(bytes, 0, 10));
+        assertEquals(in.readAllBytes(), Arrays.copyOfRange(bytes, 10, 1000));
+        assertEquals(in.readNBytes(10).length, 0);
+    }
+
+    @Test(groups = "fast")
+    public void transferToWritesTheRest() throws Exception {
+        byte[] bytes = bytes(1000);
+        InputStream in = new HttpResponseBodyPartsInputStream(parts(bytes, 300, 200, 500));
+        assertEquals(in.skip(100), 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(in.transferTo(out), 900);
+        assertEquals(out.toByteArray(), Arrays.copyOfRange(bytes, 100, 1000));
+        assertEquals(in.read(), -1);
+    }
+
+    @Test(groups = "fast")
+    public void noParts() throws Exception {
+        InputStream in = new HttpResponseBodyPartsInputStream(Collections.emptyList());
+        assertEquals(in.available(), 0);
+        assertEquals(in.read(), -1);
+        assertEquals(in.readAllBytes().length, 0);
+    }
+}
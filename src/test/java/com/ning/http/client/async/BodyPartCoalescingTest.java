@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncCompletionHandler;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.BodyPartCoalescing;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public abstract class BodyPartCoalescingTest extends AbstractBasicTest {
+
+    private static final int LINE_LENGTH = line(0).length();
+
+    private static String line(int i) {
+        return String.format("line-%05d\n", i);
+    }
+
+    private static String body(int lines) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            sb.append(line(i));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // X-Lines chunks of a line each, X-Pause milliseconds apart, chunked unless X-Length is set
+                int lines = Integer.parseInt(request.getHeaders().get("X-Lines"));
+                String pause = request.getHeaders().get("X-Pause");
+                response.setStatus(HttpStatus.OK_200);
+                if (request.getHeaders().get("X-Length") != null) {
+                    response.getHeaders().put(HttpHeader.CONTENT_LENGTH, lines * LINE_LENGTH);
+                }
+                OutputStream out = Content.Sink.asOutputStream(response);
+                for (int i = 0; i < lines; i++) {
+                    out.write(line(i).getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                    if (pause != null) {
+                        Thread.sleep(Long.parseLong(pause));
+                    }
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    // the length of the parts received, negative for the last one
+    private Response get(AsyncHttpClient client, int lines, long pause, BodyPartCoalescing coalescing,
+            final List<Integer> parts) throws Exception {
+        return get(client, lines, pause, false, coalescing, parts);
+    }
+
+    private Response get(AsyncHttpClient client, int lines, long pause, boolean contentLength,
+            BodyPartCoalescing coalescing, final List<Integer> parts) throws Exception {
+        AsyncHttpClient.BoundRequestBuilder builder = client.prepareGet(getTargetUrl())
+                .setHeader("X-Lines", String.valueOf(lines))
+                .setBodyPartCoalescing(coalescing);
+        if (pause > 0) {
+            builder.setHeader("X-Pause", String.valueOf(pause));
+        }
+        if (contentLength) {
+            builder.setHeader("X-Length", "true");
+        }
+        return builder.execute(new AsyncCompletionHandler<Response>() {
+            @Override
+            public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                // the part is only valid until the response completes
+                parts.add(content.isLast() ? -content.length() - 1 : content.length());
+                return super.onBodyPartReceived(content);
+            }
+
+            @Override
+            public Response onCompleted(Response response) {
+                return response;
+            }
+        }).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void partsAreCoalesced() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            List<Integer> plain = new CopyOnWriteArrayList<>();
+            Response expected = get(client, 2000, 0, null, plain);
+
+            List<Integer> parts = new CopyOnWriteArrayList<>();
+            Response response = get(client, 2000, 0, new BodyPartCoalescing.Builder().build(), parts);
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getResponseBody(), body(2000));
+            assertEquals(response.getResponseBody(), expected.getResponseBody());
+            assertTrue(parts.size() < 2000, "parts: " + parts.size());
+            assertTrue(parts.get(parts.size() - 1) < 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void partsAreBoundedByMaxBytes() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            List<Integer> parts = new CopyOnWriteArrayList<>();
+            // hold the content until it's large enough
+            BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder().setMaxBytes(1000)
+                    .setMaxDelay(TimeUnit.MINUTES.toMillis(1)).build();
+            Response response = get(client, 500, 0, coalescing, parts);
+            assertEquals(response.getResponseBody(), body(500));
+            assertEquals(parts.size(), 500 * LINE_LENGTH / 1000 + 1);
+            for (int length : parts.subList(0, parts.size() - 1)) {
+                assertTrue(length >= 1000 && length < 1000 + LINE_LENGTH, "length: " + length);
+            }
+            assertTrue(parts.get(parts.size() - 1) < 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void partsAreHandedOverAfterMaxDelay() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            List<Integer> parts = new CopyOnWriteArrayList<>();
+            // the lines come in separate reads, coalesced across them
+            BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder().setMaxDelay(200).build();
+            Response response = get(client, 30, 20, coalescing, parts);
+            assertEquals(response.getResponseBody(), body(30));
+            assertTrue(parts.size() > 1 && parts.size() < 15, "parts: " + parts.size());
+            assertTrue(parts.get(parts.size() - 1) < 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void partsStayInOrderWithSlowHandler() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            final List<Integer> parts = new CopyOnWriteArrayList<>();
+            // delayed flushes race with the parts handed over by the thread reading the connection
+            BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder().setMaxBytes(100).setMaxDelay(5).build();
+            Response response = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Lines", "200")
+                    .setHeader("X-Pause", "1")
+                    .setBodyPartCoalescing(coalescing)
+                    .execute(new AsyncCompletionHandler<Response>() {
+                        @Override
+                        public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                            parts.add(content.isLast() ? -content.length() - 1 : content.length());
+                            Thread.sleep(10);
+                            return super.onBodyPartReceived(content);
+                        }
+
+                        @Override
+                        public Response onCompleted(Response response) {
+                            return response;
+                        }
+                    }).get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getResponseBody(), body(200));
+            assertTrue(parts.get(parts.size() - 1) < 0, "parts: " + parts);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void lastPartIsMerged() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder()
+                    .setMaxDelay(TimeUnit.MINUTES.toMillis(1)).build();
+            for (boolean contentLength : new boolean[] { true, false }) {
+                List<Integer> parts = new CopyOnWriteArrayList<>();
+                Response response = get(client, 100, 0, contentLength, coalescing, parts);
+                assertEquals(response.getResponseBody(), body(100));
+                assertEquals(parts, List.of(-100 * LINE_LENGTH - 1));
+            }
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void lastPartIsSeparate() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            BodyPartCoalescing coalescing = new BodyPartCoalescing.Builder()
+                    .setMaxDelay(TimeUnit.MINUTES.toMillis(1)).setMergeLastPart(false).build();
+
+            // the last part carries the content of the last read, the pauses make each line a read of its own
+            List<Integer> parts = new CopyOnWriteArrayList<>();
+            Response response = get(client, 5, 100, true, coalescing, parts);
+            assertEquals(response.getResponseBody(), body(5));
+            assertEquals(parts, List.of(4 * LINE_LENGTH, -LINE_LENGTH - 1));
+
+            // no part is handed over for the empty last chunk
+            parts.clear();
+            response = get(client, 5, 100, false, coalescing, parts);
+            assertEquals(response.getResponseBody(), body(5));
+            assertEquals(parts, List.of(5 * LINE_LENGTH));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.Response;
+import com.ning.http.client.extra.CircuitBreaker;
+import com.ning.http.client.extra.CircuitBreaker.State;
+import com.ning.http.client.extra.CircuitBreakerOpenException;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public abstract class CircuitBreakerTest extends AbstractBasicTest {
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                if (request.getHttpURI().getPath().contains("slow")) {
+                    Thread.sleep(500);
+                }
+                if (request.getHttpURI().getPath().contains("error")) {
+                    response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR_500);
+                    Content.Sink.write(response, true, "error", callback);
+                    return true;
+                }
+                response.setStatus(HttpStatus.OK_200);
+                Content.Sink.write(response, true, "ok", callback);
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient client(CircuitBreaker breaker) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().setCircuitBreaker(breaker).build());
+    }
+
+    private static void assertRejected(AsyncHttpClient client, String url) throws Exception {
+        try {
+            client.prepareGet(url).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Request should have been rejected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CircuitBreakerOpenException, e.getCause().toString());
+        }
+    }
+
+    private static void awaitTransitions(List<String> transitions, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (transitions.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void circuitOpensOnConnectFailures() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+                .setSlidingWindowSize(5)
+                .setMinimumCalls(3)
+                .setOpenDuration(60000)
+                .addListener((partition, from, to) -> transitions.add(from + "->" + to))
+                .build();
+        String url = "http://127.0.0.1:" + findFreePort() + "/foo/test";
+        try (AsyncHttpClient client = client(breaker)) {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    client.prepareGet(url).execute().get(TIMEOUT, TimeUnit.SECONDS);
+                    fail("Nothing listens on " + url);
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof ConnectException, e.getCause().toString());
+                }
+            }
+            awaitTransitions(transitions, 1);
+            assertEquals(transitions, List.of("CLOSED->OPEN"));
+            assertRejected(client, url);
+
+            // other partitions are unaffected
+            Response response = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void circuitOpensOnServerErrors() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+                .setSlidingWindowSize(5)
+                .setMinimumCalls(3)
+                .setOpenDuration(60000)
+                .addListener((partition, from, to) -> transitions.add(from + "->" + to))
+                .build();
+        try (AsyncHttpClient client = client(breaker)) {
+            for (int i = 0; i < 3; i++) {
+                Response response = client.prepareGet(getTargetUrl() + "/error").execute().get(TIMEOUT, TimeUnit.SECONDS);
+                assertEquals(response.getStatusCode(), 500);
+            }
+            awaitTransitions(transitions, 1);
+            assertEquals(transitions, List.of("CLOSED->OPEN"));
+            assertRejected(client, getTargetUrl());
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void circuitClosesAfterSuccessfulProbes() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        List<Object> partitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+                .setSlidingWindowSize(4)
+                .setMinimumCalls(2)
+                .setSlowCallDuration(200)
+                .setOpenDuration(300)
+                .setHalfOpenCalls(1)
+                .addListener((partition, from, to) -> {
+                    partitions.add(partition);
+                    transitions.add(from + "->" + to);
+                })
+                .build();
+        try (AsyncHttpClient client = client(breaker)) {
+            for (int i = 0; i < 2; i++) {
+                client.prepareGet(getTargetUrl() + "/slow").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            }
+            awaitTransitions(transitions, 1);
+            assertEquals(breaker.getState(partitions.get(0)), State.OPEN);
+            assertRejected(client, getTargetUrl());
+
+            Thread.sleep(400);
+            Response response = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 200);
+            awaitTransitions(transitions, 3);
+            assertEquals(transitions, List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"));
+            assertEquals(breaker.getState(partitions.get(0)), State.CLOSED);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void idleCircuitIsDropped() throws Exception {
+        List<String> transitions = new CopyOnWriteArrayList<>();
+        CircuitBreaker breaker = new CircuitBreaker.Builder()
+                .setSlidingWindowSize(4)
+                .setMinimumCalls(2)
+                .setOpenDuration(60000)
+                .setIdleTimeout(300)
+                .addListener((partition, from, to) -> transitions.add(from + "->" + to))
+                .build();
+        try (AsyncHttpClient client = client(breaker)) {
+            Response response = client.prepareGet(getTargetUrl() + "/error").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 500);
+
+            // the failure recorded before the circuit went idle is forgotten
+            Thread.sleep(400);
+            response = client.prepareGet(getTargetUrl() + "/error").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 500);
+            Thread.sleep(100);
+            assertEquals(transitions, List.of());
+        }
+    }
+}
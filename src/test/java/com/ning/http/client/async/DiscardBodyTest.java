@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncCompletionHandler;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+public abstract class DiscardBodyTest extends AbstractBasicTest {
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // a body of X-Size bytes, chunked unless X-Length is set
+                int size = Integer.parseInt(request.getHeaders().get("X-Size"));
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Client-Port", String.valueOf(Request.getRemotePort(request)));
+                if (request.getHeaders().get("X-Length") != null) {
+                    response.getHeaders().put(HttpHeader.CONTENT_LENGTH, size);
+                }
+                OutputStream out = Content.Sink.asOutputStream(response);
+                for (int i = 0; i < size; i += 1000) {
+                    out.write(new byte[Math.min(1000, size - i)]);
+                    out.flush();
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private Response get(AsyncHttpClient client, int size, boolean contentLength, AtomicInteger parts) throws Exception {
+        AsyncHttpClient.BoundRequestBuilder builder = client.prepareGet(getTargetUrl())
+                .setHeader("X-Size", String.valueOf(size))
+                .setDiscardBody(true);
+        if (contentLength) {
+            builder.setHeader("X-Length", "true");
+        }
+        return builder.execute(new AsyncCompletionHandler<Response>() {
+            @Override
+            public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                parts.incrementAndGet();
+                return super.onBodyPartReceived(content);
+            }
+
+            @Override
+            public Response onCompleted(Response response) {
+                return response;
+            }
+        }).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyIsDiscarded() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            for (boolean contentLength : new boolean[] { true, false }) {
+                AtomicInteger parts = new AtomicInteger();
+                Response response = get(client, 100000, contentLength, parts);
+                assertEquals(response.getStatusCode(), 200);
+                assertEquals(response.getHeader("Content-Length"), contentLength ? "100000" : null);
+                assertEquals(response.getResponseBody(), "");
+                assertEquals(parts.get(), 0);
+            }
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void connectionIsKeptAlive() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            String first = get(client, 50000, false, new AtomicInteger()).getHeader("X-Client-Port");
+            String second = get(client, 50000, true, new AtomicInteger()).getHeader("X-Client-Port");
+            Response last = client.prepareGet(getTargetUrl()).setHeader("X-Size", "10").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(second, first);
+            assertEquals(last.getHeader("X-Client-Port"), first);
+            assertEquals(last.getResponseBodyAsBytes().length, 10);
+        }
+    }
+}
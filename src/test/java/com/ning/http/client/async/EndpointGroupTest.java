@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Response;
+import com.ning.http.client.endpoint.Backend;
+import com.ning.http.client.endpoint.EndpointGroup;
+import com.ning.http.client.endpoint.SelectionPolicy;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public abstract class EndpointGroupTest extends AbstractBasicTest {
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Local-Port", Request.getLocalPort(request));
+                response.getHeaders().put("X-Host", request.getHeaders().get("Host"));
+                Content.Sink.write(response, true, "ok", callback);
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient balancingClient(EndpointGroup group) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().addEndpointGroup(group).build());
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void requestsAreSpreadAcrossBackends() throws Exception {
+        EndpointGroup group = new EndpointGroup.Builder("orders")
+                .addEndpoint("127.0.0.1", port1)
+                .addEndpoint("127.0.0.1", port2)
+                .build();
+        try (AsyncHttpClient client = balancingClient(group)) {
+            Set<String> ports = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                ListenableFuture<Response> future = client.prepareGet("http://orders/foo/test").execute();
+                // the backend is released by a future listener, which may run after get() returned:
+                // the listeners run in the order they were added
+                CountDownLatch released = new CountDownLatch(1);
+                future.addListener(released::countDown, Runnable::run);
+                Response response = future.get(TIMEOUT, TimeUnit.SECONDS);
+                assertTrue(released.await(TIMEOUT, TimeUnit.SECONDS));
+                assertEquals(response.getStatusCode(), 200);
+                assertEquals(response.getHeader("X-Host"), "orders");
+                ports.add(response.getHeader("X-Local-Port"));
+            }
+            assertEquals(ports, new HashSet<>(List.of(String.valueOf(port1), String.valueOf(port2))));
+            for (Backend backend : group.getBackends()) {
+                assertEquals(backend.getRequestCount(), 2);
+                assertEquals(backend.getInFlightRequests(), 0);
+            }
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void explicitVirtualHostIsKept() throws Exception {
+        EndpointGroup group = new EndpointGroup.Builder("Orders")
+                .addEndpoint("127.0.0.1", port1)
+                .setSelectionPolicy(SelectionPolicy.LeastOutstanding.INSTANCE)
+                .build();
+        try (AsyncHttpClient client = balancingClient(group)) {
+            Response response = client.prepareGet("http://orders:8080/foo/test").setVirtualHost("api.example.com")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getHeader("X-Host"), "api.example.com");
+            assertEquals(response.getHeader("X-Local-Port"), String.valueOf(port1));
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void backendsAreRefreshedFromSupplier() throws Exception {
+        AtomicReference<List<InetSocketAddress>> endpoints = new AtomicReference<>(
+                List.of(InetSocketAddress.createUnresolved("127.0.0.1", port1)));
+        EndpointGroup group = new EndpointGroup.Builder("orders")
+                .setEndpointSupplier(endpoints::get)
+                .setRefreshInterval(0)
+                .setSelectionPolicy(SelectionPolicy.PowerOfTwoChoices.INSTANCE)
+                .build();
+        try (AsyncHttpClient client = balancingClient(group)) {
+            Response response = client.prepareGet("http://orders/foo/test").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getHeader("X-Local-Port"), String.valueOf(port1));
+
+            endpoints.set(List.of(InetSocketAddress.createUnresolved("127.0.0.1", port2)));
+            response = client.prepareGet("http://orders/foo/test").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getHeader("X-Local-Port"), String.valueOf(port2));
+            assertEquals(group.getBackends().size(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void emptyGroupFailsRequests() throws Exception {
+        EndpointGroup group = new EndpointGroup.Builder("orders")
+                .setEndpointSupplier(Collections::emptyList)
+                .build();
+        try (AsyncHttpClient client = balancingClient(group)) {
+            client.prepareGet("http://orders/foo/test").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Request to an empty group should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ConnectException, e.getCause().toString());
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void secureRequestIsRejected() throws Exception {
+        EndpointGroup group = new EndpointGroup.Builder("orders")
+                .addEndpoint("127.0.0.1", port1)
+                .build();
+        try (AsyncHttpClient client = balancingClient(group)) {
+            client.prepareGet("https://orders/foo/test").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Secure request to a group should fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException, e.getCause().toString());
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void configSubclassHasNoGroups() {
+        AsyncHttpClientConfig config = new AsyncHttpClientConfig() {
+        };
+        assertEquals(config.getEndpointGroup("orders"), null);
+        assertTrue(config.getEndpointGroups().isEmpty());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.sse.EventSource;
+import com.ning.http.client.sse.EventSourceListener;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public abstract class EventSourceTest extends AbstractBasicTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> lastEventIds = new CopyOnWriteArrayList<>();
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        requests.set(0);
+        lastEventIds.clear();
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                int count = requests.incrementAndGet();
+                lastEventIds.add(String.valueOf(request.getHeaders().get("Last-Event-ID")));
+                String mode = request.getHeaders().get("X-Mode");
+                if ("error".equals(mode)) {
+                    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE_503);
+                    callback.succeeded();
+                    return true;
+                }
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put(HttpHeader.CONTENT_TYPE, "text/event-stream; charset=utf-8");
+                OutputStream out = Content.Sink.asOutputStream(response);
+                if ("reconnect".equals(mode)) {
+                    // a stream of two events per connection, with an event split across flushes
+                    write(out, "retry: 50\n: comment\nid: " + count + "\nevent: tick\ndata: first ");
+                    write(out, "of " + count + "\n\ndata: second of " + count + "\n\n");
+                } else {
+                    // a stream kept open until the client leaves
+                    try {
+                        for (int i = 0; i < 50; i++) {
+                            write(out, "data: " + i + "\n\n");
+                            Thread.sleep(100);
+                        }
+                    } catch (IOException ignored) {
+                    }
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private static void write(OutputStream out, String s) throws IOException {
+        out.write(s.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Records the listener's invocations.
+     */
+    private static class RecordingListener implements EventSourceListener {
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        final AtomicInteger opened = new AtomicInteger();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void onOpen(EventSource eventSource) {
+            opened.incrementAndGet();
+        }
+
+        @Override
+        public void onEvent(String type, String data, String lastEventId) {
+            events.add(type + "|" + data + "|" + lastEventId);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            errors.add(t);
+        }
+
+        @Override
+        public void onClose(EventSource eventSource) {
+            closed.countDown();
+        }
+    }
+
+    private EventSource open(AsyncHttpClient client, String mode, EventSourceListener listener) {
+        return client.openEventSource(client.prepareGet(getTargetUrl()).setHeader("X-Mode", mode).build(), listener);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void reconnectsWithLastEventId() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            RecordingListener listener = new RecordingListener();
+            EventSource eventSource = open(client, "reconnect", listener);
+            try {
+                for (int i = 1; i <= 3; i++) {
+                    assertEquals(listener.events.poll(TIMEOUT, TimeUnit.SECONDS), "tick|first of " + i + "|" + i);
+                    assertEquals(listener.events.poll(TIMEOUT, TimeUnit.SECONDS), "message|second of " + i + "|" + i);
+                }
+                assertEquals(eventSource.getReconnectionTime(), 50);
+            } finally {
+                eventSource.close();
+            }
+            assertTrue(listener.closed.await(TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(eventSource.getReadyState(), EventSource.ReadyState.CLOSED);
+            assertEquals(lastEventIds.subList(0, 3), List.of("null", "1", "2"));
+            assertTrue(listener.opened.get() >= 3);
+            assertTrue(listener.errors.isEmpty(), listener.errors.toString());
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void errorStatusCloses() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            RecordingListener listener = new RecordingListener();
+            EventSource eventSource = open(client, "error", listener);
+
+            assertTrue(listener.closed.await(TIMEOUT, TimeUnit.SECONDS));
+            assertTrue(listener.errors.poll() instanceof IOException);
+            assertEquals(eventSource.getReadyState(), EventSource.ReadyState.CLOSED);
+            assertEquals(listener.opened.get(), 0);
+            Thread.sleep(500);
+            assertEquals(requests.get(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void closingStopsTheStream() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            RecordingListener listener = new RecordingListener();
+            EventSource eventSource = open(client, "stream", listener);
+            assertEquals(listener.events.poll(TIMEOUT, TimeUnit.SECONDS), "message|0|");
+            assertEquals(eventSource.getReadyState(), EventSource.ReadyState.OPEN);
+            eventSource.close();
+
+            assertTrue(listener.closed.await(TIMEOUT, TimeUnit.SECONDS));
+            Thread.sleep(500);
+            listener.events.clear();
+            Thread.sleep(500);
+            assertNull(listener.events.poll());
+            assertEquals(requests.get(), 1);
+        }
+    }
+}
@@ -15,14 +15,19 @@
 
 package com.ning.http.client.async;
 
+import com.ning.http.client.AsyncCompletionHandlerBase;
 import com.ning.http.client.AsyncHttpClient;
 import com.ning.http.client.AsyncHttpClientConfig;
 import com.ning.http.client.Request;
 import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.ListenableFuture;
 import com.ning.http.client.Response;
+import com.ning.http.client.extra.AdmissionControlRequestFilter;
+import com.ning.http.client.extra.RateLimitRequestFilter;
 import com.ning.http.client.extra.ThrottleRequestFilter;
 import com.ning.http.client.filter.FilterContext;
 import com.ning.http.client.filter.FilterException;
+import com.ning.http.client.filter.RequestFilter;
 import com.ning.http.client.filter.ResponseFilter;
 
 import org.eclipse.jetty.http.HttpField;
@@ -35,9 +40,15 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.testng.Assert.*;
 
@@ -112,6 +123,239 @@ public abstract class FilterTest extends AbstractBasicTest {
         }
     }
 
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlLoadTest() throws Throwable {
+        AdmissionControlRequestFilter admission = new AdmissionControlRequestFilter.Builder()
+                .setMaxConcurrentRequests(10)
+                .setMaxConcurrentRequestsPerHost(5)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(admission);
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(client.preparePost(getTargetUrl()).execute());
+            }
+            assertTrue(admission.getRunningRequests() <= 5);
+
+            for (Future<Response> f : futures) {
+                assertEquals(f.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+            }
+            assertEquals(admission.getRunningRequests(), 0);
+            assertEquals(admission.getQueuedRequests(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlFromCompletionHandlerTest() throws Throwable {
+        // with a single slot, the nested request can only be sent after the outer one released it;
+        // a blocking filter would stall the I/O thread delivering onCompleted() instead
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(new AdmissionControlRequestFilter.Builder().setMaxConcurrentRequests(1).build());
+
+        try (final AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            final AtomicReference<ListenableFuture<Response>> nested = new AtomicReference<>();
+            client.preparePost(getTargetUrl()).execute(new AsyncCompletionHandlerBase() {
+                @Override
+                public Response onCompleted(Response response) throws Exception {
+                    nested.set(client.preparePost(getTargetUrl()).execute());
+                    return response;
+                }
+            }).get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(nested.get().get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlQueueFullTest() throws Throwable {
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(new AdmissionControlRequestFilter.Builder()
+                .setMaxConcurrentRequests(0)
+                .setMaxQueuedRequests(0)
+                .build());
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            client.preparePost(getTargetUrl()).execute().get();
+            fail("Should have been rejected");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof FilterException);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlQueueTimeoutTest() throws Throwable {
+        AdmissionControlRequestFilter admission = new AdmissionControlRequestFilter.Builder()
+                .setMaxConcurrentRequests(0)
+                .setQueueTimeout(200)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(admission);
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            client.preparePost(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            fail("Should have timed out");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof FilterException);
+            assertEquals(admission.getQueuedRequests(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlCancelQueuedTest() throws Throwable {
+        AdmissionControlRequestFilter admission = new AdmissionControlRequestFilter.Builder()
+                .setMaxConcurrentRequests(0)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(admission);
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            ListenableFuture<Response> f = client.preparePost(getTargetUrl()).execute(new AsyncCompletionHandlerBase() {
+                @Override
+                public void onThrowable(Throwable t) {
+                    failure.set(t);
+                }
+            });
+            assertEquals(admission.getQueuedRequests(), 1);
+
+            assertTrue(f.toCompletableFuture().cancel(true));
+            assertTrue(f.isCancelled());
+            assertTrue(failure.get() instanceof CancellationException);
+            assertEquals(admission.getQueuedRequests(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void admissionControlLaterFilterFailureTest() throws Throwable {
+        AdmissionControlRequestFilter admission = new AdmissionControlRequestFilter.Builder()
+                .setMaxConcurrentRequests(1)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(admission);
+        b.addRequestFilter(new RequestFilter() {
+            @Override
+            public <T> FilterContext<T> filter(FilterContext<T> ctx) throws FilterException {
+                if (ctx.getRequest().getHeaders().getFirstValue("X-Fail") != null) {
+                    throw new FilterException("failed");
+                }
+                return ctx;
+            }
+        });
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            try {
+                client.preparePost(getTargetUrl()).setHeader("X-Fail", "true").execute().get(TIMEOUT, TimeUnit.SECONDS);
+                fail("Should have been failed by the second filter");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof FilterException);
+            }
+            // the slot of the failed request is available again
+            assertEquals(admission.getRunningRequests(), 0);
+            assertEquals(client.preparePost(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void rateLimitDelaysRequestsTest() throws Throwable {
+        RateLimitRequestFilter rateLimit = new RateLimitRequestFilter.Builder()
+                .setPermitsPerSecond(20)
+                .setBurst(5)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(rateLimit);
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            long start = System.nanoTime();
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                futures.add(client.preparePost(getTargetUrl()).execute());
+            }
+            assertTrue(rateLimit.getQueuedRequests() > 0);
+
+            for (Future<Response> f : futures) {
+                assertEquals(f.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+            }
+            // 5 requests go out right away, the other 20 at 20 per second
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsed >= 900, "25 requests sent in " + elapsed + " ms");
+            assertEquals(rateLimit.getQueuedRequests(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void rateLimitSendsFromExecutorTest() throws Throwable {
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        AtomicInteger sent = new AtomicInteger();
+        try {
+            AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+            b.addRequestFilter(new RateLimitRequestFilter.Builder()
+                    .setPermitsPerSecond(20)
+                    .setExecutor(r -> {
+                        sent.incrementAndGet();
+                        sender.execute(r);
+                    })
+                    .build());
+
+            try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+                List<Future<Response>> futures = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    futures.add(client.preparePost(getTargetUrl()).execute());
+                }
+                for (Future<Response> f : futures) {
+                    assertEquals(f.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+                }
+                // the first request goes out right away, the delayed ones are handed over by the timer
+                assertEquals(sent.get(), 2);
+            }
+        } finally {
+            sender.shutdownNow();
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void rateLimitFailFastTest() throws Throwable {
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(new RateLimitRequestFilter.Builder()
+                .setPermitsPerSecond(0.1)
+                .setFailFast(true)
+                .build());
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            assertEquals(client.preparePost(getTargetUrl()).execute().get().getStatusCode(), 200);
+            client.preparePost(getTargetUrl()).execute().get();
+            fail("Should have been rejected");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof FilterException);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void rateLimitQueueBoundTest() throws Throwable {
+        RateLimitRequestFilter rateLimit = new RateLimitRequestFilter.Builder()
+                .setPermitsPerSecond(0.1)
+                .setMaxQueuedRequests(1)
+                .build();
+        AsyncHttpClientConfig.Builder b = new AsyncHttpClientConfig.Builder();
+        b.addRequestFilter(rateLimit);
+
+        try (AsyncHttpClient client = getAsyncHttpClient(b.build())) {
+            assertEquals(client.preparePost(getTargetUrl()).execute().get().getStatusCode(), 200);
+            ListenableFuture<Response> queued = client.preparePost(getTargetUrl()).execute();
+            assertEquals(rateLimit.getQueuedRequests(), 1);
+            try {
+                client.preparePost(getTargetUrl()).execute().get();
+                fail("Should have been rejected");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof FilterException);
+            }
+
+            queued.cancel(true);
+            assertEquals(rateLimit.getQueuedRequests(), 0);
+        }
+    }
+
     public String getTargetUrl() {
         return String.format("http://127.0.0.1:%d/foo/test", port1);
     }
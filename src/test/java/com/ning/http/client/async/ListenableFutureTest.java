@@ -14,21 +14,34 @@
 
 package com.ning.http.client.async;
 
+import com.ning.http.client.AsyncCompletionHandlerBase;
 import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.HttpResponseHeaders;
 import com.ning.http.client.ListenableFuture;
 import com.ning.http.client.Response;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public abstract class ListenableFutureTest extends AbstractBasicTest {
 
+    /**
+     * Wait until the connection of the last client created, on the given client port, is back in its pool.
+     *
+     * @return false if it isn't within {@link #TIMEOUT} seconds
+     */
+    protected abstract boolean awaitPooled(int clientPort) throws InterruptedException;
+
     @Test(groups = { "standalone", "default_provider" })
     public void testListenableFuture() throws Throwable {
         final AtomicInteger statusCode = new AtomicInteger(500);
@@ -53,4 +66,58 @@ public abstract class ListenableFutureTest extends AbstractBasicTest {
             assertEquals(statusCode.get(), 200);
         }
     }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void testToCompletableFuture() throws Throwable {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CompletableFuture<Integer> status = client.prepareGet(getTargetUrl()).execute()
+                    .toCompletableFuture()
+                    .thenApply(Response::getStatusCode);
+            assertEquals(status.get(TIMEOUT, TimeUnit.SECONDS).intValue(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void testCancelledStageReleasesConnection() throws Throwable {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            Response first = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            String firstConnection = first.getHeader("X-KEEP-ALIVE");
+
+            final AtomicReference<CompletableFuture<Response>> stage = new AtomicReference<>();
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            final CountDownLatch headers = new CountDownLatch(1);
+            ListenableFuture<Response> future = client.prepareGet(getTargetUrl()).execute(new AsyncCompletionHandlerBase() {
+                @Override
+                public STATE onHeadersReceived(HttpResponseHeaders h) throws Exception {
+                    headers.await(TIMEOUT, TimeUnit.SECONDS);
+                    stage.get().cancel(true);
+                    return super.onHeadersReceived(h);
+                }
+
+                @Override
+                public void onThrowable(Throwable t) {
+                    failure.set(t);
+                }
+            });
+            stage.set(future.toCompletableFuture());
+            // listeners run once the handler is notified and the connection released, unlike get() which may return first
+            final CountDownLatch cancelled = new CountDownLatch(1);
+            future.addListener(cancelled::countDown, Runnable::run);
+            headers.countDown();
+
+            try {
+                future.get(TIMEOUT, TimeUnit.SECONDS);
+            } catch (CancellationException expected) {
+            }
+            assertTrue(cancelled.await(TIMEOUT, TimeUnit.SECONDS));
+            assertTrue(future.isCancelled());
+            assertTrue(failure.get() instanceof CancellationException);
+
+            // the small remainder of the cancelled response is discarded, and the pooled connection reused
+            assertTrue(awaitPooled(Integer.parseInt(firstConnection.substring(firstConnection.lastIndexOf(':') + 1))));
+            Response next = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(next.getStatusCode(), 200);
+            assertEquals(next.getHeader("X-KEEP-ALIVE"), firstConnection);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.Response;
+import com.ning.http.client.consumers.FileBodyConsumer;
+import com.ning.http.client.multipart.MultipartResponseHandler;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public abstract class MultipartResponseTest extends AbstractBasicTest {
+
+    private static final String BOUNDARY = "THIS_STRING_SEPARATES";
+    private static final byte[] DATA = new byte[200 * 1024];
+
+    static {
+        new Random(7).nextBytes(DATA);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // a minimal byte ranges server, flushing in small writes so that delimiters are split across chunks
+                String range = request.getHeaders().get(HttpHeader.RANGE);
+                if (range == null) {
+                    response.setStatus(HttpStatus.RANGE_NOT_SATISFIABLE_416);
+                    Content.Sink.write(response, true, "no range", callback);
+                    return true;
+                }
+                String[] ranges = range.substring("bytes=".length()).split(",");
+                response.setStatus(HttpStatus.PARTIAL_CONTENT_206);
+                OutputStream out = Content.Sink.asOutputStream(response);
+                if (ranges.length == 1) {
+                    int[] r = parse(ranges[0]);
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/octet-stream");
+                    response.getHeaders().put(HttpHeader.CONTENT_RANGE, contentRange(r));
+                    write(out, DATA, r[0], r[1] - r[0] + 1);
+                } else {
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE,
+                            "multipart/byteranges; boundary=\"" + BOUNDARY + "\"");
+                    for (String s : ranges) {
+                        int[] r = parse(s);
+                        byte[] header = ("\r\n--" + BOUNDARY + "\r\nContent-Type: application/octet-stream\r\n"
+                                + "Content-Range: " + contentRange(r) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                        write(out, header, 0, header.length);
+                        write(out, DATA, r[0], r[1] - r[0] + 1);
+                    }
+                    byte[] end = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                    write(out, end, 0, end.length);
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private static int[] parse(String range) {
+        String[] bounds = range.trim().split("-");
+        return new int[] { Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) };
+    }
+
+    private static String contentRange(int[] r) {
+        return "bytes " + r[0] + "-" + r[1] + "/" + DATA.length;
+    }
+
+    private static void write(OutputStream out, byte[] bytes, int offset, int length) throws Exception {
+        for (int i = 0; i < length; i += 1000) {
+            out.write(bytes, offset + i, Math.min(1000, length - i));
+            out.flush();
+        }
+    }
+
+    private Response get(AsyncHttpClient client, String range, List<String> contentRanges, List<File> files)
+            throws Exception {
+        return client.prepareGet(getTargetUrl()).setHeader("Range", range)
+                .execute(new MultipartResponseHandler(headers -> {
+                    contentRanges.add(headers.getFirstValue("Content-Range"));
+                    File file = File.createTempFile("part", ".bin");
+                    file.deleteOnExit();
+                    files.add(file);
+                    return new FileBodyConsumer(new RandomAccessFile(file, "rw"));
+                })).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void byteRangesAreStreamedToFiles() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            List<String> contentRanges = new CopyOnWriteArrayList<>();
+            List<File> files = new CopyOnWriteArrayList<>();
+            Response response = get(client, "bytes=0-99,1000-50999,150000-204799", contentRanges, files);
+
+            assertEquals(response.getStatusCode(), 206);
+            assertEquals(contentRanges, List.of("bytes 0-99/204800", "bytes 1000-50999/204800",
+                    "bytes 150000-204799/204800"));
+            assertEquals(Files.readAllBytes(files.get(0).toPath()), Arrays.copyOfRange(DATA, 0, 100));
+            assertEquals(Files.readAllBytes(files.get(1).toPath()), Arrays.copyOfRange(DATA, 1000, 51000));
+            assertEquals(Files.readAllBytes(files.get(2).toPath()), Arrays.copyOfRange(DATA, 150000, 204800));
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void singleRangeIsOnePart() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            List<String> contentRanges = new CopyOnWriteArrayList<>();
+            List<File> files = new CopyOnWriteArrayList<>();
+            Response response = get(client, "bytes=10-20009", contentRanges, files);
+
+            assertEquals(response.getStatusCode(), 206);
+            assertEquals(contentRanges, List.of("bytes 10-20009/204800"));
+            assertEquals(Files.readAllBytes(files.get(0).toPath()), Arrays.copyOfRange(DATA, 10, 20010));
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void errorBodyIsKept() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            Response response = client.prepareGet(getTargetUrl())
+                    .execute(new MultipartResponseHandler(headers -> {
+                        throw new AssertionError("no part expected");
+                    })).get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getStatusCode(), 416);
+            assertTrue(response.getResponseBody().contains("no range"));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.RequestBuilder;
+import com.ning.http.client.Response;
+import com.ning.http.client.cache.RedirectCache;
+import com.ning.http.client.uri.Uri;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+public abstract class RedirectCacheTest extends AbstractBasicTest {
+
+    private final AtomicInteger redirects = new AtomicInteger();
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetCounters() {
+        redirects.set(0);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                String path = request.getHttpURI().getPath();
+                if (path.startsWith("/old")) {
+                    redirects.incrementAndGet();
+                    String cacheControl = request.getHeaders().get("X-Cache-Control");
+                    if (cacheControl != null) {
+                        response.getHeaders().put(HttpHeader.CACHE_CONTROL, cacheControl);
+                    }
+                    response.setStatus(Integer.parseInt(request.getHeaders().get("X-Status")));
+                    response.getHeaders().put(HttpHeader.LOCATION, "/new" + path.substring(4));
+                    callback.succeeded();
+                    return true;
+                }
+                response.setStatus(HttpStatus.OK_200);
+                Content.Sink.write(response, true, path, callback);
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient client(RedirectCache redirectCache) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder()
+                .setFollowRedirect(true)
+                .setRedirectCache(redirectCache)
+                .build());
+    }
+
+    private Response get(AsyncHttpClient client, String path, int status, String cacheControl) throws Exception {
+        AsyncHttpClient.BoundRequestBuilder builder = client.prepareGet("http://127.0.0.1:" + port1 + path)
+                .setHeader("X-Status", String.valueOf(status));
+        if (cacheControl != null) {
+            builder.setHeader("X-Cache-Control", cacheControl);
+        }
+        return builder.execute().get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void permanentRedirectIsCached() throws Exception {
+        RedirectCache redirectCache = new RedirectCache.Builder().build();
+        try (AsyncHttpClient client = client(redirectCache)) {
+            for (int status : new int[] { 301, 308 }) {
+                String path = "/old/" + status;
+                assertEquals(get(client, path, status, null).getResponseBody(), "/new/" + status);
+                assertEquals(get(client, path, status, null).getResponseBody(), "/new/" + status);
+            }
+            assertEquals(redirects.get(), 2);
+            assertEquals(redirectCache.size(), 2);
+            assertEquals(redirectCache.getHitCount(), 2);
+            assertEquals(redirectCache.getMissCount(), 2);
+
+            redirectCache.invalidate("http://127.0.0.1:" + port1 + "/old/301");
+            assertEquals(get(client, "/old/301", 301, null).getStatusCode(), 200);
+            assertEquals(redirects.get(), 3);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void temporaryOrUncacheableRedirectIsNotCached() throws Exception {
+        RedirectCache redirectCache = new RedirectCache.Builder().build();
+        try (AsyncHttpClient client = client(redirectCache)) {
+            get(client, "/old/302", 302, null);
+            get(client, "/old/302", 302, null);
+            get(client, "/old/301", 301, "no-store");
+            get(client, "/old/301", 301, "no-store");
+            get(client, "/old/308", 308, "max-age=0");
+            get(client, "/old/308", 308, "max-age=0");
+            assertEquals(redirects.get(), 6);
+            assertEquals(redirectCache.size(), 0);
+            assertEquals(redirectCache.getHitCount(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void requestNotFollowingRedirectsIsNotRewritten() throws Exception {
+        RedirectCache redirectCache = new RedirectCache.Builder().build();
+        try (AsyncHttpClient client = client(redirectCache)) {
+            get(client, "/old/301", 301, null);
+            Response response = client.prepareGet("http://127.0.0.1:" + port1 + "/old/301")
+                    .setHeader("X-Status", "301")
+                    .setFollowRedirects(false)
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 301);
+            assertEquals(redirects.get(), 2);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void chainsExpiryAndEviction() throws Exception {
+        RedirectCache redirectCache = new RedirectCache.Builder().setMaxEntries(2).setDefaultTtl(0).build();
+        FluentCaseInsensitiveStringsMap fresh = new FluentCaseInsensitiveStringsMap().add("Cache-Control", "max-age=60");
+        Uri a = Uri.create("http://a/"), b = Uri.create("http://b/"), c = Uri.create("http://c/");
+
+        redirectCache.put(a, 301, b, new FluentCaseInsensitiveStringsMap());
+        assertEquals(redirectCache.size(), 0);
+
+        redirectCache.put(a, 301, b, fresh);
+        redirectCache.put(b, 308, c, fresh);
+        assertEquals(redirectCache.rewrite(new RequestBuilder().setUrl("http://a/").build()).getUrl(), "http://c/");
+
+        // looping redirects are bounded
+        redirectCache.put(c, 301, a, fresh);
+        assertEquals(redirectCache.size(), 2);
+        assertEquals(redirectCache.rewrite(new RequestBuilder().setUrl("http://b/").build()).getUrl(), "http://a/");
+        redirectCache.put(a, 301, b, fresh);
+        redirectCache.rewrite(new RequestBuilder().setUrl("http://a/").build());
+
+        redirectCache.clear();
+        assertEquals(redirectCache.size(), 0);
+    }
+}
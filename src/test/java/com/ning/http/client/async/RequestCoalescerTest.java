@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncCompletionHandlerBase;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Response;
+import com.ning.http.client.extra.RequestCoalescer;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public abstract class RequestCoalescerTest extends AbstractBasicTest {
+
+    private final AtomicInteger served = new AtomicInteger();
+    private volatile CountDownLatch release;
+    private volatile CountDownLatch resume;
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        served.set(0);
+        release = new CountDownLatch(1);
+        resume = new CountDownLatch(1);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                int count = served.incrementAndGet();
+                release.await(TIMEOUT, TimeUnit.SECONDS);
+                StringBuilder body = new StringBuilder();
+                for (int i = 0; i < 2000; i++) {
+                    body.append("response-").append(count).append('\n');
+                }
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Count", count);
+                if (request.getHeaders().get("X-Pause") == null) {
+                    Content.Sink.write(response, true, body.toString(), callback);
+                    return true;
+                }
+                // pauses halfway through the body until resumed
+                byte[] bytes = body.toString().getBytes();
+                OutputStream out = Content.Sink.asOutputStream(response);
+                out.write(bytes, 0, bytes.length / 2);
+                out.flush();
+                resume.await(TIMEOUT, TimeUnit.SECONDS);
+                out.write(bytes, bytes.length / 2, bytes.length - bytes.length / 2);
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient coalescingClient(RequestCoalescer coalescer) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().setRequestCoalescer(coalescer).build());
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void concurrentIdenticalRequestsShareOneTransaction() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+        try (AsyncHttpClient client = coalescingClient(coalescer)) {
+            List<ListenableFuture<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(client.prepareGet(getTargetUrl()).setHeader("Accept", "text/plain").execute());
+            }
+            release.countDown();
+
+            String body = futures.get(0).get(TIMEOUT, TimeUnit.SECONDS).getResponseBody();
+            assertTrue(body.startsWith("response-1\n"));
+            for (ListenableFuture<Response> future : futures) {
+                Response response = future.get(TIMEOUT, TimeUnit.SECONDS);
+                assertEquals(response.getStatusCode(), 200);
+                assertEquals(response.getHeader("X-Count"), "1");
+                assertEquals(response.getResponseBody(), body);
+            }
+            assertEquals(served.get(), 1);
+            assertEquals(coalescer.getCoalescedCount(), 9);
+            assertEquals(coalescer.getInFlightRequests(), 0);
+
+            // completed requests aren't shared anymore
+            assertEquals(client.prepareGet(getTargetUrl()).setHeader("Accept", "text/plain").execute()
+                    .get(TIMEOUT, TimeUnit.SECONDS).getHeader("X-Count"), "2");
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void differentKeyHeadersAreNotCoalesced() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().setKeyHeaders("Accept").build();
+        try (AsyncHttpClient client = coalescingClient(coalescer)) {
+            ListenableFuture<Response> a = client.prepareGet(getTargetUrl()).setHeader("Accept", "a").setHeader("X-Trace", "1").execute();
+            ListenableFuture<Response> a2 = client.prepareGet(getTargetUrl()).setHeader("Accept", "a").setHeader("X-Trace", "2").execute();
+            ListenableFuture<Response> b = client.prepareGet(getTargetUrl()).setHeader("Accept", "b").execute();
+            release.countDown();
+
+            assertEquals(a.get(TIMEOUT, TimeUnit.SECONDS).getHeader("X-Count"),
+                    a2.get(TIMEOUT, TimeUnit.SECONDS).getHeader("X-Count"));
+            b.get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(served.get(), 2);
+            assertEquals(coalescer.getCoalescedCount(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void leavingSubscribersDontAffectOthers() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+        try (AsyncHttpClient client = coalescingClient(coalescer)) {
+            ListenableFuture<Response> cancelled = client.prepareGet(getTargetUrl()).execute();
+            final AtomicInteger aborterCompletions = new AtomicInteger();
+            ListenableFuture<Response> aborted = client.prepareGet(getTargetUrl()).execute(new AsyncCompletionHandlerBase() {
+                @Override
+                public STATE onStatusReceived(HttpResponseStatus status) throws Exception {
+                    super.onStatusReceived(status);
+                    return STATE.ABORT;
+                }
+
+                @Override
+                public Response onCompleted(Response response) throws Exception {
+                    aborterCompletions.incrementAndGet();
+                    return response;
+                }
+            });
+            ListenableFuture<Response> kept = client.prepareGet(getTargetUrl()).execute();
+
+            assertTrue(cancelled.cancel(true));
+            release.countDown();
+
+            Response response = kept.get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getResponseBody().length(), 2000 * "response-1\n".length());
+            assertEquals(aborted.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+            assertEquals(aborterCompletions.get(), 1);
+            assertTrue(cancelled.isCancelled());
+            assertEquals(served.get(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void slowLateSubscriberDoesntHoldUpOthers() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer.Builder().build();
+        try (AsyncHttpClient client = coalescingClient(coalescer)) {
+            release.countDown();
+            final CountDownLatch firstPart = new CountDownLatch(1);
+            ListenableFuture<Response> first = client.prepareGet(getTargetUrl()).setHeader("X-Pause", "true")
+                    .execute(new AsyncCompletionHandlerBase() {
+                        @Override
+                        public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                            firstPart.countDown();
+                            return super.onBodyPartReceived(content);
+                        }
+                    });
+            assertTrue(firstPart.await(TIMEOUT, TimeUnit.SECONDS));
+
+            // the late subscriber's handler blocks while the recorded events are replayed to it
+            final CountDownLatch replaying = new CountDownLatch(1);
+            final CountDownLatch unblock = new CountDownLatch(1);
+            CompletableFuture<ListenableFuture<Response>> late = CompletableFuture.supplyAsync(() ->
+                    client.prepareGet(getTargetUrl()).setHeader("X-Pause", "true").execute(new AsyncCompletionHandlerBase() {
+                        @Override
+                        public STATE onStatusReceived(HttpResponseStatus status) throws Exception {
+                            replaying.countDown();
+                            unblock.await(TIMEOUT, TimeUnit.SECONDS);
+                            return super.onStatusReceived(status);
+                        }
+                    }));
+            assertTrue(replaying.await(TIMEOUT, TimeUnit.SECONDS));
+
+            resume.countDown();
+            try {
+                String body = first.get(TIMEOUT, TimeUnit.SECONDS).getResponseBody();
+                assertEquals(body.length(), 2000 * "response-1\n".length());
+                unblock.countDown();
+                assertEquals(late.get(TIMEOUT, TimeUnit.SECONDS).get(TIMEOUT, TimeUnit.SECONDS).getResponseBody(), body);
+                assertEquals(served.get(), 1);
+                assertEquals(coalescer.getCoalescedCount(), 1);
+            } finally {
+                unblock.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.BufferedResponse;
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.Response;
+import com.ning.http.client.uri.Uri;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public abstract class ResponseAggregationTest extends AbstractBasicTest {
+
+    private static final int SIZE = 100000;
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        return body;
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // the body is written in many small chunks, announcing its length if X-Length is set
+                byte[] body = body(SIZE);
+                response.setStatus(HttpStatus.OK_200);
+                if (request.getHeaders().get("X-Length") != null) {
+                    response.getHeaders().put(HttpHeader.CONTENT_LENGTH, SIZE);
+                }
+                OutputStream out = Content.Sink.asOutputStream(response);
+                for (int i = 0; i < SIZE; i += 1000) {
+                    out.write(body, i, Math.min(1000, SIZE - i));
+                    out.flush();
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private void assertBody(Response response) throws Exception {
+        byte[] expected = body(SIZE);
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(response.getResponseBodyAsBytes(), expected);
+        assertEquals(response.getResponseBody(StandardCharsets.US_ASCII.name()), new String(expected, StandardCharsets.US_ASCII));
+
+        ByteBuffer view = response.getResponseBodyAsReadOnlyByteBuffer();
+        assertTrue(view.isReadOnly());
+        assertEquals(view, ByteBuffer.wrap(expected));
+        // the view is independent from the body
+        view.position(view.limit());
+        assertEquals(response.getResponseBodyAsReadOnlyByteBuffer().remaining(), SIZE);
+        assertEquals(response.getResponseBodyAsBytes().length, SIZE);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void contentLengthBodyIsAggregated() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            Response response = client.prepareGet(getTargetUrl()).setHeader("X-Length", "true").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getHeader("Content-Length"), String.valueOf(SIZE));
+            assertBody(response);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void chunkedBodyIsAggregated() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            Response response = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getHeader("Content-Length"), null);
+            assertBody(response);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyLongerThanAnnouncedIsKept() throws Exception {
+        FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap();
+        headers.add("Content-Length", "4");
+        Response.ResponseBuilder builder = new Response.ResponseBuilder();
+        builder.accumulate(new BufferedResponse.Status(Uri.create(getTargetUrl()), 200, "OK"));
+        builder.accumulate(new BufferedResponse.Headers(headers));
+        builder.accumulate(new BufferedResponse.BodyPart(ByteBuffer.wrap("abc".getBytes(StandardCharsets.US_ASCII)), false));
+        builder.accumulate(new BufferedResponse.BodyPart(ByteBuffer.wrap("def".getBytes(StandardCharsets.US_ASCII)), true));
+
+        Response response = builder.build();
+        assertEquals(response.getResponseBody(), "abcdef");
+        assertEquals(response.getResponseBodyAsReadOnlyByteBuffer().remaining(), 6);
+    }
+}
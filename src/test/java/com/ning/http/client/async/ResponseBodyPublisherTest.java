@@ -0,0 +1,216 @@
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.Response;
+import com.ning.http.client.ResponseBodyPublisher;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public abstract class ResponseBodyPublisherTest extends AbstractBasicTest {
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // a body of X-Size bytes counting modulo 251
+                int size = Integer.parseInt(request.getHeaders().get("X-Size"));
+                response.setStatus(HttpStatus.OK_200);
+                OutputStream out = Content.Sink.asOutputStream(response);
+                byte[] chunk = new byte[16 * 1024];
+                for (int i = 0; i < size; i += chunk.length) {
+                    int length = Math.min(chunk.length, size - i);
+                    for (int j = 0; j < length; j++) {
+                        chunk[j] = (byte) ((i + j) % 251);
+                    }
+                    out.write(chunk, 0, length);
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Checks the bytes received, requesting the given number of buffers up front.
+     */
+    private static class CheckingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        final long initialRequest;
+        final AtomicLong received = new AtomicLong();
+        final CompletableFuture<Long> result = new CompletableFuture<>();
+        volatile Flow.Subscription subscription;
+        volatile boolean corrupted;
+
+        CheckingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            long offset = received.get();
+            while (buffer.hasRemaining()) {
+                if (buffer.get() != (byte) (offset++ % 251)) {
+                    corrupted = true;
+                }
+            }
+            received.set(offset);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(received.get());
+        }
+    }
+
+    /**
+     * Counts the body bytes read from the connection.
+     */
+    private static class CountingPublisher extends ResponseBodyPublisher {
+
+        final AtomicLong read = new AtomicLong();
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            read.addAndGet(bodyPart.length());
+            return super.onBodyPartReceived(bodyPart);
+        }
+    }
+
+    private Future<Response> get(AsyncHttpClient client, int size, ResponseBodyPublisher publisher) {
+        return client.prepareGet(getTargetUrl()).setHeader("X-Size", String.valueOf(size)).execute(publisher);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyIsPublished() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+            CheckingSubscriber subscriber = new CheckingSubscriber(Long.MAX_VALUE);
+            publisher.subscribe(subscriber);
+            Response response = get(client, 1000000, publisher).get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(subscriber.result.get(TIMEOUT, TimeUnit.SECONDS).longValue(), 1000000);
+            assertFalse(subscriber.corrupted);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void lateSubscriberGetsWholeBody() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+            Future<Response> response = get(client, 1000000, publisher);
+            Thread.sleep(500);
+            CheckingSubscriber subscriber = new CheckingSubscriber(1) {
+                @Override
+                public void onNext(ByteBuffer buffer) {
+                    super.onNext(buffer);
+                    subscription.request(1);
+                }
+            };
+            publisher.subscribe(subscriber);
+
+            assertEquals(subscriber.result.get(TIMEOUT, TimeUnit.SECONDS).longValue(), 1000000);
+            assertFalse(subscriber.corrupted);
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void readingFollowsDemand() throws Exception {
+        int size = 64 * 1024 * 1024;
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CountingPublisher publisher = new CountingPublisher();
+            CheckingSubscriber subscriber = new CheckingSubscriber(1);
+            publisher.subscribe(subscriber);
+            Future<Response> response = get(client, size, publisher);
+            Thread.sleep(1000);
+
+            // without demand, reading stopped after the first part
+            long read = publisher.read.get();
+            assertTrue(read < 1024 * 1024, "read " + read + " bytes");
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(subscriber.result.get(TIMEOUT, TimeUnit.SECONDS).longValue(), size);
+            assertFalse(subscriber.corrupted);
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void cancelAbortsRequest() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+            CheckingSubscriber subscriber = new CheckingSubscriber(1) {
+                @Override
+                public void onNext(ByteBuffer buffer) {
+                    super.onNext(buffer);
+                    subscription.cancel();
+                }
+            };
+            publisher.subscribe(subscriber);
+            Future<Response> response = get(client, 64 * 1024 * 1024, publisher);
+
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+            assertFalse(subscriber.result.isDone());
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void nonPositiveRequestSignalsError() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+            CheckingSubscriber subscriber = new CheckingSubscriber(0);
+            publisher.subscribe(subscriber);
+            Future<Response> response = get(client, 1000000, publisher);
+
+            try {
+                subscriber.result.get(TIMEOUT, TimeUnit.SECONDS);
+                throw new AssertionError("expected an error");
+            } catch (java.util.concurrent.ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException, e.getCause().toString());
+            }
+            response.get(TIMEOUT, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void secondSubscriberIsRejected() throws Exception {
+        ResponseBodyPublisher publisher = new ResponseBodyPublisher();
+        publisher.subscribe(new CheckingSubscriber(1));
+        CheckingSubscriber second = new CheckingSubscriber(1);
+        publisher.subscribe(second);
+
+        assertTrue(second.result.isCompletedExceptionally());
+    }
+}
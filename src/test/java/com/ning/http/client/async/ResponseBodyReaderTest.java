@@ -0,0 +1,129 @@
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.Response;
+import com.ning.http.client.ResponseBodyReader;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public abstract class ResponseBodyReaderTest extends AbstractBasicTest {
+
+    private static final String LINE = "ligne numéro € 😀";
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // X-Lines lines, flushed every 7 bytes so that characters are split across chunks
+                int lines = Integer.parseInt(request.getHeaders().get("X-Lines"));
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put(HttpHeader.CONTENT_TYPE, "text/plain; charset=UTF-8");
+                OutputStream out = Content.Sink.asOutputStream(response);
+                byte[] line = (LINE + "\n").getBytes(StandardCharsets.UTF_8);
+                boolean split = lines < 100;
+                for (int i = 0; i < lines; i++) {
+                    for (int j = 0; j < line.length; j += split ? 7 : line.length) {
+                        out.write(line, j, Math.min(split ? 7 : line.length, line.length - j));
+                        if (split) {
+                            out.flush();
+                        }
+                    }
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Counts the body bytes read from the connection.
+     */
+    private static class CountingReader extends ResponseBodyReader {
+
+        final AtomicLong read = new AtomicLong();
+
+        CountingReader() {
+            super(StandardCharsets.ISO_8859_1, 64 * 1024);
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            read.addAndGet(bodyPart.length());
+            return super.onBodyPartReceived(bodyPart);
+        }
+    }
+
+    private Future<Response> get(AsyncHttpClient client, int lines, ResponseBodyReader reader) {
+        return client.prepareGet(getTargetUrl()).setHeader("X-Lines", String.valueOf(lines)).execute(reader);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void charactersSplitAcrossPartsAreDecoded() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyReader reader = new ResponseBodyReader();
+            Future<Response> response = get(client, 20, reader);
+            try (BufferedReader lines = new BufferedReader(reader)) {
+                for (int i = 0; i < 20; i++) {
+                    assertEquals(lines.readLine(), LINE);
+                }
+                assertNull(lines.readLine());
+            }
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void readingFollowsTheReader() throws Exception {
+        int lines = 1000000;
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CountingReader reader = new CountingReader();
+            Future<Response> response = get(client, lines, reader);
+            Thread.sleep(1000);
+
+            // nothing read, so reading stopped once the window was full
+            long read = reader.read.get();
+            assertTrue(read < 1024 * 1024, "read " + read + " bytes");
+
+            try (BufferedReader in = new BufferedReader(reader)) {
+                int count = 0;
+                while (in.readLine() != null) {
+                    count++;
+                }
+                assertEquals(count, lines);
+            }
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void closingAbortsRequest() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            ResponseBodyReader reader = new ResponseBodyReader();
+            Future<Response> response = get(client, 1000000, reader);
+            assertTrue(reader.read() != -1);
+            reader.close();
+
+            assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Response;
+import com.ning.http.client.cache.CacheEntry;
+import com.ning.http.client.cache.MemoryCacheStore;
+import com.ning.http.client.cache.ResponseCache;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public abstract class ResponseCacheTest extends AbstractBasicTest {
+
+    private final AtomicInteger served = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetCounters() {
+        served.set(0);
+        notModified.set(0);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback) {
+                final String path = Request.getPathInContext(request);
+                if (!"GET".equals(request.getMethod())) {
+                    response.setStatus(HttpStatus.NO_CONTENT_204);
+                    callback.succeeded();
+                    return true;
+                }
+                if (path.contains("/fresh")) {
+                    response.getHeaders().put("Cache-Control", "max-age=60");
+                } else if (path.contains("/etag")) {
+                    response.getHeaders().put("Cache-Control", "no-cache");
+                    response.getHeaders().put("ETag", "\"v1\"");
+                    if ("\"v1\"".equals(request.getHeaders().get("If-None-Match"))) {
+                        notModified.incrementAndGet();
+                        response.setStatus(HttpStatus.NOT_MODIFIED_304);
+                        callback.succeeded();
+                        return true;
+                    }
+                } else if (path.contains("/vary")) {
+                    response.getHeaders().put("Cache-Control", "max-age=60");
+                    response.getHeaders().put("Vary", "Accept-Language");
+                } else {
+                    response.getHeaders().put("Cache-Control", "no-store");
+                }
+                response.setStatus(HttpStatus.OK_200);
+                Content.Sink.write(response, true, "body-" + served.incrementAndGet(), callback);
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient cachingClient(ResponseCache cache) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().setResponseCache(cache).build());
+    }
+
+    private static Response get(AsyncHttpClient client, String url) throws Exception {
+        return client.prepareGet(url).execute().get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void freshResponseIsServedFromCache() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/fresh";
+            Response first = get(client, url);
+            ListenableFuture<Response> second = client.prepareGet(url).execute();
+
+            assertTrue(second.isDone());
+            assertEquals(second.get().getStatusCode(), 200);
+            assertEquals(second.get().getResponseBody(), first.getResponseBody());
+            assertEquals(second.get().getHeader("Cache-Control"), "max-age=60");
+            assertEquals(served.get(), 1);
+            assertEquals(cache.getMissCount(), 1);
+            assertEquals(cache.getHitCount(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void staleResponseIsRevalidated() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/etag";
+            Response first = get(client, url);
+            Response second = get(client, url);
+            Response third = get(client, url);
+
+            assertEquals(second.getStatusCode(), 200);
+            assertEquals(second.getResponseBody(), first.getResponseBody());
+            assertEquals(third.getResponseBody(), first.getResponseBody());
+            assertEquals(served.get(), 1);
+            assertEquals(notModified.get(), 2);
+            assertEquals(cache.getRevalidationCount(), 2);
+            assertEquals(cache.getHitCount(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void requestDirectivesAreHonored() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/fresh-directives";
+            get(client, url);
+            Response noCache = client.prepareGet(url).setHeader("Cache-Control", "no-cache").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(noCache.getResponseBody(), "body-2");
+
+            Response maxAge = client.prepareGet(url).setHeader("Cache-Control", "max-age=0").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(maxAge.getResponseBody(), "body-3");
+
+            Response cached = get(client, url);
+            assertEquals(cached.getResponseBody(), "body-3");
+
+            Response onlyIfCached = client.prepareGet(getTargetUrl() + "/fresh-absent")
+                    .setHeader("Cache-Control", "only-if-cached").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(onlyIfCached.getStatusCode(), 504);
+            assertEquals(served.get(), 3);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void noStoreResponseIsNotCached() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/nostore";
+            assertEquals(get(client, url).getResponseBody(), "body-1");
+            assertEquals(get(client, url).getResponseBody(), "body-2");
+            assertEquals(cache.getMissCount(), 2);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void varyingResponsesAreSelected() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/vary";
+            Response en = client.prepareGet(url).setHeader("Accept-Language", "en").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            Response enAgain = client.prepareGet(url).setHeader("Accept-Language", "en").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            Response fr = client.prepareGet(url).setHeader("Accept-Language", "fr").execute().get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(enAgain.getResponseBody(), en.getResponseBody());
+            assertEquals(fr.getResponseBody(), "body-2");
+            assertEquals(cache.getHitCount(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void unsafeRequestInvalidates() throws Exception {
+        ResponseCache cache = new ResponseCache.Builder().build();
+        try (AsyncHttpClient client = cachingClient(cache)) {
+            String url = getTargetUrl() + "/fresh-invalidated";
+            get(client, url);
+            assertEquals(get(client, url).getResponseBody(), "body-1");
+
+            assertEquals(client.preparePost(url).execute().get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 204);
+            assertEquals(get(client, url).getResponseBody(), "body-2");
+
+            cache.invalidate(url);
+            assertEquals(get(client, url).getResponseBody(), "body-3");
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void diskTierIsWrittenAsideAndPromoted() throws Exception {
+        final AtomicInteger diskReads = new AtomicInteger();
+        MemoryCacheStore disk = new MemoryCacheStore(1024 * 1024) {
+            @Override
+            public CacheEntry get(String key) {
+                diskReads.incrementAndGet();
+                return super.get(key);
+            }
+        };
+        List<Runnable> writes = new CopyOnWriteArrayList<>();
+        String url = getTargetUrl() + "/fresh-disk";
+
+        ResponseCache writer = new ResponseCache.Builder().setDiskStore(disk).setDiskExecutor(writes::add).build();
+        try (AsyncHttpClient client = cachingClient(writer)) {
+            assertEquals(get(client, url).getResponseBody(), "body-1");
+        }
+        // handed to the disk executor rather than written on the completing thread
+        assertEquals(disk.size(), 0);
+        assertEquals(writes.size(), 1);
+        writes.get(0).run();
+        assertEquals(disk.size(), 1);
+        diskReads.set(0);
+
+        // a cache sharing the disk store finds the entry there once, then in memory
+        ResponseCache reader = new ResponseCache.Builder().setDiskStore(disk).build();
+        try (AsyncHttpClient client = cachingClient(reader)) {
+            assertEquals(get(client, url).getResponseBody(), "body-1");
+            assertEquals(get(client, url).getResponseBody(), "body-1");
+        }
+        assertEquals(served.get(), 1);
+        assertEquals(reader.getHitCount(), 2);
+        assertEquals(diskReads.get(), 1);
+    }
+}
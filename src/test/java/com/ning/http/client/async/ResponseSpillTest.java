@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncCompletionHandlerBase;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.Response;
+import com.ning.http.client.ResponseBodyTooLargeException;
+import com.ning.http.client.ResponseSpillPolicy;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public abstract class ResponseSpillTest extends AbstractBasicTest {
+
+    private File directory;
+
+    private static byte[] body(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) ('a' + i % 26);
+        }
+        return body;
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    public void createDirectory() throws Exception {
+        directory = Files.createTempDirectory("spill").toFile();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() {
+        directory.delete();
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // a body of X-Size bytes, chunked unless X-Length is set
+                int size = Integer.parseInt(request.getHeaders().get("X-Size"));
+                byte[] body = body(size);
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Client-Port", String.valueOf(Request.getRemotePort(request)));
+                if (request.getHeaders().get("X-Length") != null) {
+                    response.getHeaders().put(HttpHeader.CONTENT_LENGTH, size);
+                }
+                OutputStream out = Content.Sink.asOutputStream(response);
+                try {
+                    for (int i = 0; i < size; i += 1000) {
+                        out.write(body, i, Math.min(1000, size - i));
+                        out.flush();
+                    }
+                    out.close();
+                    callback.succeeded();
+                } catch (Exception e) {
+                    // the client gave up on the body
+                    callback.failed(e);
+                }
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient client(ResponseSpillPolicy policy) {
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().setResponseSpillPolicy(policy).build());
+    }
+
+    private Response get(AsyncHttpClient client, int size, boolean contentLength) throws Exception {
+        AsyncHttpClient.BoundRequestBuilder builder = client.prepareGet(getTargetUrl()).setHeader("X-Size", String.valueOf(size));
+        if (contentLength) {
+            builder.setHeader("X-Length", "true");
+        }
+        return builder.execute().get(TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private static void assertBody(Response response, int size) throws Exception {
+        byte[] expected = body(size);
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(response.getResponseBodyAsBytes(), expected);
+        try (InputStream in = response.getResponseBodyAsStream()) {
+            assertEquals(in.readAllBytes(), expected);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void largeBodyIsSpilled() throws Exception {
+        ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(16 * 1024).setDirectory(directory).build();
+        try (AsyncHttpClient client = client(policy)) {
+            for (boolean contentLength : new boolean[] { true, false }) {
+                assertBody(get(client, 200000, contentLength), 200000);
+            }
+            assertEquals(policy.getSpilledCount(), 2);
+            assertEquals(policy.getBufferedBytes(), 0);
+            // the temporary files are gone once the bodies are mapped
+            assertEquals(directory.list().length, 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void smallBodyStaysInMemory() throws Exception {
+        ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(16 * 1024).setDirectory(directory).build();
+        try (AsyncHttpClient client = client(policy)) {
+            assertBody(get(client, 10000, false), 10000);
+            assertEquals(policy.getSpilledCount(), 0);
+            assertEquals(policy.getBufferedBytes(), 0);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void globalThresholdSpills() throws Exception {
+        ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setGlobalMemoryThreshold(0).setDirectory(directory).build();
+        try (AsyncHttpClient client = client(policy)) {
+            assertBody(get(client, 10000, false), 10000);
+            assertEquals(policy.getSpilledCount(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyAboveMaxSizeFails() throws Exception {
+        ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(16 * 1024).setMaxBodySize(50000)
+                .setDirectory(directory).build();
+        try (AsyncHttpClient client = client(policy)) {
+            for (boolean contentLength : new boolean[] { true, false }) {
+                try {
+                    get(client, 500000, contentLength);
+                    fail("the body should have been refused");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof ResponseBodyTooLargeException, e.getCause().toString());
+                }
+            }
+            assertEquals(policy.getBufferedBytes(), 0);
+            assertEquals(directory.list().length, 0);
+            // bodies within the limit are still accepted
+            assertBody(get(client, 50000, true), 50000);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void handlerUsesPolicy() throws Exception {
+        ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(0).setDirectory(directory).build();
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            Response response = client.prepareGet(getTargetUrl()).setHeader("X-Size", "5000")
+                    .execute(new AsyncCompletionHandlerBase(policy)).get(TIMEOUT, TimeUnit.SECONDS);
+            assertBody(response, 5000);
+            assertEquals(policy.getSpilledCount(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void spillIsWrittenOnExecutor() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        try {
+            ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(0).setDirectory(directory)
+                    .setExecutor(r -> {
+                        tasks.incrementAndGet();
+                        writer.execute(r);
+                    }).build();
+            try (AsyncHttpClient client = client(policy)) {
+                assertBody(get(client, 200000, false), 200000);
+                assertTrue(tasks.get() > 0);
+                assertEquals(directory.list().length, 0);
+            }
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void abortedBodyIsReleased() throws Exception {
+        for (long memoryThreshold : new long[] { 1024 * 1024, 0 }) {
+            ResponseSpillPolicy policy = new ResponseSpillPolicy.Builder().setMemoryThreshold(memoryThreshold)
+                    .setDirectory(directory).build();
+            try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+                // fails the response halfway, and doesn't call the super onThrowable
+                AsyncCompletionHandlerBase handler = new AsyncCompletionHandlerBase(policy) {
+                    private int parts;
+
+                    @Override
+                    public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                        super.onBodyPartReceived(content);
+                        if (++parts == 2) {
+                            throw new IllegalStateException("halfway");
+                        }
+                        return STATE.CONTINUE;
+                    }
+
+                    @Override
+                    public void onThrowable(Throwable t) {
+                    }
+                };
+                try {
+                    client.prepareGet(getTargetUrl()).setHeader("X-Size", "200000").execute(handler)
+                            .get(TIMEOUT, TimeUnit.SECONDS);
+                    fail("the handler should have failed the response");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof IllegalStateException, e.getCause().toString());
+                }
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+                while ((policy.getBufferedBytes() != 0 || directory.list().length != 0) && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(policy.getBufferedBytes(), 0);
+                assertEquals(directory.list().length, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.Response;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs requests from virtual threads and fails if any of them gets pinned to
+ * its carrier while parked inside the client. Pinning is detected through the
+ * <code>jdk.VirtualThreadPinned</code> JFR event; the build runs the suite with
+ * <code>-Djdk.tracePinnedThreads=full</code>, which additionally prints the offending stacks.
+ */
+public abstract class VirtualThreadTest extends AbstractBasicTest {
+
+    private static final int REQUESTS = 500;
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void blockingRequestsFromVirtualThreads() throws Exception {
+        AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
+                .setExecutorService(Executors.newVirtualThreadPerTaskExecutor())
+                .setMaxConnections(REQUESTS)
+                .setMaxConnectionsPerHost(REQUESTS)
+                .build();
+
+        List<String> pinned = recordPinning(() -> {
+            try (AsyncHttpClient client = getAsyncHttpClient(config);
+                 ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Response>> responses = new ArrayList<>(REQUESTS);
+                for (int i = 0; i < REQUESTS; i++) {
+                    responses.add(threads.submit(() -> client.prepareGet(getTargetUrl()).executeBlocking()));
+                }
+                for (Future<Response> response : responses) {
+                    assertEquals(response.get(TIMEOUT, TimeUnit.SECONDS).getStatusCode(), 200);
+                }
+            }
+        });
+
+        assertTrue(pinned.isEmpty(), "Virtual threads pinned in client code: " + pinned);
+    }
+
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the action and returns the top client frame of every pinned park
+     * recorded meanwhile; pinning caused solely by third party code is ignored.
+     */
+    protected static List<String> recordPinning(Action action) throws Exception {
+        final ConcurrentLinkedQueue<String> pinned = new ConcurrentLinkedQueue<>();
+        try (RecordingStream rs = new RecordingStream()) {
+            rs.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            rs.onEvent("jdk.VirtualThreadPinned", event -> {
+                String frame = clientFrame(event);
+                if (frame != null) {
+                    pinned.add(frame);
+                }
+            });
+            rs.startAsync();
+            action.run();
+            rs.stop();
+        }
+        return new ArrayList<>(pinned);
+    }
+
+    private static String clientFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.ning.http.client.") && !type.startsWith("com.ning.http.client.async.")) {
+                return type + '.' + frame.getMethod().getName() + ':' + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public abstract class ZeroCopyBodyPartTest extends AbstractBasicTest {
+
+    private static final int SIZE = 100000;
+
+    private static byte[] body() {
+        byte[] body = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            body[i] = (byte) (i % 251);
+        }
+        return body;
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                response.setStatus(HttpStatus.OK_200);
+                byte[] body = body();
+                OutputStream out = Content.Sink.asOutputStream(response);
+                for (int i = 0; i < SIZE; i += 7000) {
+                    out.write(body, i, Math.min(7000, SIZE - i));
+                    out.flush();
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private static class CopyingHandler implements AsyncHandler<Void> {
+
+        final ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        final ByteArrayOutputStream viewed = new ByteArrayOutputStream();
+        private final WritableByteChannel channel = Channels.newChannel(transferred);
+        volatile Throwable failure;
+
+        @Override
+        public void onThrowable(Throwable t) {
+            failure = t;
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) throws Exception {
+            for (ByteBuffer view : bodyPart.getBodyByteBuffers()) {
+                assertTrue(view.isReadOnly());
+            }
+            assertEquals(bodyPart.transferTo(channel), (long) bodyPart.length());
+            assertEquals(bodyPart.writeTo(written), bodyPart.length());
+            // the copy of the existing accessor keeps its array accessible
+            ByteBuffer buffer = bodyPart.getBodyByteBuffer();
+            assertFalse(buffer.isReadOnly());
+            viewed.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+
+            assertEquals(bodyPart.retain().refCount(), 2);
+            assertFalse(bodyPart.release());
+            assertTrue(bodyPart.release());
+            try {
+                bodyPart.getBodyByteBuffers();
+                fail("A released part can't be read");
+            } catch (IllegalStateException expected) {
+            }
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) {
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders headers) {
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public Void onCompleted() {
+            return null;
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void partsAreReadWithoutCopies() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CopyingHandler handler = new CopyingHandler();
+            client.prepareGet(getTargetUrl()).execute(handler).get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(handler.failure, null);
+            assertEquals(handler.transferred.toByteArray(), body());
+            assertEquals(handler.written.toByteArray(), body());
+            assertEquals(handler.viewed.toByteArray(), body());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.providers.grizzly.GrizzlyAsyncHttpProviderConfig;
+import com.ning.http.client.providers.grizzly.TransportCustomizer;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.ConnectionProbe;
+import org.glassfish.grizzly.connectionpool.MultiEndpointPool;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Watches the connections of a Grizzly provider configured with {@link #getProviderConfig()}, so that tests wait for a
+ * connection to be back in the pool, or closed, rather than for a fixed time. Connections are identified by their
+ * local port, the client port the server sees.
+ */
+class ConnectionWatch {
+
+    private final MultiEndpointPool<SocketAddress> pool = MultiEndpointPool.builder(SocketAddress.class)
+            .keepAliveTimeout(60, TimeUnit.SECONDS)
+            .keepAliveCheckInterval(1, TimeUnit.SECONDS)
+            .failFastWhenMaxSizeReached(true)
+            .build();
+    private final Map<Integer, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * @return a provider config using the watched pool, to which more properties may be added
+     */
+    GrizzlyAsyncHttpProviderConfig getProviderConfig() {
+        GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+        providerConfig.setConnectionPool(pool);
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.TRANSPORT_CUSTOMIZER,
+                (TransportCustomizer) (transport, builder) ->
+                        transport.getConnectionMonitoringConfig().addProbes(new ConnectionProbe.Adapter() {
+                            @Override
+                            public void onConnectEvent(Connection connection) {
+                                connections.put(((InetSocketAddress) connection.getLocalAddress()).getPort(), connection);
+                            }
+                        }));
+        return providerConfig;
+    }
+
+    /**
+     * @return true once the connection is idle in the pool, false if it isn't within the timeout
+     */
+    boolean awaitPooled(int clientPort, long timeout, TimeUnit unit) throws InterruptedException {
+        return await(clientPort, c -> c.isOpen() && pool.isRegistered(c) && !pool.isBusy(c), timeout, unit);
+    }
+
+    /**
+     * @return true once the connection is closed, false if it isn't within the timeout
+     */
+    boolean awaitClosed(int clientPort, long timeout, TimeUnit unit) throws InterruptedException {
+        return await(clientPort, c -> !c.isOpen(), timeout, unit);
+    }
+
+    private boolean await(int clientPort, Predicate<Connection> condition, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (;;) {
+            Connection connection = connections.get(clientPort);
+            if (connection != null && condition.test(connection)) {
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+    }
+}
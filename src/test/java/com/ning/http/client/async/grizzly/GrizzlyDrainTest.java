@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncCompletionHandler;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.Response;
+import com.ning.http.client.async.AbstractBasicTest;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.providers.grizzly.GrizzlyAsyncHttpProviderConfig;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GrizzlyDrainTest extends AbstractBasicTest {
+
+    // the client port of the connection each request was first received on, by X-Id
+    private final Map<String, Integer> clientPorts = new ConcurrentHashMap<>();
+    private ConnectionWatch watch;
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        clientPorts.clear();
+        watch = new ConnectionWatch();
+    }
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                clientPorts.putIfAbsent(request.getHeaders().get("X-Id"), Request.getRemotePort(request));
+                String path = request.getHttpURI().getPath();
+                if (path.startsWith("/redirect")) {
+                    // a redirect with a body of X-Size bytes
+                    byte[] body = new byte[Integer.parseInt(request.getHeaders().get("X-Size"))];
+                    Arrays.fill(body, (byte) 'r');
+                    response.setStatus(HttpStatus.FOUND_302);
+                    response.getHeaders().put(HttpHeader.LOCATION, "http://127.0.0.1:" + port2 + "/ok");
+                    response.getHeaders().put(HttpHeader.CONTENT_LENGTH, body.length);
+                    OutputStream out = Content.Sink.asOutputStream(response);
+                    out.write(body);
+                    out.close();
+                    callback.succeeded();
+                } else if (path.startsWith("/stream")) {
+                    // a chunked body, stalling for X-Stall ms after the first chunk
+                    response.setStatus(HttpStatus.OK_200);
+                    OutputStream out = Content.Sink.asOutputStream(response);
+                    out.write(new byte[100]);
+                    out.flush();
+                    Thread.sleep(Long.parseLong(request.getHeaders().get("X-Stall")));
+                    out.write(new byte[100]);
+                    out.close();
+                    callback.succeeded();
+                } else {
+                    response.setStatus(HttpStatus.OK_200);
+                    Content.Sink.write(response, true, "ok", callback);
+                }
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient client(long maxDrainSize, long maxDrainTime) {
+        GrizzlyAsyncHttpProviderConfig providerConfig = watch.getProviderConfig();
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.MAX_DRAIN_SIZE, maxDrainSize);
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.MAX_DRAIN_TIME, maxDrainTime);
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder()
+                .setFollowRedirect(true)
+                .setAsyncHttpClientProviderConfig(providerConfig).build());
+    }
+
+    private int redirect(AsyncHttpClient client, int size) throws Exception {
+        Response response = client.prepareGet(getTargetUrl().replace("/foo/test", "/redirect"))
+                .setHeader("X-Id", "redirect")
+                .setHeader("X-Size", String.valueOf(size))
+                .execute().get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(response.getStatusCode(), 200);
+        return clientPorts.get("redirect");
+    }
+
+    private int cancelStream(AsyncHttpClient client, long stall) throws Exception {
+        ListenableFuture<Response> future = stream(client, stall);
+        assertTrue(future.cancel(true));
+        return clientPorts.get("stream");
+    }
+
+    private int abortStream(AsyncHttpClient client, long stall) throws Exception {
+        ListenableFuture<Response> future = stream(client, stall);
+        future.abort(new IOException("aborted"));
+        try {
+            future.get(TIMEOUT, TimeUnit.SECONDS);
+            fail("the request was aborted");
+        } catch (ExecutionException e) {
+            assertEquals(e.getCause().getMessage(), "aborted");
+        }
+        return clientPorts.get("stream");
+    }
+
+    /**
+     * @return the future of a streamed response, once its first part is received
+     */
+    private ListenableFuture<Response> stream(AsyncHttpClient client, long stall) throws Exception {
+        CountDownLatch firstPart = new CountDownLatch(1);
+        ListenableFuture<Response> future = client.prepareGet(getTargetUrl().replace("/foo/test", "/stream"))
+                .setHeader("X-Id", "stream")
+                .setHeader("X-Stall", String.valueOf(stall))
+                .execute(new AsyncCompletionHandler<Response>() {
+                    @Override
+                    public STATE onBodyPartReceived(HttpResponseBodyPart content) throws Exception {
+                        firstPart.countDown();
+                        return super.onBodyPartReceived(content);
+                    }
+
+                    @Override
+                    public Response onCompleted(Response response) {
+                        return response;
+                    }
+                });
+        assertTrue(firstPart.await(TIMEOUT, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private int nextRequestPort(AsyncHttpClient client) throws Exception {
+        Response response = client.prepareGet(getTargetUrl()).setHeader("X-Id", "next")
+                .execute().get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(response.getStatusCode(), 200);
+        return clientPorts.get("next");
+    }
+
+    @Test(groups = "standalone")
+    public void smallRedirectRemainderIsDrained() throws Exception {
+        try (AsyncHttpClient client = client(65536, 1000)) {
+            int port = redirect(client, 1000);
+            assertTrue(watch.awaitPooled(port, TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(nextRequestPort(client), port);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void largeRedirectRemainderClosesConnection() throws Exception {
+        try (AsyncHttpClient client = client(1000, 1000)) {
+            int port = redirect(client, 100000);
+            assertTrue(watch.awaitClosed(port, TIMEOUT, TimeUnit.SECONDS));
+            assertNotEquals(nextRequestPort(client), port);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void cancelledResponseIsDrained() throws Exception {
+        try (AsyncHttpClient client = client(65536, 2000)) {
+            int port = cancelStream(client, 200);
+            assertTrue(watch.awaitPooled(port, TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(nextRequestPort(client), port);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void stalledCancelledResponseClosesConnection() throws Exception {
+        try (AsyncHttpClient client = client(65536, 100)) {
+            int port = cancelStream(client, 1500);
+            assertTrue(watch.awaitClosed(port, TIMEOUT, TimeUnit.SECONDS));
+            assertNotEquals(nextRequestPort(client), port);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void abortedResponseIsDrained() throws Exception {
+        try (AsyncHttpClient client = client(65536, 2000)) {
+            int port = abortStream(client, 200);
+            assertTrue(watch.awaitPooled(port, TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(nextRequestPort(client), port);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void stalledAbortedResponseClosesConnection() throws Exception {
+        try (AsyncHttpClient client = client(65536, 100)) {
+            int port = abortStream(client, 1500);
+            assertTrue(watch.awaitClosed(port, TIMEOUT, TimeUnit.SECONDS));
+            assertNotEquals(nextRequestPort(client), port);
+        }
+    }
+}
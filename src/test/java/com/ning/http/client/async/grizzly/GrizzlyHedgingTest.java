@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncCompletionHandlerBase;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.ConnectionPoolPartitioning;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.Response;
+import com.ning.http.client.async.AbstractBasicTest;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.providers.grizzly.GrizzlyAsyncHttpProviderConfig;
+import com.ning.http.client.providers.grizzly.HedgingPolicy;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class GrizzlyHedgingTest extends AbstractBasicTest {
+
+    private static final long SLOW = 2000;
+
+    private final AtomicInteger received = new AtomicInteger();
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        received.set(0);
+    }
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // the first request received is slow, unless asked otherwise
+                int attempt = received.incrementAndGet();
+                if (attempt == 1 && request.getHeaders().get("X-Fast") == null) {
+                    Thread.sleep(SLOW);
+                }
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Attempt", attempt);
+                Content.Sink.write(response, true, "attempt-" + attempt, callback);
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient hedgingClient(HedgingPolicy policy) {
+        GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.HEDGING_POLICY, policy);
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder()
+                .setAsyncHttpClientProviderConfig(providerConfig).build());
+    }
+
+    @Test(groups = "standalone")
+    public void backupRequestWins() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy.Builder().setDelay(100).setBudget(1).build();
+        try (AsyncHttpClient client = hedgingClient(policy)) {
+            final AtomicInteger statuses = new AtomicInteger();
+            long start = System.nanoTime();
+            Response response = client.prepareGet(getTargetUrl()).execute(new AsyncCompletionHandlerBase() {
+                @Override
+                public STATE onStatusReceived(HttpResponseStatus status) throws Exception {
+                    statuses.incrementAndGet();
+                    return super.onStatusReceived(status);
+                }
+            }).get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < SLOW);
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getResponseBody(), "attempt-2");
+            assertEquals(statuses.get(), 1);
+            assertEquals(policy.getHedgeCount(), 1);
+            assertEquals(policy.getHedgeWinCount(), 1);
+
+            // the cancelled primary doesn't reach the handler
+            Thread.sleep(SLOW);
+            assertEquals(statuses.get(), 1);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void backupRequestIsSentOffTheTimer() throws Exception {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "hedging-timer"));
+        HedgingPolicy policy = new HedgingPolicy.Builder().setDelay(100).setBudget(1).setTimer(timer).build();
+        // the partition key is computed by the thread sending the request
+        final List<String> senders = new CopyOnWriteArrayList<>();
+        final ConnectionPoolPartitioning partitioning = (uri, proxyServer) -> {
+            senders.add(Thread.currentThread().getName());
+            return ConnectionPoolPartitioning.PerHostConnectionPoolPartitioning.INSTANCE.getPartitionKey(uri,
+                    proxyServer);
+        };
+        try (AsyncHttpClient client = hedgingClient(policy)) {
+            final com.ning.http.client.Request request = client.prepareGet(getTargetUrl()).build();
+            Response response = client.executeRequest((com.ning.http.client.Request) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class<?>[] { com.ning.http.client.Request.class },
+                    (proxy, method, args) -> "getConnectionPoolPartitioning".equals(method.getName())
+                            ? partitioning : method.invoke(request, args)))
+                    .get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getResponseBody(), "attempt-2");
+            assertEquals(policy.getHedgeCount(), 1);
+            assertFalse(senders.contains("hedging-timer"), senders.toString());
+        } finally {
+            timer.shutdownNow();
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void fastRequestIsNotHedged() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy.Builder().setDelay(1000).setBudget(1).build();
+        try (AsyncHttpClient client = hedgingClient(policy)) {
+            Response response = client.prepareGet(getTargetUrl()).setHeader("X-Fast", "true").execute()
+                    .get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getResponseBody(), "attempt-1");
+            Thread.sleep(1500);
+            assertEquals(policy.getHedgeCount(), 0);
+            assertEquals(received.get(), 1);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void budgetBoundsBackupRequests() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy.Builder().setDelay(100).setBudget(0.05).build();
+        try (AsyncHttpClient client = hedgingClient(policy)) {
+            Response response = client.prepareGet(getTargetUrl()).execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getResponseBody(), "attempt-1");
+            assertEquals(policy.getHedgeCount(), 0);
+            assertEquals(policy.getBudgetExhaustedCount(), 1);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void unsafeRequestIsNotHedged() throws Exception {
+        HedgingPolicy policy = new HedgingPolicy.Builder().setDelay(100).setBudget(1).build();
+        try (AsyncHttpClient client = hedgingClient(policy)) {
+            Response response = client.preparePost(getTargetUrl()).setBody("x").execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getResponseBody(), "attempt-1");
+            assertEquals(policy.getHedgeCount(), 0);
+            assertEquals(received.get(), 1);
+        }
+    }
+}
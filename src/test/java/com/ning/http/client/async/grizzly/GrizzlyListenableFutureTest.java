@@ -19,11 +19,24 @@ import com.ning.http.client.AsyncHttpClientConfig;
 import com.ning.http.client.async.ListenableFutureTest;
 import com.ning.http.client.async.ProviderUtil;
 
+import java.util.concurrent.TimeUnit;
+
 public class GrizzlyListenableFutureTest extends ListenableFutureTest {
 
+    private volatile ConnectionWatch watch;
+
     @Override
     public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        if (config == null) {
+            watch = new ConnectionWatch();
+            config = new AsyncHttpClientConfig.Builder().setAsyncHttpClientProviderConfig(watch.getProviderConfig()).build();
+        }
         return ProviderUtil.grizzlyProvider(config);
     }
 
+    @Override
+    protected boolean awaitPooled(int clientPort) throws InterruptedException {
+        return watch.awaitPooled(clientPort, TIMEOUT, TimeUnit.SECONDS);
+    }
+
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.Response;
+import com.ning.http.client.async.AbstractBasicTest;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.providers.grizzly.PublisherBodyGenerator;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GrizzlyPublisherBodyGeneratorTest extends AbstractBasicTest {
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // reads the whole body first, so that a redirect doesn't race the request
+                long length = 0;
+                boolean ordered = true;
+                try (InputStream in = Content.Source.asInputStream(request)) {
+                    byte[] bytes = new byte[8192];
+                    int read;
+                    while ((read = in.read(bytes)) != -1) {
+                        for (int i = 0; i < read; i++) {
+                            ordered &= bytes[i] == (byte) (length++ % 251);
+                        }
+                    }
+                }
+                // redirects keeping the body if X-Redirect is set, once
+                if (request.getHeaders().get("X-Redirect") != null && request.getHttpURI().getQuery() == null) {
+                    response.setStatus(HttpStatus.TEMPORARY_REDIRECT_307);
+                    response.getHeaders().put(HttpHeader.LOCATION, getTargetUrl() + "?redirected");
+                    callback.succeeded();
+                    return true;
+                }
+                // echoes the body length, the framing and whether the bytes count modulo 251
+                response.setStatus(HttpStatus.OK_200);
+                response.getHeaders().put("X-Length", String.valueOf(length));
+                response.getHeaders().put("X-Ordered", String.valueOf(ordered));
+                response.getHeaders().put("X-Content-Length", request.getHeaders().get(HttpHeader.CONTENT_LENGTH));
+                response.getHeaders().put("X-Transfer-Encoding", request.getHeaders().get(HttpHeader.TRANSFER_ENCODING));
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Publishes the given number of buffers, counting modulo 251, or fails after them.
+     */
+    private static class CountingPublisher implements Flow.Publisher<ByteBuffer> {
+
+        final int buffers;
+        final int bufferSize;
+        final boolean fail;
+        final AtomicLong maxOutstanding = new AtomicLong();
+
+        CountingPublisher(int buffers, int bufferSize, boolean fail) {
+            this.buffers = buffers;
+            this.bufferSize = bufferSize;
+            this.fail = fail;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                final AtomicLong outstanding = new AtomicLong();
+                int published;
+                long offset;
+                boolean emitting;
+
+                @Override
+                public synchronized void request(long n) {
+                    maxOutstanding.accumulateAndGet(outstanding.addAndGet(n), Math::max);
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (outstanding.get() > 0 && published < buffers) {
+                        byte[] bytes = new byte[bufferSize];
+                        for (int i = 0; i < bytes.length; i++) {
+                            bytes[i] = (byte) (offset++ % 251);
+                        }
+                        published++;
+                        outstanding.decrementAndGet();
+                        subscriber.onNext(ByteBuffer.wrap(bytes));
+                    }
+                    emitting = false;
+                    if (published == buffers) {
+                        published++;
+                        if (fail) {
+                            subscriber.onError(new IllegalStateException("publisher failure"));
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    published = buffers + 1;
+                }
+            });
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyIsSentChunked() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CountingPublisher publisher = new CountingPublisher(640, 16 * 1024, false);
+            Response response = client.preparePost(getTargetUrl())
+                    .setBody(new PublisherBodyGenerator(publisher))
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getHeader("X-Length"), String.valueOf(640 * 16 * 1024));
+            assertEquals(response.getHeader("X-Ordered"), "true");
+            assertEquals(response.getHeader("X-Transfer-Encoding"), "chunked");
+            // buffers are requested one at a time
+            assertEquals(publisher.maxOutstanding.get(), 1);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void bodyIsSentWithItsLength() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CountingPublisher publisher = new CountingPublisher(100, 1000, false);
+            Response response = client.preparePost(getTargetUrl())
+                    .setBody(new PublisherBodyGenerator(publisher, 100000))
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getHeader("X-Length"), "100000");
+            assertEquals(response.getHeader("X-Ordered"), "true");
+            assertEquals(response.getHeader("X-Content-Length"), "100000");
+            assertNull(response.getHeader("X-Transfer-Encoding"));
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void redirectKeepingBodyFailsRequest() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            try {
+                client.preparePost(getTargetUrl())
+                        .setHeader("X-Redirect", "true")
+                        .setFollowRedirects(true)
+                        .setBody(new PublisherBodyGenerator(new CountingPublisher(10, 1000, false)))
+                        .execute().get(TIMEOUT, TimeUnit.SECONDS);
+                fail("expected the request to fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException, e.getCause().toString());
+                assertTrue(e.getCause().getMessage().contains("can't be sent again"), e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void publisherFailureFailsRequest() throws Exception {
+        try (AsyncHttpClient client = getAsyncHttpClient(null)) {
+            CountingPublisher publisher = new CountingPublisher(10, 1000, true);
+            try {
+                client.preparePost(getTargetUrl())
+                        .setBody(new PublisherBodyGenerator(publisher))
+                        .execute().get(TIMEOUT, TimeUnit.SECONDS);
+                fail("expected the request to fail");
+            } catch (ExecutionException e) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncHandler;
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.HttpResponseBodyPart;
+import com.ning.http.client.HttpResponseHeaders;
+import com.ning.http.client.HttpResponseStatus;
+import com.ning.http.client.ListenableFuture;
+import com.ning.http.client.async.AbstractBasicTest;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.providers.grizzly.GrizzlyAsyncHttpProviderConfig;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+
+public class GrizzlyResponseMemoryBudgetTest extends AbstractBasicTest {
+
+    private static final int SIZE = 8 * 1024 * 1024;
+    private static final long BUDGET = 64 * 1024;
+
+    // the body of each request is only sent once both requests are received
+    private volatile CountDownLatch received;
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                CountDownLatch latch = received;
+                latch.countDown();
+                latch.await(TIMEOUT, TimeUnit.SECONDS);
+                response.setStatus(HttpStatus.OK_200);
+                OutputStream out = Content.Sink.asOutputStream(response);
+                byte[] chunk = new byte[16 * 1024];
+                for (int i = 0; i < SIZE; i += chunk.length) {
+                    out.write(chunk);
+                }
+                out.close();
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient client() {
+        GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.RESPONSE_MEMORY_BUDGET, BUDGET);
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder().setAsyncHttpClientProviderConfig(providerConfig).build());
+    }
+
+    /**
+     * Counts the body bytes, holding the parts until the response completes.
+     */
+    private static class CountingHandler implements AsyncHandler<Long> {
+
+        final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void onThrowable(Throwable t) {
+        }
+
+        @Override
+        public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) {
+            count.addAndGet(bodyPart.length());
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onStatusReceived(HttpResponseStatus responseStatus) {
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public STATE onHeadersReceived(HttpResponseHeaders headers) {
+            return STATE.CONTINUE;
+        }
+
+        @Override
+        public Long onCompleted() {
+            return count.get();
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void suspendedConnectionsAreResumed() throws Exception {
+        received = new CountDownLatch(2);
+        try (AsyncHttpClient client = client()) {
+            ListenableFuture<Long> firstFuture = client.prepareGet(getTargetUrl()).execute(new CountingHandler());
+            ListenableFuture<Long> secondFuture = client.prepareGet(getTargetUrl()).execute(new CountingHandler());
+
+            // both responses are held well over the budget, one of them is read while the other one waits
+            assertEquals(firstFuture.get(TIMEOUT, TimeUnit.SECONDS).longValue(), SIZE);
+            assertEquals(secondFuture.get(TIMEOUT, TimeUnit.SECONDS).longValue(), SIZE);
+        }
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void releasedPartsDontHoldBack() throws Exception {
+        received = new CountDownLatch(2);
+        try (AsyncHttpClient client = client()) {
+            CountingHandler releasing = new CountingHandler() {
+                @Override
+                public STATE onBodyPartReceived(HttpResponseBodyPart bodyPart) {
+                    STATE state = super.onBodyPartReceived(bodyPart);
+                    bodyPart.release();
+                    return state;
+                }
+            };
+            ListenableFuture<Long> firstFuture = client.prepareGet(getTargetUrl()).execute(releasing);
+            ListenableFuture<Long> secondFuture = client.prepareGet(getTargetUrl()).execute(new CountingHandler());
+
+            assertEquals(firstFuture.get(TIMEOUT, TimeUnit.SECONDS).longValue(), SIZE);
+            assertEquals(secondFuture.get(TIMEOUT, TimeUnit.SECONDS).longValue(), SIZE);
+        }
+    }
+}
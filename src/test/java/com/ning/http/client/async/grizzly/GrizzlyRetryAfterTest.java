@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.ConnectionPoolPartitioning;
+import com.ning.http.client.Response;
+import com.ning.http.client.async.AbstractBasicTest;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.providers.grizzly.GrizzlyAsyncHttpProviderConfig;
+import com.ning.http.client.providers.grizzly.RetryAfterHandler;
+import com.ning.http.client.providers.grizzly.StatusHandlers;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class GrizzlyRetryAfterTest extends AbstractBasicTest {
+
+    private final AtomicInteger received = new AtomicInteger();
+
+    @BeforeMethod(alwaysRun = true)
+    public void reset() {
+        received.set(0);
+    }
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // the first X-Busy requests received are throttled, with the given Retry-After
+                int attempt = received.incrementAndGet();
+                String busy = request.getHeaders().get("X-Busy");
+                if (busy != null && attempt <= Integer.parseInt(busy)) {
+                    response.setStatus(attempt % 2 == 1 ? 429 : HttpStatus.SERVICE_UNAVAILABLE_503);
+                    String retryAfter = request.getHeaders().get("X-Retry-After");
+                    if (retryAfter != null) {
+                        response.getHeaders().put("Retry-After", retryAfter);
+                    }
+                    Content.Sink.write(response, true, "busy-" + attempt, callback);
+                } else {
+                    response.setStatus(HttpStatus.OK_200);
+                    Content.Sink.write(response, true, "attempt-" + attempt, callback);
+                }
+                return true;
+            }
+        };
+    }
+
+    private AsyncHttpClient retryingClient(RetryAfterHandler handler, int requestTimeout) {
+        GrizzlyAsyncHttpProviderConfig providerConfig = new GrizzlyAsyncHttpProviderConfig();
+        providerConfig.addProperty(GrizzlyAsyncHttpProviderConfig.Property.STATUS_HANDLERS,
+                new StatusHandlers.Builder().register(429, handler).register(503, handler).build());
+        return getAsyncHttpClient(new AsyncHttpClientConfig.Builder()
+                .setRequestTimeout(requestTimeout)
+                .setAsyncHttpClientProviderConfig(providerConfig).build());
+    }
+
+    @Test(groups = "standalone")
+    public void throttledRequestIsSentAgain() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().build();
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            long start = System.nanoTime();
+            Response response = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Busy", "2")
+                    .setHeader("X-Retry-After", "1")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getResponseBody(), "attempt-3");
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 2000);
+            assertEquals(handler.getRetryCount(), 2);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void throttledRequestIsSentOffTheTimer() throws Exception {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "retry-timer"));
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().setTimer(timer).build();
+        // the partition key is computed by the thread sending the request
+        final List<String> senders = new CopyOnWriteArrayList<>();
+        final ConnectionPoolPartitioning partitioning = (uri, proxyServer) -> {
+            senders.add(Thread.currentThread().getName());
+            return ConnectionPoolPartitioning.PerHostConnectionPoolPartitioning.INSTANCE.getPartitionKey(uri,
+                    proxyServer);
+        };
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            final com.ning.http.client.Request request = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Busy", "1")
+                    .setHeader("X-Retry-After", "0")
+                    .build();
+            Response response = client.executeRequest((com.ning.http.client.Request) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class<?>[] { com.ning.http.client.Request.class },
+                    (proxy, method, args) -> "getConnectionPoolPartitioning".equals(method.getName())
+                            ? partitioning : method.invoke(request, args)))
+                    .get(TIMEOUT, TimeUnit.SECONDS);
+
+            assertEquals(response.getResponseBody(), "attempt-2");
+            assertEquals(handler.getRetryCount(), 1);
+            assertFalse(senders.contains("retry-timer"), senders.toString());
+        } finally {
+            timer.shutdownNow();
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void lastResponseIsDeliveredAfterMaxRetries() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().setMaxRetries(2).build();
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            Response response = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Busy", "10")
+                    .setHeader("X-Retry-After", "0")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 429);
+            assertEquals(response.getResponseBody(), "busy-3");
+            assertEquals(received.get(), 3);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void nonIdempotentRequestIsNotSentAgain() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().build();
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            Response response = client.preparePost(getTargetUrl())
+                    .setHeader("X-Busy", "1")
+                    .setHeader("X-Retry-After", "0")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 429);
+            assertEquals(received.get(), 1);
+            assertEquals(handler.getRetryCount(), 0);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void delayOutlastingTimeoutIsNotWaitedFor() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().build();
+        try (AsyncHttpClient client = retryingClient(handler, 5000)) {
+            Response response = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Busy", "1")
+                    .setHeader("X-Retry-After", "30")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 429);
+            assertEquals(received.get(), 1);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void missingRetryAfterIsNotRetriedByDefault() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder().build();
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            Response response = client.prepareGet(getTargetUrl()).setHeader("X-Busy", "1")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), 429);
+            assertEquals(received.get(), 1);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void retriesAreBoundedByBudget() throws Exception {
+        RetryAfterHandler handler = new RetryAfterHandler.Builder()
+                .setMaxRetries(5)
+                .setRetriesPerSecond(0.01)
+                .setMaxBurst(1)
+                .build();
+        try (AsyncHttpClient client = retryingClient(handler, 10000)) {
+            Response response = client.prepareGet(getTargetUrl())
+                    .setHeader("X-Busy", "10")
+                    .setHeader("X-Retry-After", "0")
+                    .execute().get(TIMEOUT, TimeUnit.SECONDS);
+            assertEquals(response.getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE_503);
+            assertEquals(received.get(), 2);
+            assertEquals(handler.getRetryCount(), 1);
+            assertEquals(handler.getBudgetExhaustedCount(), 1);
+        }
+    }
+}
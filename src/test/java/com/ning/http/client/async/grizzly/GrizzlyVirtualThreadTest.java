@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.async.grizzly;
+
+import com.ning.http.client.AsyncHttpClient;
+import com.ning.http.client.AsyncHttpClientConfig;
+import com.ning.http.client.Response;
+import com.ning.http.client.async.ProviderUtil;
+import com.ning.http.client.async.VirtualThreadTest;
+import com.ning.http.client.providers.grizzly.FeedableBodyGenerator;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.util.Callback;
+import org.glassfish.grizzly.memory.Buffers;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.glassfish.grizzly.memory.MemoryManager.DEFAULT_MEMORY_MANAGER;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class GrizzlyVirtualThreadTest extends VirtualThreadTest {
+
+    @Override
+    public AsyncHttpClient getAsyncHttpClient(AsyncHttpClientConfig config) {
+        return ProviderUtil.grizzlyProvider(config);
+    }
+
+    @Override
+    public Handler.Abstract configureHandler() throws Exception {
+        return new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, org.eclipse.jetty.server.Response response, Callback callback)
+                    throws Exception {
+                // let the client's write queue fill up before draining the body
+                Thread.sleep(200);
+                long total = 0;
+                try (InputStream in = Content.Source.asInputStream(request)) {
+                    byte[] bytes = new byte[8192];
+                    for (int read; (read = in.read(bytes)) != -1;) {
+                        total += read;
+                    }
+                }
+                response.getHeaders().put("X-Total", total);
+                response.setStatus(HttpStatus.OK_200);
+                callback.succeeded();
+                return true;
+            }
+        };
+    }
+
+    @Test(groups = { "standalone", "default_provider" })
+    public void feedingFromVirtualThreadsDoesNotPin() throws Exception {
+        final int threadCount = 10;
+        final int chunks = 1024;
+        final byte[] chunk = new byte[8192];
+        AsyncHttpClientConfig config = new AsyncHttpClientConfig.Builder()
+                .setExecutorService(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<String> pinned = recordPinning(() -> {
+            try (AsyncHttpClient client = getAsyncHttpClient(config);
+                 ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Response>> responses = new ArrayList<>(threadCount);
+                for (int i = 0; i < threadCount; i++) {
+                    responses.add(threads.submit(() -> {
+                        FeedableBodyGenerator generator = new FeedableBodyGenerator();
+                        // a tiny write queue forces feed() to wait for the queue to drain
+                        generator.setMaxPendingBytes(chunk.length);
+                        generator.setFeeder(new FeedableBodyGenerator.SimpleFeeder(generator) {
+                            @Override
+                            public void flush() throws IOException {
+                                for (int c = 0; c < chunks; c++) {
+                                    feed(Buffers.wrap(DEFAULT_MEMORY_MANAGER, chunk), false);
+                                }
+                                feed(Buffers.EMPTY_BUFFER, true);
+                            }
+                        });
+                        return client.preparePost(getTargetUrl()).setBody(generator).executeBlocking();
+                    }));
+                }
+                for (Future<Response> response : responses) {
+                    Response r = response.get(TIMEOUT, TimeUnit.SECONDS);
+                    assertEquals(r.getStatusCode(), 200);
+                    assertEquals(r.getHeader("X-Total"), String.valueOf(chunks * chunk.length));
+                }
+            }
+        });
+
+        assertTrue(pinned.isEmpty(), "Virtual threads pinned in client code: " + pinned);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import com.ning.http.client.Request;
+import com.ning.http.client.RequestBuilder;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class CachePolicyTest {
+
+    private static String httpDate(long millis) {
+        SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.ENGLISH);
+        format.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return format.format(new Date(millis));
+    }
+
+    private static CacheEntry entry(long responseTime, String... headers) {
+        FluentCaseInsensitiveStringsMap map = new FluentCaseInsensitiveStringsMap();
+        for (int i = 0; i < headers.length; i += 2) {
+            map.add(headers[i], headers[i + 1]);
+        }
+        return new CacheEntry("http://a", 200, "OK", map, new FluentCaseInsensitiveStringsMap(), responseTime,
+                responseTime, ByteBuffer.allocate(0));
+    }
+
+    @Test(groups = "standalone")
+    public void parsesCacheControl() {
+        CacheControl cc = CacheControl.parse(Arrays.asList("no-cache=\"Set-Cookie, X-Foo\", max-age=\"30\"", "MUST-REVALIDATE, max-stale"));
+        assertTrue(cc.noCache);
+        assertTrue(cc.mustRevalidate);
+        assertEquals(cc.maxAge, 30000L);
+        assertEquals(cc.maxStale, Long.MAX_VALUE);
+        assertEquals(cc.minFresh, -1L);
+        assertFalse(cc.noStore);
+        assertEquals(CacheControl.parse(Arrays.asList("max-age=abc")).maxAge, 0L);
+    }
+
+    @Test(groups = "standalone")
+    public void computesFreshnessLifetime() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        String date = httpDate(now);
+
+        CacheEntry maxAge = entry(now, "Cache-Control", "max-age=60", "Expires", httpDate(now + 3600000));
+        assertEquals(CachePolicy.freshnessLifetime(maxAge, CacheControl.parse(maxAge.getHeaders().get("Cache-Control"))), 60000L);
+
+        CacheEntry expires = entry(now, "Date", date, "Expires", httpDate(now + 120000));
+        assertEquals(CachePolicy.freshnessLifetime(expires, CacheControl.EMPTY), 120000L);
+
+        CacheEntry invalidExpires = entry(now, "Date", date, "Expires", "0");
+        assertEquals(CachePolicy.freshnessLifetime(invalidExpires, CacheControl.EMPTY), 0L);
+
+        CacheEntry heuristic = entry(now, "Date", date, "Last-Modified", httpDate(now - 1000000));
+        assertEquals(CachePolicy.freshnessLifetime(heuristic, CacheControl.EMPTY), 100000L);
+    }
+
+    @Test(groups = "standalone")
+    public void computesCurrentAge() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        CacheEntry entry = entry(now, "Date", httpDate(now), "Age", "10");
+        assertEquals(CachePolicy.currentAge(entry, now + 5000), 15000L);
+    }
+
+    @Test(groups = "standalone")
+    public void honorsRequestFreshnessDirectives() {
+        CacheControl none = CacheControl.EMPTY;
+        assertTrue(CachePolicy.isFresh(10000, 60000, none, none));
+        assertFalse(CachePolicy.isFresh(60000, 60000, none, none));
+        assertFalse(CachePolicy.isFresh(10000, 60000, CacheControl.parse(Arrays.asList("max-age=5")), none));
+        assertFalse(CachePolicy.isFresh(10000, 60000, CacheControl.parse(Arrays.asList("min-fresh=55")), none));
+        assertTrue(CachePolicy.isFresh(70000, 60000, CacheControl.parse(Arrays.asList("max-stale=20")), none));
+        assertFalse(CachePolicy.isFresh(70000, 60000, CacheControl.parse(Arrays.asList("max-stale=20")),
+                CacheControl.parse(Arrays.asList("must-revalidate"))));
+    }
+
+    @Test(groups = "standalone")
+    public void selectsVaryingEntries() {
+        Request en = new RequestBuilder().setUrl("http://a").setHeader("Accept-Language", "en").build();
+        Request fr = new RequestBuilder().setUrl("http://a").setHeader("Accept-Language", "fr").build();
+        FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap().add("Vary", "accept-language, Accept-Encoding");
+        CacheEntry entry = new CacheEntry("http://a", 200, "OK", headers, CachePolicy.varyHeaders(en, headers), 0, 0,
+                ByteBuffer.allocate(0));
+
+        assertTrue(CachePolicy.varyMatches(entry, en));
+        assertFalse(CachePolicy.varyMatches(entry, fr));
+        assertFalse(CachePolicy.isStorable(200, new FluentCaseInsensitiveStringsMap().add("Vary", "*"), CacheControl.EMPTY,
+                CacheControl.EMPTY));
+        assertFalse(CachePolicy.isStorable(201, new FluentCaseInsensitiveStringsMap(), CacheControl.EMPTY, CacheControl.EMPTY));
+        assertTrue(CachePolicy.isStorable(201, new FluentCaseInsensitiveStringsMap(), CacheControl.EMPTY,
+                CacheControl.parse(Arrays.asList("max-age=10"))));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.cache;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class CacheStoreTest {
+
+    private static CacheEntry entry(String key, String body) {
+        FluentCaseInsensitiveStringsMap headers = new FluentCaseInsensitiveStringsMap()
+                .add("Cache-Control", "max-age=60")
+                .add("Set-Cookie", "a=1", "b=2");
+        FluentCaseInsensitiveStringsMap vary = new FluentCaseInsensitiveStringsMap().add("Accept-Language", "en");
+        return new CacheEntry(key, 200, "OK", headers, vary, 1000L, 2000L,
+                ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String body(CacheEntry entry) {
+        return StandardCharsets.UTF_8.decode(entry.getBody()).toString();
+    }
+
+    @Test(groups = "standalone")
+    public void memoryStoreEvictsLeastRecentlyUsed() {
+        CacheEntry a = entry("http://a", "aaaa");
+        MemoryCacheStore store = new MemoryCacheStore(a.weight() * 2);
+        store.put(a);
+        store.put(entry("http://b", "bbbb"));
+        assertNotNull(store.get("http://a"));
+
+        store.put(entry("http://c", "cccc"));
+        assertEquals(store.size(), 2);
+        assertNull(store.get("http://b"));
+        assertEquals(body(store.get("http://a")), "aaaa");
+        assertEquals(body(store.get("http://c")), "cccc");
+        assertTrue(store.getWeight() <= a.weight() * 2);
+
+        store.remove("http://a");
+        assertEquals(store.size(), 1);
+        store.clear();
+        assertEquals(store.getWeight(), 0);
+    }
+
+    @Test(groups = "standalone")
+    public void memoryStoreDeclinesOversizedEntries() {
+        MemoryCacheStore store = new MemoryCacheStore(16);
+        store.put(entry("http://a", "aaaa"));
+        assertEquals(store.size(), 0);
+        assertEquals(store.getWeight(), 0);
+    }
+
+    @Test(groups = "standalone")
+    public void diskStoreRoundTripsAndSurvivesReload() throws IOException {
+        Path dir = Files.createTempDirectory("ahc-cache");
+        try {
+            DiskCacheStore store = new DiskCacheStore(dir, 1024 * 1024);
+            store.put(entry("http://a/x?y=1", "hello"));
+
+            CacheEntry read = store.get("http://a/x?y=1");
+            assertNotNull(read);
+            assertEquals(read.getKey(), "http://a/x?y=1");
+            assertEquals(read.getStatusCode(), 200);
+            assertEquals(read.getStatusText(), "OK");
+            assertEquals(read.getHeaders().get("Set-Cookie").size(), 2);
+            assertEquals(read.getVaryHeaders().getFirstValue("accept-language"), "en");
+            assertEquals(read.getRequestTime(), 1000L);
+            assertEquals(read.getResponseTime(), 2000L);
+            assertTrue(read.getBody().isReadOnly());
+            assertEquals(body(read), "hello");
+            assertNull(store.get("http://a/other"));
+
+            DiskCacheStore reloaded = new DiskCacheStore(dir, 1024 * 1024);
+            assertEquals(reloaded.size(), 1);
+            assertEquals(reloaded.getStoredBytes(), store.getStoredBytes());
+            assertEquals(body(reloaded.get("http://a/x?y=1")), "hello");
+
+            reloaded.remove("http://a/x?y=1");
+            assertNull(reloaded.get("http://a/x?y=1"));
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(files.count(), 0);
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void diskStoreEvictsLeastRecentlyUsed() throws IOException {
+        Path dir = Files.createTempDirectory("ahc-cache");
+        try {
+            DiskCacheStore probe = new DiskCacheStore(dir, 1024 * 1024);
+            probe.put(entry("http://a", "aaaa"));
+            long entrySize = probe.getStoredBytes();
+            probe.clear();
+
+            DiskCacheStore store = new DiskCacheStore(dir, entrySize * 2);
+            store.put(entry("http://a", "aaaa"));
+            store.put(entry("http://b", "bbbb"));
+            assertNotNull(store.get("http://a"));
+            store.put(entry("http://c", "cccc"));
+
+            assertEquals(store.size(), 2);
+            assertNull(store.get("http://b"));
+            assertNotNull(store.get("http://a"));
+            assertNotNull(store.get("http://c"));
+            try (Stream<Path> files = Files.list(dir)) {
+                assertEquals(files.count(), 2);
+            }
+        } finally {
+            delete(dir);
+        }
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.endpoint;
+
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class SelectionPolicyTest {
+
+    private static List<Backend> backends(int count) {
+        List<Backend> backends = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            backends.add(new Backend("10.0.0." + i, 8080));
+        }
+        return backends;
+    }
+
+    @Test(groups = "standalone")
+    public void roundRobinCyclesThroughBackends() {
+        List<Backend> backends = backends(3);
+        SelectionPolicy policy = new SelectionPolicy.RoundRobin();
+        for (int i = 0; i < 6; i++) {
+            assertSame(policy.select(backends), backends.get(i % 3));
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void leastOutstandingPicksIdlestBackend() {
+        List<Backend> backends = backends(4);
+        for (Backend backend : backends) {
+            backend.acquire();
+        }
+        backends.get(2).release();
+        for (int i = 0; i < 20; i++) {
+            assertSame(SelectionPolicy.LeastOutstanding.INSTANCE.select(backends), backends.get(2));
+        }
+    }
+
+    @Test(groups = "standalone")
+    public void powerOfTwoChoicesNeverPicksBusiestOfTwo() {
+        List<Backend> backends = backends(2);
+        backends.get(0).acquire();
+        for (int i = 0; i < 20; i++) {
+            assertSame(SelectionPolicy.PowerOfTwoChoices.INSTANCE.select(backends), backends.get(1));
+        }
+        List<Backend> single = backends(1);
+        assertSame(SelectionPolicy.PowerOfTwoChoices.INSTANCE.select(single), single.get(0));
+    }
+
+    @Test(groups = "standalone")
+    public void refreshKeepsSurvivingBackends() {
+        AtomicReference<List<InetSocketAddress>> endpoints = new AtomicReference<>(List.of(
+                InetSocketAddress.createUnresolved("10.0.0.1", 80), InetSocketAddress.createUnresolved("10.0.0.2", 80)));
+        EndpointGroup group = new EndpointGroup.Builder("svc").setEndpointSupplier(endpoints::get).build();
+        Backend kept = group.getBackends().get(1);
+        kept.acquire();
+
+        endpoints.set(List.of(InetSocketAddress.createUnresolved("10.0.0.2", 80),
+                InetSocketAddress.createUnresolved("10.0.0.3", 80)));
+        group.refresh();
+        assertSame(group.getBackends().get(0), kept);
+        assertEquals(group.getBackends().get(0).getInFlightRequests(), 1);
+        assertEquals(group.getBackends().get(1).getHost(), "10.0.0.3");
+
+        endpoints.set(null);
+        group.refresh();
+        assertEquals(group.getBackends().size(), 2);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+package com.ning.http.client.listenable;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.testng.annotations.Test;
+
+public class ExecutionListTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test(groups = "standalone")
+    public void testRunsInInsertionOrder() {
+        final ExecutionList list = new ExecutionList();
+        final List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final int idx = i;
+            list.add(() -> order.add(idx), DIRECT);
+        }
+        assertTrue(order.isEmpty(), "listeners ran before run()");
+
+        list.run();
+        assertEquals(order, List.of(0, 1, 2, 3, 4));
+    }
+
+    @Test(groups = "standalone")
+    public void testAddAfterRunExecutesImmediately() {
+        final ExecutionList list = new ExecutionList();
+        list.run();
+
+        final List<String> ran = new ArrayList<>();
+        list.add(() -> ran.add("late"), DIRECT);
+        assertEquals(ran, List.of("late"));
+
+        // a second run() must not execute anything again
+        list.run();
+        assertEquals(ran, List.of("late"));
+    }
+
+    @Test(groups = "standalone")
+    public void testFailingExecutorDoesNotStopOthers() {
+        final ExecutionList list = new ExecutionList();
+        final List<String> ran = new ArrayList<>();
+        list.add(() -> ran.add("first"), DIRECT);
+        list.add(() -> ran.add("rejected"), command -> {
+            throw new IllegalStateException("rejected");
+        });
+        list.add(() -> ran.add("last"), DIRECT);
+
+        list.run();
+        assertEquals(ran, List.of("first", "last"));
+    }
+
+    @Test(groups = "standalone")
+    public void testConcurrentAddAndRunExecuteExactlyOnce() throws Exception {
+        final int threads = 8;
+        final int perThread = 10000;
+        final ExecutorService service = Executors.newFixedThreadPool(threads + 1);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final ExecutionList list = new ExecutionList();
+                final AtomicIntegerArray counts = new AtomicIntegerArray(threads * perThread);
+                final CountDownLatch start = new CountDownLatch(1);
+                final CountDownLatch done = new CountDownLatch(threads + 1);
+                for (int t = 0; t < threads; t++) {
+                    final int base = t * perThread;
+                    service.execute(() -> {
+                        try {
+                            start.await();
+                            for (int i = 0; i < perThread; i++) {
+                                final int idx = base + i;
+                                list.add(() -> counts.incrementAndGet(idx), DIRECT);
+                            }
+                        } catch (InterruptedException ignored) {
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                service.execute(() -> {
+                    try {
+                        start.await();
+                        list.run();
+                        list.run();
+                    } catch (InterruptedException ignored) {
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                start.countDown();
+                assertTrue(done.await(30, TimeUnit.SECONDS), "workers did not finish");
+
+                for (int i = 0; i < counts.length(); i++) {
+                    assertEquals(counts.get(i), 1, "listener " + i + " ran " + counts.get(i) + " times");
+                }
+            }
+        } finally {
+            service.shutdownNow();
+        }
+    }
+}
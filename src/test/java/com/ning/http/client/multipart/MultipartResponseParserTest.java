@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.multipart;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import com.ning.http.client.FluentCaseInsensitiveStringsMap;
+
+public class MultipartResponseParserTest {
+
+    private static final String BOUNDARY = "3d6b6a416f9b5";
+
+    /**
+     * Records the parts, their headers and content.
+     */
+    private static class Recorder implements MultipartResponseParser.Callback {
+
+        final List<FluentCaseInsensitiveStringsMap> headers = new ArrayList<>();
+        final List<byte[]> contents = new ArrayList<>();
+        private ByteArrayOutputStream content;
+
+        @Override
+        public void onPartStart(FluentCaseInsensitiveStringsMap partHeaders) {
+            assertEquals(content, null);
+            headers.add(partHeaders);
+            content = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public void onPartContent(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            content.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void onPartEnd() {
+            contents.add(content.toByteArray());
+            content = null;
+        }
+
+        List<String> strings() {
+            List<String> strings = new ArrayList<>();
+            for (byte[] c : contents) {
+                strings.add(new String(c, ISO_8859_1));
+            }
+            return strings;
+        }
+    }
+
+    private static Recorder parse(byte[] body, int chunkSize, boolean direct) throws IOException {
+        Recorder recorder = new Recorder();
+        MultipartResponseParser parser = new MultipartResponseParser(BOUNDARY, recorder);
+        for (int i = 0; i < body.length; i += chunkSize) {
+            int length = Math.min(chunkSize, body.length - i);
+            ByteBuffer chunk = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+            chunk.put(body, i, length).flip();
+            parser.feed(chunk.asReadOnlyBuffer());
+        }
+        parser.finish();
+        return recorder;
+    }
+
+    private static Recorder parse(String body, int chunkSize) throws IOException {
+        return parse(body.getBytes(ISO_8859_1), chunkSize, false);
+    }
+
+    @Test(groups = "fast")
+    public void partsSplitAcrossChunks() throws IOException {
+        String body = "a preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Type: text/plain\r\nContent-Range: bytes 0-9/100\r\n\r\n"
+                + "0123456789\r\n--" + BOUNDARY + "  \r\n"
+                + "Content-Type: text/plain\r\nX-Folded: a\r\n  b\r\n\r\n"
+                + "\r\n--" + BOUNDARY.substring(0, 5) + "\r\n-" + BOUNDARY + "\r\n\r\r\n--" + BOUNDARY + "--\r\n"
+                + "an epilogue\r\n--" + BOUNDARY + "\r\n";
+        List<String> expected = List.of("0123456789",
+                "\r\n--" + BOUNDARY.substring(0, 5) + "\r\n-" + BOUNDARY + "\r\n\r");
+        for (int chunkSize = 1; chunkSize <= body.length(); chunkSize++) {
+            Recorder recorder = parse(body, chunkSize);
+            assertEquals(recorder.strings(), expected, "in chunks of " + chunkSize);
+            assertEquals(recorder.headers.get(0).getFirstValue("content-range"), "bytes 0-9/100");
+            assertEquals(recorder.headers.get(1).getFirstValue("X-Folded"), "a b");
+        }
+    }
+
+    @Test(groups = "fast")
+    public void partsWithoutHeadersOrContent() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n\r\n\r\n--" + BOUNDARY + "\r\n\r\nx\r\n--" + BOUNDARY + "--";
+        for (int chunkSize = 1; chunkSize <= body.length(); chunkSize++) {
+            Recorder recorder = parse(body, chunkSize);
+            assertEquals(recorder.strings(), List.of("", "x"), "in chunks of " + chunkSize);
+            assertTrue(recorder.headers.get(0).isEmpty());
+        }
+    }
+
+    @Test(groups = "fast")
+    public void binaryContent() throws IOException {
+        Random random = new Random(42);
+        byte[][] contents = new byte[3][];
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = new byte[10000 + random.nextInt(10000)];
+            random.nextBytes(contents[i]);
+            body.writeBytes(("\r\n--" + BOUNDARY + "\r\nContent-Type: application/octet-stream\r\n\r\n")
+                    .getBytes(ISO_8859_1));
+            body.writeBytes(contents[i]);
+        }
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(ISO_8859_1));
+        for (int chunkSize : new int[] { 1, 7, 100, 4096, Integer.MAX_VALUE }) {
+            for (boolean direct : new boolean[] { false, true }) {
+                Recorder recorder = parse(body.toByteArray(), chunkSize, direct);
+                assertEquals(recorder.contents.size(), contents.length);
+                for (int i = 0; i < contents.length; i++) {
+                    assertEquals(recorder.contents.get(i), contents[i], "part " + i + " in chunks of " + chunkSize);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "fast")
+    public void truncatedBodyFails() {
+        try {
+            parse("--" + BOUNDARY + "\r\n\r\nsome content\r\n--" + BOUNDARY.substring(0, 3), 5);
+            fail("truncated body parsed");
+        } catch (IOException expected) {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.client.sse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class EventStreamParserTest {
+
+    private static class Recorder implements EventStreamParser.Callback {
+
+        final List<String> events = new ArrayList<>();
+        final List<String> types = new ArrayList<>();
+        long retry = -1;
+
+        @Override
+        public void onEvent(String type, String data, String lastEventId) {
+            types.add(type);
+            events.add(type + "|" + data + "|" + lastEventId);
+        }
+
+        @Override
+        public void onRetry(long reconnectionTime) {
+            retry = reconnectionTime;
+        }
+    }
+
+    private static List<String> parse(String stream, int chunkSize, boolean direct) {
+        Recorder recorder = new Recorder();
+        EventStreamParser parser = new EventStreamParser(recorder);
+        byte[] bytes = stream.getBytes(UTF_8);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            ByteBuffer chunk = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+            chunk.put(bytes, i, length).flip();
+            parser.feed(chunk.asReadOnlyBuffer());
+        }
+        return recorder.events;
+    }
+
+    private static List<String> parse(String stream) {
+        return parse(stream, Integer.MAX_VALUE, false);
+    }
+
+    @Test(groups = "fast")
+    public void fields() {
+        assertEquals(parse("data: first\n\n"
+                + "event: update\ndata:second\nid: 7\n\n"
+                + "data\n\n"
+                + "data: a\ndata: b\n\n"),
+                List.of("message|first|", "update|second|7", "message||7", "message|a\nb|7"));
+    }
+
+    @Test(groups = "fast")
+    public void splitAcrossChunks() {
+        String stream = "\uFEFFevent: préférence\r\ndata: ligne € 😀\r\nid: 42\r\n\r\n"
+                + ": a comment\rdata:  two spaces\r\rdata: last\n\n";
+        List<String> expected = List.of("préférence|ligne € 😀|42", "message| two spaces|42", "message|last|42");
+        assertEquals(parse(stream), expected);
+        for (int chunkSize = 1; chunkSize < 16; chunkSize++) {
+            assertEquals(parse(stream, chunkSize, false), expected, "in chunks of " + chunkSize);
+            assertEquals(parse(stream, chunkSize, true), expected, "in direct chunks of " + chunkSize);
+        }
+    }
+
+    @Test(groups = "fast")
+    public void incompleteEventIsDiscarded() {
+        Recorder recorder = new Recorder();
+        EventStreamParser parser = new EventStreamParser(recorder);
+        parser.feed(ByteBuffer.wrap("id: 1\ndata: a\n\nid: 2\ndata: b\n".getBytes(UTF_8)));
+        parser.reset();
+        parser.feed(ByteBuffer.wrap("data: c\n\n".getBytes(UTF_8)));
+        assertEquals(recorder.events, List.of("message|a|1", "message|c|1"));
+        assertEquals(parser.getLastEventId(), "1");
+    }
+
+    @Test(groups = "fast")
+    public void invalidFieldsAreIgnored() {
+        Recorder recorder = new Recorder();
+        EventStreamParser parser = new EventStreamParser(recorder);
+        parser.feed(ByteBuffer.wrap(("retry: 1000\nretry: 5s\nretry:\nid: a\0b\nfoo: bar\ndata: x\n\n"
+                + "retry:250\n").getBytes(UTF_8)));
+        assertEquals(recorder.events, List.of("message|x|"));
+        assertEquals(recorder.retry, 250);
+    }
+
+    @Test(groups = "fast")
+    public void eventWithoutDataIsNotDispatched() {
+        assertEquals(parse("event: ping\n\nid: 3\n\ndata: d\n\n"), List.of("message|d|3"));
+    }
+
+    @Test(groups = "fast")
+    public void repeatedTypeIsReused() {
+        Recorder recorder = new Recorder();
+        EventStreamParser parser = new EventStreamParser(recorder);
+        parser.feed(ByteBuffer.wrap("event: tick\ndata: 1\n\nevent: tick\ndata: 2\n\n".getBytes(UTF_8)));
+        assertEquals(recorder.types.size(), 2);
+        assertSame(recorder.types.get(0), recorder.types.get(1));
+    }
+
+    @Test(groups = "fast")
+    public void longLinesAcrossChunks() {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            data.append((char) ('a' + i % 26));
+        }
+        String stream = "data: " + data + "\n\ndata: after\n\n";
+        assertEquals(parse(stream, 1000, false), List.of("message|" + data + "|", "message|after|"));
+    }
+}
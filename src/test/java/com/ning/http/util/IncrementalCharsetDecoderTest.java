@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program is licensed to you under the Apache License Version 2.0,
+ * and you may not use this file except in compliance with the Apache License Version 2.0.
+ * You may obtain a copy of the Apache License Version 2.0 at http://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the Apache License Version 2.0 is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Apache License Version 2.0 for the specific language governing permissions and limitations there under.
+ */
+
+
+package com.ning.http.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
+import org.testng.annotations.Test;
+
+public class IncrementalCharsetDecoderTest {
+
+    private static final String TEXT = "aé€😀 zÿ";
+
+    private static String decode(IncrementalCharsetDecoder decoder, byte[] bytes, int chunkSize, int outSize) {
+        return decode(decoder, bytes, chunkSize, outSize, false);
+    }
+
+    private static String decode(IncrementalCharsetDecoder decoder, byte[] bytes, int chunkSize, int outSize,
+            boolean readOnly) {
+        StringBuilder sb = new StringBuilder();
+        CharBuffer out = CharBuffer.allocate(outSize);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            ByteBuffer chunk = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)).slice();
+            if (readOnly) {
+                chunk = chunk.asReadOnlyBuffer();
+            }
+            while (chunk.hasRemaining()) {
+                decoder.decode(chunk, out);
+                out.flip();
+                sb.append(out);
+                out.clear();
+            }
+        }
+        boolean flushed;
+        do {
+            flushed = decoder.flush(out);
+            out.flip();
+            sb.append(out);
+            out.clear();
+        } while (!flushed);
+        return sb.toString();
+    }
+
+    @Test(groups = "fast")
+    public void sequencesSplitAcrossChunks() {
+        for (Charset charset : new Charset[] { UTF_8, UTF_16BE }) {
+            byte[] bytes = TEXT.getBytes(charset);
+            IncrementalCharsetDecoder decoder = new IncrementalCharsetDecoder(charset);
+            for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+                decoder.reset();
+                assertEquals(decode(decoder, bytes, chunkSize, 64), TEXT, charset + " in chunks of " + chunkSize);
+            }
+            decoder.reset();
+            assertEquals(decode(decoder, bytes, 3, 2), TEXT, charset + " into a small output");
+        }
+    }
+
+    @Test(groups = "fast")
+    public void readOnlyChunksAreDecoded() {
+        // larger than the scratch array, so sequences are also cut between its slices
+        String text = TEXT.repeat(2000);
+        for (Charset charset : new Charset[] { UTF_8, UTF_16BE, ISO_8859_1 }) {
+            byte[] bytes = text.getBytes(charset);
+            String expected = new String(bytes, charset);
+            IncrementalCharsetDecoder decoder = new IncrementalCharsetDecoder(charset);
+            for (int chunkSize : new int[] { 1, 7, 8193, bytes.length }) {
+                decoder.reset();
+                assertEquals(decode(decoder, bytes, chunkSize, 1000, true), expected,
+                        charset + " in read-only chunks of " + chunkSize);
+            }
+        }
+    }
+
+    @Test(groups = "fast")
+    public void truncatedSequenceIsReplaced() {
+        byte[] bytes = "a€".getBytes(UTF_8);
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        String decoded = decode(new IncrementalCharsetDecoder(UTF_8), truncated, 1, 16);
+        assertTrue(decoded.startsWith("a�"), decoded);
+    }
+
+    @Test(groups = "fast")
+    public void singleByteCharsets() {
+        byte[] bytes = TEXT.getBytes(ISO_8859_1);
+        assertEquals(decode(new IncrementalCharsetDecoder(ISO_8859_1), bytes, 3, 4), new String(bytes, ISO_8859_1));
+        assertEquals(decode(new IncrementalCharsetDecoder(US_ASCII), bytes, 3, 4), new String(bytes, US_ASCII));
+        // read-only buffers have no array
+        CharBuffer out = CharBuffer.allocate(16);
+        new IncrementalCharsetDecoder(ISO_8859_1).decode(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), out);
+        assertEquals(out.flip().toString(), new String(bytes, ISO_8859_1));
+    }
+}